@@ -0,0 +1,140 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.crypto.txns.CryptoTransferResourceUsage;
+import com.hedera.services.jmh.SyntheticState;
+import com.hedera.services.jmh.SyntheticTxns;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.ExchangeRateSet;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.fee.FeeObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.hedera.services.fees.calculation.AwareFcfsUsagePrices.DEFAULT_USAGE_PRICES;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UsageBasedFeeCalculatorBenchmark {
+	static final ExchangeRate RATE = ExchangeRate.newBuilder().setHbarEquiv(1).setCentEquiv(12).build();
+
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "1", "5" })
+	int numSigs;
+
+	JKey payerKey;
+	SignedTxnAccessor accessor;
+	UsageBasedFeeCalculator subject;
+
+	@Setup
+	public void setup() throws Exception {
+		var state = new SyntheticState(Math.max(numTransfers, numSigs) + 1, 0, 0, 0);
+		var body = SyntheticTxns.cryptoTransfer(state, 0, 1, 1, numTransfers);
+		accessor = new SignedTxnAccessor(SyntheticTxns.signed(body, state, IntStream.range(0, numSigs).toArray()));
+
+		List<JKey> payerKeys = new ArrayList<>();
+		for (int i = 0; i < numSigs; i++) {
+			payerKeys.add(new JEd25519Key(state.keyOf(i)));
+		}
+		payerKey = new JKeyList(payerKeys);
+
+		var properties = new BootstrapProperties();
+		var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(properties), properties);
+		var transferEstimators = List.<TxnResourceUsageEstimator>of(
+				new CryptoTransferResourceUsage(dynamicProperties));
+		subject = new UsageBasedFeeCalculator(
+				new FixedExchange(),
+				new FixedPrices(),
+				Collections.emptyList(),
+				function -> (function == CryptoTransfer) ? transferEstimators : null);
+	}
+
+	@Benchmark
+	public FeeObject computeFee() {
+		return subject.computeFee(accessor, payerKey, null);
+	}
+
+	static class FixedExchange implements HbarCentExchange {
+		@Override
+		public ExchangeRate activeRate() {
+			return RATE;
+		}
+
+		@Override
+		public ExchangeRateSet activeRates() {
+			return ExchangeRateSet.newBuilder().setCurrentRate(RATE).setNextRate(RATE).build();
+		}
+
+		@Override
+		public ExchangeRate rate(Timestamp at) {
+			return RATE;
+		}
+	}
+
+	static class FixedPrices implements UsagePricesProvider {
+		@Override
+		public void loadPriceSchedules() {
+		}
+
+		@Override
+		public FeeData activePrices() {
+			return DEFAULT_USAGE_PRICES;
+		}
+
+		@Override
+		public FeeData pricesGiven(HederaFunctionality function, Timestamp at) {
+			return DEFAULT_USAGE_PRICES;
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package com.hedera.services.jmh;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.exceptions.NegativeAccountBalanceException;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleAccountTokens;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleDiskFs;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleNetworkContext;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.stream.RecordsRunningHashLeaf;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.swirlds.common.AddressBook;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.ImmutableHash;
+import com.swirlds.common.crypto.RunningHash;
+import com.swirlds.fcmap.FCMap;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromTopicId;
+
+/**
+ * Builds deterministic, in-memory FCMap state of a given size for benchmarks, so
+ * they can run offline and be compared across releases.
+ *
+ * Accounts are numbered from {@link SyntheticState#FIRST_ACCOUNT_NUM}, each with a
+ * distinct (but not cryptographically meaningful) Ed25519 key; and account {@code i}
+ * is associated to tokens {@code i, i + 1, ...} (modulo the number of tokens). Tokens
+ * and topics are numbered after the accounts, and every token uses account {@code 0}
+ * as its treasury.
+ */
+public class SyntheticState {
+	public static final long FIRST_ACCOUNT_NUM = 1_001L;
+	public static final long INITIAL_BALANCE = 1_000_000_000L;
+	public static final long INITIAL_TOKEN_BALANCE = 1_000_000L;
+
+	static final long SEED = 0x5eedL;
+	static final int KEY_LEN = 32;
+	static final long EXPIRY = 1_700_000_000L;
+	static final long TOKEN_SUPPLY = 1_000_000_000_000L;
+
+	private final int numAccounts;
+	private final int numTokens;
+	private final int numTopics;
+	private final byte[][] keys;
+	private final FCMap<MerkleEntityId, MerkleAccount> accounts;
+	private final FCMap<MerkleEntityId, MerkleToken> tokens;
+	private final FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations;
+	private final FCMap<MerkleEntityId, MerkleTopic> topics;
+
+	public SyntheticState(int numAccounts, int numTokens, int associationsPerAccount, int numTopics) {
+		this(
+				numAccounts,
+				numTokens,
+				associationsPerAccount,
+				numTopics,
+				randomKeys(numAccounts),
+				new FCMap<>(),
+				new FCMap<>(),
+				new FCMap<>(),
+				new FCMap<>());
+	}
+
+	/**
+	 * Populates the given maps (which may already contain other entities, such as system
+	 * accounts) with synthetic entities whose accounts use the given Ed25519 public keys.
+	 *
+	 * @param keys the public keys to use for the synthetic accounts, one per account
+	 */
+	public SyntheticState(
+			int numAccounts,
+			int numTokens,
+			int associationsPerAccount,
+			int numTopics,
+			byte[][] keys,
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			FCMap<MerkleEntityId, MerkleToken> tokens,
+			FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations,
+			FCMap<MerkleEntityId, MerkleTopic> topics
+	) {
+		if (associationsPerAccount > numTokens) {
+			throw new IllegalArgumentException(String.format(
+					"Cannot associate %d tokens to each account with only %d tokens",
+					associationsPerAccount,
+					numTokens));
+		}
+		this.numAccounts = numAccounts;
+		this.numTokens = numTokens;
+		this.numTopics = numTopics;
+		this.keys = keys;
+		this.accounts = accounts;
+		this.tokens = tokens;
+		this.tokenAssociations = tokenAssociations;
+		this.topics = topics;
+
+		var treasury = new EntityId(0, 0, FIRST_ACCOUNT_NUM);
+		for (int i = 0; i < numTokens; i++) {
+			var token = new MerkleToken(
+					EXPIRY, TOKEN_SUPPLY, 0, "T" + i, "Token" + i, false, true, treasury);
+			tokens.put(fromTokenId(tokenId(i)), token);
+		}
+		for (int i = 0; i < numAccounts; i++) {
+			var id = accountId(i);
+			var account = new MerkleAccount();
+			try {
+				account.setBalance(INITIAL_BALANCE);
+			} catch (NegativeAccountBalanceException impossible) {
+				throw new IllegalStateException(impossible);
+			}
+			account.setKey(new JEd25519Key(keys[i]));
+			account.setExpiry(EXPIRY);
+			var associated = new HashSet<TokenID>();
+			for (int j = 0; j < associationsPerAccount; j++) {
+				var tokenId = tokenId((i + j) % numTokens);
+				associated.add(tokenId);
+				tokenAssociations.put(
+						fromAccountTokenRel(id, tokenId),
+						new MerkleTokenRelStatus(INITIAL_TOKEN_BALANCE, false, true));
+			}
+			var accountTokens = new MerkleAccountTokens();
+			accountTokens.associateAll(associated);
+			account.setTokens(accountTokens);
+			accounts.put(fromAccountId(id), account);
+		}
+		for (int i = 0; i < numTopics; i++) {
+			var topic = new MerkleTopic("Topic" + i, null, null, 0, null, new RichInstant(EXPIRY, 0));
+			topics.put(fromTopicId(topicId(i)), topic);
+		}
+	}
+
+	private static byte[][] randomKeys(int n) {
+		var r = new SplittableRandom(SEED);
+		var keys = new byte[n][];
+		for (int i = 0; i < n; i++) {
+			keys[i] = new byte[KEY_LEN];
+			r.nextBytes(keys[i]);
+		}
+		return keys;
+	}
+
+	public AccountID accountId(int i) {
+		return AccountID.newBuilder().setAccountNum(FIRST_ACCOUNT_NUM + i).build();
+	}
+
+	public TokenID tokenId(int i) {
+		return TokenID.newBuilder().setTokenNum(FIRST_ACCOUNT_NUM + numAccounts + i).build();
+	}
+
+	public TopicID topicId(int i) {
+		return TopicID.newBuilder().setTopicNum(FIRST_ACCOUNT_NUM + numAccounts + numTokens + i).build();
+	}
+
+	public byte[] keyOf(int i) {
+		return keys[i];
+	}
+
+	public int numAccounts() {
+		return numAccounts;
+	}
+
+	public int numTokens() {
+		return numTokens;
+	}
+
+	public int numTopics() {
+		return numTopics;
+	}
+
+	public long lastEntityNum() {
+		return FIRST_ACCOUNT_NUM + numAccounts + numTokens + numTopics - 1;
+	}
+
+	public FCMap<MerkleEntityId, MerkleAccount> accounts() {
+		return accounts;
+	}
+
+	public FCMap<MerkleEntityId, MerkleToken> tokens() {
+		return tokens;
+	}
+
+	public FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations() {
+		return tokenAssociations;
+	}
+
+	public FCMap<MerkleEntityId, MerkleTopic> topics() {
+		return topics;
+	}
+
+	/**
+	 * Wraps the synthetic maps in a {@link ServicesState} with an empty address book and
+	 * otherwise empty children, in the order of the current Merkle version.
+	 *
+	 * @return a state over the synthetic maps
+	 */
+	public ServicesState asServicesState() {
+		var emptyHash = new ImmutableHash(new byte[DigestType.SHA_384.digestLength()]);
+		return new ServicesState(List.of(
+				new AddressBook(),
+				new MerkleNetworkContext(),
+				topics,
+				new FCMap<MerkleBlobMeta, MerkleOptionalBlob>(),
+				accounts,
+				tokens,
+				tokenAssociations,
+				new MerkleDiskFs(),
+				new FCMap<MerkleEntityId, MerkleSchedule>(),
+				new RecordsRunningHashLeaf(new RunningHash(emptyHash))));
+	}
+}
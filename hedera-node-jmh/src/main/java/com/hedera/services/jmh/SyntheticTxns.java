@@ -0,0 +1,164 @@
+package com.hedera.services.jmh;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+/**
+ * Builds transactions against a {@link SyntheticState}. Signatures are random bytes
+ * of the right length; so they exercise parsing and key lookup, but not verification.
+ */
+public class SyntheticTxns {
+	public static final long FEE = 100_000_000L;
+	public static final long VALID_START_SECS = 1_600_000_000L;
+
+	static final int SIG_LEN = 64;
+	static final long VALID_DURATION_SECS = 120L;
+	static final long AUTO_RENEW_PERIOD_SECS = 7_776_000L;
+	static final AccountID NODE = AccountID.newBuilder().setAccountNum(3L).build();
+
+	private SyntheticTxns() {
+		throw new IllegalStateException("Utility Class");
+	}
+
+	/**
+	 * Returns a {@code CryptoTransfer} paid for by the account at {@code payer}, in which
+	 * the {@code numDebits} accounts at {@code firstParty, firstParty + stride, ...} each
+	 * send one tinybar to the payer.
+	 */
+	public static TransactionBody cryptoTransfer(
+			SyntheticState state,
+			int payer,
+			int firstParty,
+			int stride,
+			int numDebits
+	) {
+		var transfers = TransferList.newBuilder();
+		for (int i = 0; i < numDebits; i++) {
+			var party = (firstParty + i * stride) % state.numAccounts();
+			transfers.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(state.accountId(party))
+					.setAmount(-1L));
+		}
+		transfers.addAccountAmounts(AccountAmount.newBuilder()
+				.setAccountID(state.accountId(payer))
+				.setAmount(numDebits));
+		return baseBody(state, payer)
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transfers))
+				.build();
+	}
+
+	/**
+	 * Returns a {@code CryptoTransfer} in which the account at {@code payer} sends {@code amount}
+	 * units of the token at {@code token} to the account at {@code receiver}.
+	 */
+	public static TransactionBody tokenTransfer(
+			SyntheticState state,
+			int payer,
+			int receiver,
+			int token,
+			long amount
+	) {
+		var transfers = TokenTransferList.newBuilder()
+				.setToken(state.tokenId(token))
+				.addTransfers(AccountAmount.newBuilder()
+						.setAccountID(state.accountId(payer))
+						.setAmount(-amount))
+				.addTransfers(AccountAmount.newBuilder()
+						.setAccountID(state.accountId(receiver))
+						.setAmount(amount));
+		return baseBody(state, payer)
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().addTokenTransfers(transfers))
+				.build();
+	}
+
+	/**
+	 * Returns a {@code ConsensusSubmitMessage} of the given message to the topic at {@code topic},
+	 * paid for by the account at {@code payer}.
+	 */
+	public static TransactionBody submitMessage(SyntheticState state, int payer, int topic, byte[] message) {
+		return baseBody(state, payer)
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setTopicID(state.topicId(topic))
+						.setMessage(ByteString.copyFrom(message)))
+				.build();
+	}
+
+	/**
+	 * Returns a {@code CryptoCreate} of an account with the same key as the account at
+	 * {@code payer}, which pays for the creation.
+	 */
+	public static TransactionBody cryptoCreate(SyntheticState state, int payer, long initialBalance) {
+		return baseBody(state, payer)
+				.setCryptoCreateAccount(CryptoCreateTransactionBody.newBuilder()
+						.setKey(Key.newBuilder().setEd25519(ByteString.copyFrom(state.keyOf(payer))))
+						.setInitialBalance(initialBalance)
+						.setAutoRenewPeriod(Duration.newBuilder().setSeconds(AUTO_RENEW_PERIOD_SECS)))
+				.build();
+	}
+
+	/**
+	 * Wraps the given body in a {@link SignedTransaction} with one signature for each of the
+	 * given accounts, using their full public keys as prefixes.
+	 */
+	public static Transaction signed(TransactionBody body, SyntheticState state, int... signers) {
+		var sigMap = SignatureMap.newBuilder();
+		var sig = new byte[SIG_LEN];
+		for (int signer : signers) {
+			sigMap.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom(state.keyOf(signer)))
+					.setEd25519(ByteString.copyFrom(sig)));
+		}
+		var signedTxn = SignedTransaction.newBuilder()
+				.setBodyBytes(body.toByteString())
+				.setSigMap(sigMap)
+				.build();
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(signedTxn.toByteString())
+				.build();
+	}
+
+	private static TransactionBody.Builder baseBody(SyntheticState state, int payer) {
+		return TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(state.accountId(payer))
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(VALID_START_SECS)))
+				.setNodeAccountID(NODE)
+				.setTransactionFee(FEE)
+				.setTransactionValidDuration(Duration.newBuilder().setSeconds(VALID_DURATION_SECS));
+	}
+}
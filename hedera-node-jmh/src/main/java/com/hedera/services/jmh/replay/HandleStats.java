@@ -0,0 +1,119 @@
+package com.hedera.services.jmh.replay;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Accumulates the handle latency, allocated bytes, and final status of each replayed
+ * transaction, grouped by {@link HederaFunctionality}.
+ */
+final class HandleStats {
+	static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+	private static final int INITIAL_CAPACITY = 1 << 16;
+	private static final double NANOS_PER_SEC = 1_000_000_000.0;
+	private static final double NANOS_PER_MICRO = 1_000.0;
+	private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+	private final Map<HederaFunctionality, FunctionStats> byFunction = new EnumMap<>(HederaFunctionality.class);
+
+	void record(HederaFunctionality function, ResponseCodeEnum status, long nanos, long allocatedBytes) {
+		byFunction.computeIfAbsent(function, ignore -> new FunctionStats()).add(status, nanos, allocatedBytes);
+	}
+
+	String summary() {
+		var sb = new StringBuilder(String.format(
+				"%-26s %9s %9s %9s %10s %10s %10s %10s %10s %12s%n",
+				"Functionality", "Count", "Success%", "TPS",
+				"p50(µs)", "p90(µs)", "p99(µs)", "p99.9(µs)", "Max(µs)", "Alloc(MB/s)"));
+		var total = new FunctionStats();
+		byFunction.forEach((function, stats) -> {
+			appendRow(sb, function.toString(), stats);
+			total.addAll(stats);
+		});
+		appendRow(sb, "ALL", total);
+		byFunction.forEach((function, stats) -> stats.failures.forEach((status, count) -> sb.append(String.format(
+				"  %s failed %d time(s) with %s%n", function, count, status))));
+		return sb.toString();
+	}
+
+	private void appendRow(StringBuilder sb, String name, FunctionStats stats) {
+		var sorted = Arrays.copyOf(stats.latencies, stats.count);
+		Arrays.sort(sorted);
+		sb.append(String.format("%-26s %9d %9.2f %9.0f",
+				name,
+				stats.count,
+				100.0 * (stats.count - stats.numFailed()) / stats.count,
+				stats.count * NANOS_PER_SEC / stats.totalNanos));
+		for (double p : PERCENTILES) {
+			sb.append(String.format(" %10.1f", percentileOf(sorted, p) / NANOS_PER_MICRO));
+		}
+		sb.append(String.format(" %10.1f %12.1f%n",
+				sorted[sorted.length - 1] / NANOS_PER_MICRO,
+				stats.allocatedBytes / BYTES_PER_MB / (stats.totalNanos / NANOS_PER_SEC)));
+	}
+
+	static long percentileOf(long[] sorted, double p) {
+		var rank = (int) Math.ceil(p / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	private static final class FunctionStats {
+		private int count;
+		private long totalNanos;
+		private long allocatedBytes;
+		private long[] latencies = new long[INITIAL_CAPACITY];
+		private final Map<ResponseCodeEnum, Integer> failures = new EnumMap<>(ResponseCodeEnum.class);
+
+		void add(ResponseCodeEnum status, long nanos, long bytes) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, 2 * count);
+			}
+			latencies[count++] = nanos;
+			totalNanos += nanos;
+			allocatedBytes += bytes;
+			if (status != ResponseCodeEnum.SUCCESS) {
+				failures.merge(status, 1, Integer::sum);
+			}
+		}
+
+		void addAll(FunctionStats that) {
+			if (count + that.count > latencies.length) {
+				latencies = Arrays.copyOf(latencies, count + that.count);
+			}
+			System.arraycopy(that.latencies, 0, latencies, count, that.count);
+			count += that.count;
+			totalNanos += that.totalNanos;
+			allocatedBytes += that.allocatedBytes;
+			that.failures.forEach((status, n) -> failures.merge(status, n, Integer::sum));
+		}
+
+		int numFailed() {
+			return failures.values().stream().mapToInt(Integer::intValue).sum();
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.hedera.services.jmh.replay;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.ServicesContext;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.ChainedSources;
+import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.context.properties.SupplierMapPropertySource;
+import com.hedera.services.exceptions.NegativeAccountBalanceException;
+import com.hedera.services.jmh.SyntheticState;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.common.Address;
+import com.swirlds.common.AddressBook;
+import com.swirlds.common.NodeId;
+import com.swirlds.common.Transaction;
+import net.i2p.crypto.eddsa.EdDSAPrivateKey;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
+import static com.hedera.services.jmh.SyntheticState.FIRST_ACCOUNT_NUM;
+import static com.hedera.services.jmh.SyntheticState.INITIAL_BALANCE;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+
+/**
+ * Replays a synthetic stream of signed transactions through
+ * {@link com.hedera.services.legacy.services.state.AwareProcessLogic#incorporateConsensusTxn} against a
+ * genesis {@link ServicesState} that also holds a {@link SyntheticState} of the requested size; then
+ * reports TPS, latency percentiles, and allocation rate per {@code HederaFunctionality}.
+ *
+ * Nothing runs on the network: the {@link ReplayPlatform} stands in for the Swirlds platform, record
+ * streaming is disabled, and (as on a real node) signatures are expanded and verified before each
+ * transaction reaches consensus, so the timed section is just the handle path. Pass
+ * {@code verifyInHandle=true} to verify signatures synchronously in the timed section instead.
+ *
+ * Arguments are {@code name=value} pairs overriding the {@link ReplayHarness#DEFAULTS}; since the
+ * context reads the genesis keystore and bootstrap files from relative paths, run it from the
+ * {@code hedera-node} directory.
+ */
+public class ReplayHarness {
+	static final long NODE_ID = 0L;
+	static final String NODE_ACCOUNT = "0.0.3";
+	static final long NANOS_BETWEEN_TXNS = 1_000L;
+	static final long VALID_START_OFFSET_SECS = 1L;
+	static final Instant FIRST_CONSENSUS_TIME = Instant.ofEpochSecond(1_600_000_000L);
+
+	static final Map<String, String> DEFAULTS = Map.of(
+			"accounts", "100000",
+			"tokens", "1000",
+			"associations", "10",
+			"topics", "1000",
+			"txns", "100000",
+			"warmupTxns", "20000",
+			"mix", "50,25,20,5",
+			"verifyInHandle", "false");
+
+	/* Record streaming would write to disk, and hashes running records on another thread anyway. */
+	static final Map<String, Supplier<Object>> PROPERTY_OVERRIDES = Map.of(
+			"hedera.recordStream.isEnabled", () -> false);
+
+	private final Map<String, String> params;
+
+	private ServicesContext ctx;
+	private ServicesState state;
+	private ReplayTxns txns;
+	private Instant consensusTime = FIRST_CONSENSUS_TIME;
+
+	ReplayHarness(Map<String, String> params) {
+		this.params = params;
+	}
+
+	public static void main(String... args) {
+		var params = new HashMap<>(DEFAULTS);
+		for (String arg : args) {
+			var nameValue = arg.split("=", 2);
+			if (nameValue.length != 2 || !DEFAULTS.containsKey(nameValue[0])) {
+				throw new IllegalArgumentException(String.format(
+						"Expected name=value with name in %s, not '%s'", DEFAULTS.keySet(), arg));
+			}
+			params.put(nameValue[0], nameValue[1]);
+		}
+
+		var harness = new ReplayHarness(params);
+		harness.setup();
+		harness.replay(intParam(params, "warmupTxns"), new HandleStats());
+		var stats = new HandleStats();
+		var start = System.nanoTime();
+		harness.replay(intParam(params, "txns"), stats);
+		var elapsed = System.nanoTime() - start;
+
+		System.out.printf("Replayed %s txns (after %s warmup) against %s accounts, %s tokens, %s topics in %.1fs%n",
+				params.get("txns"),
+				params.get("warmupTxns"),
+				params.get("accounts"),
+				params.get("tokens"),
+				params.get("topics"),
+				elapsed / 1_000_000_000.0);
+		System.out.print(stats.summary());
+		System.exit(0);
+	}
+
+	void setup() {
+		var nodeId = new NodeId(false, NODE_ID);
+		var platform = ReplayPlatform.forNode(nodeId);
+		var sources = new StandardizedPropertySources(new BootstrapProperties(), loc -> new File(loc).exists()) {
+			@Override
+			public PropertySource asResolvingSource() {
+				return new ChainedSources(new SupplierMapPropertySource(PROPERTY_OVERRIDES), super.asResolvingSource());
+			}
+		};
+		ctx = new ServicesContext(nodeId, platform, null, sources);
+		CONTEXTS.store(ctx);
+
+		state = new ServicesState();
+		state.genesisInit(platform, singleNodeBook());
+		if (!ctx.systemFilesManager().areFilesLoaded()) {
+			ctx.systemFilesManager().loadAllSystemFiles();
+		}
+		ctx.systemAccountsCreator().ensureSystemAccounts(ctx.backingAccounts(), ctx.addressBook());
+
+		var numAccounts = intParam(params, "accounts");
+		var keys = ReplayTxns.keysFor(numAccounts);
+		var synthetic = createSyntheticState(numAccounts, keys);
+		if (!ctx.ledgerValidator().hasExpectedTotalBalance(ctx.accounts())) {
+			throw new IllegalStateException("Synthetic state changed the total tinybar float!");
+		}
+		ctx.initRecordStreamManager();
+
+		var weights = Arrays.stream(params.get("mix").split(",")).mapToInt(Integer::parseInt).toArray();
+		if (weights[ReplayTxns.Kind.TOKEN_TRANSFER.ordinal()] > 0 && intParam(params, "associations") < 2) {
+			throw new IllegalArgumentException("Token transfers need at least two associations per account");
+		}
+		txns = new ReplayTxns(synthetic, keys, weights);
+	}
+
+	private SyntheticState createSyntheticState(int numAccounts, EdDSAPrivateKey[] keys) {
+		var seqNo = ctx.seqNo();
+		if (seqNo.current() != FIRST_ACCOUNT_NUM) {
+			throw new IllegalStateException(String.format(
+					"Genesis state should start entity numbers at %d, not %d", FIRST_ACCOUNT_NUM, seqNo.current()));
+		}
+
+		/* Fund the synthetic accounts from the treasury, so the ledger still holds exactly the float. */
+		var treasuryId = fromAccountId(AccountID.newBuilder().setAccountNum(ctx.accountNums().treasury()).build());
+		var treasury = ctx.accounts().getForModify(treasuryId);
+		try {
+			treasury.setBalance(treasury.getBalance() - numAccounts * INITIAL_BALANCE);
+		} catch (NegativeAccountBalanceException e) {
+			throw new IllegalArgumentException("Not enough tinybars to fund " + numAccounts + " accounts", e);
+		}
+		ctx.accounts().replace(treasuryId, treasury);
+
+		var synthetic = new SyntheticState(
+				numAccounts,
+				intParam(params, "tokens"),
+				intParam(params, "associations"),
+				intParam(params, "topics"),
+				ReplayTxns.publicKeysOf(keys),
+				ctx.accounts(),
+				ctx.tokens(),
+				ctx.tokenAssociations(),
+				ctx.topics());
+		while (seqNo.current() <= synthetic.lastEntityNum()) {
+			seqNo.getAndIncrement();
+		}
+		ctx.rebuildBackingStoresIfPresent();
+		return synthetic;
+	}
+
+	void replay(int n, HandleStats stats) {
+		var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		var threadId = Thread.currentThread().getId();
+		var verifyInHandle = Boolean.parseBoolean(params.get("verifyInHandle"));
+		for (int i = 0; i < n; i++) {
+			consensusTime = consensusTime.plusNanos(NANOS_BETWEEN_TXNS);
+			var txn = txns.next(consensusTime.minusSeconds(VALID_START_OFFSET_SECS));
+			if (!verifyInHandle) {
+				preConsensusVerify(txn);
+			}
+
+			var allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+			var start = System.nanoTime();
+			ctx.logic().incorporateConsensusTxn(txn, consensusTime, NODE_ID);
+			var nanos = System.nanoTime() - start;
+			var allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+			var txnCtx = ctx.txnCtx();
+			stats.record(txnCtx.accessor().getFunction(), txnCtx.status(), nanos, allocated);
+		}
+	}
+
+	private void preConsensusVerify(Transaction txn) {
+		state.expandSignatures(txn);
+		ctx.syncVerifier().verifySync(txn.getSignatures());
+	}
+
+	private static AddressBook singleNodeBook() {
+		var address = new Address(
+				NODE_ID, "node0", "node0", 1L, true,
+				null, -1, null, -1,
+				null, -1, null, -1,
+				null, null, null,
+				NODE_ACCOUNT);
+		return new AddressBook(List.of(address));
+	}
+
+	private static int intParam(Map<String, String> params, String name) {
+		return Integer.parseInt(params.get(name));
+	}
+}
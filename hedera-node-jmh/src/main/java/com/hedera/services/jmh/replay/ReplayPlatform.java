@@ -0,0 +1,75 @@
+package com.hedera.services.jmh.replay;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.NodeId;
+import com.swirlds.common.Platform;
+import com.swirlds.common.crypto.CryptoFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Provides a stand-in {@link Platform} for replaying transactions without a network. It
+ * answers only what the handle path needs: the node id, and the process-wide
+ * {@link com.swirlds.common.crypto.Cryptography} for verifying signatures. Every other
+ * method is a no-op that returns a default value.
+ */
+final class ReplayPlatform {
+	private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(
+			boolean.class, false,
+			byte.class, (byte) 0,
+			short.class, (short) 0,
+			char.class, (char) 0,
+			int.class, 0,
+			long.class, 0L,
+			float.class, 0.0f,
+			double.class, 0.0d);
+
+	private ReplayPlatform() {
+		throw new IllegalStateException("Utility Class");
+	}
+
+	static Platform forNode(NodeId nodeId) {
+		return (Platform) Proxy.newProxyInstance(
+				Platform.class.getClassLoader(),
+				new Class<?>[] { Platform.class },
+				(proxy, method, args) -> answer(nodeId, proxy, method, args));
+	}
+
+	private static Object answer(NodeId nodeId, Object proxy, Method method, Object[] args) {
+		switch (method.getName()) {
+			case "getSelfId":
+				return nodeId;
+			case "getCryptography":
+				return CryptoFactory.getInstance();
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "toString":
+				return "ReplayPlatform{nodeId=" + nodeId + "}";
+			default:
+				return PRIMITIVE_DEFAULTS.get(method.getReturnType());
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package com.hedera.services.jmh.replay;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.jmh.SyntheticState;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import net.i2p.crypto.eddsa.EdDSAEngine;
+import net.i2p.crypto.eddsa.EdDSAPrivateKey;
+import net.i2p.crypto.eddsa.spec.EdDSANamedCurveTable;
+import net.i2p.crypto.eddsa.spec.EdDSAParameterSpec;
+import net.i2p.crypto.eddsa.spec.EdDSAPrivateKeySpec;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.jmh.SyntheticTxns.cryptoCreate;
+import static com.hedera.services.jmh.SyntheticTxns.cryptoTransfer;
+import static com.hedera.services.jmh.SyntheticTxns.submitMessage;
+import static com.hedera.services.jmh.SyntheticTxns.tokenTransfer;
+
+/**
+ * Generates a deterministic stream of transactions against a {@link SyntheticState}, each
+ * signed with real Ed25519 signatures by every account whose key it requires.
+ *
+ * The stream mixes the {@link Kind}s of transaction in proportion to the given weights;
+ * payers are chosen uniformly at random, so most transactions touch "cold" accounts.
+ */
+final class ReplayTxns {
+	static final long SEED = 0xfeedL;
+	static final long KEY_SEED = 0x5eedL;
+	static final int SEED_LEN = 32;
+	static final int MESSAGE_LEN = 100;
+	static final EdDSAParameterSpec ED25519 = EdDSANamedCurveTable.getByName(EdDSANamedCurveTable.ED_25519);
+
+	enum Kind {
+		HBAR_TRANSFER, TOKEN_TRANSFER, SUBMIT_MESSAGE, CRYPTO_CREATE
+	}
+
+	private final int[] weights;
+	private final int totalWeight;
+	private final EdDSAEngine engine;
+	private final SyntheticState state;
+	private final EdDSAPrivateKey[] keys;
+	private final SplittableRandom r = new SplittableRandom(SEED);
+
+	ReplayTxns(SyntheticState state, EdDSAPrivateKey[] keys, int[] weights) {
+		if (weights.length != Kind.values().length) {
+			throw new IllegalArgumentException("Need one weight for each of " + Kind.values().length + " kinds");
+		}
+		if (weights[Kind.TOKEN_TRANSFER.ordinal()] > 0 && state.numAccounts() < 2) {
+			throw new IllegalArgumentException("Token transfers need at least two accounts");
+		}
+		if (weights[Kind.SUBMIT_MESSAGE.ordinal()] > 0 && state.numTopics() == 0) {
+			throw new IllegalArgumentException("Message submissions need at least one topic");
+		}
+		this.state = state;
+		this.keys = keys;
+		this.weights = weights;
+		int sum = 0;
+		for (int weight : weights) {
+			sum += weight;
+		}
+		totalWeight = sum;
+		try {
+			engine = new EdDSAEngine(MessageDigest.getInstance(ED25519.getHashAlgorithm()));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the private keys for the synthetic accounts, derived from fixed seeds so that
+	 * every run replays the same transactions.
+	 */
+	static EdDSAPrivateKey[] keysFor(int numAccounts) {
+		var seeds = new SplittableRandom(KEY_SEED);
+		var keys = new EdDSAPrivateKey[numAccounts];
+		var seed = new byte[SEED_LEN];
+		for (int i = 0; i < numAccounts; i++) {
+			seeds.nextBytes(seed);
+			keys[i] = new EdDSAPrivateKey(new EdDSAPrivateKeySpec(seed, ED25519));
+		}
+		return keys;
+	}
+
+	static byte[][] publicKeysOf(EdDSAPrivateKey[] keys) {
+		var publicKeys = new byte[keys.length][];
+		for (int i = 0; i < keys.length; i++) {
+			publicKeys[i] = keys[i].getAbyte();
+		}
+		return publicKeys;
+	}
+
+	/**
+	 * Returns the next transaction in the stream as the platform would deliver it, with the
+	 * given valid start for its transaction id.
+	 */
+	com.swirlds.common.Transaction next(Instant validStart) {
+		var numAccounts = state.numAccounts();
+		int payer;
+		int[] signers;
+		TransactionBody body;
+		switch (nextKind()) {
+			case HBAR_TRANSFER:
+				payer = r.nextInt(numAccounts);
+				var sender = (payer + 1) % numAccounts;
+				body = cryptoTransfer(state, payer, sender, 1, 1);
+				signers = new int[] { payer, sender };
+				break;
+			case TOKEN_TRANSFER:
+				/* Account i is associated to tokens i, i + 1, ...; so accounts i and i + 1 share token i + 1. */
+				payer = r.nextInt(numAccounts - 1);
+				body = tokenTransfer(state, payer, payer + 1, (payer + 1) % state.numTokens(), 1L);
+				signers = new int[] { payer };
+				break;
+			case SUBMIT_MESSAGE:
+				payer = r.nextInt(numAccounts);
+				var message = new byte[MESSAGE_LEN];
+				r.nextBytes(message);
+				body = submitMessage(state, payer, r.nextInt(state.numTopics()), message);
+				signers = new int[] { payer };
+				break;
+			default:
+				payer = r.nextInt(numAccounts);
+				body = cryptoCreate(state, payer, 0L);
+				signers = new int[] { payer };
+				break;
+		}
+		var txnId = body.getTransactionID().toBuilder()
+				.setTransactionValidStart(Timestamp.newBuilder()
+						.setSeconds(validStart.getEpochSecond())
+						.setNanos(validStart.getNano()));
+		return new com.swirlds.common.Transaction(signed(body.toBuilder().setTransactionID(txnId).build(), signers)
+				.toByteArray());
+	}
+
+	private Kind nextKind() {
+		var choice = r.nextInt(totalWeight);
+		for (var kind : Kind.values()) {
+			choice -= weights[kind.ordinal()];
+			if (choice < 0) {
+				return kind;
+			}
+		}
+		throw new IllegalStateException("Weights must be non-negative");
+	}
+
+	private Transaction signed(TransactionBody body, int... signers) {
+		var bodyBytes = body.toByteString();
+		var sigMap = SignatureMap.newBuilder();
+		for (int signer : signers) {
+			sigMap.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom(keys[signer].getAbyte()))
+					.setEd25519(ByteString.copyFrom(sign(signer, bodyBytes.toByteArray()))));
+		}
+		var signedTxn = SignedTransaction.newBuilder()
+				.setBodyBytes(bodyBytes)
+				.setSigMap(sigMap)
+				.build();
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(signedTxn.toByteString())
+				.build();
+	}
+
+	private byte[] sign(int signer, byte[] data) {
+		try {
+			engine.initSign(keys[signer]);
+			return engine.signOneShot(data);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
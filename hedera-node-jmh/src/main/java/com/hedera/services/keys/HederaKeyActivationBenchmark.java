@@ -0,0 +1,108 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.isActive;
+import static com.hedera.services.keys.HederaKeyActivation.pkToSigMapFrom;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HederaKeyActivationBenchmark {
+	/* Signature statuses are set by platform verification, which is out of scope here. */
+	static final BiPredicate<JKey, TransactionSignature> IF_SIG_IS_PRESENT = (ignore, sig) -> sig != INVALID_SIG;
+
+	@Param({ "1", "10", "100" })
+	int numKeys;
+
+	JKey listKey;
+	JKey thresholdKey;
+	List<TransactionSignature> sigs;
+	Function<byte[], TransactionSignature> sigsFn;
+
+	@Setup
+	public void setup() {
+		var r = new SplittableRandom(numKeys);
+		var data = new byte[48];
+		r.nextBytes(data);
+
+		List<JKey> keys = new ArrayList<>();
+		sigs = new ArrayList<>();
+		for (int i = 0; i < numKeys; i++) {
+			var pk = new byte[32];
+			var sig = new byte[64];
+			r.nextBytes(pk);
+			r.nextBytes(sig);
+			keys.add(new JEd25519Key(pk));
+			/* Leave every third key unsigned, so thresholds do real work. */
+			if (i % 3 != 2) {
+				sigs.add(createEd25519(pk, sig, data));
+			}
+		}
+		listKey = new JKeyList(keys);
+		thresholdKey = new JThresholdKey(new JKeyList(keys), Math.max(1, 2 * numKeys / 3));
+		sigsFn = pkToSigMapFrom(sigs);
+	}
+
+	@Benchmark
+	public boolean keyListIsActive() {
+		return isActive(listKey, sigsFn, IF_SIG_IS_PRESENT);
+	}
+
+	@Benchmark
+	public boolean thresholdKeyIsActive() {
+		return isActive(thresholdKey, sigsFn, IF_SIG_IS_PRESENT);
+	}
+
+	@Benchmark
+	public boolean thresholdKeyIsActiveWithFreshSigMap() {
+		return isActive(thresholdKey, pkToSigMapFrom(sigs), IF_SIG_IS_PRESENT);
+	}
+}
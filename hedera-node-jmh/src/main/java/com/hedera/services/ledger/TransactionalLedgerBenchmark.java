@@ -0,0 +1,92 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.jmh.SyntheticState;
+import com.hedera.services.ledger.accounts.FCMapBackingAccounts;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TransactionalLedgerBenchmark {
+	@Param({ "10000", "100000" })
+	int numAccounts;
+
+	@Param({ "2", "10" })
+	int accountsPerTxn;
+
+	int nextAccount;
+	long nextDelta = 1L;
+	AccountID[] ids;
+	TransactionalLedger<AccountID, AccountProperty, MerkleAccount> subject;
+
+	@Setup
+	public void setup() {
+		var state = new SyntheticState(numAccounts, 0, 0, 0);
+		ids = new AccountID[numAccounts];
+		for (int i = 0; i < numAccounts; i++) {
+			ids[i] = state.accountId(i);
+		}
+
+		subject = new TransactionalLedger<>(
+				AccountProperty.class,
+				MerkleAccount::new,
+				new FCMapBackingAccounts(state::accounts),
+				new ChangeSummaryManager<>());
+		subject.setKeyComparator(ACCOUNT_ID_COMPARATOR);
+	}
+
+	@Benchmark
+	public void adjustAndCommit() {
+		subject.begin();
+		for (int i = 0; i < accountsPerTxn; i++) {
+			var id = ids[nextAccount];
+			nextAccount = (nextAccount + 1) % numAccounts;
+			subject.set(id, BALANCE, (long) subject.get(id, BALANCE) + nextDelta);
+		}
+		subject.commit();
+		/* Alternate credits and debits so balances stay near their initial values. */
+		nextDelta = -nextDelta;
+	}
+}
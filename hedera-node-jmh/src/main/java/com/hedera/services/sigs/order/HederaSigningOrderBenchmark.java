@@ -0,0 +1,97 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.AccountNumbers;
+import com.hedera.services.config.EntityNumbers;
+import com.hedera.services.config.FileNumbers;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.jmh.SyntheticState;
+import com.hedera.services.jmh.SyntheticTxns;
+import com.hedera.services.legacy.crypto.SignatureStatus;
+import com.hedera.services.sigs.metadata.lookups.SafeLookupResult;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.defaultLookupsFor;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_SCHEDULE;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_TOKEN;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HederaSigningOrderBenchmark {
+	@Param({ "10000", "100000" })
+	int numAccounts;
+
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	TransactionBody txn;
+	HederaSigningOrder subject;
+	SigningOrderResultFactory<SignatureStatus> factory = new SigStatusOrderResultFactory(false);
+
+	@Setup
+	public void setup() {
+		var state = new SyntheticState(numAccounts, 0, 0, 0);
+		txn = SyntheticTxns.cryptoTransfer(state, 0, 1, numAccounts / numTransfers - 1, numTransfers);
+
+		var properties = new BootstrapProperties();
+		var hederaNums = new HederaNumbers(properties);
+		var entityNums = new EntityNumbers(
+				new FileNumbers(hederaNums, properties),
+				hederaNums,
+				new AccountNumbers(properties));
+		var lookups = defaultLookupsFor(
+				null,
+				state::accounts,
+				state::topics,
+				ignore -> SafeLookupResult.failure(MISSING_TOKEN),
+				ignore -> SafeLookupResult.failure(MISSING_SCHEDULE));
+		subject = new HederaSigningOrder(entityNums, lookups, ignore -> false, (ignore, function) -> false);
+	}
+
+	@Benchmark
+	public SigningOrderResult<SignatureStatus> keysForPayer() {
+		return subject.keysForPayer(txn, factory);
+	}
+
+	@Benchmark
+	public SigningOrderResult<SignatureStatus> keysForOtherParties() {
+		return subject.keysForOtherParties(txn, factory);
+	}
+}
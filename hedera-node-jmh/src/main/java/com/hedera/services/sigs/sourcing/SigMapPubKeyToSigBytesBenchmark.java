@@ -0,0 +1,108 @@
+package com.hedera.services.sigs.sourcing;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SigMapPubKeyToSigBytesBenchmark {
+	static final int SHORT_PREFIX_LEN = 4;
+
+	@Param({ "1", "10", "100" })
+	int numKeys;
+
+	byte[][] pubKeys;
+	byte[] unsignedKey;
+	SignatureMap sigMap;
+	SigMapPubKeyToSigBytes indexed;
+
+	@Setup
+	public void setup() throws Exception {
+		var r = new SplittableRandom(numKeys);
+
+		var sigMapBuilder = SignatureMap.newBuilder();
+		pubKeys = new byte[numKeys][];
+		for (int i = 0; i < numKeys; i++) {
+			var pk = new byte[32];
+			var sig = new byte[64];
+			r.nextBytes(pk);
+			r.nextBytes(sig);
+			pubKeys[i] = pk;
+			/* Mix full and short prefixes, so the index has more than one length to probe. */
+			int prefixLen = (i % 2 == 0) ? pk.length : SHORT_PREFIX_LEN;
+			sigMapBuilder.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom(pk, 0, prefixLen))
+					.setEd25519(ByteString.copyFrom(sig)));
+		}
+		sigMap = sigMapBuilder.build();
+		unsignedKey = new byte[32];
+		r.nextBytes(unsignedKey);
+
+		indexed = new SigMapPubKeyToSigBytes(sigMap);
+		/* Build the prefix index (if any) outside the measured lookups. */
+		indexed.sigBytesFor(pubKeys[0]);
+	}
+
+	@Benchmark
+	public int sigBytesForEveryKey() throws Exception {
+		int total = 0;
+		for (byte[] pk : pubKeys) {
+			total += indexed.sigBytesFor(pk).length;
+		}
+		return total;
+	}
+
+	@Benchmark
+	public int sigBytesForEveryKeyWithFreshIndex() throws Exception {
+		var subject = new SigMapPubKeyToSigBytes(sigMap);
+		int total = 0;
+		for (byte[] pk : pubKeys) {
+			total += subject.sigBytesFor(pk).length;
+		}
+		return total;
+	}
+
+	@Benchmark
+	public int sigBytesForUnsignedKey() throws Exception {
+		return indexed.sigBytesFor(unsignedKey).length;
+	}
+}
@@ -0,0 +1,78 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.jmh.SyntheticState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SignedStateBalancesExporterBenchmark {
+	@Param({ "10000", "100000" })
+	int numAccounts;
+
+	@Param({ "0", "10" })
+	int associationsPerAccount;
+
+	ServicesState signedState;
+	SignedStateBalancesExporter subject;
+
+	@Setup
+	public void setup() {
+		var state = new SyntheticState(numAccounts, Math.max(100, associationsPerAccount), associationsPerAccount, 0);
+		signedState = state.asServicesState();
+
+		var properties = new BootstrapProperties();
+		var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(properties), properties);
+		subject = new SignedStateBalancesExporter(
+				properties,
+				UnaryOperator.identity(),
+				dynamicProperties,
+				new BalanceChangesTracker(() -> Instant.EPOCH, dynamicProperties));
+	}
+
+	@Benchmark
+	public Object summarized() {
+		return subject.summarized(signedState);
+	}
+}
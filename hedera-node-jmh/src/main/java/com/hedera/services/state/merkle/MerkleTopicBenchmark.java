@@ -0,0 +1,81 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MerkleTopicBenchmark {
+	@Param({ "100", "1024", "6144" })
+	int messageSize;
+
+	byte[] message;
+	byte[] messageDigest;
+	MerkleTopic topic;
+	Instant consensusNow = Instant.ofEpochSecond(1_600_000_000L);
+	TopicID topicId = TopicID.newBuilder().setTopicNum(1_234L).build();
+	AccountID payer = AccountID.newBuilder().setAccountNum(1_001L).build();
+
+	@Setup
+	public void setup() {
+		message = new byte[messageSize];
+		new SplittableRandom(messageSize).nextBytes(message);
+		messageDigest = noThrowSha384HashOf(message);
+		topic = new MerkleTopic("Topic", null, null, 0, null, new RichInstant(1_700_000_000L, 0));
+	}
+
+	@Benchmark
+	public byte[] updateRunningHash() throws IOException {
+		topic.updateRunningHashAndSequenceNumber(payer, message, topicId, consensusNow);
+		return topic.getRunningHash();
+	}
+
+	@Benchmark
+	public byte[] updateRunningHashGivenDigest() {
+		topic.updateRunningHashAndSequenceNumberGivenDigest(payer, messageDigest, topicId, consensusNow);
+		return topic.getRunningHash();
+	}
+}
@@ -0,0 +1,123 @@
+package com.hedera.services.state.submerkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExpirableTxnRecordBenchmark {
+	static final int HASH_LEN = 48;
+
+	@Param({ "2", "10", "50" })
+	int numTransfers;
+
+	byte[] serialized;
+	TransactionRecord grpc;
+	ExpirableTxnRecord record;
+	ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+	@Setup
+	public void setup() throws ConstructableRegistryException, IOException {
+		ConstructableRegistry.registerConstructables("com.hedera.services.state.submerkle");
+
+		var payer = AccountID.newBuilder().setAccountNum(1_001L).build();
+		var transfers = TransferList.newBuilder();
+		for (int i = 0; i < numTransfers; i++) {
+			transfers.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(AccountID.newBuilder().setAccountNum(2_000L + i))
+					.setAmount((i % 2 == 0) ? -1L : 1L));
+		}
+		grpc = TransactionRecord.newBuilder()
+				.setReceipt(TransactionReceipt.newBuilder().setStatus(SUCCESS))
+				.setTransactionHash(ByteString.copyFrom(new byte[HASH_LEN]))
+				.setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1_600_000_000L).setNanos(123))
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(payer)
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_599_999_999L)))
+				.setMemo("Synthetic record")
+				.setTransactionFee(100_000L)
+				.setTransferList(transfers)
+				.build();
+		record = ExpirableTxnRecord.fromGprc(grpc);
+		serialized = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		baos.reset();
+		try (var out = new SerializableDataOutputStream(baos)) {
+			record.serialize(out);
+		}
+		return baos.toByteArray();
+	}
+
+	@Benchmark
+	public ExpirableTxnRecord deserialize() throws IOException {
+		var in = new SerializableDataInputStream(new ByteArrayInputStream(serialized));
+		var subject = new ExpirableTxnRecord();
+		subject.deserialize(in, ExpirableTxnRecord.MERKLE_VERSION);
+		return subject;
+	}
+
+	@Benchmark
+	public ExpirableTxnRecord fromGrpc() {
+		return ExpirableTxnRecord.fromGprc(grpc);
+	}
+
+	@Benchmark
+	public TransactionRecord asGrpc() {
+		return record.asGrpc();
+	}
+}
@@ -0,0 +1,73 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.jmh.SyntheticState;
+import com.hedera.services.jmh.SyntheticTxns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SignedTxnAccessorBenchmark {
+	@Param({ "2", "10" })
+	int numTransfers;
+
+	@Param({ "1", "10" })
+	int numSigs;
+
+	byte[] signedTxnBytes;
+
+	@Setup
+	public void setup() {
+		var state = new SyntheticState(Math.max(numTransfers, numSigs) + 1, 0, 0, 0);
+		var body = SyntheticTxns.cryptoTransfer(state, 0, 1, 1, numTransfers);
+		var signers = IntStream.range(0, numSigs).toArray();
+		signedTxnBytes = SyntheticTxns.signed(body, state, signers).toByteArray();
+	}
+
+	@Benchmark
+	public SignedTxnAccessor parse() throws InvalidProtocolBufferException {
+		return new SignedTxnAccessor(signedTxnBytes);
+	}
+
+	@Benchmark
+	public Object parseAndDigest() throws InvalidProtocolBufferException {
+		return new SignedTxnAccessor(signedTxnBytes).getHash();
+	}
+}
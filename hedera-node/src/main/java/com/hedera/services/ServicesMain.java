@@ -121,6 +121,11 @@ public class ServicesMain implements SwirldMain {
 
 	@Override
 	public void newSignedState(SwirldState signedState, Instant when, long round) {
+		if (ctx.nodeLocalProperties().shouldAnswerQueriesFromSignedState()) {
+			ctx.updateQueryableState((ServicesState) signedState, when, round);
+		}
+		/* Whichever state queries use, it now reflects at least this signed state. */
+		ctx.precheckDeferrals().onNewSignedState();
 		if (ctx.platformStatus().get() == MAINTENANCE) {
 			((ServicesState)signedState).printHashes();
 		}
@@ -40,7 +40,6 @@ import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
-import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.blob.BinaryObjectStore;
 import com.swirlds.common.AddressBook;
@@ -277,7 +276,9 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	private void initializeContext(final ServicesContext ctx) {
 		/* Set the primitive state in the context and signal the managing stores (if
 		 * they are already constructed) to rebuild their auxiliary views of the state.
-		 * All the initialization that follows will be a function of the primitive state. */
+		 * All the initialization that follows will be a function of the primitive state.
+		 * (Any signed state published to queries before a reconnect is now stale.) */
+		ctx.forgetSignedQueryableState();
 		ctx.update(this);
 		ctx.rebuildBackingStoresIfPresent();
 
@@ -311,7 +312,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public void expandSignatures(Transaction platformTxn) {
 		try {
-			var accessor = new PlatformTxnAccessor(platformTxn);
+			var accessor = ctx.txnAccessorCache().create(platformTxn);
+			accessor.computeDigestsWith(ctx.preConsensusDigests());
 			expandIn(accessor, ctx.lookupRetryingKeyOrder(), DEFAULT_SIG_BYTES);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("expandSignatures called with non-gRPC txn!", e);
@@ -21,6 +21,7 @@ package com.hedera.services.context;
  */
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hedera.services.ServicesState;
 import com.hedera.services.config.AccountNumbers;
 import com.hedera.services.config.EntityNumbers;
@@ -28,6 +29,7 @@ import com.hedera.services.config.FileNumbers;
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.domain.trackers.ConsensusStatusCounts;
 import com.hedera.services.context.domain.trackers.IssEventInfo;
+import com.hedera.services.context.primitives.StateSnapshot;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.NodeLocalProperties;
@@ -80,6 +82,7 @@ import com.hedera.services.queries.contract.GetBytecodeAnswer;
 import com.hedera.services.queries.contract.GetContractInfoAnswer;
 import com.hedera.services.queries.token.GetTokenInfoAnswer;
 import com.hedera.services.queries.token.TokenAnswers;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup;
@@ -92,6 +95,7 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.contracts.execution.LocalCallExecutor;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
 import com.hedera.services.contracts.execution.SoliditySigsVerifier;
 import com.hedera.services.contracts.execution.TxnAwareSoliditySigsVerifier;
@@ -132,6 +136,7 @@ import com.hedera.services.fees.calculation.meta.queries.GetVersionInfoResourceU
 import com.hedera.services.fees.calculation.system.txns.FreezeResourceUsage;
 import com.hedera.services.fees.charging.ItemizableFeeCharging;
 import com.hedera.services.fees.charging.TxnFeeChargingPolicy;
+import com.hedera.services.files.CachingMetadataMap;
 import com.hedera.services.files.DataMapFactory;
 import com.hedera.services.files.FileUpdateInterceptor;
 import com.hedera.services.files.HederaFs;
@@ -194,6 +199,7 @@ import com.hedera.services.sigs.verification.PrecheckKeyReqs;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.exports.AccountsExporter;
+import com.hedera.services.state.exports.BalanceChangesTracker;
 import com.hedera.services.state.exports.BalancesExporter;
 import com.hedera.services.state.initialization.HfsSystemFilesManager;
 import com.hedera.services.state.initialization.SystemAccountsCreator;
@@ -211,6 +217,7 @@ import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.state.validation.LedgerValidator;
 import com.hedera.services.stats.CounterFactory;
+import com.hedera.services.stats.HandleTimes;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.stats.HapiOpSpeedometers;
 import com.hedera.services.stats.MiscRunningAvgs;
@@ -218,6 +225,7 @@ import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.stats.RunningAvgFactory;
 import com.hedera.services.stats.ServicesStatsManager;
 import com.hedera.services.stats.SpeedometerFactory;
+import com.hedera.services.stats.ThrottleCounters;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.throttling.BucketThrottling;
 import com.hedera.services.throttling.ThrottlingPropsBuilder;
@@ -256,6 +264,7 @@ import com.hedera.services.txns.schedule.ScheduleCreateTransitionLogic;
 import com.hedera.services.txns.schedule.ScheduleDeleteTransitionLogic;
 import com.hedera.services.txns.schedule.ScheduleSignTransitionLogic;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
+import com.hedera.services.txns.submission.PrecheckDeferrals;
 import com.hedera.services.txns.submission.TxnHandlerSubmissionFlow;
 import com.hedera.services.txns.submission.TxnResponseHelper;
 import com.hedera.services.txns.token.TokenAssociateTransitionLogic;
@@ -276,12 +285,14 @@ import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityIdUtils;
 import com.hedera.services.utils.MiscUtils;
 import com.hedera.services.utils.Pause;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.services.utils.SleepingPause;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.fee.CryptoFeeBuilder;
 import com.hederahashgraph.fee.FileFeeBuilder;
 import com.hederahashgraph.fee.SmartContractFeeBuilder;
@@ -310,7 +321,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -419,6 +434,9 @@ public class ServicesContext {
 	private SyncVerifier syncVerifier;
 	private IssEventInfo issEventInfo;
 	private ProcessLogic logic;
+	private PlatformTxnAccessorCache txnAccessorCache;
+	private Executor preConsensusDigests;
+	private ContractCallLocalAnswer.LegacyLocalCaller localCalls;
 	private QueryFeeCheck queryFeeCheck;
 	private HederaNumbers hederaNums;
 	private ExpiryManager expiries;
@@ -432,6 +450,7 @@ public class ServicesContext {
 	private PropertySource properties;
 	private EntityIdSource ids;
 	private FileController fileGrpc;
+	private HandleTimes handleTimes;
 	private HapiOpCounters opCounters;
 	private AnswerFunctions answerFunctions;
 	private ContractAnswers contractAnswers;
@@ -451,11 +470,13 @@ public class ServicesContext {
 	private BackingTokenRels backingTokenRels;
 	private FreezeController freezeGrpc;
 	private BalancesExporter balancesExporter;
+	private BalanceChangesTracker balanceChangesTracker;
 	private SolidityLifecycle solidityLifecycle;
 	private ExpiringCreations creator;
 	private NetworkController networkGrpc;
 	private GrpcServerManager grpc;
 	private TxnResponseHelper txnResponseHelper;
+	private PrecheckDeferrals precheckDeferrals;
 	private TransactionContext txnCtx;
 	private BlobStorageSource bytecodeDb;
 	private TransactionHandler txns;
@@ -494,13 +515,15 @@ public class ServicesContext {
 	private ValidatingCallbackInterceptor apiPermissionsReloading;
 	private ValidatingCallbackInterceptor applicationPropertiesReloading;
 	private Supplier<ServicesRepositoryRoot> newPureRepo;
-	private Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleTopic>> queryableTopics;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleToken>> queryableTokens;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleAccount>> queryableAccounts;
 	private AtomicReference<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> queryableStorage;
 	private AtomicReference<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> queryableTokenAssociations;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleSchedule>> queryableSchedules;
+	private AtomicReference<StateSnapshot> queryableState;
+	private volatile boolean hasSignedQueryableState = false;
 
 	/* Context-free infrastructure. */
 	private static Pause pause;
@@ -530,12 +553,67 @@ public class ServicesContext {
 	public void update(ServicesState state) {
 		this.state = state;
 
-		queryableAccounts().set(accounts());
-		queryableTopics().set(topics());
-		queryableStorage().set(storage());
-		queryableTokens().set(tokens());
-		queryableTokenAssociations().set(tokenAssociations());
-		queryableSchedules().set(schedules());
+		synchronized (this) {
+			if (!hasSignedQueryableState) {
+				publishQueryableState(StateSnapshot.ofWorking(state));
+			}
+		}
+	}
+
+	/**
+	 * Makes the given signed state the one that all queries are answered from, until
+	 * the next call. Once a signed state is published, updates to the working state
+	 * no longer change what queries see.
+	 *
+	 * @param signedState the latest signed state
+	 * @param consensusTime the consensus time of the signed state
+	 * @param round the round of the signed state
+	 */
+	public synchronized void updateQueryableState(ServicesState signedState, Instant consensusTime, long round) {
+		hasSignedQueryableState = true;
+		publishQueryableState(StateSnapshot.ofSigned(signedState, round, consensusTime).reserve());
+	}
+
+	/**
+	 * Stops answering queries from the last published signed state (if any), so the next
+	 * {@link #update(ServicesState)} goes back to the working state until another signed
+	 * state is published; for use when the working state is replaced wholesale, as on a
+	 * reconnect.
+	 */
+	public synchronized void forgetSignedQueryableState() {
+		hasSignedQueryableState = false;
+	}
+
+	/**
+	 * Returns the snapshot queries are currently answered from, with a hold taken on it;
+	 * the caller must {@link StateSnapshot#release()} the snapshot when done reading it.
+	 *
+	 * @return the held snapshot
+	 */
+	public StateSnapshot acquireQueryableState() {
+		while (true) {
+			/* A snapshot is replaced before its publisher's hold is given up; so if this
+			one can no longer be acquired, the next read sees its replacement. */
+			var snapshot = queryableState().get();
+			if (snapshot.tryAcquire()) {
+				return snapshot;
+			}
+		}
+	}
+
+	private void publishQueryableState(StateSnapshot snapshot) {
+		var replaced = queryableState().getAndSet(snapshot);
+
+		queryableAccounts().set(snapshot.accounts());
+		queryableTopics().set(snapshot.topics());
+		queryableStorage().set(snapshot.storage());
+		queryableTokens().set(snapshot.tokens());
+		queryableTokenAssociations().set(snapshot.tokenAssociations());
+		queryableSchedules().set(snapshot.schedules());
+
+		if (replaced != snapshot) {
+			replaced.release();
+		}
 	}
 
 	public void rebuildBackingStoresIfPresent() {
@@ -545,6 +623,18 @@ public class ServicesContext {
 		if (backingAccounts != null) {
 			backingAccounts.rebuildFromSources();
 		}
+		if (scheduleStore != null) {
+			scheduleStore.rebuildViews();
+		}
+		if (hfs != null) {
+			((TieredHederaFs) hfs).forgetCachedViews();
+		}
+		if (balancesExporter != null) {
+			balancesExporter.forgetDeltaBase();
+		}
+		if (storagePersistence instanceof BlobStoragePersistence) {
+			((BlobStoragePersistence) storagePersistence).forgetLoadedImages();
+		}
 	}
 
 	public HapiOpCounters opCounters() {
@@ -555,6 +645,14 @@ public class ServicesContext {
 		return opCounters;
 	}
 
+	public HandleTimes handleTimes() {
+		if (handleTimes == null) {
+			handleTimes = new HandleTimes(new CounterFactory() {
+			}, nodeLocalProperties(), MiscUtils::baseStatNameOf);
+		}
+		return handleTimes;
+	}
+
 	public MiscRunningAvgs runningAvgs() {
 		if (runningAvgs == null) {
 			runningAvgs = new MiscRunningAvgs(new RunningAvgFactory() {
@@ -591,6 +689,9 @@ public class ServicesContext {
 					runningAvgs(),
 					speedometers(),
 					opSpeedometers,
+					new ThrottleCounters(new CounterFactory() {
+					}, bucketThrottling()),
+					handleTimes(),
 					nodeLocalProperties());
 		}
 		return statsManager;
@@ -626,14 +727,7 @@ public class ServicesContext {
 
 	public Supplier<StateView> stateViews() {
 		if (stateViews == null) {
-			stateViews = () -> new StateView(
-					tokenStore(),
-					() -> queryableTopics().get(),
-					() -> queryableAccounts().get(),
-					() -> queryableStorage().get(),
-					() -> queryableTokenAssociations().get(),
-					this::diskFs,
-					properties());
+			stateViews = () -> new StateView(acquireQueryableState(), properties());
 		}
 		return stateViews;
 	}
@@ -675,11 +769,21 @@ public class ServicesContext {
 
 	public TxnResponseHelper txnResponseHelper() {
 		if (txnResponseHelper == null) {
-			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters());
+			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters(), precheckDeferrals());
 		}
 		return txnResponseHelper;
 	}
 
+	public PrecheckDeferrals precheckDeferrals() {
+		if (precheckDeferrals == null) {
+			precheckDeferrals = new PrecheckDeferrals(
+					nodeLocalProperties().precheckMaxPendingDeferrals(),
+					nodeLocalProperties().precheckMaxDeferralSignedStates(),
+					nodeLocalProperties().precheckMaxDeferralWaitMs());
+		}
+		return precheckDeferrals;
+	}
+
 	public TransactionThrottling txnThrottling() {
 		if (txnThrottling == null) {
 			txnThrottling = new TransactionThrottling(bucketThrottling());
@@ -721,7 +825,7 @@ public class ServicesContext {
 
 	public QueryResponseHelper queryResponseHelper() {
 		if (queryResponseHelper == null) {
-			queryResponseHelper = new QueryResponseHelper(answerFlow(), opCounters());
+			queryResponseHelper = new QueryResponseHelper(answerFlow(), opCounters(), precheckDeferrals());
 		}
 		return queryResponseHelper;
 	}
@@ -743,7 +847,7 @@ public class ServicesContext {
 					new GetContractInfoAnswer(validator()),
 					new GetBySolidityIdAnswer(),
 					new GetContractRecordsAnswer(validator()),
-					new ContractCallLocalAnswer(contracts()::contractCallLocal, validator())
+					new ContractCallLocalAnswer(localCalls(), validator())
 			);
 		}
 		return contractAnswers;
@@ -848,7 +952,7 @@ public class ServicesContext {
 							new GetContractInfoResourceUsage(),
 							new GetContractRecordsResourceUsage(contractFees),
 							new ContractCallLocalResourceUsage(
-									contracts()::contractCallLocal, contractFees, globalDynamicProperties()),
+									localCalls(), contractFees, globalDynamicProperties()),
 							/* Token */
 							new GetTokenInfoResourceUsage(),
 							/* Schedule */
@@ -957,15 +1061,24 @@ public class ServicesContext {
 
 	public HederaSigningOrder lookupRetryingKeyOrder() {
 		if (lookupRetryingKeyOrder == null) {
-			var lookups = defaultAccountRetryingLookupsFor(
-					hfs(),
-					nodeLocalProperties(),
-					this::accounts,
-					this::topics,
-					REF_LOOKUP_FACTORY.apply(tokenStore()),
-					SCHEDULE_REF_LOOKUP_FACTORY.apply(scheduleStore()),
-					runningAvgs(),
-					speedometers());
+			/* With precheck deferrals enabled, a missing account is retried after the next
+			signed state instead of by sleeping the gRPC thread in the lookup itself. */
+			var lookups = (nodeLocalProperties().precheckMaxPendingDeferrals() > 0)
+					? defaultLookupsFor(
+							hfs(),
+							this::accounts,
+							this::topics,
+							REF_LOOKUP_FACTORY.apply(tokenStore()),
+							SCHEDULE_REF_LOOKUP_FACTORY.apply(scheduleStore()))
+					: defaultAccountRetryingLookupsFor(
+							hfs(),
+							nodeLocalProperties(),
+							this::accounts,
+							this::topics,
+							REF_LOOKUP_FACTORY.apply(tokenStore()),
+							SCHEDULE_REF_LOOKUP_FACTORY.apply(scheduleStore()),
+							runningAvgs(),
+							speedometers());
 			lookupRetryingKeyOrder = keyOrderWith(lookups);
 		}
 		return lookupRetryingKeyOrder;
@@ -1019,11 +1132,21 @@ public class ServicesContext {
 			balancesExporter = new SignedStateBalancesExporter(
 					properties(),
 					platform()::sign,
-					globalDynamicProperties());
+					globalDynamicProperties(),
+					balanceChangesTracker());
 		}
 		return balancesExporter;
 	}
 
+	public BalanceChangesTracker balanceChangesTracker() {
+		if (balanceChangesTracker == null) {
+			balanceChangesTracker = new BalanceChangesTracker(
+					() -> txnCtx().consensusTime(),
+					globalDynamicProperties());
+		}
+		return balanceChangesTracker;
+	}
+
 	public Map<EntityId, Long> entityExpiries() {
 		if (entityExpiries == null) {
 			entityExpiries = EntityExpiryMapFactory.entityExpiryMapFrom(blobStore());
@@ -1038,7 +1161,7 @@ public class ServicesContext {
 					globalDynamicProperties(),
 					txnCtx()::consensusTime,
 					DataMapFactory.dataMapFrom(blobStore()),
-					MetadataMapFactory.metaMapFrom(blobStore()),
+					new CachingMetadataMap(MetadataMapFactory.metaMapFrom(blobStore()), runningAvgs()),
 					this::getCurrentSpecialFileSystem);
 			hfs.register(feeSchedulesManager());
 			hfs.register(exchangeRatesManager());
@@ -1218,7 +1341,7 @@ public class ServicesContext {
 		return txnCtx;
 	}
 
-	public Map<TransactionID, TxnIdRecentHistory> txnHistories() {
+	public Map<TxnIdKey, TxnIdRecentHistory> txnHistories() {
 		if (txnHistories == null) {
 			txnHistories = new ConcurrentHashMap<>();
 		}
@@ -1262,14 +1385,14 @@ public class ServicesContext {
 
 	public BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels() {
 		if (backingTokenRels == null) {
-			backingTokenRels = new BackingTokenRels(this::tokenAssociations);
+			backingTokenRels = new BackingTokenRels(this::tokenAssociations, balanceChangesTracker()::markChanged);
 		}
 		return backingTokenRels;
 	}
 
 	public BackingStore<AccountID, MerkleAccount> backingAccounts() {
 		if (backingAccounts == null) {
-			backingAccounts = new FCMapBackingAccounts(this::accounts);
+			backingAccounts = new FCMapBackingAccounts(this::accounts, balanceChangesTracker()::markChanged);
 		}
 		return backingAccounts;
 	}
@@ -1310,7 +1433,7 @@ public class ServicesContext {
 
 	public ScheduleStore scheduleStore() {
 		if (scheduleStore == null) {
-			scheduleStore = new HederaScheduleStore(ids(), this::schedules);
+			scheduleStore = new HederaScheduleStore(ids(), globalDynamicProperties(), this::schedules);
 		}
 		return scheduleStore;
 	}
@@ -1364,6 +1487,63 @@ public class ServicesContext {
 		return logic;
 	}
 
+	public PlatformTxnAccessorCache txnAccessorCache() {
+		if (txnAccessorCache == null) {
+			txnAccessorCache = new PlatformTxnAccessorCache();
+		}
+		return txnAccessorCache;
+	}
+
+	public Executor preConsensusDigests() {
+		if (preConsensusDigests == null) {
+			var threads = nodeLocalProperties().preConsensusDigestThreads();
+			if (threads > 0) {
+				/* With a bounded queue and caller-runs, a burst of events applies backpressure
+				to the event thread instead of piling up digest tasks without limit. */
+				preConsensusDigests = new ThreadPoolExecutor(
+						threads,
+						threads,
+						0L,
+						TimeUnit.MILLISECONDS,
+						new ArrayBlockingQueue<>(Math.max(1, nodeLocalProperties().preConsensusDigestQueueCapacity())),
+						new ThreadFactoryBuilder()
+								.setNameFormat("pre-consensus-digests-%d")
+								.setDaemon(true)
+								.build(),
+						new ThreadPoolExecutor.CallerRunsPolicy());
+			} else {
+				preConsensusDigests = Runnable::run;
+			}
+		}
+		return preConsensusDigests;
+	}
+
+	public ContractCallLocalAnswer.LegacyLocalCaller localCalls() {
+		if (localCalls == null) {
+			var threads = nodeLocalProperties().localCallThreads();
+			if (threads > 0) {
+				localCalls = new LocalCallExecutor(
+						threads,
+						nodeLocalProperties().localCallQueueCapacity(),
+						this::heldSnapshotLocalCall,
+						runningAvgs(),
+						speedometers());
+			} else {
+				localCalls = this::heldSnapshotLocalCall;
+			}
+		}
+		return localCalls;
+	}
+
+	private ContractCallLocalResponse heldSnapshotLocalCall(ContractCallLocalQuery query, long now) throws Exception {
+		var snapshot = acquireQueryableState();
+		try {
+			return contracts().contractCallLocal(query, now, () -> pureRepoFrom(snapshot));
+		} finally {
+			snapshot.release();
+		}
+	}
+
 	public FreezeHandler freeze() {
 		if (freeze == null) {
 			freeze = new FreezeHandler(hfs(), platform(), exchange());
@@ -1596,29 +1776,36 @@ public class ServicesContext {
 
 	public Supplier<ServicesRepositoryRoot> newPureRepo() {
 		if (newPureRepo == null) {
-			TransactionalLedger<AccountID, AccountProperty, MerkleAccount> pureDelegate = new TransactionalLedger<>(
-					AccountProperty.class,
-					MerkleAccount::new,
-					new PureFCMapBackingAccounts(this::accounts),
-					new ChangeSummaryManager<>());
-			HederaLedger pureLedger = new HederaLedger(
-					NOOP_TOKEN_STORE,
-					NOOP_ID_SOURCE,
-					NOOP_EXPIRING_CREATIONS,
-					NOOP_RECORDS_HISTORIAN,
-					pureDelegate);
-			Source<byte[], AccountState> pureAccountSource = new LedgerAccountsSource(
-					pureLedger,
-					globalDynamicProperties());
-			newPureRepo = () -> {
-				var pureRepository = new ServicesRepositoryRoot(pureAccountSource, bytecodeDb());
-				pureRepository.setStoragePersistence(storagePersistence());
-				return pureRepository;
-			};
+			newPureRepo = () -> pureRepoFrom(queryableState().get());
 		}
 		return newPureRepo;
 	}
 
+	/* Local calls read the same (possibly signed) state as every other query; and since the accounts
+	and storage of a single call both come from one snapshot, a call never mixes two states. */
+	private ServicesRepositoryRoot pureRepoFrom(StateSnapshot snapshot) {
+		TransactionalLedger<AccountID, AccountProperty, MerkleAccount> pureDelegate = new TransactionalLedger<>(
+				AccountProperty.class,
+				MerkleAccount::new,
+				new PureFCMapBackingAccounts(snapshot::accounts),
+				new ChangeSummaryManager<>());
+		HederaLedger pureLedger = new HederaLedger(
+				NOOP_TOKEN_STORE,
+				NOOP_ID_SOURCE,
+				NOOP_EXPIRING_CREATIONS,
+				NOOP_RECORDS_HISTORIAN,
+				pureDelegate);
+		Source<byte[], AccountState> pureAccountSource = new LedgerAccountsSource(
+				pureLedger,
+				globalDynamicProperties());
+		Map<String, byte[]> pureBlobs = new FcBlobsBytesStore(MerkleOptionalBlob::new, snapshot::storage);
+		var pureRepository = new ServicesRepositoryRoot(
+				pureAccountSource,
+				new BlobStorageSource(bytecodeMapFrom(pureBlobs)));
+		pureRepository.setStoragePersistence(new BlobStoragePersistence(storageMapFrom(pureBlobs), false));
+		return pureRepository;
+	}
+
 	public ConsensusStatusCounts statusCounts() {
 		if (statusCounts == null) {
 			statusCounts = new ConsensusStatusCounts(new ObjectMapper());
@@ -1729,6 +1916,13 @@ public class ServicesContext {
 		return queryableSchedules;
 	}
 
+	public AtomicReference<StateSnapshot> queryableState() {
+		if (queryableState == null) {
+			queryableState = new AtomicReference<>(StateSnapshot.ofWorking(state));
+		}
+		return queryableState;
+	}
+
 	public UsagePricesProvider usagePrices() {
 		if (usagePrices == null) {
 			usagePrices = new AwareFcfsUsagePrices(hfs(), fileNums(), txnCtx());
@@ -1886,7 +2080,15 @@ public class ServicesContext {
 		this.backingTokenRels = backingTokenRels;
 	}
 
+	void setScheduleStore(ScheduleStore scheduleStore) {
+		this.scheduleStore = scheduleStore;
+	}
+
 	void setBackingAccounts(FCMapBackingAccounts backingAccounts) {
 		this.backingAccounts = backingAccounts;
 	}
+
+	void setBalancesExporter(BalancesExporter balancesExporter) {
+		this.balancesExporter = balancesExporter;
+	}
 }
@@ -0,0 +1,188 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleDiskFs;
+import com.hedera.services.state.merkle.MerkleEntityAssociation;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.fcmap.FCMap;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The children of a single {@link ServicesState} that queries are answered from,
+ * captured together so one {@link StateView} never mixes maps from two different
+ * states.
+ *
+ * A snapshot of a signed state also records the round and consensus time it was
+ * signed at; a snapshot of the working state has round {@link #WORKING_STATE_ROUND}
+ * and no consensus time.
+ *
+ * Since the platform may release a signed state as soon as its {@code newSignedState}
+ * callback returns, a signed snapshot must be {@link #reserve()}d before it is published
+ * to query threads. Each query then {@link #tryAcquire()}s the snapshot before reading
+ * it, and {@link #release()}s it when finished; the publisher releases its own hold when
+ * it publishes a newer snapshot. The state's children are released only once the last
+ * of these holds is given up, so no query can outlive the maps it reads.
+ *
+ * A snapshot of the working state needs no holds, since the working state is never released
+ * while it is still in use.
+ */
+public class StateSnapshot {
+	public static final long WORKING_STATE_ROUND = -1L;
+
+	private final long round;
+	private final Instant consensusTime;
+	private final FCMap<MerkleEntityId, MerkleTopic> topics;
+	private final FCMap<MerkleEntityId, MerkleAccount> accounts;
+	private final FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
+	private final FCMap<MerkleEntityId, MerkleToken> tokens;
+	private final FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations;
+	private final FCMap<MerkleEntityId, MerkleSchedule> schedules;
+	private final MerkleDiskFs diskFs;
+	private final AtomicInteger holds = new AtomicInteger();
+
+	private StateSnapshot(ServicesState state, long round, Instant consensusTime) {
+		this.round = round;
+		this.consensusTime = consensusTime;
+		topics = state.topics();
+		accounts = state.accounts();
+		storage = state.storage();
+		tokens = state.tokens();
+		tokenAssociations = state.tokenAssociations();
+		schedules = state.scheduleTxs();
+		diskFs = state.diskFs();
+	}
+
+	public static StateSnapshot ofWorking(ServicesState state) {
+		return new StateSnapshot(state, WORKING_STATE_ROUND, null);
+	}
+
+	public static StateSnapshot ofSigned(ServicesState signedState, long round, Instant consensusTime) {
+		return new StateSnapshot(signedState, round, consensusTime);
+	}
+
+	public boolean isSigned() {
+		return round != WORKING_STATE_ROUND;
+	}
+
+	public long round() {
+		return round;
+	}
+
+	public Instant consensusTime() {
+		return consensusTime;
+	}
+
+	public FCMap<MerkleEntityId, MerkleTopic> topics() {
+		return topics;
+	}
+
+	public FCMap<MerkleEntityId, MerkleAccount> accounts() {
+		return accounts;
+	}
+
+	public FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage() {
+		return storage;
+	}
+
+	public FCMap<MerkleEntityId, MerkleToken> tokens() {
+		return tokens;
+	}
+
+	public FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations() {
+		return tokenAssociations;
+	}
+
+	public FCMap<MerkleEntityId, MerkleSchedule> schedules() {
+		return schedules;
+	}
+
+	public MerkleDiskFs diskFs() {
+		return diskFs;
+	}
+
+	/**
+	 * Takes a reference on each child of the state captured by this snapshot, so that
+	 * none is released when the platform releases the state itself; the caller then has
+	 * the first hold on this snapshot.
+	 *
+	 * @return this snapshot
+	 */
+	public StateSnapshot reserve() {
+		if (isSigned()) {
+			forEachChild(MerkleNode::incrementReferenceCount);
+			holds.set(1);
+		}
+		return this;
+	}
+
+	/**
+	 * Takes another hold on this snapshot, unless its last hold was already given up.
+	 *
+	 * @return whether the caller now has a hold, and may read this snapshot
+	 */
+	public boolean tryAcquire() {
+		if (!isSigned()) {
+			return true;
+		}
+		for (int n = holds.get(); n > 0; n = holds.get()) {
+			if (holds.compareAndSet(n, n + 1)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gives up a hold taken by {@link #reserve()} or {@link #tryAcquire()}; when the last
+	 * hold is given up, any child no longer referenced by the platform is released.
+	 */
+	public void release() {
+		if (isSigned() && holds.decrementAndGet() == 0) {
+			forEachChild(MerkleNode::decrementReferenceCount);
+		}
+	}
+
+	int holds() {
+		return holds.get();
+	}
+
+	private void forEachChild(Consumer<MerkleNode> action) {
+		MerkleNode[] children = { topics, accounts, storage, tokens, tokenAssociations, schedules, diskFs };
+		for (MerkleNode child : children) {
+			if (child != null) {
+				action.accept(child);
+			}
+		}
+	}
+}
@@ -68,6 +68,7 @@ import java.util.function.Supplier;
 import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromContractId;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
 import static com.hedera.services.store.tokens.ExceptionalTokenStore.NOOP_TOKEN_STORE;
 import static com.hedera.services.store.tokens.TokenStore.MISSING_TOKEN;
 import static com.hedera.services.utils.EntityIdUtils.asAccount;
@@ -116,12 +117,14 @@ public class StateView {
 	Map<FileID, byte[]> fileContents;
 	Map<FileID, JFileInfo> fileAttrs;
 	private final TokenStore tokenStore;
+	private final Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens;
 	private final Supplier<MerkleDiskFs> diskFs;
 	private final Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
 	private final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations;
 
 	private final PropertySource properties;
+	private StateSnapshot snapshot;
 
 	public StateView(
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
@@ -150,9 +153,53 @@ public class StateView {
 			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
 			Supplier<MerkleDiskFs> diskFs,
 			PropertySource properties
+	) {
+		this(tokenStore, null, topics, accounts, storage, tokenAssociations, diskFs, properties);
+	}
+
+	/**
+	 * Creates a view that reads every child, including tokens, from the given
+	 * {@link StateSnapshot}; so a query answered from it sees exactly one state.
+	 *
+	 * @param snapshot the state children to read
+	 * @param properties the node's properties
+	 */
+	public StateView(StateSnapshot snapshot, PropertySource properties) {
+		this(
+				NOOP_TOKEN_STORE,
+				snapshot::tokens,
+				snapshot::topics,
+				snapshot::accounts,
+				snapshot::storage,
+				snapshot::tokenAssociations,
+				snapshot::diskFs,
+				properties);
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Gives up the hold this view's caller took on the {@link StateSnapshot} it was created
+	 * from (if any); the view must not be read afterwards.
+	 */
+	public void release() {
+		if (snapshot != null) {
+			snapshot.release();
+		}
+	}
+
+	private StateView(
+			TokenStore tokenStore,
+			Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens,
+			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage,
+			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
+			Supplier<MerkleDiskFs> diskFs,
+			PropertySource properties
 	) {
 		this.topics = topics;
 		this.accounts = accounts;
+		this.tokens = tokens;
 		this.tokenStore = tokenStore;
 		this.tokenAssociations = tokenAssociations;
 
@@ -169,8 +216,9 @@ public class StateView {
 	public static List<TokenRelationship> tokenRels(StateView view, AccountID id) {
 		var account = view.accounts().get(fromAccountId(id));
 		List<TokenRelationship> relationships = new ArrayList<>();
-		var tokenIds = account.tokens().asIds();
-		for (TokenID tId : tokenIds) {
+		var accountTokens = account.tokens();
+		for (int i = 0, n = accountTokens.numAssociations(); i < n; i++) {
+			var tId = accountTokens.idAt(i);
 			var optionalToken = view.tokenWith(tId);
 			if (optionalToken.isPresent()) {
 				var token = optionalToken.get();
@@ -212,6 +260,9 @@ public class StateView {
 	}
 
 	public Optional<MerkleToken> tokenWith(TokenID id) {
+		if (tokens != null) {
+			return Optional.ofNullable(tokens.get().get(fromTokenId(id)));
+		}
 		return !tokenStore.exists(id)
 				? Optional.empty()
 				: Optional.of(tokenStore.get(id));
@@ -219,11 +270,20 @@ public class StateView {
 
 	public Optional<TokenInfo> infoForToken(TokenID tokenID) {
 		try {
-			var id = tokenStore.resolve(tokenID);
-			if (id == MISSING_TOKEN) {
-				return Optional.empty();
+			var id = tokenID;
+			MerkleToken token;
+			if (tokens != null) {
+				token = tokens.get().get(fromTokenId(id));
+				if (token == null) {
+					return Optional.empty();
+				}
+			} else {
+				id = tokenStore.resolve(tokenID);
+				if (id == MISSING_TOKEN) {
+					return Optional.empty();
+				}
+				token = tokenStore.get(id);
 			}
-			var token = tokenStore.get(id);
 			var info = TokenInfo.newBuilder()
 					.setTokenId(id)
 					.setDeleted(token.isDeleted())
@@ -283,6 +343,9 @@ public class StateView {
 	}
 
 	public boolean tokenExists(TokenID id) {
+		if (tokens != null) {
+			return tokens.get().containsKey(fromTokenId(id));
+		}
 		return tokenStore.resolve(id) != MISSING_TOKEN;
 	}
 
@@ -188,6 +188,10 @@ public class BootstrapProperties implements PropertySource {
 			"balances.exportEnabled",
 			"balances.exportPeriodSecs",
 			"balances.exportTokenBalances",
+			"balances.exportProtoBalances",
+			"balances.gzipProtoBalances",
+			"balances.exportDeltas",
+			"balances.deltasPerCheckpoint",
 			"balances.nodeBalanceWarningThreshold",
 			"cache.records.ttl",
 			"contracts.defaultLifetime",
@@ -215,8 +219,12 @@ public class BootstrapProperties implements PropertySource {
 	);
 
 	static final Set<String> NODE_PROPS = Set.of(
+			"contracts.localCall.queueCapacity",
+			"contracts.localCall.threads",
 			"grpc.port",
 			"grpc.tlsPort",
+			"hedera.preConsensusDigests.queueCapacity",
+			"hedera.preConsensusDigests.threads",
 			"hedera.profiles.active",
 			"hedera.recordStream.isEnabled",
 			"hedera.recordStream.logDir",
@@ -224,6 +232,13 @@ public class BootstrapProperties implements PropertySource {
 			"hedera.recordStream.queueCapacity",
 			"precheck.account.maxLookupRetries",
 			"precheck.account.lookupRetryBackoffIncrementMs",
+			"precheck.deferrals.maxPending",
+			"precheck.deferrals.maxSignedStates",
+			"precheck.deferrals.maxWaitMs",
+			"queries.useSignedState",
+			"stats.handleTimes.isEnabled",
+			"stats.handleTimes.intervalSecs",
+			"stats.handleTimes.trackAllocations",
 			"stats.hapiOps.speedometerUpdateIntervalMs",
 			"stats.runningAvgHalfLifeSecs",
 			"stats.speedometerHalfLifeSecs"
@@ -247,11 +262,17 @@ public class BootstrapProperties implements PropertySource {
 			entry("accounts.systemDeleteAdmin", AS_LONG),
 			entry("accounts.systemUndeleteAdmin", AS_LONG),
 			entry("accounts.treasury", AS_LONG),
+			entry("hedera.preConsensusDigests.threads", AS_INT),
+			entry("hedera.preConsensusDigests.queueCapacity", AS_INT),
 			entry("balances.exportEnabled", AS_BOOLEAN),
 			entry("balances.exportPeriodSecs", AS_INT),
 			entry("balances.nodeBalanceWarningThreshold", AS_LONG),
 			entry("cache.records.ttl", AS_INT),
 			entry("balances.exportTokenBalances", AS_BOOLEAN),
+			entry("balances.exportProtoBalances", AS_BOOLEAN),
+			entry("balances.gzipProtoBalances", AS_BOOLEAN),
+			entry("balances.exportDeltas", AS_BOOLEAN),
+			entry("balances.deltasPerCheckpoint", AS_INT),
 			entry("files.addressBook", AS_LONG),
 			entry("files.networkProperties", AS_LONG),
 			entry("files.exchangeRates", AS_LONG),
@@ -276,6 +297,10 @@ public class BootstrapProperties implements PropertySource {
 			entry("ledger.autoRenewPeriod.minDuration", AS_LONG),
 			entry("precheck.account.maxLookupRetries", AS_INT),
 			entry("precheck.account.lookupRetryBackoffIncrementMs", AS_INT),
+			entry("precheck.deferrals.maxPending", AS_INT),
+			entry("precheck.deferrals.maxSignedStates", AS_INT),
+			entry("precheck.deferrals.maxWaitMs", AS_LONG),
+			entry("queries.useSignedState", AS_BOOLEAN),
 			entry("bootstrap.ledger.nodeAccounts.initialBalance", AS_LONG),
 			entry("bootstrap.ledger.systemAccounts.initialBalance", AS_LONG),
 			entry("bootstrap.rates.currentHbarEquiv", AS_INT),
@@ -299,10 +324,15 @@ public class BootstrapProperties implements PropertySource {
 			entry("tokens.maxSymbolUtf8Bytes", AS_INT),
 			entry("tokens.maxTokenNameUtf8Bytes", AS_INT),
 			entry("contracts.localCall.estRetBytes", AS_INT),
+			entry("contracts.localCall.queueCapacity", AS_INT),
+			entry("contracts.localCall.threads", AS_INT),
 			entry("contracts.maxStorageKb", AS_INT),
 			entry("contracts.defaultLifetime", AS_LONG),
 			entry("contracts.maxGas", AS_INT),
 			entry("rates.intradayChangeLimitPercent", AS_INT),
+			entry("stats.handleTimes.isEnabled", AS_BOOLEAN),
+			entry("stats.handleTimes.intervalSecs", AS_LONG),
+			entry("stats.handleTimes.trackAllocations", AS_BOOLEAN),
 			entry("stats.hapiOps.speedometerUpdateIntervalMs", AS_LONG),
 			entry("stats.runningAvgHalfLifeSecs", AS_DOUBLE),
 			entry("stats.speedometerHalfLifeSecs", AS_DOUBLE)
@@ -41,6 +41,10 @@ public class GlobalDynamicProperties {
 	private boolean shouldKeepRecordsInState;
 	private boolean shouldExportBalances;
 	private boolean shouldExportTokenBalances;
+	private boolean shouldExportProtoBalances;
+	private boolean shouldGzipProtoBalances;
+	private boolean shouldExportBalanceDeltas;
+	private int balanceDeltasPerCheckpoint;
 	private AccountID fundingAccount;
 	private int maxTransfersLen;
 	private int maxTokenTransfersLen;
@@ -99,6 +103,10 @@ public class GlobalDynamicProperties {
 		minAutoRenewDuration = properties.getLongProperty("ledger.autoRenewPeriod.minDuration");
 		localCallEstRetBytes = properties.getIntProperty("contracts.localCall.estRetBytes");
 		scheduledTxExpiryTimeSecs = properties.getIntProperty("ledger.schedule.txExpiryTimeSecs");
+		shouldExportProtoBalances = properties.getBooleanProperty("balances.exportProtoBalances");
+		shouldGzipProtoBalances = properties.getBooleanProperty("balances.gzipProtoBalances");
+		shouldExportBalanceDeltas = properties.getBooleanProperty("balances.exportDeltas");
+		balanceDeltasPerCheckpoint = properties.getIntProperty("balances.deltasPerCheckpoint");
 	}
 
 	public int maxTokensPerAccount() {
@@ -161,6 +169,22 @@ public class GlobalDynamicProperties {
 		return shouldExportTokenBalances;
 	}
 
+	public boolean shouldExportProtoBalances() {
+		return shouldExportProtoBalances;
+	}
+
+	public boolean shouldGzipProtoBalances() {
+		return shouldGzipProtoBalances;
+	}
+
+	public boolean shouldExportBalanceDeltas() {
+		return shouldExportBalanceDeltas;
+	}
+
+	public int balanceDeltasPerCheckpoint() {
+		return balanceDeltasPerCheckpoint;
+	}
+
 	public int maxTransferListSize() {
 		return maxTransfersLen;
 	}
@@ -27,6 +27,9 @@ public class NodeLocalProperties {
 	private int tlsPort;
 	private int precheckLookupRetries;
 	private int precheckLookupRetryBackoffMs;
+	private int precheckMaxPendingDeferrals;
+	private int precheckMaxDeferralSignedStates;
+	private long precheckMaxDeferralWaitMs;
 	private long statsHapiOpsSpeedometerUpdateIntervalMs;
 	private Profile activeProfile;
 	private double statsSpeedometerHalfLifeSecs;
@@ -35,6 +38,14 @@ public class NodeLocalProperties {
 	private long recordLogPeriod;
 	private boolean recordStreamEnabled;
 	private int recordStreamQueueCapacity;
+	private int preConsensusDigestThreads;
+	private int preConsensusDigestQueueCapacity;
+	private boolean queriesUseSignedState;
+	private int localCallThreads;
+	private int localCallQueueCapacity;
+	private boolean handleTimesEnabled;
+	private long handleTimesIntervalSecs;
+	private boolean handleTimesTrackAllocations;
 
 	public NodeLocalProperties(PropertySource properties) {
 		this.properties = properties;
@@ -47,6 +58,9 @@ public class NodeLocalProperties {
 		tlsPort = properties.getIntProperty("grpc.tlsPort");
 		precheckLookupRetries = properties.getIntProperty("precheck.account.maxLookupRetries");
 		precheckLookupRetryBackoffMs = properties.getIntProperty("precheck.account.lookupRetryBackoffIncrementMs");
+		precheckMaxPendingDeferrals = properties.getIntProperty("precheck.deferrals.maxPending");
+		precheckMaxDeferralSignedStates = properties.getIntProperty("precheck.deferrals.maxSignedStates");
+		precheckMaxDeferralWaitMs = properties.getLongProperty("precheck.deferrals.maxWaitMs");
 		activeProfile = properties.getProfileProperty("hedera.profiles.active");
 		statsHapiOpsSpeedometerUpdateIntervalMs = properties.getLongProperty("stats.hapiOps.speedometerUpdateIntervalMs");
 		statsSpeedometerHalfLifeSecs = properties.getDoubleProperty("stats.speedometerHalfLifeSecs");
@@ -55,6 +69,14 @@ public class NodeLocalProperties {
 		recordLogPeriod = properties.getLongProperty("hedera.recordStream.logPeriod");
 		recordStreamEnabled = properties.getBooleanProperty("hedera.recordStream.isEnabled");
 		recordStreamQueueCapacity = properties.getIntProperty("hedera.recordStream.queueCapacity");
+		preConsensusDigestThreads = properties.getIntProperty("hedera.preConsensusDigests.threads");
+		preConsensusDigestQueueCapacity = properties.getIntProperty("hedera.preConsensusDigests.queueCapacity");
+		queriesUseSignedState = properties.getBooleanProperty("queries.useSignedState");
+		localCallThreads = properties.getIntProperty("contracts.localCall.threads");
+		localCallQueueCapacity = properties.getIntProperty("contracts.localCall.queueCapacity");
+		handleTimesEnabled = properties.getBooleanProperty("stats.handleTimes.isEnabled");
+		handleTimesIntervalSecs = properties.getLongProperty("stats.handleTimes.intervalSecs");
+		handleTimesTrackAllocations = properties.getBooleanProperty("stats.handleTimes.trackAllocations");
 	}
 
 	public int port() {
@@ -73,6 +95,18 @@ public class NodeLocalProperties {
 		return precheckLookupRetryBackoffMs;
 	}
 
+	public int precheckMaxPendingDeferrals() {
+		return precheckMaxPendingDeferrals;
+	}
+
+	public int precheckMaxDeferralSignedStates() {
+		return precheckMaxDeferralSignedStates;
+	}
+
+	public long precheckMaxDeferralWaitMs() {
+		return precheckMaxDeferralWaitMs;
+	}
+
 	public Profile activeProfile() {
 		return activeProfile;
 	}
@@ -104,4 +138,36 @@ public class NodeLocalProperties {
 	public int recordStreamQueueCapacity() {
 		return recordStreamQueueCapacity;
 	}
+
+	public int preConsensusDigestThreads() {
+		return preConsensusDigestThreads;
+	}
+
+	public int preConsensusDigestQueueCapacity() {
+		return preConsensusDigestQueueCapacity;
+	}
+
+	public boolean shouldAnswerQueriesFromSignedState() {
+		return queriesUseSignedState;
+	}
+
+	public int localCallThreads() {
+		return localCallThreads;
+	}
+
+	public int localCallQueueCapacity() {
+		return localCallQueueCapacity;
+	}
+
+	public boolean areHandleTimesEnabled() {
+		return handleTimesEnabled;
+	}
+
+	public long handleTimesIntervalSecs() {
+		return handleTimesIntervalSecs;
+	}
+
+	public boolean shouldTrackHandleAllocations() {
+		return handleTimesTrackAllocations;
+	}
 }
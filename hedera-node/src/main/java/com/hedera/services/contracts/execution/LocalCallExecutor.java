@@ -0,0 +1,119 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hedera.services.exceptions.ResourceBusyException;
+import com.hedera.services.queries.contract.ContractCallLocalAnswer.LegacyLocalCaller;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs contract local calls on a fixed number of worker threads, with a bounded
+ * queue of waiting calls; so that read-only EVM executions can use several cores,
+ * but cannot tie up an unbounded number of gRPC threads.
+ *
+ * When every worker is busy and the queue is full, a call fails immediately with a
+ * {@link ResourceBusyException} instead of waiting; so the query can be answered
+ * with a {@code BUSY} precheck, and never with a cached {@code BUSY} "result".
+ */
+public class LocalCallExecutor implements LegacyLocalCaller {
+	static final String LOCAL_CALL_WORKERS = "local contract call workers";
+
+	private final LegacyLocalCaller delegate;
+	private final MiscRunningAvgs runningAvgs;
+	private final MiscSpeedometers speedometers;
+	private final ThreadPoolExecutor workers;
+
+	public LocalCallExecutor(
+			int threads,
+			int queueCapacity,
+			LegacyLocalCaller delegate,
+			MiscRunningAvgs runningAvgs,
+			MiscSpeedometers speedometers
+	) {
+		this(delegate, runningAvgs, speedometers, new ThreadPoolExecutor(
+				threads,
+				threads,
+				0L,
+				MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+				new ThreadFactoryBuilder()
+						.setNameFormat("local-contract-calls-%d")
+						.setDaemon(true)
+						.build()));
+	}
+
+	LocalCallExecutor(
+			LegacyLocalCaller delegate,
+			MiscRunningAvgs runningAvgs,
+			MiscSpeedometers speedometers,
+			ThreadPoolExecutor workers
+	) {
+		this.delegate = delegate;
+		this.runningAvgs = runningAvgs;
+		this.speedometers = speedometers;
+		this.workers = workers;
+	}
+
+	@Override
+	public ContractCallLocalResponse perform(ContractCallLocalQuery query, long now) throws Exception {
+		Future<ContractCallLocalResponse> call;
+		try {
+			call = workers.submit(() -> delegate.perform(query, now));
+		} catch (RejectedExecutionException busy) {
+			speedometers.cycleLocalCallRejections();
+			throw new ResourceBusyException(LOCAL_CALL_WORKERS);
+		}
+		runningAvgs.recordLocalCallQueueSize(workers.getQueue().size());
+
+		try {
+			return call.get();
+		} catch (InterruptedException e) {
+			call.cancel(true);
+			Thread.currentThread().interrupt();
+			throw e;
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			throw (cause instanceof Exception) ? (Exception) cause : e;
+		}
+	}
+
+	void shutdown() {
+		workers.shutdownNow();
+	}
+
+	@Override
+	public boolean isSaturated() {
+		return workers.getActiveCount() >= workers.getMaximumPoolSize()
+				&& workers.getQueue().remainingCapacity() == 0;
+	}
+}
@@ -20,15 +20,42 @@ package com.hedera.services.contracts.persistence;
  * ‍
  */
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.ethereum.datasource.StoragePersistence;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Map;
 
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+
 public class BlobStoragePersistence implements StoragePersistence {
+	static final int MAX_LOADED_IMAGE_HASHES = 10_000;
+
+	private final boolean tracksLoadedImages;
 	private final Map<byte[], byte[]> storage;
 
+	final Cache<ByteBuffer, byte[]> loadedImageHashes = CacheBuilder.newBuilder()
+			.maximumSize(MAX_LOADED_IMAGE_HASHES)
+			.build();
+
 	public BlobStoragePersistence(Map<byte[], byte[]> storage) {
+		this(storage, true);
+	}
+
+	/**
+	 * Creates a persistence over the given storage that, unless {@code tracksLoadedImages}
+	 * is false, hashes each image it loads so an unchanged image need not be re-written.
+	 * (There is no reason to pay for these hashes when the storage is only ever read, as
+	 * in a local call.)
+	 *
+	 * @param storage the contract storage images
+	 * @param tracksLoadedImages whether to hash loaded images
+	 */
+	public BlobStoragePersistence(Map<byte[], byte[]> storage, boolean tracksLoadedImages) {
 		this.storage = storage;
+		this.tracksLoadedImages = tracksLoadedImages;
 	}
 
 	@Override
@@ -36,13 +63,53 @@ public class BlobStoragePersistence implements StoragePersistence {
 		return storage.containsKey(address);
 	}
 
+	/**
+	 * Persists the given storage image for the contract at the given address,
+	 * unless it is byte-for-byte identical to the image the EVM loaded for the
+	 * contract via {@link BlobStoragePersistence#get(byte[])}.
+	 *
+	 * <B>NOTE:</B> The EVM hands us the complete serialized storage of each
+	 * touched contract, so re-writing an unchanged image would only re-hash
+	 * the blob and dirty its path in the Merkle tree for no effect. The check
+	 * uses the hash of the image recorded when it was loaded, so a changed image
+	 * costs one in-memory hash instead of a read-back of the saved blob; and an
+	 * image with no recorded load (e.g., for a new contract) is just written.
+	 *
+	 * @param address the Solidity address of the contract
+	 * @param cache the serialized storage of the contract
+	 * @param ignoredExpiry unused
+	 * @param ignoredNow unused
+	 */
 	@Override
 	public void persist(byte[] address, byte[] cache, long ignoredExpiry, long ignoredNow) {
+		var key = keyFor(address);
+		var loadedHash = loadedImageHashes.getIfPresent(key);
+		loadedImageHashes.invalidate(key);
+		if (loadedHash != null && Arrays.equals(loadedHash, noThrowSha384HashOf(cache))) {
+			return;
+		}
 		storage.put(address, cache);
 	}
 
 	@Override
 	public byte[] get(byte[] address) {
-		return storage.get(address);
+		var image = storage.get(address);
+		if (image != null && tracksLoadedImages) {
+			/* Hashed now, since the EVM may change the returned image in place before persisting it. */
+			loadedImageHashes.put(keyFor(address), noThrowSha384HashOf(image));
+		}
+		return image;
+	}
+
+	/**
+	 * Forgets the hashes of all loaded images; for use when the underlying storage is
+	 * replaced wholesale (e.g., after a reconnect).
+	 */
+	public void forgetLoadedImages() {
+		loadedImageHashes.invalidateAll();
+	}
+
+	private static ByteBuffer keyFor(byte[] address) {
+		return ByteBuffer.wrap(address.clone());
 	}
 }
@@ -20,63 +20,118 @@ package com.hedera.services.contracts.sources;
  * ‍
  */
 
+import com.google.common.primitives.Longs;
 import com.hedera.services.files.store.BytesStoreAdapter;
-import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
-import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
-import static java.lang.Long.parseLong;
+
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+import static java.lang.Long.parseLong;
+
+/**
+ * Adapts the {@code String}-keyed blob store to the {@code byte[]}-keyed maps used
+ * by the EVM for contract bytecode and storage. The legacy paths have the form
+ * {@code /{realm}/{type}{num}}, where {@code type} is {@code s} for bytecode and
+ * {@code d} for storage; since every EVM read and write goes through one of these
+ * mappings, they are encoded and decoded by hand, without format strings or regexes.
+ */
 public class AddressKeyedMapFactory {
-	static final String LEGACY_BYTECODE_PATH_TEMPLATE = "/%d/s%d";
-	static final Pattern LEGACY_BYTECODE_PATH_PATTERN = Pattern.compile("/(\\d+)/s(\\d+)");
-	static final String LEGACY_STORAGE_PATH_TEMPLATE = "/%d/d%d";
-	static final Pattern LEGACY_STORAGE_PATH_PATTERN = Pattern.compile("/(\\d+)/d(\\d+)");
+	static final char LEGACY_BYTECODE_PATH_TYPE = 's';
+	static final char LEGACY_STORAGE_PATH_TYPE = 'd';
+
+	private static final int REALM_OFFSET = 4;
+	private static final int NUM_OFFSET = 12;
 
 	public static Map<byte[], byte[]> bytecodeMapFrom(Map<String, byte[]> store) {
-		var storageMap = new BytesStoreAdapter<>(
-				byte[].class,
-				Function.identity(),
-				Function.identity(),
-				toAddressMapping(LEGACY_BYTECODE_PATH_PATTERN),
-				toKeyMapping(LEGACY_BYTECODE_PATH_TEMPLATE),
-				store);
-		storageMap.setDelegateEntryFilter(toRelevancyPredicate(LEGACY_BYTECODE_PATH_PATTERN));
-		return storageMap;
+		return mapFrom(store, LEGACY_BYTECODE_PATH_TYPE);
 	}
 
 	public static Map<byte[], byte[]> storageMapFrom(Map<String, byte[]> store) {
-		var storageMap = new BytesStoreAdapter<>(
+		return mapFrom(store, LEGACY_STORAGE_PATH_TYPE);
+	}
+
+	private static Map<byte[], byte[]> mapFrom(Map<String, byte[]> store, char legacyPathType) {
+		var addressedMap = new BytesStoreAdapter<>(
 				byte[].class,
 				Function.identity(),
 				Function.identity(),
-				toAddressMapping(LEGACY_STORAGE_PATH_PATTERN),
-				toKeyMapping(LEGACY_STORAGE_PATH_TEMPLATE),
+				toAddressMapping(legacyPathType),
+				toKeyMapping(legacyPathType),
 				store);
-		storageMap.setDelegateEntryFilter(toRelevancyPredicate(LEGACY_STORAGE_PATH_PATTERN));
-		return storageMap;
+		addressedMap.setDelegateEntryFilter(toRelevancyPredicate(legacyPathType));
+		return addressedMap;
 	}
 
-	static Predicate<String> toRelevancyPredicate(final Pattern legacyPathPattern) {
-		return key -> legacyPathPattern.matcher(key).matches();
+	static Predicate<String> toRelevancyPredicate(final char legacyPathType) {
+		return key -> typeIndexIn(key, legacyPathType) != -1;
 	}
 
-	static Function<byte[], String> toKeyMapping(final String legacyPathTemplate) {
+	static Function<byte[], String> toKeyMapping(final char legacyPathType) {
 		return address -> {
-			var id = accountParsedFromSolidityAddress(address);
-			return String.format(legacyPathTemplate, id.getRealmNum(), id.getAccountNum());
+			long realm = Longs.fromBytes(
+					address[REALM_OFFSET], address[REALM_OFFSET + 1],
+					address[REALM_OFFSET + 2], address[REALM_OFFSET + 3],
+					address[REALM_OFFSET + 4], address[REALM_OFFSET + 5],
+					address[REALM_OFFSET + 6], address[REALM_OFFSET + 7]);
+			long num = Longs.fromBytes(
+					address[NUM_OFFSET], address[NUM_OFFSET + 1],
+					address[NUM_OFFSET + 2], address[NUM_OFFSET + 3],
+					address[NUM_OFFSET + 4], address[NUM_OFFSET + 5],
+					address[NUM_OFFSET + 6], address[NUM_OFFSET + 7]);
+			return new StringBuilder(24)
+					.append('/').append(realm)
+					.append('/').append(legacyPathType).append(num)
+					.toString();
 		};
 	}
 
-	static Function<String, byte[]> toAddressMapping(final Pattern legacyPathPattern) {
+	static Function<String, byte[]> toAddressMapping(final char legacyPathType) {
 		return key -> {
-			var matcher = legacyPathPattern.matcher(key);
-			var flag = matcher.matches();
-			assert flag;
+			int typeIndex = typeIndexIn(key, legacyPathType);
+			assert typeIndex != -1;
 
-			return asSolidityAddress(0, parseLong(matcher.group(1)), parseLong(matcher.group(2)));
+			return asSolidityAddress(
+					0,
+					parseLong(key, 1, typeIndex - 1, 10),
+					parseLong(key, typeIndex + 1, key.length(), 10));
 		};
 	}
+
+	/**
+	 * Returns the index of the type character in the given key if it is a well-formed
+	 * legacy path of the given type; or -1 otherwise.
+	 *
+	 * @param key the candidate blob path
+	 * @param legacyPathType the expected type character
+	 * @return the index of the type character, or -1 if the key is not a matching path
+	 */
+	static int typeIndexIn(String key, char legacyPathType) {
+		int n = key.length();
+		if (n < 5 || key.charAt(0) != '/') {
+			return -1;
+		}
+		int i = 1;
+		while (i < n && isDigit(key.charAt(i))) {
+			i++;
+		}
+		if (i == 1 || i + 1 >= n || key.charAt(i) != '/' || key.charAt(i + 1) != legacyPathType) {
+			return -1;
+		}
+		int typeIndex = i + 1;
+		if (typeIndex + 1 == n) {
+			return -1;
+		}
+		for (int j = typeIndex + 1; j < n; j++) {
+			if (!isDigit(key.charAt(j))) {
+				return -1;
+			}
+		}
+		return typeIndex;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
 }
@@ -1,4 +1,4 @@
-package com.hedera.services.state.exports;
+package com.hedera.services.exceptions;
 
 /*-
  * ‌
@@ -20,6 +20,12 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
-public interface FileHashReader {
-	byte[] readHash(String targetLoc);
+/**
+ * Signals that a node-local resource had no capacity for a request; so the request
+ * should fail its precheck with {@code BUSY}, before any node payment is submitted.
+ */
+public class ResourceBusyException extends RuntimeException {
+	public ResourceBusyException(String resource) {
+		super(String.format("No capacity available for '%s'!", resource));
+	}
 }
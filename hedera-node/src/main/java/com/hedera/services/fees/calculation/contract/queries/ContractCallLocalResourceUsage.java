@@ -23,6 +23,7 @@ package com.hedera.services.fees.calculation.contract.queries;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.exceptions.ResourceBusyException;
 import com.hedera.services.fees.calculation.QueryResourceUsageEstimator;
 import com.hedera.services.queries.contract.ContractCallLocalAnswer;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
@@ -102,6 +103,8 @@ public class ContractCallLocalResourceUsage implements QueryResourceUsageEstimat
 			return nonGasUsage.toBuilder()
 					.setNodedata(nonGasUsage.getNodedata().toBuilder().setGas(op.getGas()))
 					.build();
+		} catch (ResourceBusyException busy) {
+			throw busy;
 		} catch (Exception internal) {
 			log.warn("Usage estimation unexpectedly failed for {}!", query, internal);
 			throw new IllegalStateException(internal);
@@ -0,0 +1,167 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import com.hedera.services.legacy.core.jproto.JFileInfo;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hederahashgraph.api.proto.java.FileID;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A write-through view of a {@code FileID -> JFileInfo} map that keeps a bounded cache of
+ * decoded metadata, so that repeated {@link HederaFs#getattr(FileID)} calls for hot files
+ * (fee schedules, exchange rates, etc.) do not deserialize the same blob each time.
+ *
+ * Since {@link JFileInfo} is mutable, the cache only ever hands out (and keeps) copies.
+ *
+ * Query threads fill the cache as well as the handle thread; so each fill and each write
+ * is done under a per-key lock, lest a fill that read the delegate just before a write
+ * cache its stale value after the write completes.
+ */
+public class CachingMetadataMap extends AbstractMap<FileID, JFileInfo> {
+	static final int MAX_CACHED_ATTRS = 1_000;
+	static final int NUM_KEY_LOCKS = 64;
+
+	private final MiscRunningAvgs runningAvgs;
+	private final Map<FileID, JFileInfo> delegate;
+
+	final Cache<FileID, JFileInfo> cache = CacheBuilder.newBuilder()
+			.maximumSize(MAX_CACHED_ATTRS)
+			.build();
+	private final Striped<Lock> keyLocks = Striped.lock(NUM_KEY_LOCKS);
+
+	public CachingMetadataMap(Map<FileID, JFileInfo> delegate, MiscRunningAvgs runningAvgs) {
+		this.delegate = delegate;
+		this.runningAvgs = runningAvgs;
+	}
+
+	/**
+	 * Drops all cached metadata; for use when the underlying store is replaced
+	 * wholesale (e.g., after a reconnect).
+	 */
+	public void invalidateAll() {
+		lockAll();
+		try {
+			cache.invalidateAll();
+		} finally {
+			unlockAll();
+		}
+	}
+
+	@Override
+	public JFileInfo get(Object key) {
+		var cached = cache.getIfPresent(key);
+		runningAvgs.recordFileAttrCacheLookup(cached != null);
+		if (cached != null) {
+			return copyOf(cached);
+		}
+		var lock = keyLocks.get(key);
+		lock.lock();
+		try {
+			var attr = delegate.get(key);
+			if (attr != null) {
+				cache.put((FileID) key, copyOf(attr));
+			}
+			return attr;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public JFileInfo put(FileID id, JFileInfo attr) {
+		var lock = keyLocks.get(id);
+		lock.lock();
+		try {
+			var old = delegate.put(id, attr);
+			cache.put(id, copyOf(attr));
+			return old;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public JFileInfo remove(Object key) {
+		var lock = keyLocks.get(key);
+		lock.lock();
+		try {
+			cache.invalidate(key);
+			return delegate.remove(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lockAll();
+		try {
+			cache.invalidateAll();
+			delegate.clear();
+		} finally {
+			unlockAll();
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return cache.getIfPresent(key) != null || delegate.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public Set<Entry<FileID, JFileInfo>> entrySet() {
+		return delegate.entrySet();
+	}
+
+	private void lockAll() {
+		for (int i = 0; i < keyLocks.size(); i++) {
+			keyLocks.getAt(i).lock();
+		}
+	}
+
+	private void unlockAll() {
+		for (int i = keyLocks.size() - 1; i >= 0; i--) {
+			keyLocks.getAt(i).unlock();
+		}
+	}
+
+	static JFileInfo copyOf(JFileInfo attr) {
+		return new JFileInfo(attr.isDeleted(), attr.getWacl(), attr.getExpirationTimeSeconds());
+	}
+}
@@ -0,0 +1,191 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hederahashgraph.api.proto.java.FileID;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A map from {@code FileID} to file contents that stores each file as a sequence of immutable
+ * segments in the given blob store. The first segment lives at the legacy path of the file, so
+ * that single-segment files look exactly as before; each appended segment lives at a path with
+ * its index as a suffix. Hence an append only stores (and hashes) the appended bytes, while
+ * the blob store's Merkle structure still commits to the contents of every segment.
+ */
+public class SegmentedDataMap extends AbstractMap<FileID, byte[]> {
+	static final String SEGMENT_PATH_TEMPLATE = "%s.%d";
+
+	private final Map<String, byte[]> store;
+	private final Map<FileID, byte[]> firstSegments;
+	private final Function<FileID, String> toKeyString;
+
+	/* Lengths of files in the current state, as computed or maintained by this map. */
+	final Map<FileID, Integer> knownLengths = new HashMap<>();
+
+	public SegmentedDataMap(
+			Map<String, byte[]> store,
+			Function<String, FileID> toFid,
+			Function<FileID, String> toKeyString
+	) {
+		this.store = store;
+		this.toKeyString = toKeyString;
+		this.firstSegments = new BytesStoreAdapter<>(
+				FileID.class,
+				Function.identity(),
+				Function.identity(),
+				toFid,
+				toKeyString,
+				store);
+	}
+
+	/**
+	 * Adds the given bytes as a new final segment of the given (extant) file.
+	 *
+	 * @param fid the file to extend
+	 * @param moreContents the bytes to append
+	 */
+	public void append(FileID fid, byte[] moreContents) {
+		var path = toKeyString.apply(fid);
+		store.put(segmentPath(path, numSegments(path)), moreContents);
+		var length = knownLengths.get(fid);
+		if (length != null) {
+			knownLengths.put(fid, length + moreContents.length);
+		}
+	}
+
+	/**
+	 * Returns the length of the given file, without concatenating its segments.
+	 *
+	 * @param fid the file of interest
+	 * @return its length in bytes
+	 */
+	public int lengthOf(FileID fid) {
+		return knownLengths.computeIfAbsent(fid, ignore -> {
+			var path = toKeyString.apply(fid);
+			int length = 0;
+			for (int i = 0, n = numSegments(path); i < n; i++) {
+				length += store.get(segmentPath(path, i)).length;
+			}
+			return length;
+		});
+	}
+
+	/**
+	 * Forgets all cached file lengths; must be called when the underlying blob store
+	 * is replaced wholesale, as on a reconnect.
+	 */
+	public void forgetKnownLengths() {
+		knownLengths.clear();
+	}
+
+	@Override
+	public byte[] get(Object key) {
+		var first = firstSegments.get(key);
+		if (first == null) {
+			return null;
+		}
+		var path = toKeyString.apply((FileID) key);
+		int n = numSegments(path);
+		if (n == 1) {
+			return first;
+		}
+
+		var segments = new byte[n][];
+		segments[0] = first;
+		int length = first.length;
+		for (int i = 1; i < n; i++) {
+			segments[i] = store.get(segmentPath(path, i));
+			length += segments[i].length;
+		}
+		var contents = new byte[length];
+		for (int i = 0, at = 0; i < n; i++) {
+			System.arraycopy(segments[i], 0, contents, at, segments[i].length);
+			at += segments[i].length;
+		}
+		return contents;
+	}
+
+	@Override
+	public byte[] put(FileID fid, byte[] contents) {
+		firstSegments.put(fid, contents);
+		removeSegmentsAfterFirst(toKeyString.apply(fid));
+		knownLengths.put(fid, contents.length);
+		return null;
+	}
+
+	@Override
+	public byte[] remove(Object key) {
+		firstSegments.remove(key);
+		removeSegmentsAfterFirst(toKeyString.apply((FileID) key));
+		knownLengths.remove(key);
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return firstSegments.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return firstSegments.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return firstSegments.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		firstSegments.clear();
+		knownLengths.clear();
+	}
+
+	@Override
+	public Set<Entry<FileID, byte[]>> entrySet() {
+		return firstSegments.entrySet();
+	}
+
+	private void removeSegmentsAfterFirst(String path) {
+		for (int i = 1, n = numSegments(path); i < n; i++) {
+			store.remove(segmentPath(path, i));
+		}
+	}
+
+	private int numSegments(String path) {
+		int n = 1;
+		while (store.containsKey(segmentPath(path, n))) {
+			n++;
+		}
+		return n;
+	}
+
+	static String segmentPath(String path, int i) {
+		return (i == 0) ? path : String.format(SEGMENT_PATH_TEMPLATE, path, i);
+	}
+}
@@ -56,7 +56,7 @@ public class TieredHederaFs implements HederaFs {
 
 	private final EntityIdSource ids;
 	private final Supplier<Instant> now;
-	private final Map<FileID, byte[]> data;
+	private final SegmentedDataMap data;
 	private final Map<FileID, JFileInfo> metadata;
 	private final GlobalDynamicProperties properties;
 
@@ -85,7 +85,7 @@ public class TieredHederaFs implements HederaFs {
 			EntityIdSource ids,
 			GlobalDynamicProperties properties,
 			Supplier<Instant> now,
-			Map<FileID, byte[]> data,
+			SegmentedDataMap data,
 			Map<FileID, JFileInfo> metadata,
 			Supplier<MerkleDiskFs> diskFs
 	) {
@@ -97,7 +97,7 @@ public class TieredHederaFs implements HederaFs {
 		this.diskFs = diskFs;
 	}
 
-	public Map<FileID, byte[]> getData() {
+	public SegmentedDataMap getData() {
 		return data;
 	}
 
@@ -105,6 +105,17 @@ public class TieredHederaFs implements HederaFs {
 		return metadata;
 	}
 
+	/**
+	 * Drops any lengths or decoded metadata derived from the current blob store;
+	 * for use after the store is replaced wholesale (e.g., on a reconnect).
+	 */
+	public void forgetCachedViews() {
+		data.forgetKnownLengths();
+		if (metadata instanceof CachingMetadataMap) {
+			((CachingMetadataMap) metadata).invalidateAll();
+		}
+	}
+
 	public MerkleDiskFs diskFs() {
 		return diskFs.get();
 	}
@@ -174,10 +185,38 @@ public class TieredHederaFs implements HederaFs {
 		return uncheckedUpdate(id, newContents);
 	}
 
+	/**
+	 * Appends the given bytes to a file. Unless some interceptor needs to judge the new contents
+	 * of the file in full, the existing contents are neither read nor rewritten; only the appended
+	 * bytes are stored (and hashed) as a new segment of the file.
+	 *
+	 * @param id the file to extend
+	 * @param moreContents the bytes to append
+	 * @return the result of the append
+	 */
 	@Override
 	public UpdateResult append(FileID id, byte[] moreContents) {
 		assertUsable(id);
 
+		if (!interceptorsFor(id).isEmpty()) {
+			return interceptedAppend(id, moreContents);
+		}
+
+		boolean isDiskBased = isOnDisk(id);
+		if (!isDiskBased) {
+			assertWithinSizeLimits((long) data.lengthOf(id) + moreContents.length);
+		}
+		log.debug("Appending {} bytes to {}.", moreContents.length, EntityIdUtils.readableId(id));
+
+		if (isDiskBased) {
+			diskFs.get().append(id, moreContents);
+		} else {
+			data.append(id, moreContents);
+		}
+		return new SimpleUpdateResult(false, true, SUCCESS);
+	}
+
+	private UpdateResult interceptedAppend(FileID id, byte[] moreContents) {
 		byte[] contents;
 
 		boolean isDiskBased = isOnDisk(id);
@@ -329,7 +368,11 @@ public class TieredHederaFs implements HederaFs {
 	}
 
 	private void assertWithinSizeLimits(byte[] data) {
-		if (data.length > properties.maxFileSizeKb() * BYTES_PER_KB) {
+		assertWithinSizeLimits(data.length);
+	}
+
+	private void assertWithinSizeLimits(long length) {
+		if (length > properties.maxFileSizeKb() * BYTES_PER_KB) {
 			throwIllegal(OVERSIZE_CONTENTS);
 		}
 	}
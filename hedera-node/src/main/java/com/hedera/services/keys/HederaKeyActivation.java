@@ -22,7 +22,6 @@ package com.hedera.services.keys;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.sigs.order.HederaSigningOrder;
-import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.order.SigningOrderResultFactory;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.TransactionBody;
@@ -34,6 +33,7 @@ import com.swirlds.common.crypto.Signature;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
@@ -42,7 +42,7 @@ import java.util.function.Function;
 import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
 import static com.swirlds.common.crypto.VerificationStatus.*;
 import static java.util.Arrays.copyOfRange;
-import static java.util.stream.Collectors.toMap;
+import static com.google.protobuf.UnsafeByteOperations.unsafeWrap;
 
 /**
  * Provides a static method to determine if a Hedera key is <i>active</i> relative to
@@ -63,7 +63,8 @@ public class HederaKeyActivation {
 
 	/**
 	 * Determines if the given transaction has an set of valid cryptographic signatures that,
-	 * taken together, activate the payer's Hedera key.
+	 * taken together, activate the payer's Hedera key. (Re-uses the payer signing order
+	 * memoized on the accessor during rationalization, if present.)
 	 *
 	 * @param accessor the txn to evaluate.
 	 * @param keyOrder a resource to determine the payer's Hedera key.
@@ -75,7 +76,10 @@ public class HederaKeyActivation {
 			HederaSigningOrder keyOrder,
 			SigningOrderResultFactory<SignatureStatus> summaryFactory
 	) {
-		SigningOrderResult<SignatureStatus> payerSummary = keyOrder.keysForPayer(accessor.getTxn(), summaryFactory);
+		var payerSummary = accessor.getInHandlePayerKeys();
+		if (payerSummary == null) {
+			payerSummary = keyOrder.keysForPayer(accessor.getTxn(), summaryFactory);
+		}
 
 		return isActive(
 				payerSummary.getPayerKey(),
@@ -85,7 +89,8 @@ public class HederaKeyActivation {
 
 	/**
 	 * Determines if the given transaction has an set of valid cryptographic signatures that,
-	 * taken together, activate the Hedera keys of non-payer entities required to sign.
+	 * taken together, activate the Hedera keys of non-payer entities required to sign. (Re-uses
+	 * the non-payer signing order memoized on the accessor during rationalization, if present.)
 	 *
 	 * @param accessor the txn to evaluate.
 	 * @param keyOrder a resource to determine the non-payer entities' Hedera keys.
@@ -109,7 +114,10 @@ public class HederaKeyActivation {
 		TransactionBody txn = accessor.getTxn();
 		Function<byte[], TransactionSignature> sigsFn = pkToSigMapFrom(accessor.getPlatformTxn().getSignatures());
 
-		SigningOrderResult<SignatureStatus> othersResult = keyOrder.keysForOtherParties(txn, summaryFactory);
+		var othersResult = accessor.getInHandleOtherPartyKeys();
+		if (othersResult == null) {
+			othersResult = keyOrder.keysForOtherParties(txn, summaryFactory);
+		}
 		for (JKey otherKey : othersResult.getOrderedKeys()) {
 			if (!isActive(otherKey, sigsFn, ONLY_IF_SIG_IS_VALID, characteristics)) {
 				return false;
@@ -165,11 +173,12 @@ public class HederaKeyActivation {
 	 * @return a supplier that produces the backing list sigs by public key.
 	 */
 	public static Function<byte[], TransactionSignature> pkToSigMapFrom(List<TransactionSignature> sigs) {
-		final Map<ByteString, TransactionSignature> pkSigs = sigs
-				.stream()
-				.collect(toMap(s -> ByteString.copyFrom(s.getExpandedPublicKeyDirect()), s -> s, (a, b) -> a));
+		final Map<ByteString, TransactionSignature> pkSigs = new HashMap<>(2 * sigs.size());
+		for (TransactionSignature sig : sigs) {
+			pkSigs.putIfAbsent(unsafeWrap(sig.getExpandedPublicKeyDirect()), sig);
+		}
 
-		return ed25519 -> pkSigs.getOrDefault(ByteString.copyFrom(ed25519), INVALID_SIG);
+		return ed25519 -> pkSigs.getOrDefault(unsafeWrap(ed25519), INVALID_SIG);
 	}
 
 	private static class InvalidSignature extends TransactionSignature {
@@ -285,7 +285,8 @@ public class HederaLedger {
 		}
 
 		var tokens = (MerkleAccountTokens) accountsLedger.get(aId, TOKENS);
-		for (TokenID tId : tokens.asIds()) {
+		for (int i = 0, n = tokens.numAssociations(); i < n; i++) {
+			var tId = tokens.idAt(i);
 			if (tokenStore.get(tId).isDeleted()) {
 				continue;
 			}
@@ -28,17 +28,20 @@ import com.hedera.services.utils.EntityIdUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 import static com.hedera.services.utils.MiscUtils.readableProperty;
@@ -68,6 +71,8 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 	private final BackingStore<K, A> entities;
 	private final ChangeSummaryManager<A, P> changeManager;
 	private final Function<K, EnumMap<P, Object>> changeFactory;
+	private final List<K> sortedKeys = new ArrayList<>();
+	private final Deque<EnumMap<P, Object>> recycledChangeSets = new ArrayDeque<>();
 
 	final Map<K, EnumMap<P, Object>> changes = new HashMap<>();
 
@@ -85,7 +90,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		this.newEntity = newEntity;
 		this.entities = entities;
 		this.changeManager = changeManager;
-		this.changeFactory = ignore -> new EnumMap<>(propertyType);
+		this.changeFactory = ignore -> newChangeSet();
 	}
 
 	public void setKeyComparator(Comparator<K> keyComparator) {
@@ -109,7 +114,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		}
 		entities.flushMutableRefs();
 
-		changes.clear();
+		recycleChangeSets();
 		deadEntities.clear();
 
 		isInTransaction = false;
@@ -122,19 +127,18 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 
 		log.debug("Changes to be committed: {}", this::changeSetSoFar);
 		try {
-			Stream<K> changedKeys = keyComparator.isPresent()
-					? changes.keySet().stream().sorted(keyComparator.get())
-					: changes.keySet().stream();
-			changedKeys
-					.filter(id -> !deadEntities.contains(id))
-					.forEach(id -> entities.put(id, get(id)));
-			changes.clear();
-
-			Stream<K> deadKeys = keyComparator.isPresent()
-					? deadEntities.stream().sorted(keyComparator.get())
-					: deadEntities.stream();
-			deadKeys.forEach(entities::remove);
+			for (K id : inCommitOrder(changes.keySet())) {
+				if (!deadEntities.contains(id)) {
+					entities.put(id, get(id));
+				}
+			}
+			recycleChangeSets();
+
+			for (K id : inCommitOrder(deadEntities)) {
+				entities.remove(id);
+			}
 			deadEntities.clear();
+			sortedKeys.clear();
 
 			entities.flushMutableRefs();
 
@@ -151,6 +155,33 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		}
 	}
 
+	/**
+	 * Returns the given keys in the order they should be committed, re-using a single
+	 * buffer across transactions. (The returned list is only valid until the next call.)
+	 *
+	 * @param keys the keys to order
+	 * @return the keys, sorted by the key comparator if one is set
+	 */
+	private List<K> inCommitOrder(Set<K> keys) {
+		sortedKeys.clear();
+		sortedKeys.addAll(keys);
+		keyComparator.ifPresent(sortedKeys::sort);
+		return sortedKeys;
+	}
+
+	private EnumMap<P, Object> newChangeSet() {
+		var changeSet = recycledChangeSets.poll();
+		return (changeSet != null) ? changeSet : new EnumMap<>(propertyType);
+	}
+
+	private void recycleChangeSets() {
+		for (EnumMap<P, Object> changeSet : changes.values()) {
+			changeSet.clear();
+			recycledChangeSets.push(changeSet);
+		}
+		changes.clear();
+	}
+
 	public String changeSetSoFar() {
 		StringBuilder desc = new StringBuilder("{");
 		AtomicBoolean isFirstChange = new AtomicBoolean(true);
@@ -233,7 +264,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 	public void create(K id) {
 		assertIsCreatable(id);
 
-		changes.put(id, new EnumMap<>(propertyType));
+		changes.put(id, newChangeSet());
 	}
 
 	@Override
@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
@@ -57,10 +58,26 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	Set<Pair<AccountID, TokenID>> existingRels = new HashSet<>();
 	Map<Pair<AccountID, TokenID>, MerkleTokenRelStatus> cache = new HashMap<>();
 
+	private final Consumer<AccountID> changeListener;
 	private final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate;
 
 	public BackingTokenRels(Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate) {
+		this(delegate, ignore -> { });
+	}
+
+	/**
+	 * Creates a store whose given listener is told the account on the left of every
+	 * relationship that is created, changed, or removed through it.
+	 *
+	 * @param delegate the supplier of the relationships map
+	 * @param changeListener the listener for accounts whose token balances may have changed
+	 */
+	public BackingTokenRels(
+			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate,
+			Consumer<AccountID> changeListener
+	) {
 		this.delegate = delegate;
+		this.changeListener = changeListener;
 		rebuildFromSources();
 	}
 
@@ -76,7 +93,10 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	public void flushMutableRefs() {
 		cache.entrySet().stream()
 				.sorted(REL_ENTRY_CMP)
-				.forEach(entry -> delegate.get().replace(fromAccountTokenRel(entry.getKey()), entry.getValue()));
+				.forEach(entry -> {
+					delegate.get().replace(fromAccountTokenRel(entry.getKey()), entry.getValue());
+					changeListener.accept(entry.getKey().getLeft());
+				});
 		cache.clear();
 	}
 
@@ -97,6 +117,7 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 		if (!existingRels.contains(key)) {
 			delegate.get().put(fromAccountTokenRel(key), status);
 			existingRels.add(key);
+			changeListener.accept(key.getLeft());
 		} else if (!cache.containsKey(key) || cache.get(key) != status) {
 			throw new IllegalArgumentException(String.format(
 					"Argument 'key=%s' does not map to a mutable ref!",
@@ -108,6 +129,7 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	public void remove(Pair<AccountID, TokenID> id) {
 		existingRels.remove(id);
 		delegate.get().remove(fromAccountTokenRel(id));
+		changeListener.accept(id.getLeft());
 	}
 
 	@Override
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
@@ -39,10 +40,19 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 	Set<AccountID> existingAccounts = new HashSet<>();
 	Map<AccountID, MerkleAccount> cache = new HashMap<>();
 
+	private final Consumer<AccountID> changeListener;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate;
 
 	public FCMapBackingAccounts(Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate) {
+		this(delegate, ignore -> { });
+	}
+
+	public FCMapBackingAccounts(
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate,
+			Consumer<AccountID> changeListener
+	) {
 		this.delegate = delegate;
+		this.changeListener = changeListener;
 		rebuildFromSources();
 	}
 
@@ -59,7 +69,10 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 		cache.keySet()
 				.stream()
 				.sorted(HederaLedger.ACCOUNT_ID_COMPARATOR)
-				.forEach(id -> delegate.get().replace(fromAccountId(id), cache.get(id)));
+				.forEach(id -> {
+					delegate.get().replace(fromAccountId(id), cache.get(id));
+					changeListener.accept(id);
+				});
 		cache.clear();
 	}
 
@@ -74,6 +87,7 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 		if (!existingAccounts.contains(id)) {
 			delegate.get().put(delegateId, account);
 			existingAccounts.add(id);
+			changeListener.accept(id);
 		} else if (!cache.containsKey(id) || (cache.get(id) != account)) {
 			throw new IllegalArgumentException(String.format(
 					"Argument 'id=%s' does not map to a mutable ref!",
@@ -90,6 +104,7 @@ public class FCMapBackingAccounts implements BackingStore<AccountID, MerkleAccou
 	public void remove(AccountID id) {
 		existingAccounts.remove(id);
 		delegate.get().remove(fromAccountId(id));
+		changeListener.accept(id);
 	}
 
 	@Override
@@ -20,12 +20,17 @@ package com.hedera.services.legacy.core.jproto;
  * ‍
  */
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import org.apache.commons.lang3.SerializationUtils;
 
 /**
@@ -36,44 +41,105 @@ import org.apache.commons.lang3.SerializationUtils;
 public class JKeySerializer {
   private static final long LEGACY_VERSION = 1;
   private static final long BPACK_VERSION = 2;
+  private static final int HEADER_LENGTH = 3 * Long.BYTES;
+
+  private static final Cache<ByteBuffer, JEd25519Key> ED25519_INTERNS = CacheBuilder.newBuilder()
+      .weakValues()
+      .build();
 
   private JKeySerializer() {}
 
   public static byte[] serialize(Object rootObject) throws IOException {
-    return byteStream(buffer -> {
-      buffer.writeLong(BPACK_VERSION);
-
-      JObjectType objectType = JObjectType.JKey;
-
-      if (rootObject instanceof JKeyList) {
-        objectType = JObjectType.JKeyList;
-      } else if (rootObject instanceof JThresholdKey) {
-        objectType = JObjectType.JThresholdKey;
-      } else if (rootObject instanceof JEd25519Key) {
-        objectType = JObjectType.JEd25519Key;
-      } else if (rootObject instanceof JECDSA_384Key) {
-        objectType = JObjectType.JECDSA_384Key;
-      } else if (rootObject instanceof JRSA_3072Key) {
-        objectType = JObjectType.JRSA_3072Key;
-      } else if (rootObject instanceof JContractIDKey) {
-        objectType = JObjectType.JContractIDKey;
+    try (ByteArrayOutputStream bos = new ByteArrayOutputStream(encodedLength(rootObject))) {
+      try (DataOutputStream dos = new DataOutputStream(bos)) {
+        serialize(rootObject, dos);
+        dos.flush();
+        return bos.toByteArray();
       }
+    }
+  }
 
-      final JObjectType finalObjectType = objectType;
-      buffer.writeLong(objectType.longValue());
+  /**
+   * Writes the given key directly to the target stream; since the length of each nested
+   * key is computed before its content is written, no intermediate buffers are needed.
+   *
+   * @param rootObject the key to serialize
+   * @param stream the target stream
+   * @throws IOException if the stream cannot be written
+   */
+  public static void serialize(Object rootObject, DataOutputStream stream) throws IOException {
+    JObjectType objectType = typeOf(rootObject);
+
+    stream.writeLong(BPACK_VERSION);
+    stream.writeLong(objectType.longValue());
+    stream.writeLong(contentLength(objectType, rootObject));
+    pack(stream, objectType, rootObject);
+  }
 
-      byte[] content = byteStream(os -> pack(os, finalObjectType, rootObject));
-      int length = (content != null) ? content.length : 0;
+  static int encodedLength(Object rootObject) {
+    return HEADER_LENGTH + contentLength(typeOf(rootObject), rootObject);
+  }
 
-      buffer.writeLong(length);
+  private static JObjectType typeOf(Object rootObject) {
+    if (rootObject instanceof JKeyList) {
+      return JObjectType.JKeyList;
+    } else if (rootObject instanceof JThresholdKey) {
+      return JObjectType.JThresholdKey;
+    } else if (rootObject instanceof JEd25519Key) {
+      return JObjectType.JEd25519Key;
+    } else if (rootObject instanceof JECDSA_384Key) {
+      return JObjectType.JECDSA_384Key;
+    } else if (rootObject instanceof JRSA_3072Key) {
+      return JObjectType.JRSA_3072Key;
+    } else if (rootObject instanceof JContractIDKey) {
+      return JObjectType.JContractIDKey;
+    }
+    return JObjectType.JKey;
+  }
 
-      if (length > 0) {
-        buffer.write(content);
+  private static int contentLength(JObjectType type, Object object) {
+    if (JObjectType.JEd25519Key.equals(type) || JObjectType.JECDSA_384Key.equals(type)) {
+      JKey jKey = (JKey) object;
+      byte[] key = (jKey.hasEd25519Key()) ? jKey.getEd25519() : jKey.getECDSA384();
+      return key.length;
+    } else if (JObjectType.JThresholdKey.equals(type)) {
+      JThresholdKey key = (JThresholdKey) object;
+      return Integer.BYTES + encodedLength(key.getKeys());
+    } else if (JObjectType.JKeyList.equals(type)) {
+      int length = Integer.BYTES;
+      for (JKey key : ((JKeyList) object).getKeysList()) {
+        length += encodedLength(key);
       }
-    });
+      return length;
+    } else if (JObjectType.JRSA_3072Key.equals(type)) {
+      return ((JKey) object).getRSA3072().length;
+    } else if (JObjectType.JContractIDKey.equals(type)) {
+      return 3 * Long.BYTES;
+    } else {
+      throw new IllegalStateException(
+          "Unknown type was encountered while writing to the output stream");
+    }
   }
 
   public static <T> T deserialize(DataInputStream stream) throws IOException {
+    return deserialize(stream, true);
+  }
+
+  /**
+   * Reads a key exactly as {@link JKeySerializer#deserialize(DataInputStream)} does, but without
+   * interning its Ed25519 keys; for callers whose collections distinguish keys by identity, and so
+   * must not see two keys with equal bytes collapse into one instance after a restart.
+   *
+   * @param stream the source stream
+   * @param <T> the expected key type
+   * @return a key with no instances shared with any other deserialized key
+   * @throws IOException if the stream cannot be read
+   */
+  public static <T> T deserializeUninterned(DataInputStream stream) throws IOException {
+    return deserialize(stream, false);
+  }
+
+  private static <T> T deserialize(DataInputStream stream, boolean intern) throws IOException {
     long version = stream.readLong();
     long objectType = stream.readLong();
     long length = stream.readLong();
@@ -89,7 +155,7 @@ public class JKeySerializer {
       throw new IllegalStateException("Illegal JObjectType was read from the stream");
     }
 
-    return unpack(stream, type, length);
+    return unpack(stream, type, length, intern);
   }
 
   private static void pack(DataOutputStream stream, JObjectType type, Object object) throws IOException {
@@ -100,17 +166,15 @@ public class JKeySerializer {
     } else if (JObjectType.JThresholdKey.equals(type)) {
       JThresholdKey key = (JThresholdKey) object;
       stream.writeInt(key.getThreshold());
-      stream.write(serialize(key.getKeys()));
+      serialize(key.getKeys(), stream);
     } else if (JObjectType.JKeyList.equals(type)) {
       JKeyList list = (JKeyList) object;
       List<JKey> keys = list.getKeysList();
 
       stream.writeInt(keys.size());
 
-      if (keys.size() > 0) {
-        for (JKey key : keys) {
-          stream.write(serialize(key));
-        }
+      for (JKey key : keys) {
+        serialize(key, stream);
       }
     } else if (JObjectType.JRSA_3072Key.equals(type)) {
       JKey jKey = (JKey) object;
@@ -128,16 +192,23 @@ public class JKeySerializer {
   }
 
   @SuppressWarnings("unchecked")
-  private static <T> T unpack(DataInputStream stream, JObjectType type, long length) throws IOException {
+  private static <T> T unpack(
+      DataInputStream stream,
+      JObjectType type,
+      long length,
+      boolean intern
+  ) throws IOException {
     if (JObjectType.JEd25519Key.equals(type) || JObjectType.JECDSA_384Key.equals(type)) {
       byte[] key = new byte[(int) length];
       stream.readFully(key);
 
-      return (JObjectType.JEd25519Key.equals(type)) ? (T) new JEd25519Key(key)
-          : (T) new JECDSA_384Key(key);
+      if (JObjectType.JEd25519Key.equals(type)) {
+        return intern ? (T) canonicalEd25519(key) : (T) new JEd25519Key(key);
+      }
+      return (T) new JECDSA_384Key(key);
     } else if (JObjectType.JThresholdKey.equals(type)) {
       int threshold = stream.readInt();
-      JKeyList keyList = deserialize(stream);
+      JKeyList keyList = deserialize(stream, intern);
 
       return (T) new JThresholdKey(keyList, threshold);
     } else if (JObjectType.JKeyList.equals(type)) {
@@ -147,7 +218,7 @@ public class JKeySerializer {
 
       if (size > 0) {
         for (int i = 0; i < size; i++) {
-          elements.add(deserialize(stream));
+          elements.add(deserialize(stream, intern));
         }
       }
 
@@ -169,6 +240,19 @@ public class JKeySerializer {
     }
   }
 
+  /**
+   * Returns the already-live {@link JEd25519Key} with the given bytes if there is one, so that
+   * e.g. the thousands of accounts sharing a custodial key also share a single instance of it.
+   * Values are weakly held, so an interned key is reclaimed once no state references it.
+   */
+  static JEd25519Key canonicalEd25519(byte[] key) {
+    try {
+      return ED25519_INTERNS.get(ByteBuffer.wrap(key), () -> new JEd25519Key(key));
+    } catch (ExecutionException unexpected) {
+      return new JEd25519Key(key);
+    }
+  }
+
   protected static byte[] byteStream(StreamConsumer<DataOutputStream> consumer) throws IOException {
     try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
       try (DataOutputStream dos = new DataOutputStream(bos)) {
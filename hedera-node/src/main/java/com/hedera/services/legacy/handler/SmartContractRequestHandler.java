@@ -292,12 +292,13 @@ public class SmartContractRequestHandler {
 	}
 
 	private ContractCallLocalResponse runPure(
+			Supplier<ServicesRepositoryRoot> pureRepo,
 			Transaction solidityTxn,
 			Instant startTime,
 			long maxResultSize
 	) {
 		var mockConsensusTime = Timestamp.newBuilder().setSeconds(startTime.getEpochSecond()).build();
-		var pureRepository = newPureRepo.get();
+		var pureRepository = pureRepo.get();
 		var executor = new SolidityExecutor(
 				solidityTxn,
 				pureRepository,
@@ -533,6 +534,28 @@ public class SmartContractRequestHandler {
 	 */
 	public ContractCallLocalResponse contractCallLocal(
 			ContractCallLocalQuery transactionContractCallLocal, long currentTimeMs) throws Exception {
+		return contractCallLocal(transactionContractCallLocal, currentTimeMs, newPureRepo);
+	}
+
+	/**
+	 * Execute a smart contract local call against a repository from the given source, instead of
+	 * the default source given at construction.
+	 *
+	 * @param transactionContractCallLocal
+	 * 		API request to execute the contract method
+	 * @param currentTimeMs
+	 * 		Execution timestamp, not a platform consensus time
+	 * @param pureRepo
+	 * 		Source of the read-only repository to execute against
+	 * @return Details of local execution result
+	 * @throws Exception
+	 * 		Passes through lower-level exceptions; does not generate any.
+	 */
+	public ContractCallLocalResponse contractCallLocal(
+			ContractCallLocalQuery transactionContractCallLocal,
+			long currentTimeMs,
+			Supplier<ServicesRepositoryRoot> pureRepo
+	) throws Exception {
 		ContractCallLocalResponse responseToReturn;
 		Transaction tx;
 		TransactionBody body = com.hedera.services.legacy.proto.utils.CommonUtils
@@ -562,6 +585,7 @@ public class SmartContractRequestHandler {
 			tx = new Transaction(BigInteger.ZERO, BigInteger.ONE, gas, senderAccountEthAddress,
 					receiverAccountEthAddress, value, data);
 			responseToReturn = runPure(
+					pureRepo,
 					tx,
 					Instant.ofEpochMilli(currentTimeMs),
 					transactionContractCallLocal.getMaxResultSize());
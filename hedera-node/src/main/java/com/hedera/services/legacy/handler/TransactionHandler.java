@@ -280,7 +280,13 @@ public class TransactionHandler {
         Timestamp at = txn.getTransactionID().getTransactionValidStart();
         try {
           JKey payerKey = accounts.get().get(fromAccountId(payerAccount)).getKey();
-          FeeObject txnFee = fees.estimateFee(accessor, payerKey, stateView.get(), at);
+          StateView view = stateView.get();
+          FeeObject txnFee;
+          try {
+            txnFee = fees.estimateFee(accessor, payerKey, view, at);
+          } finally {
+            view.release();
+          }
           fee = txnFee.getNetworkFee() + txnFee.getNodeFee() + txnFee.getServiceFee();
         } catch (Exception e) {
           log.warn("Could not calculate fee for transaction", e);
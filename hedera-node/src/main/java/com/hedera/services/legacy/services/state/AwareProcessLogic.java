@@ -25,6 +25,7 @@ import com.hedera.services.context.ServicesContext;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
 import com.hedera.services.legacy.crypto.SignatureStatus;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.state.logic.ServicesTxnManager;
 import com.hedera.services.stream.RecordStreamObject;
 import com.hedera.services.txns.ProcessLogic;
@@ -50,6 +51,10 @@ import static com.hedera.services.legacy.crypto.SignatureStatusCode.SUCCESS_VERI
 import static com.hedera.services.sigs.HederaToPlatformSigOps.rationalizeIn;
 import static com.hedera.services.sigs.Rationalization.IN_HANDLE_SUMMARY_FACTORY;
 import static com.hedera.services.sigs.sourcing.DefaultSigBytesProvider.DEFAULT_SIG_BYTES;
+import static com.hedera.services.stats.HandleTimes.Phase.CHARGING;
+import static com.hedera.services.stats.HandleTimes.Phase.FEE_COMPUTATION;
+import static com.hedera.services.stats.HandleTimes.Phase.SIG_RATIONALIZATION;
+import static com.hedera.services.stats.HandleTimes.Phase.STATE_TRANSITION;
 import static com.hedera.services.txns.diligence.DuplicateClassification.BELIEVED_UNIQUE;
 import static com.hedera.services.txns.diligence.DuplicateClassification.DUPLICATE;
 import static com.hedera.services.txns.diligence.DuplicateClassification.NODE_DUPLICATE;
@@ -100,11 +105,14 @@ public class AwareProcessLogic implements ProcessLogic {
 	@Override
 	public void incorporateConsensusTxn(Transaction platformTxn, Instant consensusTime, long submittingMember) {
 		try {
-			PlatformTxnAccessor accessor = new PlatformTxnAccessor(platformTxn);
+			PlatformTxnAccessor accessor = ctx.txnAccessorCache().consumeOrCreate(platformTxn);
 			if (!txnSanityChecks(accessor, consensusTime, submittingMember)) {
 				return;
 			}
+			var handleTimes = ctx.handleTimes();
+			handleTimes.beginTxn();
 			txnManager.process(accessor, consensusTime, submittingMember, ctx);
+			handleTimes.endTxn(accessor.getFunction());
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("Consensus platform txn was not gRPC!", e);
 		}
@@ -162,6 +170,7 @@ public class AwareProcessLogic implements ProcessLogic {
 		updateMidnightRatesIfAppropriateAt(consensusTime);
 		ctx.updateConsensusTimeOfLastHandledTxn(consensusTime);
 		ctx.recordsHistorian().purgeExpiredRecords();
+		ctx.scheduleStore().purgeExpiredAt(consensusTime.getEpochSecond());
 
 		if (ctx.issEventInfo().status() == ONGOING_ISS) {
 			var resetPeriod = ctx.properties().getIntProperty("iss.reset.periodSecs");
@@ -171,14 +180,19 @@ public class AwareProcessLogic implements ProcessLogic {
 			}
 		}
 
+		var handleTimes = ctx.handleTimes();
+		handleTimes.beginPhase();
 		final SignatureStatus sigStatus = rationalizeWithPreConsensusSigs(accessor);
 		if (hasActivePayerSig(accessor)) {
 			ctx.txnCtx().payerSigIsKnownActive();
 		}
+		handleTimes.endPhase(SIG_RATIONALIZATION);
 
+		handleTimes.beginPhase();
 		FeeObject fee = ctx.fees().computeFee(accessor, ctx.txnCtx().activePayerKey(), ctx.currentView());
+		handleTimes.endPhase(FEE_COMPUTATION);
 
-		var recentHistory = ctx.txnHistories().get(accessor.getTxnId());
+		var recentHistory = ctx.txnHistories().get(TxnIdKey.fromGrpc(accessor.getTxnId()));
 		var duplicity = (recentHistory == null)
 				? BELIEVED_UNIQUE
 				: recentHistory.currentDuplicityFor(ctx.txnCtx().submittingSwirldsMember());
@@ -193,7 +207,9 @@ public class AwareProcessLogic implements ProcessLogic {
 			return;
 		}
 
+		handleTimes.beginPhase();
 		var chargingOutcome = ctx.txnChargingPolicy().apply(ctx.charging(), fee);
+		handleTimes.endPhase(CHARGING);
 		if (chargingOutcome != OK) {
 			ctx.txnCtx().setStatus(chargingOutcome);
 			return;
@@ -228,7 +244,9 @@ public class AwareProcessLogic implements ProcessLogic {
 			ctx.txnCtx().setStatus(opValidity);
 			return;
 		}
+		handleTimes.beginPhase();
 		logic.doStateTransition();
+		handleTimes.endPhase(STATE_TRANSITION);
 
 		ctx.opCounters().countHandled(accessor.getFunction());
 	}
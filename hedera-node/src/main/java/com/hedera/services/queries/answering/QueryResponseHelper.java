@@ -23,6 +23,7 @@ package com.hedera.services.queries.answering;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.txns.submission.PrecheckDeferrals;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
@@ -42,13 +43,16 @@ public class QueryResponseHelper {
 
 	private final AnswerFlow answerFlow;
 	private final HapiOpCounters opCounters;
+	private final PrecheckDeferrals deferrals;
 
 	public QueryResponseHelper(
 			AnswerFlow answerFlow,
-			HapiOpCounters opCounters
+			HapiOpCounters opCounters,
+			PrecheckDeferrals deferrals
 	) {
 		this.opCounters = opCounters;
 		this.answerFlow = answerFlow;
+		this.deferrals = deferrals;
 	}
 
 	public void answer(
@@ -75,8 +79,18 @@ public class QueryResponseHelper {
 		if (log.isDebugEnabled()) {
 			log.debug(ALL_QUERIES_MARKER, "Received query: {}", query);
 		}
-		Response response;
 		incReceivedCount.run();
+		respondOrDefer(query, observer, answer, incAnsweredCount, 0);
+	}
+
+	private void respondOrDefer(
+			Query query,
+			StreamObserver<Response> observer,
+			AnswerService answer,
+			Runnable incAnsweredCount,
+			int timesDeferred
+	) {
+		Response response;
 
 		try {
 			response = answerFlow.satisfyUsing(answer, query);
@@ -85,10 +99,18 @@ public class QueryResponseHelper {
 			response = answer.responseGiven(query, EMPTY_VIEW, FAIL_INVALID, 0L);
 		}
 
+		var validity = answer.extractValidityFrom(response);
+		if (deferrals.tryDeferQuery(
+				validity,
+				timesDeferred,
+				() -> respondOrDefer(query, observer, answer, incAnsweredCount, timesDeferred + 1))) {
+			return;
+		}
+
 		observer.onNext(response);
 		observer.onCompleted();
 
-		if (answer.extractValidityFrom(response) == OK) {
+		if (validity == OK) {
 			incAnsweredCount.run();
 		}
 	}
@@ -21,6 +21,7 @@ package com.hedera.services.queries.answering;
  */
 
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.exceptions.ResourceBusyException;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.queries.AnswerFlow;
@@ -81,6 +82,14 @@ public class StakedAnswerFlow implements AnswerFlow {
 	@Override
 	public Response satisfyUsing(AnswerService service, Query query) {
 		StateView view = stateViews.get();
+		try {
+			return satisfyUsing(service, query, view);
+		} finally {
+			view.release();
+		}
+	}
+
+	private Response satisfyUsing(AnswerService service, Query query, StateView view) {
 		SignedTxnAccessor accessor = service.extractPaymentFrom(query).orElse(defaultAccessor);
 
 		if (shouldThrottle(service, accessor)) {
@@ -101,7 +110,11 @@ public class StakedAnswerFlow implements AnswerFlow {
 		long cost = 0L;
 		Map<String, Object> queryCtx = new HashMap<>();
 		if (service.requiresNodePayment(query)) {
-			cost = totalOf(fees.computePayment(query, usagePrices, view, at, queryCtx));
+			try {
+				cost = totalOf(fees.computePayment(query, usagePrices, view, at, queryCtx));
+			} catch (ResourceBusyException busy) {
+				return service.responseGiven(query, view, BUSY);
+			}
 			validity = validatePayment(cost, accessor);
 			if (validity != OK) {
 				return service.responseGiven(query, view, validity, cost);
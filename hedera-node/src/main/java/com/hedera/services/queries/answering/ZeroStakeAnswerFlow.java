@@ -55,7 +55,14 @@ public class ZeroStakeAnswerFlow implements AnswerFlow {
 	@Override
 	public Response satisfyUsing(AnswerService service, Query query) {
 		var view = stateViews.get();
+		try {
+			return satisfyUsing(service, query, view);
+		} finally {
+			view.release();
+		}
+	}
 
+	private Response satisfyUsing(AnswerService service, Query query, StateView view) {
 		if (throttles.shouldThrottle(service.canonicalFunction())) {
 			return service.responseGiven(query, view, BUSY);
 		}
@@ -21,6 +21,7 @@ package com.hedera.services.queries.contract;
  */
 
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.exceptions.ResourceBusyException;
 import com.hedera.services.queries.AbstractAnswer;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
@@ -37,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_NEGATIVE_GAS;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
@@ -51,6 +53,16 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 	@FunctionalInterface
 	public interface LegacyLocalCaller {
 		ContractCallLocalResponse perform(ContractCallLocalQuery query, long now) throws Exception;
+
+		/**
+		 * Indicates whether a call performed now would be rejected as {@code BUSY}; so
+		 * the query can fail its precheck before the node payment is submitted.
+		 *
+		 * @return if this caller has no capacity for another call
+		 */
+		default boolean isSaturated() {
+			return false;
+		}
 	}
 
 	private final LegacyLocalCaller delegate;
@@ -65,6 +77,8 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 					var op = query.getContractCallLocal();
 					if (op.getGas() < 0) {
 						return CONTRACT_NEGATIVE_GAS;
+					} else if (delegate.isSaturated()) {
+						return BUSY;
 					} else {
 						return validator.queryableContractStatus(op.getContractID(), view.contracts());
 					}
@@ -136,6 +150,8 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 			try {
 				var delegateResponse = delegate.perform(op, Instant.now().getEpochSecond());
 				response.mergeFrom(withCid(delegateResponse, op.getContractID()));
+			} catch (ResourceBusyException busy) {
+				response.setHeader(answerOnlyHeader(BUSY, cost));
 			} catch (Exception e) {
 				response.setHeader(answerOnlyHeader(FAIL_INVALID, cost));
 			}
@@ -34,7 +34,6 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hederahashgraph.api.proto.java.TokenBalance;
-import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.fcmap.FCMap;
 
 import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
@@ -85,7 +84,9 @@ public class GetAccountBalanceAnswer implements AnswerService {
 			var key = MerkleEntityId.fromAccountId(id);
 			var account = accounts.get(key);
 			opAnswer.setBalance(account.getBalance());
-			for (TokenID tId : account.tokens().asIds()) {
+			var accountTokens = account.tokens();
+			for (int i = 0, n = accountTokens.numAssociations(); i < n; i++) {
+				var tId = accountTokens.idAt(i);
 				var optionalToken = view.tokenWith(tId);
 				if (optionalToken.isPresent()) {
 					var token = optionalToken.get();
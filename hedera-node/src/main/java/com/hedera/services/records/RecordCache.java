@@ -22,8 +22,8 @@ package com.hedera.services.records;
 
 import com.google.common.cache.Cache;
 import com.hedera.services.context.ServicesContext;
-import com.hedera.services.legacy.core.jproto.TxnReceipt;
-import com.hedera.services.state.expiry.MonotonicFullQueueExpiries;
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hedera.services.state.expiry.MonotonicBucketedExpiries;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -52,14 +52,15 @@ public class RecordCache {
 
 	private ServicesContext ctx;
 	private Cache<TransactionID, Boolean> timedReceiptCache;
-	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private Map<TxnIdKey, TxnIdRecentHistory> histories;
 
-	MonotonicFullQueueExpiries<TransactionID> recordExpiries = new MonotonicFullQueueExpiries<>();
+	/* Track the record's own (immutable) TxnId, so there is nothing to allocate until it expires. */
+	MonotonicBucketedExpiries<TxnId> recordExpiries = new MonotonicBucketedExpiries<>();
 
 	public RecordCache(
 			ServicesContext ctx,
 			Cache<TransactionID, Boolean> timedReceiptCache,
-			Map<TransactionID, TxnIdRecentHistory> histories
+			Map<TxnIdKey, TxnIdRecentHistory> histories
 	) {
 		this.ctx = ctx;
 		this.histories = histories;
@@ -75,7 +76,7 @@ public class RecordCache {
 			ResponseCodeEnum status,
 			ExpirableTxnRecord record
 	) {
-		var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+		var recentHistory = histories.computeIfAbsent(TxnIdKey.fromGrpc(txnId), ignore -> new TxnIdRecentHistory());
 		recentHistory.observe(record, status);
 	}
 
@@ -98,16 +99,16 @@ public class RecordCache {
 				grpc,
 				consensusTimestamp.getEpochSecond(),
 				submittingMember);
-		var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+		var recentHistory = histories.computeIfAbsent(TxnIdKey.fromGrpc(txnId), ignore -> new TxnIdRecentHistory());
 		recentHistory.observe(record, FAIL_INVALID);
 	}
 
 	public boolean isReceiptPresent(TransactionID txnId) {
-		return histories.containsKey(txnId) || timedReceiptCache.getIfPresent(txnId) == MARKER;
+		return histories.containsKey(TxnIdKey.fromGrpc(txnId)) || timedReceiptCache.getIfPresent(txnId) == MARKER;
 	}
 
 	public TransactionReceipt getPriorityReceipt(TransactionID txnId) {
-		var recentHistory = histories.get(txnId);
+		var recentHistory = histories.get(TxnIdKey.fromGrpc(txnId));
 		return recentHistory != null
 				? receiptFrom(recentHistory)
 				: (timedReceiptCache.getIfPresent(txnId) == MARKER ? UNKNOWN_RECEIPT : null);
@@ -122,7 +123,7 @@ public class RecordCache {
 	}
 
 	private List<TransactionRecord> duplicatesOf(TransactionID txnId) {
-		var recentHistory = histories.get(txnId);
+		var recentHistory = histories.get(TxnIdKey.fromGrpc(txnId));
 		if (recentHistory == null) {
 			return Collections.emptyList();
 		} else {
@@ -135,13 +136,14 @@ public class RecordCache {
 
 	private TransactionReceipt receiptFrom(TxnIdRecentHistory recentHistory) {
 		return Optional.ofNullable(recentHistory.priorityRecord())
-				.map(ExpirableTxnRecord::getReceipt)
-				.map(TxnReceipt::toGrpc)
+				.map(ExpirableTxnRecord::asGrpc)
+				.filter(TransactionRecord::hasReceipt)
+				.map(TransactionRecord::getReceipt)
 				.orElse(UNKNOWN_RECEIPT);
 	}
 
 	public TransactionRecord getPriorityRecord(TransactionID txnId) {
-		var history = histories.get(txnId);
+		var history = histories.get(TxnIdKey.fromGrpc(txnId));
 		if (history != null) {
 			return Optional.ofNullable(history.priorityRecord())
 					.map(ExpirableTxnRecord::asGrpc)
@@ -152,7 +154,7 @@ public class RecordCache {
 
 	public void forgetAnyOtherExpiredHistory(long now) {
 		while (recordExpiries.hasExpiringAt(now)) {
-			var txnId = recordExpiries.expireNextAt(now);
+			var txnId = TxnIdKey.from(recordExpiries.expireNextAt(now));
 			var history = histories.get(txnId);
 			if (history != null) {
 				history.forgetExpiredAt(now);
@@ -164,7 +166,7 @@ public class RecordCache {
 	}
 
 	public void trackForExpiry(ExpirableTxnRecord record) {
-		recordExpiries.track(record.getTxnId().toGrpc(), record.getExpiry());
+		recordExpiries.track(record.getTxnId(), record.getExpiry());
 	}
 
 	public void reset() {
@@ -0,0 +1,104 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hederahashgraph.api.proto.java.TransactionID;
+
+/**
+ * A compact, all-primitive stand-in for a {@link TransactionID} when keying the recent
+ * history of each transaction id. A gRPC {@code TransactionID} drags along nested
+ * {@code AccountID} and {@code Timestamp} messages (each with its own header, unknown
+ * fields, and memoized hash and size); at high TPS, the several seconds of history the
+ * node retains make that overhead a noticeable share of the live heap.
+ */
+public final class TxnIdKey {
+	private final long payerShard;
+	private final long payerRealm;
+	private final long payerNum;
+	private final long validStartSecs;
+	private final int validStartNanos;
+
+	public TxnIdKey(long payerShard, long payerRealm, long payerNum, long validStartSecs, int validStartNanos) {
+		this.payerShard = payerShard;
+		this.payerRealm = payerRealm;
+		this.payerNum = payerNum;
+		this.validStartSecs = validStartSecs;
+		this.validStartNanos = validStartNanos;
+	}
+
+	public static TxnIdKey fromGrpc(TransactionID grpc) {
+		var payer = grpc.getAccountID();
+		var validStart = grpc.getTransactionValidStart();
+		return new TxnIdKey(
+				payer.getShardNum(),
+				payer.getRealmNum(),
+				payer.getAccountNum(),
+				validStart.getSeconds(),
+				validStart.getNanos());
+	}
+
+	public static TxnIdKey from(TxnId txnId) {
+		var payer = txnId.getPayerAccount();
+		var validStart = txnId.getValidStart();
+		return new TxnIdKey(
+				payer.shard(),
+				payer.realm(),
+				payer.num(),
+				validStart.getSeconds(),
+				validStart.getNanos());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || TxnIdKey.class != o.getClass()) {
+			return false;
+		}
+		var that = (TxnIdKey) o;
+		return payerNum == that.payerNum &&
+				validStartSecs == that.validStartSecs &&
+				validStartNanos == that.validStartNanos &&
+				payerRealm == that.payerRealm &&
+				payerShard == that.payerShard;
+	}
+
+	@Override
+	public int hashCode() {
+		long result = payerNum;
+		result = 31 * result + validStartSecs;
+		result = 31 * result + validStartNanos;
+		result = 31 * result + payerRealm;
+		result = 31 * result + payerShard;
+		return Long.hashCode(result);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("payer", String.format("%d.%d.%d", payerShard, payerRealm, payerNum))
+				.add("validStart", String.format("%d.%09d", validStartSecs, validStartNanos))
+				.toString();
+	}
+}
@@ -31,11 +31,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.EnumSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.hedera.services.txns.diligence.DuplicateClassification.BELIEVED_UNIQUE;
 import static com.hedera.services.txns.diligence.DuplicateClassification.DUPLICATE;
@@ -44,7 +42,6 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_NODE_A
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_PAYER_SIGNATURE;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 public class TxnIdRecentHistory {
 	private static final Comparator<RichInstant> RI_CMP =
@@ -70,25 +67,31 @@ public class TxnIdRecentHistory {
 	}
 
 	public List<ExpirableTxnRecord> duplicateRecords() {
-		return Stream.concat(classifiableDuplicates(), unclassifiableDuplicates())
-				.sorted(CONSENSUS_TIME_COMPARATOR)
-				.collect(toList());
+		int classifiableFrom = 1;
+		int unclassifiableFrom = areForgotten(classifiableRecords) ? 1 : 0;
+		int n = duplicatesIn(classifiableRecords, classifiableFrom)
+				+ duplicatesIn(unclassifiableRecords, unclassifiableFrom);
+		if (n == 0) {
+			return Collections.emptyList();
+		}
+
+		List<ExpirableTxnRecord> duplicates = new ArrayList<>(n);
+		addDuplicates(classifiableRecords, classifiableFrom, duplicates);
+		addDuplicates(unclassifiableRecords, unclassifiableFrom, duplicates);
+		duplicates.sort(CONSENSUS_TIME_COMPARATOR);
+		return duplicates;
 	}
 
-	private Stream<ExpirableTxnRecord> classifiableDuplicates() {
-		if (areForgotten(classifiableRecords) || classifiableRecords.size() == 1) {
-			return Stream.empty();
-		} else {
-			return classifiableRecords.subList(1, classifiableRecords.size()).stream();
-		}
+	private int duplicatesIn(List<ExpirableTxnRecord> records, int startIndex) {
+		return areForgotten(records) ? 0 : Math.max(0, records.size() - startIndex);
 	}
 
-	private Stream<ExpirableTxnRecord> unclassifiableDuplicates() {
-		int startIndex = areForgotten(classifiableRecords) ? 1 : 0;
-		if (areForgotten(unclassifiableRecords) || unclassifiableRecords.size() <= startIndex) {
-			return Stream.empty();
-		} else {
-			return unclassifiableRecords.subList(startIndex, unclassifiableRecords.size()).stream();
+	private void addDuplicates(List<ExpirableTxnRecord> records, int startIndex, List<ExpirableTxnRecord> duplicates) {
+		if (areForgotten(records)) {
+			return;
+		}
+		for (int i = startIndex, n = records.size(); i < n; i++) {
+			duplicates.add(records.get(i));
 		}
 	}
 
@@ -127,30 +130,21 @@ public class TxnIdRecentHistory {
 
 	private void addClassifiable(ExpirableTxnRecord record) {
 		if (classifiableRecords == null) {
-			classifiableRecords = new LinkedList<>();
+			classifiableRecords = new ArrayList<>(1);
 		}
-		int i = 0;
 		long submittingMember = record.getSubmittingMember();
-		var iter = classifiableRecords.listIterator();
-		boolean isNodeDuplicate = false;
-		while (i < numDuplicates) {
-			if (submittingMember == iter.next().getSubmittingMember()) {
-				isNodeDuplicate = true;
-				break;
+		for (int i = 0; i < numDuplicates; i++) {
+			if (submittingMember == classifiableRecords.get(i).getSubmittingMember()) {
+				classifiableRecords.add(record);
+				return;
 			}
-			i++;
-		}
-		if (isNodeDuplicate) {
-			classifiableRecords.add(record);
-		} else {
-			numDuplicates++;
-			iter.add(record);
 		}
+		classifiableRecords.add(numDuplicates++, record);
 	}
 
 	private void addUnclassifiable(ExpirableTxnRecord record) {
 		if (unclassifiableRecords == null) {
-			unclassifiableRecords = new LinkedList<>();
+			unclassifiableRecords = new ArrayList<>(1);
 		}
 		unclassifiableRecords.add(record);
 	}
@@ -168,9 +162,8 @@ public class TxnIdRecentHistory {
 		if (numDuplicates == 0) {
 			return BELIEVED_UNIQUE;
 		}
-		var iter = classifiableRecords.listIterator();
 		for (int i = 0; i < numDuplicates; i++) {
-			if (iter.next().getSubmittingMember() == submittingMember) {
+			if (classifiableRecords.get(i).getSubmittingMember() == submittingMember) {
 				return NODE_DUPLICATE;
 			}
 		}
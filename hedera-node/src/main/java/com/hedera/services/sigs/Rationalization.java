@@ -31,7 +31,6 @@ import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Transaction;
-import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.legacy.crypto.SignatureStatusCode;
 import com.swirlds.common.crypto.Signature;
@@ -42,7 +41,6 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.hedera.services.sigs.PlatformSigOps.createEd25519PlatformSigsFrom;
@@ -81,22 +79,28 @@ public class Rationalization {
         log.debug("Rationalizing crypto sigs with Hedera sigs for txn {}...", txnAccessor::getSignedTxn4Log);
         List<TransactionSignature> realPayerSigs = new ArrayList<>(), realOtherPartySigs = new ArrayList<>();
 
-        var payerStatus = expandIn(
-                realPayerSigs, sigsProvider::payerSigBytesFor, keyOrderer::keysForPayer);
+        txnAccessor.clearInHandleSigningOrders();
+
+        var payerKeys = keyOrderer.keysForPayer(txnAccessor.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+        var payerStatus = expandIn(realPayerSigs, sigsProvider::payerSigBytesFor, payerKeys);
         if (!SUCCESS.equals( payerStatus.getStatusCode())) {
             if (log.isDebugEnabled()) {
                 log.debug("Failed rationalizing payer sigs, txn {}: {}", txnAccessor.getTxnId(), payerStatus);
             }
             return payerStatus;
         }
+        txnAccessor.setInHandlePayerKeys(payerKeys);
+
+        var otherPartyKeys = keyOrderer.keysForOtherParties(txnAccessor.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
         var otherPartiesStatus = expandIn(
-                realOtherPartySigs, sigsProvider::otherPartiesSigBytesFor, keyOrderer::keysForOtherParties);
+                realOtherPartySigs, sigsProvider::otherPartiesSigBytesFor, otherPartyKeys);
         if (!SUCCESS.equals(otherPartiesStatus.getStatusCode())) {
             if (log.isDebugEnabled()) {
                 log.debug("Failed rationalizing other sigs, txn {}: {}", txnAccessor.getTxnId(), otherPartiesStatus);
             }
             return otherPartiesStatus;
         }
+        txnAccessor.setInHandleOtherPartyKeys(otherPartyKeys);
 
         var rationalizedPayerSigs = rationalize(realPayerSigs, 0);
         var rationalizedOtherPartySigs = rationalize(realOtherPartySigs, realPayerSigs.size());
@@ -130,10 +134,8 @@ public class Rationalization {
     private SignatureStatus expandIn(
             List<TransactionSignature> target,
             Function<Transaction, PubKeyToSigBytes> sigsFn,
-            BiFunction<TransactionBody, SigStatusOrderResultFactory, SigningOrderResult<SignatureStatus>> keysFn
+            SigningOrderResult<SignatureStatus> orderResult
     ) {
-        SigningOrderResult<SignatureStatus> orderResult =
-                keysFn.apply(txnAccessor.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
         if (orderResult.hasErrorReport()) {
             return orderResult.getErrorReport();
         }
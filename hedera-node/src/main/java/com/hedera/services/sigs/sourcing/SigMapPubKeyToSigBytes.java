@@ -21,12 +21,15 @@ package com.hedera.services.sigs.sourcing;
  */
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.hedera.services.legacy.exception.KeyPrefixMismatchException;
-import java.util.Arrays;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import static java.util.stream.Collectors.toList;
+import java.util.Map;
 
 /**
  * A source of cryptographic signatures backed by a {@link SignatureMap} instance.
@@ -40,27 +43,86 @@ import static java.util.stream.Collectors.toList;
  * possible for a Hedera key to be active even if some number of its constituent
  * simple keys lack a valid signature.
  *
+ * <p>For signature maps with more than a handful of pairs, the first lookup builds
+ * an index from each distinct prefix length to the prefixes of that length; so that
+ * each later lookup costs one hash probe per distinct prefix length, instead of
+ * a scan over every pair in the map.
+ *
  * @author Michael Tinker
  */
 public class SigMapPubKeyToSigBytes implements PubKeyToSigBytes {
-	private final SignatureMap sigMap;
+	static final int MIN_PAIRS_TO_INDEX = 8;
+
+	private static final int NO_MATCH = -1;
+	private static final int AMBIGUOUS_PREFIX = -2;
 	private static final byte[] EMPTY_SIG = {};
 
+	private final SignatureMap sigMap;
+
+	private int[] prefixLengths;
+	private List<Map<ByteString, Integer>> pairIndicesByPrefix;
+
 	SigMapPubKeyToSigBytes(SignatureMap sigMap) {
 		this.sigMap = sigMap;
 	}
 
 	@Override
 	public byte[] sigBytesFor(byte[] pubKey) throws KeyPrefixMismatchException {
-		List<byte[]> matchingSigs = sigMap.getSigPairList()
-				.stream()
-				.filter(sp -> beginsWith(pubKey, sp.getPubKeyPrefix().toByteArray()))
-				.map(this::sigBytesFor)
-				.collect(toList());
-		if (matchingSigs.size() > 1) {
-			throw new KeyPrefixMismatchException("Source signature map is ambiguous for given public key!");
+		int n = sigMap.getSigPairCount();
+		return (n < MIN_PAIRS_TO_INDEX) ? scannedSigBytesFor(pubKey, n) : indexedSigBytesFor(pubKey);
+	}
+
+	private byte[] scannedSigBytesFor(byte[] pubKey, int n) throws KeyPrefixMismatchException {
+		SignaturePair match = null;
+		for (int i = 0; i < n; i++) {
+			var sp = sigMap.getSigPair(i);
+			if (beginsWith(pubKey, sp.getPubKeyPrefix())) {
+				if (match != null) {
+					throw ambiguityFailure();
+				}
+				match = sp;
+			}
 		}
-		return matchingSigs.isEmpty() ? EMPTY_SIG : matchingSigs.get(0);
+		return (match == null) ? EMPTY_SIG : sigBytesFor(match);
+	}
+
+	private byte[] indexedSigBytesFor(byte[] pubKey) throws KeyPrefixMismatchException {
+		if (prefixLengths == null) {
+			index();
+		}
+
+		int matchIndex = NO_MATCH;
+		var wrappedKey = UnsafeByteOperations.unsafeWrap(pubKey);
+		for (int i = 0; i < prefixLengths.length; i++) {
+			int len = prefixLengths[i];
+			if (len > pubKey.length) {
+				continue;
+			}
+			var pairIndex = pairIndicesByPrefix.get(i).get(wrappedKey.substring(0, len));
+			if (pairIndex != null) {
+				if (pairIndex == AMBIGUOUS_PREFIX || matchIndex != NO_MATCH) {
+					throw ambiguityFailure();
+				}
+				matchIndex = pairIndex;
+			}
+		}
+		return (matchIndex == NO_MATCH) ? EMPTY_SIG : sigBytesFor(sigMap.getSigPair(matchIndex));
+	}
+
+	private void index() {
+		List<Integer> lengths = new ArrayList<>();
+		pairIndicesByPrefix = new ArrayList<>();
+		for (int i = 0, n = sigMap.getSigPairCount(); i < n; i++) {
+			var prefix = sigMap.getSigPair(i).getPubKeyPrefix();
+			int lengthIndex = lengths.indexOf(prefix.size());
+			if (lengthIndex == -1) {
+				lengthIndex = lengths.size();
+				lengths.add(prefix.size());
+				pairIndicesByPrefix.add(new HashMap<>());
+			}
+			pairIndicesByPrefix.get(lengthIndex).merge(prefix, i, (a, b) -> AMBIGUOUS_PREFIX);
+		}
+		prefixLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
 	}
 
 	private byte[] sigBytesFor(SignaturePair sp) {
@@ -73,8 +135,20 @@ public class SigMapPubKeyToSigBytes implements PubKeyToSigBytes {
 		}
 	}
 
-	private boolean beginsWith(byte[] pubKey, byte[] prefix) {
-		int n = prefix.length;
-		return Arrays.equals(prefix, 0, n, pubKey, 0, n);
+	private boolean beginsWith(byte[] pubKey, ByteString prefix) {
+		int n = prefix.size();
+		if (n > pubKey.length) {
+			return false;
+		}
+		for (int i = 0; i < n; i++) {
+			if (prefix.byteAt(i) != pubKey[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private KeyPrefixMismatchException ambiguityFailure() {
+		return new KeyPrefixMismatchException("Source signature map is ambiguous for given public key!");
 	}
 }
@@ -0,0 +1,96 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * A FIFO of expiry times that arrive in non-decreasing order, kept as a ring buffer
+ * of per-second buckets. Tracking another expiry in the same second as the last one
+ * just increments that bucket's count, so steady-state use allocates nothing.
+ */
+final class ExpiryBuckets {
+	static final int INITIAL_CAPACITY = 64;
+
+	long now = 0L;
+
+	private int head = 0;
+	private int size = 0;
+	private long[] expiries = new long[INITIAL_CAPACITY];
+	private int[] counts = new int[INITIAL_CAPACITY];
+
+	void reset() {
+		now = 0L;
+		head = 0;
+		size = 0;
+	}
+
+	void add(long expiry) {
+		if (size > 0 && expiry == now) {
+			counts[(head + size - 1) & (expiries.length - 1)]++;
+		} else {
+			if (size == expiries.length) {
+				grow();
+			}
+			var tail = (head + size) & (expiries.length - 1);
+			expiries[tail] = expiry;
+			counts[tail] = 1;
+			size++;
+		}
+		now = expiry;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	boolean hasExpiringAt(long now) {
+		return size > 0 && expiries[head] <= now;
+	}
+
+	void removeFirst() {
+		if (--counts[head] == 0) {
+			head = (head + 1) & (expiries.length - 1);
+			size--;
+		}
+	}
+
+	int numBuckets() {
+		return size;
+	}
+
+	private void grow() {
+		var n = expiries.length;
+		var grownExpiries = Arrays.copyOf(expiries, 2 * n);
+		var grownCounts = Arrays.copyOf(counts, 2 * n);
+		if (head > 0) {
+			/* Unwrap the ring so the buckets are contiguous from index zero. */
+			System.arraycopy(expiries, head, grownExpiries, 0, n - head);
+			System.arraycopy(expiries, 0, grownExpiries, n - head, head);
+			System.arraycopy(counts, head, grownCounts, 0, n - head);
+			System.arraycopy(counts, 0, grownCounts, n - head, head);
+			head = 0;
+		}
+		expiries = grownExpiries;
+		counts = grownCounts;
+	}
+}
@@ -22,31 +22,30 @@ package com.hedera.services.state.expiry;
 
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.AccountID;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.fcmap.FCMap;
 import com.swirlds.fcqueue.FCQueue;
 
-import java.util.AbstractMap;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 public class ExpiryManager {
 	private final RecordCache recordCache;
-	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private final Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 
 	long sharedNow;
-	MonotonicFullQueueExpiries<Long> payerExpiries = new MonotonicFullQueueExpiries<>();
+	MonotonicLongBucketedExpiries payerExpiries = new MonotonicLongBucketedExpiries();
 
 	public ExpiryManager(
 			RecordCache recordCache,
-			Map<TransactionID, TxnIdRecentHistory> txnHistories
+			Map<TxnIdKey, TxnIdRecentHistory> txnHistories
 	) {
 		this.recordCache = recordCache;
 		this.txnHistories = txnHistories;
@@ -61,36 +60,27 @@ public class ExpiryManager {
 		txnHistories.clear();
 		payerExpiries.reset();
 
-		var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
-		accounts.forEach((id, account) -> {
-			addUniqueExpiries(id.getNum(), account.records(), _payerExpiries);
-		});
-
-		var cmp = Comparator.comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey);
-		_payerExpiries.sort(cmp);
-		_payerExpiries.forEach(entry -> payerExpiries.track(entry.getKey(), entry.getValue()));
+		var staged = new StagedPayerExpiries(accounts.size());
+		accounts.forEach((id, account) -> addUniqueExpiries(id.getNum(), account.records(), staged));
+		staged.trackInOrderWith(payerExpiries);
 
 		txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
 	}
 
-	private void addUniqueExpiries(
-			Long num,
-			FCQueue<ExpirableTxnRecord> records,
-			List<Map.Entry<Long, Long>> expiries
-	) {
+	private void addUniqueExpiries(long num, FCQueue<ExpirableTxnRecord> records, StagedPayerExpiries staged) {
 		long lastAdded = -1;
 		for (ExpirableTxnRecord record : records) {
 			stage(record);
 			var expiry = record.getExpiry();
 			if (expiry != lastAdded) {
-				expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
+				staged.add(num, expiry);
 				lastAdded = expiry;
 			}
 		}
 	}
 
 	void stage(ExpirableTxnRecord record) {
-		var txnId = record.getTxnId().toGrpc();
+		var txnId = TxnIdKey.from(record.getTxnId());
 		txnHistories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory()).stage(record);
 	}
 
@@ -103,7 +93,7 @@ public class ExpiryManager {
 	}
 
 	void updateHistory(ExpirableTxnRecord record) {
-		var txnId = record.getTxnId().toGrpc();
+		var txnId = TxnIdKey.from(record.getTxnId());
 		var history = txnHistories.get(txnId);
 		if (history != null) {
 			history.forgetExpiredAt(sharedNow);
@@ -113,6 +103,69 @@ public class ExpiryManager {
 		}
 	}
 
+	/**
+	 * The (payer, expiry) pairs found in state on restart, kept in primitive arrays. They
+	 * must be tracked in order of expiry, then payer; when the expiries span less than
+	 * {@code 2^31} seconds and the payer numbers fit in 32 bits&mdash;as in any realistic
+	 * state&mdash;each pair is packed into a single {@code long} that sorts in this order.
+	 */
+	static final class StagedPayerExpiries {
+		private static final long MAX_PACKABLE_NUM = 0xFFFFFFFFL;
+		private static final long MAX_PACKABLE_OFFSET = Integer.MAX_VALUE;
+
+		int n = 0;
+		long[] nums;
+		long[] expiries;
+
+		StagedPayerExpiries(int expectedSize) {
+			var capacity = Math.max(16, expectedSize);
+			nums = new long[capacity];
+			expiries = new long[capacity];
+		}
+
+		void add(long num, long expiry) {
+			if (n == nums.length) {
+				nums = Arrays.copyOf(nums, 2 * n);
+				expiries = Arrays.copyOf(expiries, 2 * n);
+			}
+			nums[n] = num;
+			expiries[n] = expiry;
+			n++;
+		}
+
+		void trackInOrderWith(MonotonicLongBucketedExpiries payerExpiries) {
+			if (n == 0) {
+				return;
+			}
+			long minExpiry = Long.MAX_VALUE, maxExpiry = Long.MIN_VALUE;
+			long minNum = Long.MAX_VALUE, maxNum = Long.MIN_VALUE;
+			for (int i = 0; i < n; i++) {
+				minExpiry = Math.min(minExpiry, expiries[i]);
+				maxExpiry = Math.max(maxExpiry, expiries[i]);
+				minNum = Math.min(minNum, nums[i]);
+				maxNum = Math.max(maxNum, nums[i]);
+			}
+			if (minNum >= 0 && maxNum <= MAX_PACKABLE_NUM
+					&& minExpiry >= 0 && maxExpiry - minExpiry <= MAX_PACKABLE_OFFSET) {
+				var packed = new long[n];
+				for (int i = 0; i < n; i++) {
+					packed[i] = ((expiries[i] - minExpiry) << 32) | nums[i];
+				}
+				Arrays.sort(packed);
+				for (long pair : packed) {
+					payerExpiries.track(pair & MAX_PACKABLE_NUM, (pair >>> 32) + minExpiry);
+				}
+			} else {
+				Comparator<Integer> cmp = Comparator.<Integer>comparingLong(i -> expiries[i])
+						.thenComparingLong(i -> nums[i]);
+				IntStream.range(0, n)
+						.boxed()
+						.sorted(cmp)
+						.forEach(i -> payerExpiries.track(nums[i], expiries[i]));
+			}
+		}
+	}
+
 	AccountID accountWith(long num) {
 		return AccountID.newBuilder()
 				.setShardNum(0)
@@ -0,0 +1,102 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * A {@link KeyedExpirations} for ids that are added in non-decreasing expiry order,
+ * which keeps the ids in a ring buffer and their expiries in per-second buckets;
+ * so it allocates no event object per tracked expiration.
+ *
+ * @param <K> the type of id being tracked
+ */
+public class MonotonicBucketedExpiries<K> implements KeyedExpirations<K> {
+	private int head = 0;
+	private int size = 0;
+	private Object[] ids = new Object[ExpiryBuckets.INITIAL_CAPACITY];
+
+	final ExpiryBuckets buckets = new ExpiryBuckets();
+
+	@Override
+	public void reset() {
+		Arrays.fill(ids, null);
+		head = 0;
+		size = 0;
+		buckets.reset();
+	}
+
+	@Override
+	public void track(K id, long expiry) {
+		if (expiry < buckets.now) {
+			throw new IllegalArgumentException(String.format(
+					"Track time %d for %s not later than %d", expiry, id, buckets.now));
+		}
+		if (size == ids.length) {
+			grow();
+		}
+		ids[(head + size) & (ids.length - 1)] = id;
+		size++;
+		buckets.add(expiry);
+	}
+
+	@Override
+	public boolean hasExpiringAt(long now) {
+		return buckets.hasExpiringAt(now);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public K expireNextAt(long now) {
+		if (buckets.isEmpty()) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		if (!buckets.hasExpiringAt(now)) {
+			throw new IllegalArgumentException(String.format("Argument 'now=%d' is earlier than the next expiry!", now));
+		}
+		var id = (K) ids[head];
+		ids[head] = null;
+		head = (head + 1) & (ids.length - 1);
+		size--;
+		buckets.removeFirst();
+		return id;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	long now() {
+		return buckets.now;
+	}
+
+	private void grow() {
+		var n = ids.length;
+		var grown = Arrays.copyOf(ids, 2 * n);
+		if (head > 0) {
+			System.arraycopy(ids, head, grown, 0, n - head);
+			System.arraycopy(ids, 0, grown, n - head, head);
+			head = 0;
+		}
+		ids = grown;
+	}
+}
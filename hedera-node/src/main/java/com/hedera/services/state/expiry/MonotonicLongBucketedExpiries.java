@@ -0,0 +1,98 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import java.util.Arrays;
+
+/**
+ * Tracks expirations of {@code long} ids (for example, account numbers) that are
+ * added in non-decreasing expiry order, without boxing the ids or wrapping them
+ * in per-expiration event objects; the ids are kept in a primitive ring buffer,
+ * and their expiries in per-second buckets.
+ */
+public class MonotonicLongBucketedExpiries {
+	private int head = 0;
+	private int size = 0;
+	private long[] ids = new long[ExpiryBuckets.INITIAL_CAPACITY];
+
+	final ExpiryBuckets buckets = new ExpiryBuckets();
+
+	public void reset() {
+		head = 0;
+		size = 0;
+		buckets.reset();
+	}
+
+	public void track(long id, long expiry) {
+		if (expiry < buckets.now) {
+			throw new IllegalArgumentException(String.format(
+					"Track time %d for %d not later than %d", expiry, id, buckets.now));
+		}
+		if (size > 0 && expiry == buckets.now && ids[(head + size - 1) & (ids.length - 1)] == id) {
+			/* Already tracked to expire in this second. */
+			return;
+		}
+		if (size == ids.length) {
+			grow();
+		}
+		ids[(head + size) & (ids.length - 1)] = id;
+		size++;
+		buckets.add(expiry);
+	}
+
+	public boolean hasExpiringAt(long now) {
+		return buckets.hasExpiringAt(now);
+	}
+
+	public long expireNextAt(long now) {
+		if (buckets.isEmpty()) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		if (!buckets.hasExpiringAt(now)) {
+			throw new IllegalArgumentException(String.format("Argument 'now=%d' is earlier than the next expiry!", now));
+		}
+		var id = ids[head];
+		head = (head + 1) & (ids.length - 1);
+		size--;
+		buckets.removeFirst();
+		return id;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	long now() {
+		return buckets.now;
+	}
+
+	private void grow() {
+		var n = ids.length;
+		var grown = Arrays.copyOf(ids, 2 * n);
+		if (head > 0) {
+			System.arraycopy(ids, head, grown, 0, n - head);
+			System.arraycopy(ids, 0, grown, n - head, head);
+			head = 0;
+		}
+		ids = grown;
+	}
+}
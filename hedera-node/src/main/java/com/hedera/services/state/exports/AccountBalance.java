@@ -21,20 +21,17 @@ package com.hedera.services.state.exports;
  */
 
 import com.google.common.base.MoreObjects;
+import com.hederahashgraph.api.proto.java.TokenBalances;
 
-import java.util.Comparator;
+import static com.hedera.services.state.exports.SignedStateBalancesExporter.b64Encode;
 
 public class AccountBalance implements Comparable<AccountBalance> {
-	private static final Comparator<AccountBalance> CANONICAL_ORDER = Comparator
-			.comparingLong(AccountBalance::getShard)
-			.thenComparingLong(AccountBalance::getRealm)
-			.thenComparingLong(AccountBalance::getNum);
-
 	private long num;
 	private long shard;
 	private long realm;
 	private long balance;
-	private String b64TokenBalances = "";
+	private String b64TokenBalances = null;
+	private TokenBalances tokenBalances = TokenBalances.getDefaultInstance();
 
 	public AccountBalance(
 			long shard,
@@ -53,8 +50,8 @@ public class AccountBalance implements Comparable<AccountBalance> {
 		var helper = MoreObjects.toStringHelper(this)
 				.add("account", String.format("%d.%d.%d", shard, realm, num))
 				.add("balance", balance);
-		if (b64TokenBalances.length() > 0) {
-			helper.add("b64TokenBalances", b64TokenBalances);
+		if (tokenBalances.getTokenBalancesCount() > 0) {
+			helper.add("b64TokenBalances", getB64TokenBalances());
 		}
 		return helper.toString();
 	}
@@ -71,12 +68,18 @@ public class AccountBalance implements Comparable<AccountBalance> {
 		return this.num == that.num
 				&& this.realm == that.realm
 				&& this.shard == that.shard
-				&& this.b64TokenBalances.equals(that.b64TokenBalances);
+				&& this.tokenBalances.equals(that.tokenBalances);
 	}
 
 	@Override
 	public int compareTo(AccountBalance that) {
-		return CANONICAL_ORDER.compare(this, that);
+		if (this.shard != that.shard) {
+			return Long.compare(this.shard, that.shard);
+		}
+		if (this.realm != that.realm) {
+			return Long.compare(this.realm, that.realm);
+		}
+		return Long.compare(this.num, that.num);
 	}
 
 	public long getShard() {
@@ -111,11 +114,19 @@ public class AccountBalance implements Comparable<AccountBalance> {
 		this.balance = balance;
 	}
 
-	public void setB64TokenBalances(String b64TokenBalances) {
-		this.b64TokenBalances = b64TokenBalances;
+	public TokenBalances getTokenBalances() {
+		return tokenBalances;
+	}
+
+	public void setTokenBalances(TokenBalances tokenBalances) {
+		this.tokenBalances = tokenBalances;
+		this.b64TokenBalances = null;
 	}
 
 	public String getB64TokenBalances() {
+		if (b64TokenBalances == null) {
+			b64TokenBalances = (tokenBalances.getTokenBalancesCount() > 0) ? b64Encode(tokenBalances) : "";
+		}
 		return b64TokenBalances;
 	}
 }
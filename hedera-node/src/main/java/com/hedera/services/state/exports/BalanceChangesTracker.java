@@ -0,0 +1,96 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hederahashgraph.api.proto.java.AccountID;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
+
+/**
+ * Remembers which accounts have had their hbar or token balances touched since
+ * the last balances export, so that exports can be written as deltas instead of
+ * full dumps of the account table.
+ *
+ * Changes are marked from the {@code handleTransaction} thread, with the consensus
+ * time of the transaction that made them; and drained from the signed state thread.
+ * Since the handle thread may already be ahead of the signed state being exported,
+ * an account whose last change is after the export time is reported, but <b>not</b>
+ * forgotten, so it will be reported again by the next export.
+ */
+public class BalanceChangesTracker {
+	private final Supplier<Instant> consensusNow;
+	private final GlobalDynamicProperties dynamicProperties;
+
+	final Map<AccountID, Instant> lastChanges = new ConcurrentHashMap<>();
+
+	public BalanceChangesTracker(
+			Supplier<Instant> consensusNow,
+			GlobalDynamicProperties dynamicProperties
+	) {
+		this.consensusNow = consensusNow;
+		this.dynamicProperties = dynamicProperties;
+	}
+
+	public void markChanged(AccountID id) {
+		if (dynamicProperties.shouldExportBalanceDeltas()) {
+			var now = consensusNow.get();
+			lastChanges.put(id, (now == null) ? Instant.EPOCH : now);
+		}
+	}
+
+	/**
+	 * Forgets every change marked so far.
+	 */
+	public void clear() {
+		lastChanges.clear();
+	}
+
+	/**
+	 * Returns, in ascending id order, every account marked as changed since the last
+	 * drain; and forgets all those whose last change was no later than the given time.
+	 *
+	 * @param when the consensus time of the signed state being exported
+	 * @return the ids of the accounts that may have changed
+	 */
+	public List<AccountID> drainChangesAsOf(Instant when) {
+		List<AccountID> changed = new ArrayList<>(lastChanges.size());
+		for (var entry : lastChanges.entrySet()) {
+			var id = entry.getKey();
+			var lastChange = entry.getValue();
+			changed.add(id);
+			if (!lastChange.isAfter(when)) {
+				/* Only forget the change if the handle thread hasn't re-marked it meanwhile. */
+				lastChanges.remove(id, lastChange);
+			}
+		}
+		changed.sort(ACCOUNT_ID_COMPARATOR);
+		return changed;
+	}
+}
@@ -27,4 +27,10 @@ import java.time.Instant;
 public interface BalancesExporter {
 	boolean isTimeToExport(Instant now);
 	void toCsvFile(ServicesState signedState, Instant when);
+
+	/**
+	 * Forgets the base of any delta exports, so the next export is a full checkpoint;
+	 * for use when the working state is replaced wholesale, as on a reconnect.
+	 */
+	void forgetDeltaBase();
 }
@@ -30,7 +30,9 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.utils.HederaDateTimeFormatter;
 import com.hedera.services.utils.MiscUtils;
+import com.google.protobuf.CodedOutputStream;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoGetAccountBalanceResponse;
 import com.hederahashgraph.api.proto.java.TokenBalance;
 import com.hederahashgraph.api.proto.java.TokenBalances;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -38,23 +40,30 @@ import com.swirlds.fcmap.FCMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.UnaryOperator;
+import java.util.zip.GZIPOutputStream;
 
-import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
-import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
+import static com.hedera.services.utils.MiscUtils.asTimestamp;
 
 public class SignedStateBalancesExporter implements BalancesExporter {
 	static Logger log = LogManager.getLogger(SignedStateBalancesExporter.class);
@@ -67,6 +76,8 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	static final String BAD_SIGNING_ATTEMPT_ERROR_MSG_TPL = "Could not sign balance file '%s'!";
 	static final String GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL = "Created balance signature file '%s'.";
 	static final String CURRENT_VERSION = "version:2";
+	static final String DELTA_VERSION = "version:2-delta";
+	static final int EXPORT_BUFFER_SIZE = 1 << 16;
 
 	static final Instant NEVER = null;
 	static final Base64.Encoder encoder = Base64.getEncoder();
@@ -74,22 +85,28 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	final long expectedFloat;
 	final UnaryOperator<byte[]> signer;
 	final GlobalDynamicProperties dynamicProperties;
+	final BalanceChangesTracker balanceChanges;
 
 	SigFileWriter sigFileWriter = new StandardSigFileWriter();
-	FileHashReader hashReader = new Sha384HashReader();
 	DirectoryAssurance directories = loc -> Files.createDirectories(Paths.get(loc));
 
 	String lastUsedExportDir = UNKNOWN_EXPORT_DIR;
 	Instant periodEnd = NEVER;
+	Instant deltaBase = NEVER;
+	int deltasSinceCheckpoint = 0;
+	volatile boolean deltaBaseIsStale = false;
+	long lastDeletedTokens = 0L;
 
 	public SignedStateBalancesExporter(
 			PropertySource properties,
 			UnaryOperator<byte[]> signer,
-			GlobalDynamicProperties dynamicProperties
+			GlobalDynamicProperties dynamicProperties,
+			BalanceChangesTracker balanceChanges
 	) {
 		this.signer = signer;
 		this.expectedFloat = properties.getLongProperty("ledger.totalTinyBarFloat");
 		this.dynamicProperties = dynamicProperties;
+		this.balanceChanges = balanceChanges;
 	}
 
 	@Override
@@ -110,25 +127,90 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		if (!ensureExportDir(signedState.getNodeAccountId())) {
 			return;
 		}
+		var filePrefix = lastUsedExportDir + when.toString().replace(":", "_") + "_Balances";
+		if (deltaBaseIsStale) {
+			deltaBaseIsStale = false;
+			deltaBase = NEVER;
+		}
+		if (dynamicProperties.shouldExportBalanceDeltas() && !isCheckpointDue(signedState)) {
+			toDeltaFile(signedState, filePrefix + "Delta.csv", when);
+			return;
+		}
+		/* Reset even when deltas are off, since no changes are tracked then; so if deltas
+		are later re-enabled, the first export is a full checkpoint, not a delta against a
+		stale base that omits every change made in the meantime. */
+		balanceChanges.drainChangesAsOf(when);
+		deltaBase = NEVER;
+		deltasSinceCheckpoint = 0;
 		var summary = summarized(signedState);
-		var expected = BigInteger.valueOf(expectedFloat);
-		if (!expected.equals(summary.getTotalFloat())) {
+		if (expectedFloat != summary.getTotalFloat()) {
 			throw new IllegalStateException(String.format(
 					"Signed state @ %s had total balance %d not %d!",
 					when,
 					summary.getTotalFloat(),
 					expectedFloat));
 		}
-		var csvLoc = lastUsedExportDir + when.toString().replace(":", "_") + "_Balances.csv";
-		boolean exportSucceeded = exportBalancesFile(summary, csvLoc, when);
-		if (exportSucceeded) {
-			tryToSign(csvLoc);
+		var csvLoc = filePrefix + ".csv";
+		var csvHash = exportBalancesFile(summary, csvLoc, when);
+		if (csvHash != null) {
+			tryToSign(csvLoc, csvHash);
+			if (dynamicProperties.shouldExportBalanceDeltas()) {
+				deltaBase = when;
+			}
+		}
+		if (dynamicProperties.shouldExportProtoBalances()) {
+			var gzip = dynamicProperties.shouldGzipProtoBalances();
+			var protoLoc = filePrefix + (gzip ? ".pb.gz" : ".pb");
+			var protoHash = exportBalancesProtoFile(summary, protoLoc, when, gzip);
+			if (protoHash != null) {
+				tryToSign(protoLoc, protoHash);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The working state may have been replaced by one whose balances include changes this
+	 * node never handled (and so never tracked); so a delta against the last base would
+	 * silently omit them. Since an export may be running on the signed state thread, the
+	 * base itself is only dropped at the start of the next export.
+	 */
+	@Override
+	public void forgetDeltaBase() {
+		balanceChanges.clear();
+		deltaBaseIsStale = true;
+	}
+
+	/**
+	 * A full export is needed when there is no (successful) previous export to apply a
+	 * delta to; when enough deltas have been written since the last full export; or
+	 * when a token was deleted, since that removes its balances from every holder
+	 * without touching their accounts.
+	 */
+	private boolean isCheckpointDue(ServicesState signedState) {
+		var deletedTokens = deletedTokensIn(signedState);
+		var tokenWasDeleted = deletedTokens != lastDeletedTokens;
+		lastDeletedTokens = deletedTokens;
+		return deltaBase == NEVER
+				|| deltasSinceCheckpoint >= dynamicProperties.balanceDeltasPerCheckpoint()
+				|| tokenWasDeleted;
+	}
+
+	private void toDeltaFile(ServicesState signedState, String deltaLoc, Instant when) {
+		var deltaHash = exportDeltaFile(signedState, deltaLoc, when);
+		if (deltaHash != null) {
+			tryToSign(deltaLoc, deltaHash);
+			deltaBase = when;
+			deltasSinceCheckpoint++;
+		} else {
+			/* The drained changes are lost, so only a full export can re-synchronize. */
+			deltaBase = NEVER;
 		}
 	}
 
-	private void tryToSign(String csvLoc) {
+	private void tryToSign(String csvLoc, byte[] hash) {
 		try {
-			var hash = hashReader.readHash(csvLoc);
 			var sig = signer.apply(hash);
 			var sigFileLoc = sigFileWriter.writeSigFile(csvLoc, sig, hash);
 			if (log.isDebugEnabled()) {
@@ -139,30 +221,169 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		}
 	}
 
-	private boolean exportBalancesFile(BalancesSummary summary, String csvLoc, Instant when) {
-		try (BufferedWriter fout = Files.newBufferedWriter(Paths.get(csvLoc))) {
-			if (dynamicProperties.shouldExportTokenBalances()) {
+	/**
+	 * Writes the given balances to a CSV file at the given location, computing the SHA-384
+	 * hash of the file contents as they are written (so the file need not be re-read to
+	 * sign it).
+	 *
+	 * @param summary the balances to export
+	 * @param csvLoc the location of the CSV file
+	 * @param when the consensus time of the signed state
+	 * @return the SHA-384 hash of the written file, or null if it could not be written
+	 */
+	private byte[] exportBalancesFile(BalancesSummary summary, String csvLoc, Instant when) {
+		var md = sha384Digest();
+		var withTokenBalances = dynamicProperties.shouldExportTokenBalances();
+		try (Writer fout = new BufferedWriter(new OutputStreamWriter(
+				new DigestOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(Paths.get(csvLoc)), EXPORT_BUFFER_SIZE),
+						md),
+				UTF_8), EXPORT_BUFFER_SIZE)) {
+			if (withTokenBalances) {
 				addRelease090Header(fout, when);
 			} else {
 				addLegacyHeader(fout, when);
 			}
+			var line = new StringBuilder();
 			for (AccountBalance entry : summary.getOrderedBalances())  {
-				fout.write(String.format(
-						"%d,%d,%d,%d",
-						entry.getShard(),
-						entry.getRealm(),
-						entry.getNum(),
-						entry.getBalance()));
-				if (dynamicProperties.shouldExportTokenBalances()) {
-					fout.write("," + entry.getB64TokenBalances());
+				line.setLength(0);
+				line.append(entry.getShard()).append(',')
+						.append(entry.getRealm()).append(',')
+						.append(entry.getNum()).append(',')
+						.append(entry.getBalance());
+				if (withTokenBalances) {
+					line.append(',').append(entry.getB64TokenBalances());
 				}
-				fout.write(LINE_SEPARATOR);
+				line.append(LINE_SEPARATOR);
+				fout.append(line);
 			}
 		} catch (IOException e) {
 			log.error(String.format(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, csvLoc), e);
-			return false;
+			return null;
+		}
+		return md.digest();
+	}
+
+	/**
+	 * Writes the given balances to a (possibly gzip'd) file at the given location as a
+	 * sequence of length-delimited protobuf messages; first a {@link com.hederahashgraph.api.proto.java.Timestamp}
+	 * with the consensus time of the signed state, then one {@link CryptoGetAccountBalanceResponse}
+	 * per account in id order. As with the CSV file, the returned SHA-384 hash is of the bytes
+	 * actually written to disk.
+	 *
+	 * @param summary the balances to export
+	 * @param protoLoc the location of the protobuf file
+	 * @param when the consensus time of the signed state
+	 * @param gzip whether to compress the file
+	 * @return the SHA-384 hash of the written file, or null if it could not be written
+	 */
+	private byte[] exportBalancesProtoFile(BalancesSummary summary, String protoLoc, Instant when, boolean gzip) {
+		var md = sha384Digest();
+		var withTokenBalances = dynamicProperties.shouldExportTokenBalances();
+		try (OutputStream out = protoStreamTo(protoLoc, md, gzip)) {
+			var coded = CodedOutputStream.newInstance(out, EXPORT_BUFFER_SIZE);
+			coded.writeMessageNoTag(asTimestamp(when));
+			var balance = CryptoGetAccountBalanceResponse.newBuilder();
+			for (AccountBalance entry : summary.getOrderedBalances()) {
+				balance.clear();
+				balance.getAccountIDBuilder()
+						.setShardNum(entry.getShard())
+						.setRealmNum(entry.getRealm())
+						.setAccountNum(entry.getNum());
+				balance.setBalance(entry.getBalance());
+				if (withTokenBalances) {
+					balance.addAllTokenBalances(entry.getTokenBalances().getTokenBalancesList());
+				}
+				coded.writeMessageNoTag(balance.build());
+			}
+			coded.flush();
+		} catch (IOException e) {
+			log.error(String.format(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc), e);
+			return null;
+		}
+		return md.digest();
+	}
+
+	private OutputStream protoStreamTo(String protoLoc, MessageDigest md, boolean gzip) throws IOException {
+		OutputStream fout = new DigestOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(Paths.get(protoLoc)), EXPORT_BUFFER_SIZE),
+				md);
+		return gzip ? new GZIPOutputStream(fout, EXPORT_BUFFER_SIZE) : fout;
+	}
+
+	/**
+	 * Writes a CSV file with the current balances of just the accounts whose balances
+	 * may have changed since the last export; deleted and removed accounts are included,
+	 * flagged as such, so that applying the deltas in order to the last full export
+	 * reproduces the complete balances file.
+	 *
+	 * Note the total float is only validated on full exports.
+	 *
+	 * @param signedState the signed state to export from
+	 * @param deltaLoc the location of the delta file
+	 * @param when the consensus time of the signed state
+	 * @return the SHA-384 hash of the written file, or null if it could not be written
+	 */
+	private byte[] exportDeltaFile(ServicesState signedState, String deltaLoc, Instant when) {
+		var changed = balanceChanges.drainChangesAsOf(when);
+		var tokens = signedState.tokens();
+		var accounts = signedState.accounts();
+		var tokenAssociations = signedState.tokenAssociations();
+		var md = sha384Digest();
+		try (Writer fout = new BufferedWriter(new OutputStreamWriter(
+				new DigestOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(Paths.get(deltaLoc)), EXPORT_BUFFER_SIZE),
+						md),
+				UTF_8), EXPORT_BUFFER_SIZE)) {
+			fout.write("# " + DELTA_VERSION + LINE_SEPARATOR);
+			fout.write(String.format("# TimeStamp:%s%s", when, LINE_SEPARATOR));
+			fout.write(String.format("# Since:%s%s", deltaBase, LINE_SEPARATOR));
+			fout.write("shardNum,realmNum,accountNum,balance,tokenBalances,deleted" + LINE_SEPARATOR);
+			var line = new StringBuilder();
+			for (AccountID id : changed) {
+				var account = accounts.get(fromAccountId(id));
+				var isGone = account == null || account.isDeleted();
+				var entry = new AccountBalance(
+						id.getShardNum(),
+						id.getRealmNum(),
+						id.getAccountNum(),
+						isGone ? 0L : account.getBalance());
+				if (!isGone) {
+					addTokenBalances(id, account, entry, tokens, tokenAssociations);
+				}
+				line.setLength(0);
+				line.append(entry.getShard()).append(',')
+						.append(entry.getRealm()).append(',')
+						.append(entry.getNum()).append(',')
+						.append(entry.getBalance()).append(',')
+						.append(entry.getB64TokenBalances()).append(',')
+						.append(isGone)
+						.append(LINE_SEPARATOR);
+				fout.append(line);
+			}
+		} catch (IOException e) {
+			log.error(String.format(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, deltaLoc), e);
+			return null;
+		}
+		return md.digest();
+	}
+
+	private long deletedTokensIn(ServicesState signedState) {
+		long n = 0;
+		for (MerkleToken token : signedState.tokens().values()) {
+			if (token.isDeleted()) {
+				n++;
+			}
+		}
+		return n;
+	}
+
+	static MessageDigest sha384Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException impossible) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!");
 		}
-		return true;
 	}
 
 	private void addLegacyHeader(Writer writer, Instant at) throws IOException {
@@ -178,33 +399,39 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 
 	BalancesSummary summarized(ServicesState signedState) {
 		long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
-		BigInteger totalFloat = BigInteger.valueOf(0L);
-		List<AccountBalance> accountBalances = new ArrayList<>();
+		long totalFloat = 0L;
 
 		var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
 		var tokens = signedState.tokens();
 		var accounts = signedState.accounts();
 		var tokenAssociations = signedState.tokenAssociations();
-		for (MerkleEntityId id : accounts.keySet())	{
-			var account = accounts.get(id);
+		var withTokenBalances = dynamicProperties.shouldExportTokenBalances();
+		List<AccountBalance> accountBalances = new ArrayList<>(accounts.size());
+		for (var entry : accounts.entrySet())	{
+			var account = entry.getValue();
 			if (!account.isDeleted()) {
+				var id = entry.getKey();
 				var accountId = id.toAccountId();
 				var balance = account.getBalance();
-				if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
+				if (balance < nodeBalanceWarnThreshold && nodeIds.contains(accountId)) {
 					log.warn(String.format(
 							LOW_NODE_BALANCE_WARN_MSG_TPL,
 							readableId(accountId),
 							balance));
 				}
-				totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-				var balancesEntry = new AccountBalance(id.getShard(), id.getRealm(), id.getNum(), account.getBalance());
-				if (dynamicProperties.shouldExportTokenBalances()) {
+				try {
+					totalFloat = Math.addExact(totalFloat, balance);
+				} catch (ArithmeticException overflow) {
+					throw new IllegalStateException("Signed state total balance overflows a long!", overflow);
+				}
+				var balancesEntry = new AccountBalance(id.getShard(), id.getRealm(), id.getNum(), balance);
+				if (withTokenBalances) {
 					addTokenBalances(accountId, account, balancesEntry, tokens, tokenAssociations);
 				}
 				accountBalances.add(balancesEntry);
 			}
 		}
-		Collections.sort(accountBalances);
+		accountBalances.sort(null);
 
 		return new BalancesSummary(totalFloat, accountBalances);
 	}
@@ -219,15 +446,18 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		var accountTokens = account.tokens();
 		if (accountTokens.numAssociations() > 0) {
 			var tokenBalances = TokenBalances.newBuilder();
-			for (TokenID tokenId : accountTokens.asIds()) {
-				var token = tokens.get(fromTokenId(tokenId));
+			for (int i = 0, n = accountTokens.numAssociations(); i < n; i++) {
+				long shard = accountTokens.shardAt(i), realm = accountTokens.realmAt(i), num = accountTokens.numAt(i);
+				var token = tokens.get(new MerkleEntityId(shard, realm, num));
 				if (token != null && !token.isDeleted()) {
-					var relationship = tokenAssociations.get(fromAccountTokenRel(id, tokenId));
-					tokenBalances.addTokenBalances(tb(tokenId, relationship.getBalance()));
+					var relationship = tokenAssociations.get(new MerkleEntityAssociation(
+							id.getShardNum(), id.getRealmNum(), id.getAccountNum(),
+							shard, realm, num));
+					tokenBalances.addTokenBalances(tb(accountTokens.idAt(i), relationship.getBalance()));
 				}
 			}
 			if (tokenBalances.getTokenBalancesCount() > 0) {
-				balancesEntry.setB64TokenBalances(b64Encode(tokenBalances.build()));
+				balancesEntry.setTokenBalances(tokenBalances.build());
 			}
 		}
 	}
@@ -261,18 +491,18 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	}
 
 	static class BalancesSummary {
-		private final BigInteger totalFloat;
+		private final long totalFloat;
 		private final List<AccountBalance> orderedBalances;
 
 		BalancesSummary(
-				BigInteger totalFloat,
+				long totalFloat,
 				List<AccountBalance> orderedBalances
 		) {
 			this.totalFloat = totalFloat;
 			this.orderedBalances = orderedBalances;
 		}
 
-		public BigInteger getTotalFloat() {
+		public long getTotalFloat() {
 			return totalFloat;
 		}
 
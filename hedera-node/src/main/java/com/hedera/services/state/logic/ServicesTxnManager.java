@@ -26,6 +26,8 @@ import com.hedera.services.utils.PlatformTxnAccessor;
 import java.time.Instant;
 import java.util.function.BiConsumer;
 
+import static com.hedera.services.stats.HandleTimes.Phase.COMMIT;
+import static com.hedera.services.stats.HandleTimes.Phase.RECORD_STREAMING;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 
 public class ServicesTxnManager {
@@ -63,7 +65,9 @@ public class ServicesTxnManager {
 		} finally {
 			attemptCommit(accessor, consensusTime, submittingMember, ctx);
 			if (createdStreamableRecord) {
+				ctx.handleTimes().beginPhase();
 				attemptRecordStreaming();
+				ctx.handleTimes().endPhase(RECORD_STREAMING);
 			}
 		}
 	}
@@ -83,7 +87,9 @@ public class ServicesTxnManager {
 			ServicesContext ctx
 	) {
 		try {
+			ctx.handleTimes().beginPhase();
 			ctx.ledger().commit();
+			ctx.handleTimes().endPhase(COMMIT);
 			createdStreamableRecord = true;
 		} catch (Exception commitFailure) {
 			warning.accept(commitFailure, "txn commit");
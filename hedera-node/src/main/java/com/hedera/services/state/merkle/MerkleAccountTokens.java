@@ -35,11 +35,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import static com.hedera.services.ledger.HederaLedger.TOKEN_ID_COMPARATOR;
-import static java.util.stream.Collectors.toList;
 
 public class MerkleAccountTokens extends AbstractMerkleLeaf {
 	private static final Logger log = LogManager.getLogger(MerkleAccountTokens.class);
@@ -144,7 +141,7 @@ public class MerkleAccountTokens extends AbstractMerkleLeaf {
 		if ((n = numAssociations()) == 0) {
 			return Collections.emptyList();
 		} else {
-			List<TokenID> ids = new ArrayList<>();
+			List<TokenID> ids = new ArrayList<>(n);
 			for (int i = 0; i < n; i++) {
 				ids.add(idAt(i));
 			}
@@ -156,6 +153,27 @@ public class MerkleAccountTokens extends AbstractMerkleLeaf {
 		return tokenIds;
 	}
 
+	/* --- Allocation-free iteration, for i in [0, numAssociations()) in ascending id order --- */
+	public long shardAt(int i) {
+		return tokenIds[shard(i)];
+	}
+
+	public long realmAt(int i) {
+		return tokenIds[realm(i)];
+	}
+
+	public long numAt(int i) {
+		return tokenIds[num(i)];
+	}
+
+	public TokenID idAt(int i) {
+		return TokenID.newBuilder()
+				.setShardNum(tokenIds[shard(i)])
+				.setRealmNum(tokenIds[realm(i)])
+				.setTokenNum(tokenIds[num(i)])
+				.build();
+	}
+
 	/* --- Association Manipulation --- */
 	public int numAssociations() {
 		return tokenIds.length / NUM_ID_PARTS;
@@ -165,35 +183,73 @@ public class MerkleAccountTokens extends AbstractMerkleLeaf {
 		return logicalIndexOf(id) >= 0;
 	}
 
+	/**
+	 * Merges the given ids into the (sorted) associations, ignoring any that are already
+	 * present; this costs {@code O(m log n)} comparisons plus bulk copies of the existing ids.
+	 *
+	 * @param ids the tokens to associate
+	 */
 	public void associateAll(Set<TokenID> ids) {
-		List<TokenID> allTogether = Stream.concat(
-				ids.stream(),
-				IntStream.range(0, numAssociations()).mapToObj(this::idAt)).sorted(TOKEN_ID_COMPARATOR).collect(toList());
-		int newN = numAssociations() + ids.size();
-		long[] newTokenIds = new long[newN * NUM_ID_PARTS];
-		for (int i = 0; i < newN; i++) {
-			set(newTokenIds, i, allTogether.get(i));
+		var incoming = ids.toArray(new TokenID[0]);
+		Arrays.sort(incoming, TOKEN_ID_COMPARATOR);
+
+		int n = numAssociations(), from = 0, to = 0;
+		long[] newTokenIds = new long[(n + incoming.length) * NUM_ID_PARTS];
+		for (TokenID id : incoming) {
+			int at = logicalIndexOf(id);
+			if (at >= 0) {
+				continue;
+			}
+			int insertion = -(at + 1);
+			copyRange(newTokenIds, from, insertion, to);
+			to += insertion - from;
+			from = insertion;
+			set(newTokenIds, to++, id);
 		}
-		tokenIds = newTokenIds;
+		copyRange(newTokenIds, from, n, to);
+		to += n - from;
+
+		tokenIds = (to * NUM_ID_PARTS == newTokenIds.length)
+				? newTokenIds
+				: Arrays.copyOf(newTokenIds, to * NUM_ID_PARTS);
 	}
 
+	/**
+	 * Removes the given ids from the associations, ignoring any that are not present; this
+	 * costs {@code O(m log n)} comparisons plus bulk copies of the surviving ids.
+	 *
+	 * @param ids the tokens to dissociate
+	 */
 	public void dissociateAll(Set<TokenID> ids) {
-		int n = numAssociations(), newN = 0;
-		for (int i = 0; i < n; i++) {
-			if (!ids.contains(idAt(i))) {
-				newN++;
+		int numDoomed = 0;
+		int[] doomed = new int[ids.size()];
+		for (TokenID id : ids) {
+			int at = logicalIndexOf(id);
+			if (at >= 0) {
+				doomed[numDoomed++] = at;
 			}
 		}
-		if (newN != n) {
-			long[] newTokenIds = new long[newN * NUM_ID_PARTS];
-			for (int i = 0, j = 0; i < n; i++) {
-				var id = idAt(i);
-				if (!ids.contains(id)) {
-					set(newTokenIds, j++, id);
-				}
-			}
-			tokenIds = newTokenIds;
+		if (numDoomed == 0) {
+			return;
+		}
+		Arrays.sort(doomed, 0, numDoomed);
+
+		int n = numAssociations(), from = 0, to = 0;
+		long[] newTokenIds = new long[(n - numDoomed) * NUM_ID_PARTS];
+		for (int d = 0; d < numDoomed; d++) {
+			copyRange(newTokenIds, from, doomed[d], to);
+			to += doomed[d] - from;
+			from = doomed[d] + 1;
 		}
+		copyRange(newTokenIds, from, n, to);
+		tokenIds = newTokenIds;
+	}
+
+	private void copyRange(long[] newTokenIds, int from, int until, int to) {
+		System.arraycopy(
+				tokenIds, from * NUM_ID_PARTS,
+				newTokenIds, to * NUM_ID_PARTS,
+				(until - from) * NUM_ID_PARTS);
 	}
 
 	private void set(long[] someTokenIds, int i, TokenID id) {
@@ -203,41 +259,32 @@ public class MerkleAccountTokens extends AbstractMerkleLeaf {
 	}
 
 	public int purge(Predicate<TokenID> isGone, Predicate<TokenID> isDeleted) {
-		int effectiveAssociations = 0, meaningfulAssociations = 0, n = numAssociations();
+		int effectiveAssociations = 0, n = numAssociations(), to = 0;
+		long[] meaningfulTokenIds = null;
 		for (int i = 0; i < n; i++) {
 			var id = idAt(i);
 			if (isGone.test(id)) {
+				if (meaningfulTokenIds == null) {
+					meaningfulTokenIds = new long[tokenIds.length];
+					copyRange(meaningfulTokenIds, 0, i, 0);
+					to = i;
+				}
 				continue;
 			}
-			meaningfulAssociations++;
-			if (isDeleted.test(id)) {
-				continue;
+			if (meaningfulTokenIds != null) {
+				copyRange(meaningfulTokenIds, i, i + 1, to++);
+			}
+			if (!isDeleted.test(id)) {
+				effectiveAssociations++;
 			}
-			effectiveAssociations++;
 		}
 
-		if (meaningfulAssociations != n) {
-			long[] newTokenIds = new long[meaningfulAssociations * NUM_ID_PARTS];
-			for (int i = 0, j = 0; i < n; i++) {
-				var id = idAt(i);
-				if (isGone.test(id)) {
-					continue;
-				}
-				set(newTokenIds, j++, id);
-			}
-			this.tokenIds = newTokenIds;
+		if (meaningfulTokenIds != null) {
+			this.tokenIds = Arrays.copyOf(meaningfulTokenIds, to * NUM_ID_PARTS);
 		}
 		return effectiveAssociations;
 	}
 
-	private TokenID idAt(int i) {
-		return TokenID.newBuilder()
-				.setShardNum(tokenIds[shard(i)])
-				.setRealmNum(tokenIds[realm(i)])
-				.setTokenNum(tokenIds[num(i)])
-				.build();
-	}
-
 	/* --- Helpers --- */
 	private int num(int i) {
 		return i * NUM_ID_PARTS + NUM_OFFSET;
@@ -37,6 +37,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -68,11 +70,14 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 	static final int MERKLE_VERSION = 1;
 
 	static ThrowingBytesWriter writeHelper = (p, c) -> FileUtils.writeByteArrayToFile(p.toFile(), c);
+	static ThrowingBytesWriter appendHelper = (p, c) -> FileUtils.writeByteArrayToFile(p.toFile(), c, true);
 	static ThrowingBytesGetter bytesHelper = p -> FileUtils.readFileToByteArray(p.toFile());
 
 	private String fsBaseDir = UNKNOWN_PATH_SEGMENT;
 	private String fsNodeScopedDir = UNKNOWN_PATH_SEGMENT;
 	private Map<FileID, byte[]> fileHashes = new HashMap<>();
+	/* Running SHA-384 digests of files appended to since their last put; not part of the state. */
+	private Map<FileID, MessageDigest> runningDigests = new HashMap<>();
 
 	/* --- RuntimeConstructable --- */
 	public MerkleDiskFs() {
@@ -96,7 +101,11 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 		Map<FileID, byte[]> fileHashesCopy = fileHashes.entrySet()
 				.stream()
 				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, HashMap::new));
-		return new MerkleDiskFs(fileHashesCopy, fsBaseDir, fsNodeScopedDir);
+		var fsCopy = new MerkleDiskFs(fileHashesCopy, fsBaseDir, fsNodeScopedDir);
+		/* Only the new copy is mutable, so it alone will need the running digests. */
+		fsCopy.runningDigests = runningDigests;
+		runningDigests = new HashMap<>();
+		return fsCopy;
 	}
 
 	public void setFsBaseDir(String fsBaseDir) {
@@ -144,6 +153,7 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 			byte[] hash = noThrowSha384HashOf(contents);
 			writeHelper.allBytesTo(pathToContentsOf(fid), contents);
 			log.info("Updated '{}' with {} bytes; new hash :: {}", asLiteralString(fid), contents.length, hex(hash));
+			runningDigests.remove(fid);
 			fileHashes.put(fid, hash);
 			setHashFromContents();
 		} catch (IOException e) {
@@ -155,6 +165,53 @@ public class MerkleDiskFs extends AbstractMerkleLeaf implements MerkleExternalLe
 		}
 	}
 
+	/**
+	 * Appends the given bytes to the given file on disk. The new hash of the file is computed from a
+	 * running digest of its contents, so only the appended bytes are hashed (except for the first
+	 * append after a restart or put, which must read the existing contents once).
+	 *
+	 * @param fid the file to extend
+	 * @param moreContents the bytes to append
+	 */
+	public synchronized void append(FileID fid, byte[] moreContents) {
+		try {
+			var digest = runningDigests.get(fid);
+			if (digest == null) {
+				digest = sha384Digest();
+				digest.update(contentsOf(fid));
+			}
+			appendHelper.allBytesTo(pathToContentsOf(fid), moreContents);
+			digest.update(moreContents);
+			runningDigests.put(fid, digest);
+			byte[] hash = currentHashOf(digest);
+			log.info("Appended {} bytes to '{}'; new hash :: {}", moreContents.length, asLiteralString(fid), hex(hash));
+			fileHashes.put(fid, hash);
+			setHashFromContents();
+		} catch (IOException e) {
+			log.error(
+					"Error appending new contents for '{}' to disk @ {}!",
+					asLiteralString(fid),
+					pathToContentsOf(fid),
+					e);
+		}
+	}
+
+	private byte[] currentHashOf(MessageDigest digest) {
+		try {
+			return ((MessageDigest) digest.clone()).digest();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException("SHA-384 digest not cloneable!", e);
+		}
+	}
+
+	private static MessageDigest sha384Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!", e);
+		}
+	}
+
 	public boolean contains(FileID fileID) {
 		return fileHashes.containsKey(fileID);
 	}
@@ -234,7 +234,8 @@ public class MerkleSchedule extends AbstractMerkleLeaf implements FCMValue {
         int signersSize = in.readInt();
         signers = new LinkedHashSet<>();
         for (int i = 0; i < signersSize; i++) {
-            signers.add(serdes.deserializeKey(in));
+            /* JKey has identity equality, so interned keys would collapse distinct signers with equal bytes */
+            signers.add(serdes.deserializeUninternedKey(in));
         }
     }
 
@@ -40,9 +40,7 @@ import org.apache.logging.log4j.Logger;
 import org.spongycastle.util.encoders.Hex;
 
 import javax.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -245,17 +243,39 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements FCMValue {
 	 * @param message
 	 * @param topicId
 	 * @param consensusTimestamp
-	 * @throws IOException
 	 */
 	public void updateRunningHashAndSequenceNumber(
 			AccountID payer,
 			@Nullable byte[] message,
 			@Nullable TopicID topicId,
 			@Nullable Instant consensusTimestamp
-	) throws IOException {
+	) {
 		if (null == message) {
 			message = new byte[0];
 		}
+		updateRunningHashAndSequenceNumberGivenDigest(
+				payer,
+				CommonUtils.noThrowSha384HashOf(message),
+				topicId,
+				consensusTimestamp);
+	}
+
+	/**
+	 * Same as {@link MerkleTopic#updateRunningHashAndSequenceNumber(AccountID, byte[], TopicID, Instant)}, but
+	 * given the SHA-384 digest of the message instead of the message itself; so the digest can be computed
+	 * before consensus, off the thread handling transactions.
+	 *
+	 * @param payer the payer of the message submission
+	 * @param messageDigest the SHA-384 digest of the submitted message
+	 * @param topicId the id of this topic
+	 * @param consensusTimestamp the consensus time of the submission
+	 */
+	public void updateRunningHashAndSequenceNumberGivenDigest(
+			AccountID payer,
+			byte[] messageDigest,
+			@Nullable TopicID topicId,
+			@Nullable Instant consensusTimestamp
+	) {
 		if (null == topicId) {
 			topicId = TopicID.newBuilder().build();
 		}
@@ -263,24 +283,15 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements FCMValue {
 			consensusTimestamp = Instant.ofEpochSecond(0);
 		}
 
-		var boas = new ByteArrayOutputStream();
-		try (var out = new ObjectOutputStream(boas)) {
-			out.writeObject(getRunningHash());
-			out.writeLong(RUNNING_HASH_VERSION);
-			out.writeLong(payer.getShardNum());
-			out.writeLong(payer.getRealmNum());
-			out.writeLong(payer.getAccountNum());
-			out.writeLong(topicId.getShardNum());
-			out.writeLong(topicId.getRealmNum());
-			out.writeLong(topicId.getTopicNum());
-			out.writeLong(consensusTimestamp.getEpochSecond());
-			out.writeInt(consensusTimestamp.getNano());
-			++sequenceNumber;
-			out.writeLong(sequenceNumber);
-			out.writeObject(CommonUtils.noThrowSha384HashOf(message));
-			out.flush();
-			runningHash = CommonUtils.noThrowSha384HashOf(boas.toByteArray());
-		}
+		++sequenceNumber;
+		runningHash = TopicRunningHashEncoder.current().nextRunningHash(
+				getRunningHash(),
+				RUNNING_HASH_VERSION,
+				payer,
+				topicId,
+				consensusTimestamp,
+				sequenceNumber,
+				messageDigest);
 	}
 
 	public static class KeySerializationException extends RuntimeException {
@@ -0,0 +1,161 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Computes a topic's next running hash from exactly the bytes the original
+ * {@link ObjectOutputStream}-based implementation hashed; that is,
+ * <pre>
+ *   writeObject(runningHash)
+ *   writeLong(RUNNING_HASH_VERSION)
+ *   writeLong(payer shard, realm, num)
+ *   writeLong(topic shard, realm, num)
+ *   writeLong(consensus seconds), writeInt(consensus nanos)
+ *   writeLong(sequenceNumber)
+ *   writeObject(messageDigest)
+ * </pre>
+ * But it writes them into a reused buffer, and hashes them with a reused digest,
+ * instead of creating a new object stream (with its internal buffers and handle
+ * tables) for every message.
+ *
+ * The {@code byte[]} class descriptor preamble is taken from an actual object
+ * stream at class initialization, so the encoding cannot drift from the JDK's.
+ *
+ * Instances are not thread-safe; use {@link TopicRunningHashEncoder#current()}.
+ */
+final class TopicRunningHashEncoder {
+	/* The primitives between the two arrays; nine longs and one int. */
+	static final int BLOCK_DATA_LEN = 9 * Long.BYTES + Integer.BYTES;
+
+	/* The stream header, followed by the TC_ARRAY and class descriptor of a first byte[]. */
+	static final byte[] FIRST_ARRAY_PREAMBLE;
+	/* The TC_ARRAY and back-reference to the byte[] class descriptor of a second byte[]. */
+	static final byte[] SECOND_ARRAY_PREAMBLE;
+
+	static {
+		var baos = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(baos)) {
+			out.writeObject(new byte[0]);
+			out.writeObject(new byte[0]);
+			out.flush();
+		} catch (IOException impossible) {
+			throw new UncheckedIOException(impossible);
+		}
+		var bytes = baos.toByteArray();
+		/* Each empty array ends with its 4-byte length of zero. */
+		var secondLen = 1 + 1 + Integer.BYTES;
+		var secondStart = bytes.length - Integer.BYTES - secondLen;
+		FIRST_ARRAY_PREAMBLE = Arrays.copyOfRange(bytes, 0, secondStart - Integer.BYTES);
+		SECOND_ARRAY_PREAMBLE = Arrays.copyOfRange(bytes, secondStart, secondStart + secondLen);
+	}
+
+	private static final ThreadLocal<TopicRunningHashEncoder> ENCODERS =
+			ThreadLocal.withInitial(TopicRunningHashEncoder::new);
+
+	private final MessageDigest sha384;
+	private final byte[] block = new byte[2 + BLOCK_DATA_LEN];
+	private final byte[] len = new byte[Integer.BYTES];
+
+	TopicRunningHashEncoder() {
+		try {
+			sha384 = MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException impossible) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!");
+		}
+	}
+
+	static TopicRunningHashEncoder current() {
+		return ENCODERS.get();
+	}
+
+	byte[] nextRunningHash(
+			byte[] runningHash,
+			long version,
+			AccountID payer,
+			TopicID topicId,
+			Instant consensusTimestamp,
+			long sequenceNumber,
+			byte[] messageDigest
+	) {
+		sha384.reset();
+
+		sha384.update(FIRST_ARRAY_PREAMBLE);
+		updateWithLength(runningHash.length);
+		sha384.update(runningHash);
+
+		block[0] = ObjectStreamConstants.TC_BLOCKDATA;
+		block[1] = (byte) BLOCK_DATA_LEN;
+		int i = 2;
+		i = put(version, i);
+		i = put(payer.getShardNum(), i);
+		i = put(payer.getRealmNum(), i);
+		i = put(payer.getAccountNum(), i);
+		i = put(topicId.getShardNum(), i);
+		i = put(topicId.getRealmNum(), i);
+		i = put(topicId.getTopicNum(), i);
+		i = put(consensusTimestamp.getEpochSecond(), i);
+		i = put(consensusTimestamp.getNano(), i);
+		put(sequenceNumber, i);
+		sha384.update(block);
+
+		sha384.update(SECOND_ARRAY_PREAMBLE);
+		updateWithLength(messageDigest.length);
+		sha384.update(messageDigest);
+
+		return sha384.digest();
+	}
+
+	private void updateWithLength(int n) {
+		len[0] = (byte) (n >>> 24);
+		len[1] = (byte) (n >>> 16);
+		len[2] = (byte) (n >>> 8);
+		len[3] = (byte) n;
+		sha384.update(len);
+	}
+
+	private int put(long v, int i) {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			block[i++] = (byte) (v >>> shift);
+		}
+		return i;
+	}
+
+	private int put(int v, int i) {
+		for (int shift = 24; shift >= 0; shift -= 8) {
+			block[i++] = (byte) (v >>> shift);
+		}
+		return i;
+	}
+}
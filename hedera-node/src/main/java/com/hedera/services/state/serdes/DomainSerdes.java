@@ -41,8 +41,12 @@ public class DomainSerdes {
 		return JKeySerializer.deserialize(in);
 	}
 
+	public JKey deserializeUninternedKey(DataInputStream in) throws IOException {
+		return JKeySerializer.deserializeUninterned(in);
+	}
+
 	public void serializeKey(JKey key, DataOutputStream out) throws IOException {
-		out.write(key.serialize());
+		JKeySerializer.serialize(key, out);
 	}
 
 	public void writeNullableInstant(RichInstant at, SerializableDataOutputStream out) throws IOException {
@@ -87,6 +87,10 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 	private List<EntityId> tokens = NO_TOKENS;
 	private List<CurrencyAdjustments> tokenAdjustments = NO_TOKEN_ADJUSTMENTS;
 
+	/* Every field asGrpc() reads is fixed once the record is built, so its conversion can be
+	shared by all the receipt and record queries made while the record is still retained. */
+	private volatile TransactionRecord memoizedGrpc;
+
 	@Override
 	public void release() {
 	}
@@ -274,6 +278,7 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 			tokens = in.readSerializableList(MAX_INVOLVED_TOKENS);
 			tokenAdjustments = in.readSerializableList(MAX_INVOLVED_TOKENS);
 		}
+		memoizedGrpc = null;
 	}
 
 	@Override
@@ -396,6 +401,14 @@ public class ExpirableTxnRecord implements FCQueueElement<ExpirableTxnRecord> {
 	}
 
 	public TransactionRecord asGrpc() {
+		var answer = memoizedGrpc;
+		if (answer == null) {
+			answer = memoizedGrpc = freshGrpc();
+		}
+		return answer;
+	}
+
+	private TransactionRecord freshGrpc() {
 		var grpc = TransactionRecord.newBuilder();
 
 		grpc.setTransactionFee(fee);
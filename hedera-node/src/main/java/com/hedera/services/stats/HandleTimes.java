@@ -0,0 +1,282 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Platform;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_HANDLE_ALLOC_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_HANDLE_ALLOC_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_HANDLE_P50_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_HANDLE_P50_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_HANDLE_P99_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_HANDLE_P99_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.IGNORED_FUNCTIONS;
+import static com.hedera.services.utils.MiscUtils.QUERY_FUNCTIONS;
+
+/**
+ * Records, per {@link HederaFunctionality}, a {@link LatencyHistogram} of the nanoseconds spent
+ * handling each transaction at consensus, along with one histogram for each {@link Phase} of
+ * handling; and, optionally, the bytes the handle thread allocated for each transaction.
+ *
+ * The handle thread brackets each transaction with {@link HandleTimes#beginTxn()} and
+ * {@link HandleTimes#endTxn(HederaFunctionality)}, and each phase with {@link HandleTimes#beginPhase()}
+ * and {@link HandleTimes#endPhase(Phase)}. Every {@code stats.handleTimes.intervalSecs}, the
+ * {@link ServicesStatsManager} calls {@link HandleTimes#rollInterval()} to summarize the interval
+ * just ended for the platform stats and the log.
+ */
+public class HandleTimes {
+	private static final Logger log = LogManager.getLogger(HandleTimes.class);
+
+	static final long NANOS_PER_MICRO = 1_000L;
+	static final double[] LOGGED_PERCENTILES = { 50.0, 99.0 };
+
+	static LongSupplier nanoClock = System::nanoTime;
+	static LongSupplier allocatedBytes = HandleTimes::currentThreadAllocatedBytes;
+	static Supplier<HederaFunctionality[]> allFunctions = HederaFunctionality.class::getEnumConstants;
+
+	public enum Phase {
+		SIG_RATIONALIZATION, FEE_COMPUTATION, CHARGING, STATE_TRANSITION, COMMIT, RECORD_STREAMING
+	}
+
+	private final boolean isEnabled;
+	private final boolean isTrackingAllocations;
+	private final CounterFactory counter;
+	private final Function<HederaFunctionality, String> statNameFn;
+
+	final EnumMap<HederaFunctionality, FunctionTimes> times = new EnumMap<>(HederaFunctionality.class);
+
+	/* Scratch state for the transaction in progress, only touched by the handle thread. */
+	private long txnStart;
+	private long phaseStart;
+	private long allocatedAtStart;
+	private final long[] phaseNanos = new long[Phase.values().length];
+
+	public HandleTimes(
+			CounterFactory counter,
+			NodeLocalProperties properties,
+			Function<HederaFunctionality, String> statNameFn
+	) {
+		this.counter = counter;
+		this.statNameFn = statNameFn;
+		this.isEnabled = properties.areHandleTimesEnabled();
+		this.isTrackingAllocations = isEnabled && properties.shouldTrackHandleAllocations();
+
+		if (isEnabled) {
+			Arrays.stream(allFunctions.get())
+					.filter(function -> !IGNORED_FUNCTIONS.contains(function))
+					.filter(function -> !QUERY_FUNCTIONS.contains(function))
+					.forEach(function -> times.put(function, new FunctionTimes()));
+		}
+	}
+
+	public boolean isEnabled() {
+		return isEnabled;
+	}
+
+	public void beginTxn() {
+		if (!isEnabled) {
+			return;
+		}
+		Arrays.fill(phaseNanos, -1L);
+		if (isTrackingAllocations) {
+			allocatedAtStart = allocatedBytes.getAsLong();
+		}
+		txnStart = nanoClock.getAsLong();
+		phaseStart = txnStart;
+	}
+
+	public void beginPhase() {
+		if (isEnabled) {
+			phaseStart = nanoClock.getAsLong();
+		}
+	}
+
+	public void endPhase(Phase phase) {
+		if (!isEnabled) {
+			return;
+		}
+		var elapsed = nanoClock.getAsLong() - phaseStart;
+		var i = phase.ordinal();
+		phaseNanos[i] = (phaseNanos[i] < 0) ? elapsed : phaseNanos[i] + elapsed;
+	}
+
+	public void endTxn(HederaFunctionality function) {
+		if (!isEnabled) {
+			return;
+		}
+		var elapsed = nanoClock.getAsLong() - txnStart;
+		var functionTimes = times.get(function);
+		if (functionTimes == null) {
+			return;
+		}
+		functionTimes.total.record(elapsed);
+		for (int i = 0; i < phaseNanos.length; i++) {
+			if (phaseNanos[i] >= 0) {
+				functionTimes.phases[i].record(phaseNanos[i]);
+			}
+		}
+		if (isTrackingAllocations) {
+			functionTimes.allocated.add(allocatedBytes.getAsLong() - allocatedAtStart);
+		}
+	}
+
+	public void registerWith(Platform platform) {
+		times.forEach((function, functionTimes) -> {
+			var baseName = statNameFn.apply(function);
+			platform.addAppStatEntry(counter.from(
+					String.format(COUNTER_HANDLE_P50_NAME_TPL, baseName),
+					String.format(COUNTER_HANDLE_P50_DESC_TPL, baseName),
+					() -> functionTimes.lastInterval.total.valueAtPercentile(50.0) / NANOS_PER_MICRO));
+			platform.addAppStatEntry(counter.from(
+					String.format(COUNTER_HANDLE_P99_NAME_TPL, baseName),
+					String.format(COUNTER_HANDLE_P99_DESC_TPL, baseName),
+					() -> functionTimes.lastInterval.total.valueAtPercentile(99.0) / NANOS_PER_MICRO));
+			if (isTrackingAllocations) {
+				platform.addAppStatEntry(counter.from(
+						String.format(COUNTER_HANDLE_ALLOC_NAME_TPL, baseName),
+						String.format(COUNTER_HANDLE_ALLOC_DESC_TPL, baseName),
+						() -> functionTimes.lastInterval.meanAllocatedBytes()));
+			}
+		});
+	}
+
+	/**
+	 * Summarizes the transactions handled since the last call, for the platform stats
+	 * and as one log line per functionality that was handled at least once.
+	 */
+	public void rollInterval() {
+		times.forEach((function, functionTimes) -> {
+			functionTimes.roll();
+			var interval = functionTimes.lastInterval;
+			if (interval.total.totalCount() > 0) {
+				log.info(describe(statNameFn.apply(function), interval));
+			}
+		});
+	}
+
+	private String describe(String name, Interval interval) {
+		var sb = new StringBuilder(name)
+				.append(" x")
+				.append(interval.total.totalCount())
+				.append(" :: total");
+		appendPercentiles(sb, interval.total);
+		for (var phase : Phase.values()) {
+			var phaseTimes = interval.phases[phase.ordinal()];
+			if (phaseTimes.totalCount() > 0) {
+				sb.append(" | ").append(phase);
+				appendPercentiles(sb, phaseTimes);
+			}
+		}
+		if (isTrackingAllocations) {
+			sb.append(" | allocated ").append(interval.meanAllocatedBytes()).append("B/txn");
+		}
+		return sb.toString();
+	}
+
+	private void appendPercentiles(StringBuilder sb, LatencyHistogram.Snapshot snapshot) {
+		for (double percentile : LOGGED_PERCENTILES) {
+			sb.append(String.format(" p%.0f=%dµs", percentile, snapshot.valueAtPercentile(percentile) / NANOS_PER_MICRO));
+		}
+		sb.append(String.format(" max=%dµs", snapshot.max() / NANOS_PER_MICRO));
+	}
+
+	static long currentThreadAllocatedBytes() {
+		var threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0L;
+	}
+
+	static class FunctionTimes {
+		final LatencyHistogram total = new LatencyHistogram();
+		final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+		final LongAdder allocated = new LongAdder();
+
+		/* Only touched by the thread rolling intervals. */
+		private LatencyHistogram.Snapshot lastTotal = LatencyHistogram.Snapshot.EMPTY;
+		private final LatencyHistogram.Snapshot[] lastPhases = new LatencyHistogram.Snapshot[Phase.values().length];
+		private long lastAllocated;
+
+		volatile Interval lastInterval = Interval.EMPTY;
+
+		FunctionTimes() {
+			for (int i = 0; i < phases.length; i++) {
+				phases[i] = new LatencyHistogram();
+				lastPhases[i] = LatencyHistogram.Snapshot.EMPTY;
+			}
+		}
+
+		void roll() {
+			var currTotal = total.snapshot();
+			var intervalPhases = new LatencyHistogram.Snapshot[phases.length];
+			for (int i = 0; i < phases.length; i++) {
+				var currPhase = phases[i].snapshot();
+				intervalPhases[i] = currPhase.since(lastPhases[i]);
+				lastPhases[i] = currPhase;
+			}
+			var currAllocated = allocated.sum();
+			lastInterval = new Interval(currTotal.since(lastTotal), intervalPhases, currAllocated - lastAllocated);
+			lastTotal = currTotal;
+			lastAllocated = currAllocated;
+		}
+	}
+
+	static class Interval {
+		static final Interval EMPTY = new Interval(
+				LatencyHistogram.Snapshot.EMPTY,
+				emptyPhases(),
+				0L);
+
+		final LatencyHistogram.Snapshot total;
+		final LatencyHistogram.Snapshot[] phases;
+		final long allocated;
+
+		Interval(LatencyHistogram.Snapshot total, LatencyHistogram.Snapshot[] phases, long allocated) {
+			this.total = total;
+			this.phases = phases;
+			this.allocated = allocated;
+		}
+
+		long meanAllocatedBytes() {
+			var n = total.totalCount();
+			return (n == 0) ? 0L : allocated / n;
+		}
+
+		private static LatencyHistogram.Snapshot[] emptyPhases() {
+			var phases = new LatencyHistogram.Snapshot[Phase.values().length];
+			Arrays.fill(phases, LatencyHistogram.Snapshot.EMPTY);
+			return phases;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, log-linear histogram of non-negative {@code long} values in the style of
+ * HdrHistogram: each power-of-two range is split into 16 ({@link LatencyHistogram#SUB_BUCKET_HALF_COUNT})
+ * linear sub-buckets, so any recorded value is reported to within about 6% (1/16) of its
+ * true magnitude, using less than 8KB no matter the range of values. (Values below
+ * {@link LatencyHistogram#SUB_BUCKET_COUNT} are counted exactly.)
+ *
+ * Recording is meant for a single writer (the handle thread), but the counts are atomic so
+ * that another thread can take consistent-enough {@link LatencyHistogram#snapshot()}s at any
+ * time; and the difference of two snapshots summarizes just the values recorded in between.
+ */
+public class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 5;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+	static final int NUM_BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+
+	public void record(long value) {
+		counts.incrementAndGet(indexOf(Math.max(0L, value)));
+	}
+
+	public Snapshot snapshot() {
+		var copy = new long[NUM_BUCKETS];
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			copy[i] = counts.get(i);
+		}
+		return new Snapshot(copy);
+	}
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+		return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+	}
+
+	static long highestEquivalentValueAt(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+		long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	public static class Snapshot {
+		public static final Snapshot EMPTY = new Snapshot(new long[NUM_BUCKETS]);
+
+		private final long[] counts;
+		private final long totalCount;
+
+		Snapshot(long[] counts) {
+			this.counts = counts;
+			long total = 0;
+			for (long count : counts) {
+				total += count;
+			}
+			totalCount = total;
+		}
+
+		/**
+		 * Returns a snapshot of the values recorded after the given earlier snapshot
+		 * (of the same histogram) was taken.
+		 *
+		 * @param earlier a previous snapshot
+		 * @return the difference of this snapshot and the earlier one
+		 */
+		public Snapshot since(Snapshot earlier) {
+			var diff = new long[NUM_BUCKETS];
+			for (int i = 0; i < NUM_BUCKETS; i++) {
+				diff[i] = counts[i] - earlier.counts[i];
+			}
+			return new Snapshot(diff);
+		}
+
+		public long totalCount() {
+			return totalCount;
+		}
+
+		/**
+		 * Returns the highest value equivalent to the value at the given percentile,
+		 * or zero if the snapshot is empty.
+		 *
+		 * @param percentile the percentile in {@code [0.0, 100.0]}
+		 * @return the (approximate) value at that percentile
+		 */
+		public long valueAtPercentile(double percentile) {
+			if (totalCount == 0) {
+				return 0L;
+			}
+			long rank = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+			long seen = 0;
+			for (int i = 0; i < NUM_BUCKETS; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return highestEquivalentValueAt(i);
+				}
+			}
+			return highestEquivalentValueAt(NUM_BUCKETS - 1);
+		}
+
+		public long max() {
+			return valueAtPercentile(100.0);
+		}
+	}
+}
@@ -34,6 +34,10 @@ public class MiscRunningAvgs {
 	StatsRunningAverage writeQueueSizeRecordStream;
 	StatsRunningAverage hashQueueSizeRecordStream;
 
+	StatsRunningAverage localCallQueueSize;
+
+	StatsRunningAverage fileAttrCacheHitRate;
+
 	public MiscRunningAvgs(RunningAvgFactory runningAvg, NodeLocalProperties properties) {
 		this.runningAvg = runningAvg;
 
@@ -45,6 +49,10 @@ public class MiscRunningAvgs {
 
 		writeQueueSizeRecordStream = new StatsRunningAverage(halfLife);
 		hashQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+
+		localCallQueueSize = new StatsRunningAverage(halfLife);
+
+		fileAttrCacheHitRate = new StatsRunningAverage(halfLife);
 	}
 
 	public void registerWith(Platform platform) {
@@ -75,6 +83,16 @@ public class MiscRunningAvgs {
 						hashQueueSizeRecordStream
 				)
 		);
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.LOCAL_CALL_QUEUE_SIZE,
+						Descriptions.LOCAL_CALL_QUEUE_SIZE,
+						localCallQueueSize));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.FILE_ATTR_CACHE_HIT_RATE,
+						Descriptions.FILE_ATTR_CACHE_HIT_RATE,
+						fileAttrCacheHitRate));
 	}
 
 	public void recordAccountLookupRetries(int num) {
@@ -97,6 +115,14 @@ public class MiscRunningAvgs {
 		hashQueueSizeRecordStream.recordValue(num);
 	}
 
+	public void recordLocalCallQueueSize(int num) {
+		localCallQueueSize.recordValue(num);
+	}
+
+	public void recordFileAttrCacheLookup(boolean wasHit) {
+		fileAttrCacheHitRate.recordValue(wasHit ? 1.0 : 0.0);
+	}
+
 	static class Names {
 		public static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
 		public static final String ACCOUNT_LOOKUP_RETRIES = "avgAcctLookupRetryAttempts";
@@ -104,6 +130,10 @@ public class MiscRunningAvgs {
 
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+
+		public static final String LOCAL_CALL_QUEUE_SIZE = "localCallQueueSize";
+
+		public static final String FILE_ATTR_CACHE_HIT_RATE = "fileAttrCacheHitRate";
 	}
 
 	static class Descriptions {
@@ -117,5 +147,11 @@ public class MiscRunningAvgs {
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM =
 				"size of the queue from which we take records and write to RecordStream file";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "size of working queue for calculating hash and runningHash";
+
+		public static final String LOCAL_CALL_QUEUE_SIZE =
+				"size of the queue of contract local calls waiting for a worker";
+
+		public static final String FILE_ATTR_CACHE_HIT_RATE =
+				"fraction of recent file metadata lookups answered from the decoded cache";
 	}
 }
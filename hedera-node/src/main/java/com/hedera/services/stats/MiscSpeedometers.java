@@ -31,6 +31,7 @@ public class MiscSpeedometers {
 	StatsSpeedometer asyncVerifications;
 	StatsSpeedometer accountLookupRetries;
 	StatsSpeedometer platformTxnRejections;
+	StatsSpeedometer localCallRejections;
 
 	public MiscSpeedometers(SpeedometerFactory speedometer, NodeLocalProperties properties) {
 		this.speedometer = speedometer;
@@ -39,6 +40,7 @@ public class MiscSpeedometers {
 		asyncVerifications = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 		accountLookupRetries = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 		platformTxnRejections = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
+		localCallRejections = new StatsSpeedometer(properties.statsSpeedometerHalfLifeSecs());
 	}
 
 	public void registerWith(Platform platform) {
@@ -62,6 +64,11 @@ public class MiscSpeedometers {
 						Names.PLATFORM_TXN_REJECTIONS,
 						Descriptions.PLATFORM_TXN_REJECTIONS,
 						platformTxnRejections));
+		platform.addAppStatEntry(
+				speedometer.from(
+						Names.LOCAL_CALL_REJECTIONS,
+						Descriptions.LOCAL_CALL_REJECTIONS,
+						localCallRejections));
 	}
 
 	public void cycleSyncVerifications() {
@@ -80,11 +87,16 @@ public class MiscSpeedometers {
 		platformTxnRejections.update(1);
 	}
 
+	public void cycleLocalCallRejections() {
+		localCallRejections.update(1);
+	}
+
 	static class Names {
 		public static final String SYNC_VERIFICATIONS = "sigVerifySync/sec";
 		public static final String ASYNC_VERIFICATIONS = "sigVerifyAsync/sec";
 		public static final String ACCOUNT_LOOKUP_RETRIES = "acctLookupRetries/sec";
 		public static final String PLATFORM_TXN_REJECTIONS = "platformTxnNotCreated/sec";
+		public static final String LOCAL_CALL_REJECTIONS = "localCallsRejected/sec";
 	}
 
 	static class Descriptions {
@@ -96,5 +108,7 @@ public class MiscSpeedometers {
 				"number of times per second that an account lookup must be retried";
 		public static final String PLATFORM_TXN_REJECTIONS =
 				"number of platform transactions not created per second";
+		public static final String LOCAL_CALL_REJECTIONS =
+				"number of contract local calls rejected as BUSY per second";
 	}
 }
@@ -54,6 +54,18 @@ public class ServicesStatsConfig {
 	static final String SPEEDOMETER_ANSWERED_DESC_TPL = "number of %s answered per second";
 	static final String SPEEDOMETER_SUBMITTED_DESC_TPL = "number of %s submitted per second";
 
+	static final String COUNTER_THROTTLE_ADMITTED_NAME_TPL = "%sAdmitted";
+	static final String COUNTER_THROTTLE_REJECTED_NAME_TPL = "%sRejected";
+	static final String COUNTER_THROTTLE_ADMITTED_DESC_TPL = "number of requests admitted by the %s throttle bucket since startup";
+	static final String COUNTER_THROTTLE_REJECTED_DESC_TPL = "number of requests rejected by the %s throttle bucket since startup";
+
+	static final String COUNTER_HANDLE_P50_NAME_TPL = "%sHdlP50us";
+	static final String COUNTER_HANDLE_P99_NAME_TPL = "%sHdlP99us";
+	static final String COUNTER_HANDLE_ALLOC_NAME_TPL = "%sHdlAllocB";
+	static final String COUNTER_HANDLE_P50_DESC_TPL = "median microseconds (to within ~6%%) to handle a %s over the last interval";
+	static final String COUNTER_HANDLE_P99_DESC_TPL = "99th percentile microseconds (to within ~6%%) to handle a %s over the last interval";
+	static final String COUNTER_HANDLE_ALLOC_DESC_TPL = "mean bytes allocated handling a %s over the last interval";
+
 	public static final String SYSTEM_DELETE_METRIC = "systemDelete";
 	public static final String SYSTEM_UNDELETE_METRIC = "systemUndelete";
 }
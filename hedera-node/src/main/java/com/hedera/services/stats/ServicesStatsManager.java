@@ -37,10 +37,14 @@ public class ServicesStatsManager {
 	});
 
 	static final String SPEEDOMETER_UPDATE_THREAD_NAME_TPL = "SpeedometerUpdateThread%d";
+	static final String HANDLE_TIMES_INTERVAL_THREAD_NAME_TPL = "HandleTimesIntervalThread%d";
+	static final long MS_PER_SEC = 1_000L;
 
 	private final HapiOpCounters opCounters;
 	private final MiscRunningAvgs runningAvgs;
 	private final MiscSpeedometers speedometers;
+	private final HandleTimes handleTimes;
+	private final ThrottleCounters throttleCounters;
 	private final HapiOpSpeedometers opSpeedometers;
 	private final NodeLocalProperties properties;
 
@@ -49,6 +53,8 @@ public class ServicesStatsManager {
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers,
 			HapiOpSpeedometers opSpeedometers,
+			ThrottleCounters throttleCounters,
+			HandleTimes handleTimes,
 			NodeLocalProperties properties
 	) {
 		this.properties = properties;
@@ -56,6 +62,8 @@ public class ServicesStatsManager {
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
 		this.opSpeedometers = opSpeedometers;
+		this.throttleCounters = throttleCounters;
+		this.handleTimes = handleTimes;
 	}
 
 	public void initializeFor(Platform platform) {
@@ -63,6 +71,8 @@ public class ServicesStatsManager {
 		runningAvgs.registerWith(platform);
 		speedometers.registerWith(platform);
 		opSpeedometers.registerWith(platform);
+		throttleCounters.registerWith(platform);
+		handleTimes.registerWith(platform);
 
 		platform.appStatInit();
 
@@ -72,5 +82,15 @@ public class ServicesStatsManager {
 		});
 		updateThread.setName(String.format(SPEEDOMETER_UPDATE_THREAD_NAME_TPL, platform.getSelfId().getId()));
 		updateThread.start();
+
+		var intervalSecs = properties.handleTimesIntervalSecs();
+		if (handleTimes.isEnabled() && intervalSecs > 0) {
+			var intervalThread = loopFactory.apply(() -> {
+				pause.forMs(intervalSecs * MS_PER_SEC);
+				handleTimes.rollInterval();
+			});
+			intervalThread.setName(String.format(HANDLE_TIMES_INTERVAL_THREAD_NAME_TPL, platform.getSelfId().getId()));
+			intervalThread.start();
+		}
 	}
 }
@@ -0,0 +1,57 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.throttling.BucketThrottling;
+import com.swirlds.common.Platform;
+
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_THROTTLE_ADMITTED_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_THROTTLE_ADMITTED_NAME_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_THROTTLE_REJECTED_DESC_TPL;
+import static com.hedera.services.stats.ServicesStatsConfig.COUNTER_THROTTLE_REJECTED_NAME_TPL;
+
+/**
+ * Registers admitted and rejected counters for each throttle bucket. Counts for a bucket
+ * name carry across rebuilds of throttling; but since platform stats are fixed at startup,
+ * a bucket first configured after startup has no counters until the node restarts.
+ */
+public class ThrottleCounters {
+	private final CounterFactory counter;
+	private final BucketThrottling throttling;
+
+	public ThrottleCounters(CounterFactory counter, BucketThrottling throttling) {
+		this.counter = counter;
+		this.throttling = throttling;
+	}
+
+	public void registerWith(Platform platform) {
+		for (String bucket : throttling.bucketNames()) {
+			platform.addAppStatEntry(counter.from(
+					String.format(COUNTER_THROTTLE_ADMITTED_NAME_TPL, bucket),
+					String.format(COUNTER_THROTTLE_ADMITTED_DESC_TPL, bucket),
+					() -> throttling.admittedBy(bucket)));
+			platform.addAppStatEntry(counter.from(
+					String.format(COUNTER_THROTTLE_REJECTED_NAME_TPL, bucket),
+					String.format(COUNTER_THROTTLE_REJECTED_DESC_TPL, bucket),
+					() -> throttling.rejectedBy(bucket)));
+		}
+	}
+}
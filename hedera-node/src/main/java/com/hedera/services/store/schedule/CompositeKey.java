@@ -22,15 +22,35 @@ package com.hedera.services.store.schedule;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Identifies a scheduled transaction by the SHA-384 digest of its body bytes plus its payer;
+ * unlike a 32-bit hash of the body, two distinct schedules cannot realistically collide.
+ */
 public class CompositeKey {
-    private final int hash;
+    private final byte[] digest;
     private final AccountID id;
 
-    public CompositeKey(int hash, AccountID id) {
-        this.hash = hash;
+    public CompositeKey(byte[] digest, AccountID id) {
+        this.digest = digest;
         this.id = id;
     }
 
+    public static CompositeKey forScheduled(byte[] bodyBytes, AccountID payer) {
+        return new CompositeKey(sha384Of(bodyBytes), payer);
+    }
+
+    static byte[] sha384Of(byte[] bodyBytes) {
+        try {
+            return MessageDigest.getInstance("SHA-384").digest(bodyBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-384 not supported by Java API!", e);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this)
@@ -39,15 +59,15 @@ public class CompositeKey {
             return false;
         CompositeKey other = (CompositeKey)o;
 
-        boolean hashEquals = this.hash == other.hash;
+        boolean digestEquals = Arrays.equals(this.digest, other.digest);
         boolean idEquals = this.id.equals(other.id);
 
-        return hashEquals && idEquals;
+        return digestEquals && idEquals;
     }
 
     @Override
     public final int hashCode() {
-        int result = hash;
+        int result = Arrays.hashCode(digest);
         if (id != null) {
             result = 31 * result + id.hashCode();
         }
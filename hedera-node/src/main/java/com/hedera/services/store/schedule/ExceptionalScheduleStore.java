@@ -78,6 +78,12 @@ public enum ExceptionalScheduleStore implements ScheduleStore {
 	@Override
 	public ResponseCodeEnum delete(ScheduleID id) { throw new UnsupportedOperationException(); }
 
+	@Override
+	public void rebuildViews() { throw new UnsupportedOperationException(); }
+
+	@Override
+	public void purgeExpiredAt(long now) { throw new UnsupportedOperationException(); }
+
 	@Override
 	public void commitCreation() { throw new UnsupportedOperationException(); }
 
@@ -20,6 +20,7 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -33,10 +34,11 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.swirlds.fcmap.FCMap;
 
-import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -60,20 +62,28 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SCHEDULE_WAS_D
 public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 	static final ScheduleID NO_PENDING_ID = ScheduleID.getDefaultInstance();
 
+	static final Comparator<ScheduleExpiry> EXPIRY_ORDER = Comparator
+			.comparingLong((ScheduleExpiry expiry) -> expiry.validStartSecs)
+			.thenComparingLong(expiry -> expiry.id.getNum());
+
+	private final GlobalDynamicProperties properties;
 	private final Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules;
 	Map<CompositeKey, MerkleEntityId> txToEntityId = new HashMap<>();
+	PriorityQueue<ScheduleExpiry> expiries = new PriorityQueue<>(EXPIRY_ORDER);
 
 	ScheduleID pendingId = NO_PENDING_ID;
-	Integer pendingTxHashCode = null;
+	CompositeKey pendingTxKey = null;
 	MerkleSchedule pendingCreation;
 
 	public HederaScheduleStore(
 			EntityIdSource ids,
+			GlobalDynamicProperties properties,
 			Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules
 	) {
 		super(ids);
+		this.properties = properties;
 		this.schedules = schedules;
-		buildTxToEntityIdMap(this.schedules);
+		rebuildViews();
 	}
 
 	@Override
@@ -123,7 +133,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		}
 
 		pendingId = ids.newScheduleId(schedulingAccount);
-		pendingTxHashCode = Arrays.hashCode(bodyBytes);
+		pendingTxKey = CompositeKey.forScheduled(bodyBytes, payer);
 		pendingCreation = new MerkleSchedule(
 				bodyBytes,
 				EntityId.ofNullableAccountId(schedulingAccount),
@@ -168,7 +178,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		}
 
 		apply(id, DELETION);
-		txToEntityId.remove(new CompositeKey(Arrays.hashCode(schedule.transactionBody()), schedule.payer().toGrpcAccountId()));
+		txToEntityId.remove(keyFor(schedule));
 		return OK;
 	}
 
@@ -178,7 +188,8 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		var id = fromScheduleId(pendingId);
 
 		schedules.get().put(id, pendingCreation);
-		txToEntityId.put(new CompositeKey(pendingTxHashCode, pendingCreation.payer().toGrpcAccountId()), id);
+		txToEntityId.put(pendingTxKey, id);
+		expiries.add(new ScheduleExpiry(pendingCreation.schedulingTXValidStart().getSeconds(), id));
 		resetPendingCreation();
 	}
 
@@ -196,7 +207,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 
 	private void resetPendingCreation() {
 		pendingId = NO_PENDING_ID;
-		pendingTxHashCode = null;
+		pendingTxKey = null;
 		pendingCreation = null;
 	}
 
@@ -206,29 +217,62 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		}
 	}
 
-	private void buildTxToEntityIdMap(Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules) {
-		var schedulesMap = schedules.get();
-		schedulesMap.forEach((key, value) -> txToEntityId.put(new CompositeKey(Arrays.hashCode(value.transactionBody()), value.payer().toGrpcAccountId()), key));
+	@Override
+	public void rebuildViews() {
+		txToEntityId.clear();
+		expiries.clear();
+		schedules.get().forEach((id, schedule) -> {
+			if (!schedule.isDeleted()) {
+				txToEntityId.put(keyFor(schedule), id);
+			}
+			expiries.add(new ScheduleExpiry(schedule.schedulingTXValidStart().getSeconds(), id));
+		});
 	}
 
+	/**
+	 * Removes from state every schedule whose creating transaction's valid start is at least
+	 * {@code ledger.schedule.txExpiryTimeSecs} before the given consensus second. The expiry
+	 * is derived from immutable schedule fields plus the current (consensus-managed) lifetime,
+	 * so all nodes purge the same schedules whether or not they rebuilt this queue on restart.
+	 *
+	 * @param now the current consensus second
+	 */
 	@Override
-	public Optional<ScheduleID> getScheduleID(byte[] bodyBytes, AccountID scheduledTxPayer) {
-		var txHashCode = Arrays.hashCode(bodyBytes);
-		var keyToCheckFor = new CompositeKey(txHashCode, scheduledTxPayer);
-
-		if (isCreationPending()) {
-			var pendingKey = new CompositeKey(pendingTxHashCode, pendingCreation.payer().toGrpcAccountId());
-
-			if (keyToCheckFor.equals(pendingKey)) {
-				return Optional.of(pendingId);
+	public void purgeExpiredAt(long now) {
+		long lifetime = properties.scheduledTxExpiryTimeSecs();
+		while (!expiries.isEmpty() && expiries.peek().validStartSecs + lifetime <= now) {
+			var id = expiries.poll().id;
+			var schedule = schedules.get().get(id);
+			if (schedule != null) {
+				txToEntityId.remove(keyFor(schedule), id);
+				schedules.get().remove(id);
 			}
 		}
+	}
+
+	private CompositeKey keyFor(MerkleSchedule schedule) {
+		return CompositeKey.forScheduled(schedule.transactionBody(), schedule.payer().toGrpcAccountId());
+	}
+
+	@Override
+	public Optional<ScheduleID> getScheduleID(byte[] bodyBytes, AccountID scheduledTxPayer) {
+		var keyToCheckFor = CompositeKey.forScheduled(bodyBytes, scheduledTxPayer);
 
-		if (txToEntityId.containsKey(keyToCheckFor)) {
-			var scheduleId = txToEntityId.get(keyToCheckFor).toScheduleId();
-			return Optional.of(scheduleId);
+		if (isCreationPending() && keyToCheckFor.equals(pendingTxKey)) {
+			return Optional.of(pendingId);
 		}
 
-		return Optional.empty();
+		var extant = txToEntityId.get(keyToCheckFor);
+		return (extant == null) ? Optional.empty() : Optional.of(extant.toScheduleId());
+	}
+
+	static final class ScheduleExpiry {
+		private final long validStartSecs;
+		private final MerkleEntityId id;
+
+		ScheduleExpiry(long validStartSecs, MerkleEntityId id) {
+			this.validStartSecs = validStartSecs;
+			this.id = id;
+		}
 	}
 }
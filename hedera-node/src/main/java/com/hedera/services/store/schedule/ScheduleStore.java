@@ -57,6 +57,9 @@ public interface ScheduleStore extends Store<ScheduleID, MerkleSchedule> {
 
 	Optional<ScheduleID> getScheduleID(byte[] bodyBytes, AccountID scheduledTxPayer);
 
+	void rebuildViews();
+	void purgeExpiredAt(long now);
+
 	default ScheduleID resolve(ScheduleID id) {
 		return exists(id) ? id : MISSING_SCHEDULE;
 	}
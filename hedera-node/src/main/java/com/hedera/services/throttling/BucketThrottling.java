@@ -31,6 +31,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
@@ -63,7 +64,8 @@ public class BucketThrottling implements FunctionalityThrottling {
 			.sorted(comparing(Object::toString))
 			.toArray(HederaFunctionality[]::new);
 
-	EnumMap<HederaFunctionality, CapacityTest> capacities = new EnumMap<>(HederaFunctionality.class);
+	volatile EnumMap<HederaFunctionality, CapacityTest> capacities = new EnumMap<>(HederaFunctionality.class);
+	volatile Map<String, BucketThrottle> throttles = Collections.emptyMap();
 
 	public BucketThrottling(
 			Supplier<AddressBook> book,
@@ -82,7 +84,9 @@ public class BucketThrottling implements FunctionalityThrottling {
 		var capacity = capacities.get(function);
 		if (capacity != null) {
 			var answer = !capacity.isAvailable();
-			log.debug("Should throttle {}? {} says, '{}'.", function, capacity, answer);
+			if (log.isDebugEnabled()) {
+				log.debug("Should throttle {}? {} says, '{}'.", function, capacity, answer);
+			}
 			return answer;
 		} else {
 			log.warn("No capacity test was available for {}, so throttling it!", function);
@@ -94,10 +98,18 @@ public class BucketThrottling implements FunctionalityThrottling {
 		var throttleProps = getThrottleProps.apply(properties, book.get().getSize());
 		var config = getBuckets.apply(throttleProps);
 		var throttles = throttlesGiven(throttleProps, config);
+		var priorThrottles = this.throttles;
+		throttles.forEach((bucket, throttle) -> {
+			var prior = priorThrottles.get(bucket);
+			if (prior != null) {
+				throttle.inheritCountsFrom(prior);
+			}
+		});
 		var newCapacities = new EnumMap<HederaFunctionality, CapacityTest>(HederaFunctionality.class);
 		Arrays.stream(functions)
 				.forEach(function -> newCapacities.put(function, testGiven(throttleProps, function, throttles)));
 		capacities = newCapacities;
+		this.throttles = Collections.unmodifiableMap(throttles);
 		var sb = new StringBuilder("Resolved node-level throttling:");
 		List.of(functions).stream()
 				.sorted(comparing(HederaFunctionality::toString))
@@ -105,6 +117,40 @@ public class BucketThrottling implements FunctionalityThrottling {
 		displayFn.accept(sb.toString());
 	}
 
+	/**
+	 * Returns the names of the buckets in the current throttling configuration.
+	 *
+	 * @return the current bucket names, in sorted order
+	 */
+	public List<String> bucketNames() {
+		return throttles.keySet().stream().sorted().collect(toList());
+	}
+
+	/**
+	 * Returns the number of requests the named bucket has admitted since startup, across
+	 * any rebuilds of throttling; or zero if there is no such bucket.
+	 *
+	 * @param bucket the name of the bucket
+	 * @return the number of admitted requests
+	 */
+	public long admittedBy(String bucket) {
+		var throttle = throttles.get(bucket);
+		return (throttle == null) ? 0L : throttle.admitted();
+	}
+
+	/**
+	 * Returns the number of requests rejected by the named bucket, and all its overflow
+	 * buckets, since startup, across any rebuilds of throttling; or zero if there is no
+	 * such bucket.
+	 *
+	 * @param bucket the name of the bucket
+	 * @return the number of rejected requests
+	 */
+	public long rejectedBy(String bucket) {
+		var throttle = throttles.get(bucket);
+		return (throttle == null) ? 0L : throttle.rejected();
+	}
+
 	Map<String, BucketThrottle> throttlesGiven(PropertySource props, Map<String, BucketConfig> config) {
 		var networkSize = book.get().getSize();
 		var throttles = config.keySet()
@@ -21,60 +21,117 @@ package com.hedera.services.throttling.bucket;
  */
 
 import com.google.common.base.MoreObjects;
-import com.swirlds.common.throttle.Throttle;
 
-import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * A named {@link TokenBucket}, with an optional overflow bucket to try when it is
+ * full, that counts how many requests it admitted and rejected.
+ *
+ * Checking capacity walks the overflow chain without locking or allocating; the
+ * chain and each bucket's capacity are only changed while throttles are being
+ * (re)built, before they are published to request threads.
+ */
 public class BucketThrottle {
 	private static final double RESCALE_BUFFER = 0.01;
 
 	private final String name;
-	private Optional<BucketThrottle> overflow = Optional.empty();
+	private LongAdder admitted = new LongAdder();
+	private LongAdder rejected = new LongAdder();
+	private BucketThrottle overflow;
 
-	Throttle primary;
+	TokenBucket primary;
 
 	static final double EFFECTIVELY_UNLIMITED_CAPACITY = 1_000_000.0;
 
-	public BucketThrottle(Throttle primary) {
+	public BucketThrottle(TokenBucket primary) {
 		this.name = "<N/A>";
 		this.primary = primary;
 	}
 
-	BucketThrottle(String name, Throttle primary) {
+	BucketThrottle(String name, TokenBucket primary) {
 		this.name = name;
 		this.primary = primary;
 	}
 
+	/**
+	 * Widens the burst period of this bucket (and its overflow buckets) as needed
+	 * so that each can hold the given amount at least once.
+	 *
+	 * @param amount the largest single amount this bucket must be able to admit
+	 */
+	public void ensureCapacityFor(double amount) {
+		for (var bucket = this; bucket != null; bucket = bucket.overflow) {
+			var tokens = bucket.primary;
+			if (amount > tokens.getCapacity()) {
+				double tps = tokens.getTps();
+				bucket.primary = new TokenBucket(tps, amount / tps + RESCALE_BUFFER);
+			}
+		}
+	}
+
+	/**
+	 * Makes this bucket count into the counters of the given bucket, which it is
+	 * replacing; so that counts for a bucket name survive a rebuild of the throttles.
+	 *
+	 * @param prior the bucket being replaced
+	 */
+	public void inheritCountsFrom(BucketThrottle prior) {
+		admitted = prior.admitted;
+		rejected = prior.rejected;
+	}
+
 	public boolean hasAvailableCapacity(double amount) {
-		if (amount > primary.getCapacity()) {
-			double targetTps = amount / primary.getBurstPeriod();
-			double networkSizeRatio = amount / primary.getCapacity();
-			double rescaledTargetTps = targetTps / networkSizeRatio;
-			primary = new Throttle(rescaledTargetTps, amount / rescaledTargetTps + RESCALE_BUFFER);
+		for (var bucket = this; bucket != null; bucket = bucket.overflow) {
+			if (bucket.primary.allow(amount)) {
+				bucket.admitted.increment();
+				return true;
+			}
 		}
-		return primary.allow(amount) || overflow.map(b -> b.hasAvailableCapacity(amount)).orElse(false);
+		rejected.increment();
+		return false;
 	}
 
-	Throttle primary() {
+	TokenBucket primary() {
 		return primary;
 	}
 
 	public void setOverflow(BucketThrottle overflow) {
-		this.overflow = Optional.of(overflow);
+		this.overflow = overflow;
 	}
 
 	public boolean hasOverflow() {
-		return overflow.isPresent();
+		return overflow != null;
 	}
 
 	public BucketThrottle overflow() {
-		return overflow.get();
+		return overflow;
 	}
 
 	public String name() {
 		return name;
 	}
 
+	/**
+	 * Returns the number of requests this bucket has admitted, including those
+	 * that overflowed into it.
+	 *
+	 * @return the number of admitted requests
+	 */
+	public long admitted() {
+		return admitted.sum();
+	}
+
+	/**
+	 * Returns the number of requests that found neither this bucket, nor any of its
+	 * overflow buckets, to have capacity.
+	 *
+	 * @return the number of rejected requests
+	 */
+	public long rejected() {
+		return rejected.sum();
+	}
+
 	@Override
 	public String toString() {
 		var helper = MoreObjects.toStringHelper("Bucket");
@@ -83,7 +140,9 @@ public class BucketThrottle {
 		var repr = (capacity >= EFFECTIVELY_UNLIMITED_CAPACITY) ? "UNLIMITED" : String.format("%.1f", capacity);
 		helper.add("cap", repr);
 		helper.add("bp", String.format("%.1f", primary.getBurstPeriod()));
-		overflow.ifPresent(o -> helper.add("overflow", o.toString()));
+		if (overflow != null) {
+			helper.add("overflow", overflow.toString());
+		}
 		return helper.toString();
 	}
 }
@@ -30,7 +30,7 @@ public class CapacityTest {
 		this.capacityRequired = capacityRequired;
 		this.bucket = bucket;
 		/* Ensure the bucket re-configures its primary throttle if necessary. */
-		bucket.hasAvailableCapacity(capacityRequired);
+		bucket.ensureCapacityFor(capacityRequired);
 	}
 
 	public boolean isAvailable() {
@@ -0,0 +1,92 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A leaky bucket that drains at {@code tps} units per second and holds at most
+ * {@code tps * burstPeriod} units, like {@link com.swirlds.common.throttle.Throttle};
+ * but which any number of threads can use without locking or allocating.
+ *
+ * The bucket's whole state is a single "theoretical arrival time" in nanoseconds:
+ * the instant at which the bucket would next be empty. Admitting an amount pushes
+ * this time forward by the amount's fixed-point cost in nanoseconds, and is allowed
+ * only while the resulting backlog stays within the burst period. So every update
+ * is a single compare-and-set.
+ */
+public class TokenBucket {
+	static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	static LongSupplier clock = System::nanoTime;
+
+	private final double tps;
+	private final double burstPeriod;
+	private final double nanosPerUnit;
+	private final long burstNanos;
+	private final AtomicLong emptyAt;
+
+	public TokenBucket(double tps, double burstPeriod) {
+		this.tps = tps;
+		this.burstPeriod = burstPeriod;
+		this.nanosPerUnit = (tps > 0) ? NANOS_PER_SECOND / tps : Double.POSITIVE_INFINITY;
+		this.burstNanos = (long) (burstPeriod * NANOS_PER_SECOND);
+		this.emptyAt = new AtomicLong(clock.getAsLong());
+	}
+
+	/**
+	 * Adds the given amount to the bucket if there is room for it.
+	 *
+	 * @param amount the amount of capacity to use
+	 * @return whether the amount was admitted
+	 */
+	public boolean allow(double amount) {
+		double exactCost = amount * nanosPerUnit;
+		if (exactCost > burstNanos) {
+			return false;
+		}
+		long cost = (long) exactCost;
+		long now = clock.getAsLong();
+		for (;;) {
+			long prev = emptyAt.get();
+			long next = ((prev - now) > 0 ? prev : now) + cost;
+			if (next - now > burstNanos) {
+				return false;
+			}
+			if (emptyAt.compareAndSet(prev, next)) {
+				return true;
+			}
+		}
+	}
+
+	public double getTps() {
+		return tps;
+	}
+
+	public double getBurstPeriod() {
+		return burstPeriod;
+	}
+
+	public double getCapacity() {
+		return tps * burstPeriod;
+	}
+}
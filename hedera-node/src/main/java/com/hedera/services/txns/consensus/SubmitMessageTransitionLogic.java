@@ -28,10 +28,7 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.swirlds.fcmap.FCMap;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
-import java.io.IOException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -39,8 +36,6 @@ import java.util.function.Supplier;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.*;
 
 public class SubmitMessageTransitionLogic implements TransitionLogic {
-	protected static final Logger log = LogManager.getLogger(SubmitMessageTransitionLogic.class);
-
 	private static final Function<TransactionBody, ResponseCodeEnum> SYNTAX_RUBBER_STAMP = ignore -> OK;
 
 	private final OptionValidator validator;
@@ -59,7 +54,8 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 
 	@Override
 	public void doStateTransition() {
-		var transactionBody = transactionContext.accessor().getTxn();
+		var accessor = transactionContext.accessor();
+		var transactionBody = accessor.getTxn();
 		var op = transactionBody.getConsensusSubmitMessage();
 
 		if (op.getMessage().isEmpty()) {
@@ -93,19 +89,14 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 
 		var topicId = MerkleEntityId.fromTopicId(op.getTopicID());
 		var mutableTopic = topics.get().getForModify(topicId);
-		try {
-			mutableTopic.updateRunningHashAndSequenceNumber(
-					transactionBody.getTransactionID().getAccountID(),
-					op.getMessage().toByteArray(),
-					op.getTopicID(),
-					transactionContext.consensusTime());
-			topics.get().put(topicId, mutableTopic);
-			transactionContext.setTopicRunningHash(mutableTopic.getRunningHash(), mutableTopic.getSequenceNumber());
-			transactionContext.setStatus(SUCCESS);
-		} catch (IOException e) {
-			log.error("Updating topic running hash failed.", e);
-			transactionContext.setStatus(INVALID_TRANSACTION);
-		}
+		mutableTopic.updateRunningHashAndSequenceNumberGivenDigest(
+				transactionBody.getTransactionID().getAccountID(),
+				accessor.getSubmitMessageDigest(),
+				op.getTopicID(),
+				transactionContext.consensusTime());
+		topics.get().put(topicId, mutableTopic);
+		transactionContext.setTopicRunningHash(mutableTopic.getRunningHash(), mutableTopic.getSequenceNumber());
+		transactionContext.setStatus(SUCCESS);
 	}
 
 	@Override
@@ -0,0 +1,191 @@
+package com.hedera.services.txns.submission;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Parks gRPC requests whose precheck failed only because an account they reference is not
+ * yet visible to this node&mdash;typically one created moments ago&mdash;so that the gRPC
+ * worker is released at once instead of sleeping through account lookup retries. Each parked
+ * request is re-evaluated on a dedicated thread after the next signed state is published,
+ * or once it has waited {@code maxWaitMs}, whichever comes first; for up to
+ * {@code maxSignedStates} attempts. Only then is its failure returned to the client.
+ *
+ * At most {@code maxPending} requests are parked at a time; beyond that, failures are
+ * returned immediately, as they are when {@code maxPending} is zero.
+ */
+public class PrecheckDeferrals {
+	private static final Logger log = LogManager.getLogger(PrecheckDeferrals.class);
+
+	static final EnumSet<ResponseCodeEnum> DEFERRABLE_STATUSES = EnumSet.of(
+			PAYER_ACCOUNT_NOT_FOUND,
+			INVALID_ACCOUNT_ID);
+	/* For a query, INVALID_ACCOUNT_ID is the normal answer about an account that does not exist;
+	so only a payment from a payer this node cannot yet see is worth waiting on. */
+	static final EnumSet<ResponseCodeEnum> DEFERRABLE_QUERY_STATUSES = EnumSet.of(PAYER_ACCOUNT_NOT_FOUND);
+	static final int SWEEPS_PER_MAX_WAIT = 4;
+
+	private final int maxPending;
+	private final int maxSignedStates;
+	private final long maxWaitNanos;
+	private final LongSupplier nanoClock;
+	private final ScheduledExecutorService retries;
+	private final AtomicLong signedStates = new AtomicLong();
+	private final AtomicInteger numPending = new AtomicInteger();
+	private final Queue<Deferral> pending = new ConcurrentLinkedQueue<>();
+
+	public PrecheckDeferrals(int maxPending, int maxSignedStates, long maxWaitMs) {
+		this(maxPending, maxSignedStates, maxWaitMs, System::nanoTime, Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder()
+						.setNameFormat("precheck-deferrals-%d")
+						.setDaemon(true)
+						.build()));
+	}
+
+	PrecheckDeferrals(
+			int maxPending,
+			int maxSignedStates,
+			long maxWaitMs,
+			LongSupplier nanoClock,
+			ScheduledExecutorService retries
+	) {
+		this.maxPending = maxPending;
+		this.maxSignedStates = maxSignedStates;
+		this.maxWaitNanos = MILLISECONDS.toNanos(maxWaitMs);
+		this.nanoClock = nanoClock;
+		this.retries = retries;
+
+		if (maxPending > 0) {
+			/* Runs on the same single thread as the signed state retries, so that only
+			one thread ever takes from the pending queue. */
+			var sweepPeriodMs = Math.max(1L, maxWaitMs / SWEEPS_PER_MAX_WAIT);
+			retries.scheduleWithFixedDelay(this::retryExpired, sweepPeriodMs, sweepPeriodMs, MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Parks the given retry until the next signed state is published (or {@code maxWaitMs}
+	 * elapses), if the failure status is one a newer state could change, the request has not
+	 * already been retried {@code maxSignedStates} times, and there is room for it.
+	 *
+	 * @param status the precheck status of the latest attempt
+	 * @param timesDeferred how many times the request has already been deferred
+	 * @param retry the next attempt, which is responsible for responding (or deferring again)
+	 * @return whether the retry was parked, so the caller should not respond now
+	 */
+	public boolean tryDefer(ResponseCodeEnum status, int timesDeferred, Runnable retry) {
+		return tryDefer(DEFERRABLE_STATUSES, status, timesDeferred, retry);
+	}
+
+	/**
+	 * Like {@link #tryDefer(ResponseCodeEnum, int, Runnable)}, but for a query; which is
+	 * only parked if its payment's payer was not found.
+	 *
+	 * @param status the precheck status of the latest attempt
+	 * @param timesDeferred how many times the query has already been deferred
+	 * @param retry the next attempt, which is responsible for responding (or deferring again)
+	 * @return whether the retry was parked, so the caller should not respond now
+	 */
+	public boolean tryDeferQuery(ResponseCodeEnum status, int timesDeferred, Runnable retry) {
+		return tryDefer(DEFERRABLE_QUERY_STATUSES, status, timesDeferred, retry);
+	}
+
+	private boolean tryDefer(
+			EnumSet<ResponseCodeEnum> deferrable,
+			ResponseCodeEnum status,
+			int timesDeferred,
+			Runnable retry
+	) {
+		if (!deferrable.contains(status) || timesDeferred >= maxSignedStates) {
+			return false;
+		}
+		if (numPending.incrementAndGet() > maxPending) {
+			numPending.decrementAndGet();
+			return false;
+		}
+		pending.offer(new Deferral(signedStates.get(), nanoClock.getAsLong() + maxWaitNanos, retry));
+		return true;
+	}
+
+	/**
+	 * Called once a new signed state has been published by the platform, and the state
+	 * queries use reflects at least that state; to re-evaluate (off the calling thread)
+	 * everything parked before it.
+	 */
+	public void onNewSignedState() {
+		long stateNo = signedStates.incrementAndGet();
+		if (numPending.get() > 0) {
+			retries.execute(() -> retryDue(stateNo, nanoClock.getAsLong()));
+		}
+	}
+
+	void retryExpired() {
+		retryDue(signedStates.get(), nanoClock.getAsLong());
+	}
+
+	/* Deferrals are queued in order of both state number and deadline (up to the negligible
+	skew between concurrent offers), so it suffices to retry from the head of the queue. */
+	void retryDue(long stateNo, long now) {
+		Deferral next;
+		while ((next = pending.peek()) != null && (next.stateNo < stateNo || next.deadline - now <= 0)) {
+			pending.poll();
+			numPending.decrementAndGet();
+			try {
+				next.retry.run();
+			} catch (Exception surprising) {
+				log.warn("Unable to retry a deferred precheck!", surprising);
+			}
+		}
+	}
+
+	int numPending() {
+		return numPending.get();
+	}
+
+	private static class Deferral {
+		private final long stateNo;
+		private final long deadline;
+		private final Runnable retry;
+
+		private Deferral(long stateNo, long deadline, Runnable retry) {
+			this.stateNo = stateNo;
+			this.deadline = deadline;
+			this.retry = retry;
+		}
+	}
+}
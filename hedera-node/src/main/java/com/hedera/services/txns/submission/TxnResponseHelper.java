@@ -43,10 +43,16 @@ public class TxnResponseHelper {
 
 	private final SubmissionFlow submissionFlow;
 	private final HapiOpCounters opCounters;
+	private final PrecheckDeferrals deferrals;
 
-	public TxnResponseHelper(SubmissionFlow submissionFlow, HapiOpCounters opCounters) {
+	public TxnResponseHelper(
+			SubmissionFlow submissionFlow,
+			HapiOpCounters opCounters,
+			PrecheckDeferrals deferrals
+	) {
 		this.opCounters = opCounters;
 		this.submissionFlow = submissionFlow;
+		this.deferrals = deferrals;
 	}
 
 	public void submit(
@@ -68,6 +74,15 @@ public class TxnResponseHelper {
 			Runnable incSubmittedCount
 	) {
 		incReceivedCount.run();
+		respondOrDefer(signedTxn, observer, incSubmittedCount, 0);
+	}
+
+	private void respondOrDefer(
+			Transaction signedTxn,
+			StreamObserver<TransactionResponse> observer,
+			Runnable incSubmittedCount,
+			int timesDeferred
+	) {
 		TransactionResponse response;
 
 		try {
@@ -78,6 +93,13 @@ public class TxnResponseHelper {
 			response = FAIL_INVALID_RESPONSE;
 		}
 
+		if (deferrals.tryDefer(
+				response.getNodeTransactionPrecheckCode(),
+				timesDeferred,
+				() -> respondOrDefer(signedTxn, observer, incSubmittedCount, timesDeferred + 1))) {
+			return;
+		}
+
 		observer.onNext(response);
 		observer.onCompleted();
 
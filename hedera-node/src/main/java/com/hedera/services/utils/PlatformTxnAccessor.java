@@ -21,6 +21,8 @@ package com.hedera.services.utils;
  */
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.legacy.crypto.SignatureStatus;
+import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
@@ -36,6 +38,9 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 public class PlatformTxnAccessor extends SignedTxnAccessor {
 	private final com.swirlds.common.Transaction platformTxn;
 
+	private SigningOrderResult<SignatureStatus> inHandlePayerKeys;
+	private SigningOrderResult<SignatureStatus> inHandleOtherPartyKeys;
+
 	public PlatformTxnAccessor(com.swirlds.common.Transaction platformTxn) throws InvalidProtocolBufferException {
 		super(platformTxn.getContents());
 		this.platformTxn = platformTxn;
@@ -59,4 +64,40 @@ public class PlatformTxnAccessor extends SignedTxnAccessor {
 	public com.swirlds.common.Transaction getPlatformTxn() {
 		return platformTxn;
 	}
+
+	/**
+	 * Forgets any signing orders memoized during handling of this txn.
+	 */
+	public void clearInHandleSigningOrders() {
+		inHandlePayerKeys = null;
+		inHandleOtherPartyKeys = null;
+	}
+
+	/**
+	 * Memoizes the payer signing order computed for this txn at consensus, so that
+	 * later payer key activation checks in the same handle do not repeat it.
+	 *
+	 * @param payerKeys the signing order of the payer
+	 */
+	public void setInHandlePayerKeys(SigningOrderResult<SignatureStatus> payerKeys) {
+		inHandlePayerKeys = payerKeys;
+	}
+
+	/**
+	 * Memoizes the non-payer signing order computed for this txn at consensus, so that
+	 * later non-payer key activation checks in the same handle do not repeat it.
+	 *
+	 * @param otherPartyKeys the signing order of the non-payer entities
+	 */
+	public void setInHandleOtherPartyKeys(SigningOrderResult<SignatureStatus> otherPartyKeys) {
+		inHandleOtherPartyKeys = otherPartyKeys;
+	}
+
+	public SigningOrderResult<SignatureStatus> getInHandlePayerKeys() {
+		return inHandlePayerKeys;
+	}
+
+	public SigningOrderResult<SignatureStatus> getInHandleOtherPartyKeys() {
+		return inHandleOtherPartyKeys;
+	}
 }
@@ -0,0 +1,109 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.swirlds.common.Transaction;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carries the {@link PlatformTxnAccessor} built for a platform txn during pre-consensus
+ * signature expansion through to consensus handling, so the gRPC {@code Transaction}
+ * and its {@code TransactionBody} are parsed, and its SHA-384 hash computed, only once.
+ *
+ * Accessors are keyed by the identity of the platform txn. Since each accessor strongly
+ * references its own txn, entries cannot be held weakly; instead an entry expires once
+ * its txn is older than the longest valid duration of any txn (after which it could only
+ * reach consensus to be rejected), and the number of entries is bounded regardless.
+ * A txn whose entry expired is simply re-parsed by {@link PlatformTxnAccessorCache#consumeOrCreate(Transaction)}.
+ */
+public class PlatformTxnAccessorCache {
+	static final long MAX_CACHED_ACCESSORS = 100_000L;
+	static final long MAX_ACCESSOR_LIFETIME_SECS = 180L;
+
+	private final Cache<TxnIdentity, PlatformTxnAccessor> accessors;
+
+	public PlatformTxnAccessorCache() {
+		this(Ticker.systemTicker());
+	}
+
+	PlatformTxnAccessorCache(Ticker ticker) {
+		accessors = CacheBuilder.newBuilder()
+				.ticker(ticker)
+				.expireAfterWrite(MAX_ACCESSOR_LIFETIME_SECS, TimeUnit.SECONDS)
+				.maximumSize(MAX_CACHED_ACCESSORS)
+				.build();
+	}
+
+	/**
+	 * Constructs an accessor for the given platform txn, and caches it for the
+	 * eventual call to {@link PlatformTxnAccessorCache#consumeOrCreate(Transaction)}.
+	 *
+	 * @param platformTxn the txn to provide an accessor for
+	 * @return the new accessor
+	 * @throws InvalidProtocolBufferException if the txn contents are not a valid gRPC txn
+	 */
+	public PlatformTxnAccessor create(Transaction platformTxn) throws InvalidProtocolBufferException {
+		var accessor = new PlatformTxnAccessor(platformTxn);
+		accessors.put(new TxnIdentity(platformTxn), accessor);
+		return accessor;
+	}
+
+	/**
+	 * Returns (and forgets) the accessor cached for the given platform txn if
+	 * there is one; or constructs a new accessor otherwise.
+	 *
+	 * @param platformTxn the txn to provide an accessor for
+	 * @return an accessor for the txn
+	 * @throws InvalidProtocolBufferException if the txn contents are not a valid gRPC txn
+	 */
+	public PlatformTxnAccessor consumeOrCreate(Transaction platformTxn) throws InvalidProtocolBufferException {
+		var accessor = accessors.asMap().remove(new TxnIdentity(platformTxn));
+		return (accessor != null) ? accessor : new PlatformTxnAccessor(platformTxn);
+	}
+
+	private static final class TxnIdentity {
+		private final Transaction platformTxn;
+
+		private TxnIdentity(Transaction platformTxn) {
+			this.platformTxn = platformTxn;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof TxnIdentity && ((TxnIdentity) o).platformTxn == platformTxn;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(platformTxn);
+		}
+	}
+
+	long size() {
+		accessors.cleanUp();
+		return accessors.size();
+	}
+}
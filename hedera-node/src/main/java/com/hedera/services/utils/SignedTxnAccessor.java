@@ -30,6 +30,11 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.function.Function;
 
 import static com.hedera.services.utils.MiscUtils.functionOf;
@@ -48,6 +53,8 @@ public class SignedTxnAccessor {
 	private TransactionBody txn;
 	private HederaFunctionality function;
 	private ByteString hash;
+	private byte[] submitMessageDigest;
+	private volatile FutureTask<Void> pendingDigests;
 
 	static Function<TransactionBody, HederaFunctionality> functionExtractor = txn -> {
 		try {
@@ -70,7 +77,6 @@ public class SignedTxnAccessor {
 		txnBytes = CommonUtils.extractTransactionBodyBytes(signedTxn);
 		txn = TransactionBody.parseFrom(txnBytes);
 		txnId = txn.getTransactionID();
-		hash = CommonUtils.sha384HashOf(signedTxn);
 	}
 
 	public SignedTxnAccessor(Transaction signedTxn) throws InvalidProtocolBufferException {
@@ -112,7 +118,69 @@ public class SignedTxnAccessor {
 		return signedTxnBytes;
 	}
 
+	/**
+	 * Starts computing the SHA-384 digests of this transaction (and, for a
+	 * {@code ConsensusSubmitMessage}, of its message) on the given executor; the
+	 * digest getters then wait for the result, or compute it themselves if the
+	 * executor has not yet started the work.
+	 *
+	 * @param executor the executor to compute the digests on
+	 */
+	public void computeDigestsWith(Executor executor) {
+		var task = new FutureTask<Void>(this::computeDigests, null);
+		pendingDigests = task;
+		executor.execute(task);
+	}
+
 	public ByteString getHash() {
+		ensureDigests();
 		return hash;
 	}
+
+	/**
+	 * Returns the SHA-384 digest of the message submitted by this transaction,
+	 * or {@code null} if it is not a {@code ConsensusSubmitMessage}.
+	 *
+	 * @return the digest of the submitted message, if any
+	 */
+	public byte[] getSubmitMessageDigest() {
+		ensureDigests();
+		return submitMessageDigest;
+	}
+
+	private void ensureDigests() {
+		var task = pendingDigests;
+		if (task != null) {
+			/* Does nothing if the executor already started the task. */
+			task.run();
+			try {
+				task.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				computeDigests();
+			} catch (ExecutionException e) {
+				computeDigests();
+			}
+			pendingDigests = null;
+		} else if (hash == null) {
+			computeDigests();
+		}
+	}
+
+	private void computeDigests() {
+		if (txn.hasConsensusSubmitMessage()) {
+			var sha384 = sha384();
+			sha384.update(txn.getConsensusSubmitMessage().getMessage().asReadOnlyByteBuffer());
+			submitMessageDigest = sha384.digest();
+		}
+		hash = CommonUtils.sha384HashOf(signedTxn);
+	}
+
+	private static MessageDigest sha384() {
+		try {
+			return MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException impossible) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!");
+		}
+	}
 }
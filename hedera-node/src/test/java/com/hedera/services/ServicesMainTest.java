@@ -41,6 +41,7 @@ import com.hedera.services.state.migration.StateMigrations;
 import com.hedera.services.state.validation.LedgerValidator;
 import com.hedera.services.stats.ServicesStatsManager;
 import com.hedera.services.stream.RecordStreamManager;
+import com.hedera.services.txns.submission.PrecheckDeferrals;
 import com.hedera.services.utils.Pause;
 import com.hedera.services.utils.SystemExits;
 import com.hedera.test.utils.IdUtils;
@@ -72,6 +73,7 @@ import java.time.Instant;
 import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
@@ -117,6 +119,7 @@ public class ServicesMainTest {
 	GlobalDynamicProperties globalDynamicProperties;
 	BackingStore<AccountID, MerkleAccount> backingAccounts;
 	RecordStreamManager recordStreamManager;
+	PrecheckDeferrals precheckDeferrals;
 
 	@BeforeEach
 	private void setup() {
@@ -147,6 +150,7 @@ public class ServicesMainTest {
 		systemFilesManager = mock(SystemFilesManager.class);
 		systemAccountsCreator = mock(SystemAccountsCreator.class);
 		globalDynamicProperties = mock(GlobalDynamicProperties.class);
+		precheckDeferrals = mock(PrecheckDeferrals.class);
 		ctx = mock(ServicesContext.class);
 
 		ServicesMain.log = mockLog;
@@ -179,6 +183,7 @@ public class ServicesMainTest {
 		given(ctx.accountsExporter()).willReturn(accountsExporter);
 		given(ctx.balancesExporter()).willReturn(balancesExporter);
 		given(ctx.statsManager()).willReturn(statsManager);
+		given(ctx.precheckDeferrals()).willReturn(precheckDeferrals);
 		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(Instant.ofEpochSecond(33L, 0));
 		given(ledgerValidator.hasExpectedTotalBalance(any())).willReturn(true);
 		given(properties.getIntProperty("timer.stats.dump.value")).willReturn(123);
@@ -474,6 +479,52 @@ public class ServicesMainTest {
 		verify(recordStreamManager).setInFreeze(false);
 	}
 
+	@Test
+	public void updatesQueryableStateIfConfigured() {
+		// setup:
+		subject.ctx = ctx;
+		Instant when = Instant.now();
+		ServicesState signedState = mock(ServicesState.class);
+
+		given(nodeLocalProps.shouldAnswerQueriesFromSignedState()).willReturn(true);
+
+		// when:
+		subject.newSignedState(signedState, when, 123L);
+
+		// then:
+		InOrder inOrder = inOrder(ctx, precheckDeferrals);
+		inOrder.verify(ctx).updateQueryableState(signedState, when, 123L);
+		inOrder.verify(precheckDeferrals).onNewSignedState();
+	}
+
+	@Test
+	public void doesntUpdateQueryableStateByDefault() {
+		// setup:
+		subject.ctx = ctx;
+		ServicesState signedState = mock(ServicesState.class);
+
+		// when:
+		subject.newSignedState(signedState, Instant.now(), 123L);
+
+		// then:
+		verify(ctx, never()).updateQueryableState(any(), any(), anyLong());
+	}
+
+	@Test
+	public void retriesDeferredPrechecksEvenWhenQueriesUseWorkingState() {
+		// setup:
+		subject.ctx = ctx;
+		ServicesState signedState = mock(ServicesState.class);
+
+		given(nodeLocalProps.shouldAnswerQueriesFromSignedState()).willReturn(false);
+
+		// when:
+		subject.newSignedState(signedState, Instant.now(), 123L);
+
+		// then:
+		verify(precheckDeferrals).onNewSignedState();
+	}
+
 	@Test
 	public void doesNotPrintHashesIfNotInMaintenance() {
 		// setup:
@@ -29,6 +29,7 @@ import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.legacy.stream.RecordStream;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigningOrderResult;
@@ -49,6 +50,7 @@ import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.txns.ProcessLogic;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.services.utils.SystemExits;
 import com.hedera.test.factories.txns.PlatformTxnFactory;
 import com.hedera.test.utils.IdUtils;
@@ -56,7 +58,6 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.blob.BinaryObjectStore;
 import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
@@ -153,7 +154,7 @@ class ServicesStateTest {
 	SystemExits systemExits;
 	SystemFilesManager systemFilesManager;
 	RecordStreamManager recordStreamManager;
-	Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 
 	ServicesState subject;
 
@@ -188,6 +189,8 @@ class ServicesStateTest {
 		ctx = mock(ServicesContext.class);
 		given(ctx.id()).willReturn(self);
 		given(ctx.logic()).willReturn(logic);
+		given(ctx.txnAccessorCache()).willReturn(new PlatformTxnAccessorCache());
+		given(ctx.preConsensusDigests()).willReturn(Runnable::run);
 
 		systemFilesManager = mock(SystemFilesManager.class);
 		historian = mock(AccountRecordsHistorian.class);
@@ -354,6 +357,7 @@ class ServicesStateTest {
 		inOrder.verify(ctx).nodeAccount();
 		// during migration, if the records directory doesn't have old files, initialHash will be empty hash
 		inOrder.verify(ctx).setRecordsInitialHash(EMPTY_HASH);
+		inOrder.verify(ctx).forgetSignedQueryableState();
 		inOrder.verify(ctx).update(subject);
 		inOrder.verify(ctx).rebuildBackingStoresIfPresent();
 		inOrder.verify(historian).reviewExistingRecords();
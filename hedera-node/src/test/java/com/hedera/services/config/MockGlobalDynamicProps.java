@@ -102,6 +102,26 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
 		return true;
 	}
 
+	@Override
+	public boolean shouldExportProtoBalances() {
+		return false;
+	}
+
+	@Override
+	public boolean shouldGzipProtoBalances() {
+		return true;
+	}
+
+	@Override
+	public boolean shouldExportBalanceDeltas() {
+		return false;
+	}
+
+	@Override
+	public int balanceDeltasPerCheckpoint() {
+		return 6;
+	}
+
 	@Override
 	public int maxTransferListSize() {
 		return 10;
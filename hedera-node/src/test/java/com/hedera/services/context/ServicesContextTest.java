@@ -39,11 +39,14 @@ import com.hedera.services.ledger.accounts.FCMapBackingAccounts;
 import com.hedera.services.legacy.core.jproto.JFileInfo;
 import com.hedera.services.queries.answering.ZeroStakeAnswerFlow;
 import com.hedera.services.queries.contract.ContractAnswers;
+import com.hedera.services.queries.contract.ContractCallLocalAnswer;
 import com.hedera.services.queries.schedule.ScheduleAnswers;
 import com.hedera.services.queries.token.TokenAnswers;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiryManager;
+import com.hedera.services.state.exports.BalancesExporter;
+import com.hedera.services.state.exports.BalanceChangesTracker;
 import com.hedera.services.state.exports.SignedStateBalancesExporter;
 import com.hedera.services.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -89,6 +92,7 @@ import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
+import com.hedera.services.stats.HandleTimes;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
@@ -97,10 +101,12 @@ import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.throttling.BucketThrottling;
 import com.hedera.services.throttling.TransactionThrottling;
+import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.HederaTokenStore;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
 import com.hedera.services.txns.submission.TxnHandlerSubmissionFlow;
+import com.hedera.services.txns.submission.PrecheckDeferrals;
 import com.hedera.services.txns.submission.TxnResponseHelper;
 import com.hedera.services.txns.validation.ContextOptionValidator;
 import com.hedera.services.queries.answering.AnswerFunctions;
@@ -147,9 +153,11 @@ import static com.hedera.services.stream.RecordStreamManagerTest.INITIAL_RANDOM_
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -248,6 +256,151 @@ public class ServicesContextTest {
 		assertSame(newSchedules, subject.queryableSchedules().get());
 	}
 
+	@Test
+	public void queriesStayOnSignedStateOncePublished() {
+		// setup:
+		var when = Instant.ofEpochSecond(1_234_567L);
+		var signedState = mock(ServicesState.class);
+		var signedAccounts = mock(FCMap.class);
+		var signedTokens = mock(FCMap.class);
+		var newState = mock(ServicesState.class);
+		var newAccounts = mock(FCMap.class);
+
+		given(signedState.accounts()).willReturn(signedAccounts);
+		given(signedState.tokens()).willReturn(signedTokens);
+		given(newState.accounts()).willReturn(newAccounts);
+		// and:
+		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+
+		// expect:
+		assertFalse(subject.queryableState().get().isSigned());
+
+		// when:
+		subject.updateQueryableState(signedState, when, 666L);
+		// and:
+		subject.update(newState);
+
+		// then:
+		assertSame(newState, subject.state);
+		assertSame(signedAccounts, subject.queryableAccounts().get());
+		assertSame(signedTokens, subject.queryableTokens().get());
+		// and:
+		var snapshot = subject.queryableState().get();
+		assertTrue(snapshot.isSigned());
+		assertEquals(666L, snapshot.round());
+		assertEquals(when, snapshot.consensusTime());
+		assertSame(signedAccounts, snapshot.accounts());
+	}
+
+	@Test
+	public void releasesReplacedSignedStateOnlyOnceNoQueryHoldsIt() {
+		// setup:
+		var when = Instant.ofEpochSecond(1_234_567L);
+		var firstState = mock(ServicesState.class);
+		var firstAccounts = mock(FCMap.class);
+		var secondState = mock(ServicesState.class);
+		var secondAccounts = mock(FCMap.class);
+
+		given(firstState.accounts()).willReturn(firstAccounts);
+		given(secondState.accounts()).willReturn(secondAccounts);
+		// and:
+		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+
+		// given:
+		subject.updateQueryableState(firstState, when, 1L);
+		var heldByQuery = subject.acquireQueryableState();
+
+		// when:
+		subject.updateQueryableState(secondState, when.plusSeconds(1), 2L);
+
+		// then:
+		verify(firstAccounts).incrementReferenceCount();
+		verify(secondAccounts).incrementReferenceCount();
+		verify(firstAccounts, never()).decrementReferenceCount();
+		assertSame(secondAccounts, subject.acquireQueryableState().accounts());
+
+		// and when:
+		heldByQuery.release();
+
+		// then:
+		verify(firstAccounts).decrementReferenceCount();
+		verify(secondAccounts, never()).decrementReferenceCount();
+	}
+
+	@Test
+	public void neverHandsOutAFullyReleasedSnapshot() {
+		// setup:
+		var when = Instant.ofEpochSecond(1_234_567L);
+		var signedState = mock(ServicesState.class);
+		var nextState = mock(ServicesState.class);
+		var nextAccounts = mock(FCMap.class);
+
+		given(nextState.accounts()).willReturn(nextAccounts);
+		// and:
+		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+
+		// given:
+		subject.updateQueryableState(signedState, when, 1L);
+		var stale = subject.queryableState().get();
+		subject.updateQueryableState(nextState, when.plusSeconds(1), 2L);
+
+		// expect:
+		assertFalse(stale.tryAcquire());
+		assertSame(nextAccounts, subject.acquireQueryableState().accounts());
+	}
+
+	@Test
+	public void stateViewsHoldTheirSnapshotUntilReleased() {
+		// setup:
+		var when = Instant.ofEpochSecond(1_234_567L);
+		var signedState = mock(ServicesState.class);
+		var signedAccounts = mock(FCMap.class);
+		var nextState = mock(ServicesState.class);
+
+		given(signedState.accounts()).willReturn(signedAccounts);
+		// and:
+		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+
+		// given:
+		subject.updateQueryableState(signedState, when, 1L);
+		var view = subject.stateViews().get();
+		subject.updateQueryableState(nextState, when.plusSeconds(1), 2L);
+
+		// when:
+		verify(signedAccounts, never()).decrementReferenceCount();
+		view.release();
+
+		// then:
+		verify(signedAccounts).decrementReferenceCount();
+	}
+
+	@Test
+	public void forgetsSignedStateOnReconnect() {
+		// setup:
+		var when = Instant.ofEpochSecond(1_234_567L);
+		var signedState = mock(ServicesState.class);
+		var signedAccounts = mock(FCMap.class);
+		var reconnectedState = mock(ServicesState.class);
+		var reconnectedAccounts = mock(FCMap.class);
+
+		given(signedState.accounts()).willReturn(signedAccounts);
+		given(reconnectedState.accounts()).willReturn(reconnectedAccounts);
+		// and:
+		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+
+		// given:
+		subject.updateQueryableState(signedState, when, 1L);
+
+		// when:
+		subject.forgetSignedQueryableState();
+		subject.update(reconnectedState);
+
+		// then:
+		assertFalse(subject.queryableState().get().isSigned());
+		assertSame(reconnectedAccounts, subject.queryableAccounts().get());
+		verify(signedAccounts).decrementReferenceCount();
+	}
+
 	@Test
 	public void delegatesPrimitivesToState() {
 		// setup:
@@ -349,6 +502,8 @@ public class ServicesContextTest {
 		// setup:
 		BackingTokenRels tokenRels = mock(BackingTokenRels.class);
 		FCMapBackingAccounts backingAccounts = mock(FCMapBackingAccounts.class);
+		ScheduleStore scheduleStore = mock(ScheduleStore.class);
+		BalancesExporter balancesExporter = mock(BalancesExporter.class);
 
 		// given:
 		ServicesContext ctx = new ServicesContext(nodeId, platform, state, propertySources);
@@ -359,6 +514,8 @@ public class ServicesContextTest {
 		// and given:
 		ctx.setBackingAccounts(backingAccounts);
 		ctx.setBackingTokenRels(tokenRels);
+		ctx.setScheduleStore(scheduleStore);
+		ctx.setBalancesExporter(balancesExporter);
 
 		// when:
 		ctx.rebuildBackingStoresIfPresent();
@@ -366,6 +523,8 @@ public class ServicesContextTest {
 		// then:
 		verify(tokenRels).rebuildFromSources();
 		verify(backingAccounts).rebuildFromSources();
+		verify(scheduleStore).rebuildViews();
+		verify(balancesExporter).forgetDeltaBase();
 	}
 
 	@Test
@@ -407,6 +566,7 @@ public class ServicesContextTest {
 		assertThat(ctx.storage(), instanceOf(FCMap.class));
 		assertThat(ctx.metaAnswers(), instanceOf(MetaAnswers.class));
 		assertThat(ctx.stateViews().get(), instanceOf(StateView.class));
+		assertThat(ctx.localCalls(), instanceOf(ContractCallLocalAnswer.LegacyLocalCaller.class));
 		assertThat(ctx.fileNums(), instanceOf(FileNumbers.class));
 		assertThat(ctx.accountNums(), instanceOf(AccountNumbers.class));
 		assertThat(ctx.usagePrices(), instanceOf(AwareFcfsUsagePrices.class));
@@ -439,6 +599,7 @@ public class ServicesContextTest {
 		assertThat(ctx.queryableAccounts(), instanceOf(AtomicReference.class));
 		assertThat(ctx.txnChargingPolicy(), instanceOf(TxnFeeChargingPolicy.class));
 		assertThat(ctx.txnResponseHelper(), instanceOf(TxnResponseHelper.class));
+		assertThat(ctx.precheckDeferrals(), instanceOf(PrecheckDeferrals.class));
 		assertThat(ctx.statusCounts(), instanceOf(ConsensusStatusCounts.class));
 		assertThat(ctx.queryableStorage(), instanceOf(AtomicReference.class));
 		assertThat(ctx.systemFilesManager(), instanceOf(HfsSystemFilesManager.class));
@@ -469,10 +630,12 @@ public class ServicesContextTest {
 		assertThat(ctx.scheduleGrpc(), instanceOf(ScheduleController.class));
 		assertThat(ctx.nodeLocalProperties(), instanceOf(NodeLocalProperties.class));
 		assertThat(ctx.balancesExporter(), instanceOf(SignedStateBalancesExporter.class));
+		assertThat(ctx.balanceChangesTracker(), instanceOf(BalanceChangesTracker.class));
 		assertThat(ctx.exchange(), instanceOf(AwareHbarCentExchange.class));
 		assertThat(ctx.stateMigrations(), instanceOf(StdStateMigrations.class));
 		assertThat(ctx.opCounters(), instanceOf(HapiOpCounters.class));
 		assertThat(ctx.runningAvgs(), instanceOf(MiscRunningAvgs.class));
+		assertThat(ctx.handleTimes(), instanceOf(HandleTimes.class));
 		assertThat(ctx.speedometers(), instanceOf(MiscSpeedometers.class));
 		assertThat(ctx.statsManager(), instanceOf(ServicesStatsManager.class));
 		assertThat(ctx.semVers(), instanceOf(SemanticVersions.class));
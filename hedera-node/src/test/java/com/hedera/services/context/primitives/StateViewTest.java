@@ -222,6 +222,31 @@ class StateViewTest {
 		assertTrue(subject.tokenWith(tokenId).isEmpty());
 	}
 
+	@Test
+	public void snapshotViewReadsTokensFromSnapshot() {
+		// setup:
+		var snapshot = mock(StateSnapshot.class);
+		var tokens = (FCMap<MerkleEntityId, MerkleToken>) mock(FCMap.class);
+
+		given(snapshot.tokens()).willReturn(tokens);
+		given(snapshot.accounts()).willReturn(contracts);
+		given(tokens.get(MerkleEntityId.fromTokenId(tokenId))).willReturn(token);
+		given(tokens.containsKey(MerkleEntityId.fromTokenId(tokenId))).willReturn(true);
+		// and:
+		subject = new StateView(snapshot, propertySource);
+
+		// expect:
+		assertTrue(subject.tokenExists(tokenId));
+		assertFalse(subject.tokenExists(missingTokenId));
+		assertSame(token, subject.tokenWith(tokenId).get());
+		assertTrue(subject.tokenWith(missingTokenId).isEmpty());
+		assertEquals(token.symbol(), subject.infoForToken(tokenId).get().getSymbol());
+		assertTrue(subject.infoForToken(missingTokenId).isEmpty());
+		assertSame(contracts, subject.accounts());
+		// and:
+		verifyNoInteractions(tokenStore);
+	}
+
 	@Test
 	public void recognizesMissingToken() {
 		// when:
@@ -68,6 +68,10 @@ class BootstrapPropertiesTest {
 			entry("balances.exportEnabled", true),
 			entry("balances.exportPeriodSecs", 600),
 			entry("balances.exportTokenBalances", true),
+			entry("balances.exportProtoBalances", false),
+			entry("balances.gzipProtoBalances", true),
+			entry("balances.exportDeltas", false),
+			entry("balances.deltasPerCheckpoint", 6),
 			entry("balances.nodeBalanceWarningThreshold", 0L),
 			entry("accounts.exchangeRatesAdmin", 57L),
 			entry("accounts.feeSchedulesAdmin", 56L),
@@ -97,6 +101,10 @@ class BootstrapPropertiesTest {
 			entry("hedera.recordStream.logPeriod", 2L),
 			entry("hedera.recordStream.isEnabled", true),
 			entry("hedera.recordStream.queueCapacity", 5000),
+			entry("hedera.preConsensusDigests.threads", 2),
+			entry("hedera.preConsensusDigests.queueCapacity", 10_000),
+			entry("contracts.localCall.queueCapacity", 64),
+			entry("contracts.localCall.threads", 4),
 			entry("hedera.shard", 0L),
 			entry("hedera.transaction.maxMemoUtf8Bytes", 100),
 			entry("hedera.transaction.minValidDuration", 15L),
@@ -114,6 +122,10 @@ class BootstrapPropertiesTest {
 			entry("ledger.schedule.txExpiryTimeSecs", 1800),
 			entry("precheck.account.maxLookupRetries", 10),
 			entry("precheck.account.lookupRetryBackoffIncrementMs", 10),
+			entry("precheck.deferrals.maxPending", 1000),
+			entry("precheck.deferrals.maxSignedStates", 3),
+			entry("precheck.deferrals.maxWaitMs", 5000L),
+			entry("queries.useSignedState", false),
 			entry("tokens.maxPerAccount", 1_000),
 			entry("tokens.maxSymbolUtf8Bytes", 100),
 			entry("tokens.maxTokenNameUtf8Bytes",100),
@@ -123,6 +135,9 @@ class BootstrapPropertiesTest {
 			entry("rates.intradayChangeLimitPercent", 25),
 			entry("stats.runningAvgHalfLifeSecs", 10.0),
 			entry("stats.hapiOps.speedometerUpdateIntervalMs", 3_000L),
+			entry("stats.handleTimes.isEnabled", true),
+			entry("stats.handleTimes.intervalSecs", 60L),
+			entry("stats.handleTimes.trackAllocations", false),
 			entry("stats.speedometerHalfLifeSecs", 10.0)
 	);
 
@@ -85,6 +85,10 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(25, subject.minAutoRenewDuration());
 		assertEquals(26, subject.localCallEstRetBytes());
 		assertEquals(27, subject.scheduledTxExpiryTimeSecs());
+		assertTrue(subject.shouldExportProtoBalances());
+		assertFalse(subject.shouldGzipProtoBalances());
+		assertTrue(subject.shouldExportBalanceDeltas());
+		assertEquals(31, subject.balanceDeltasPerCheckpoint());
 	}
 
 	@Test
@@ -122,6 +126,10 @@ class GlobalDynamicPropertiesTest {
 		assertEquals(26, subject.minAutoRenewDuration());
 		assertEquals(27, subject.localCallEstRetBytes());
 		assertEquals(28, subject.scheduledTxExpiryTimeSecs());
+		assertFalse(subject.shouldExportProtoBalances());
+		assertTrue(subject.shouldGzipProtoBalances());
+		assertFalse(subject.shouldExportBalanceDeltas());
+		assertEquals(32, subject.balanceDeltasPerCheckpoint());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -152,6 +160,10 @@ class GlobalDynamicPropertiesTest {
 		given(properties.getLongProperty("ledger.autoRenewPeriod.minDuration")).willReturn(i + 24L);
 		given(properties.getIntProperty("contracts.localCall.estRetBytes")).willReturn(i + 25);
 		given(properties.getIntProperty("ledger.schedule.txExpiryTimeSecs")).willReturn(i + 26);
+		given(properties.getBooleanProperty("balances.exportProtoBalances")).willReturn((i + 27) % 2 == 0);
+		given(properties.getBooleanProperty("balances.gzipProtoBalances")).willReturn((i + 28) % 2 == 0);
+		given(properties.getBooleanProperty("balances.exportDeltas")).willReturn((i + 29) % 2 == 0);
+		given(properties.getIntProperty("balances.deltasPerCheckpoint")).willReturn(i + 30);
 	}
 
 	private AccountID accountWith(long shard, long realm, long num) {
@@ -63,6 +63,17 @@ class NodeLocalPropertiesTest {
 		assertEquals(10L, subject.recordLogPeriod());
 		Assertions.assertTrue(subject.isRecordStreamEnabled());
 		assertEquals(12, subject.recordStreamQueueCapacity());
+		assertEquals(13, subject.preConsensusDigestThreads());
+		Assertions.assertFalse(subject.shouldAnswerQueriesFromSignedState());
+		assertEquals(14, subject.localCallThreads());
+		assertEquals(15, subject.localCallQueueCapacity());
+		Assertions.assertTrue(subject.areHandleTimesEnabled());
+		assertEquals(16L, subject.handleTimesIntervalSecs());
+		Assertions.assertFalse(subject.shouldTrackHandleAllocations());
+		assertEquals(17, subject.precheckMaxPendingDeferrals());
+		assertEquals(18, subject.precheckMaxDeferralSignedStates());
+		assertEquals(19, subject.preConsensusDigestQueueCapacity());
+		assertEquals(20L, subject.precheckMaxDeferralWaitMs());
 	}
 
 	@Test
@@ -85,6 +96,17 @@ class NodeLocalPropertiesTest {
 		assertEquals(11L, subject.recordLogPeriod());
 		Assertions.assertFalse(subject.isRecordStreamEnabled());
 		assertEquals(13, subject.recordStreamQueueCapacity());
+		assertEquals(14, subject.preConsensusDigestThreads());
+		Assertions.assertTrue(subject.shouldAnswerQueriesFromSignedState());
+		assertEquals(15, subject.localCallThreads());
+		assertEquals(16, subject.localCallQueueCapacity());
+		Assertions.assertFalse(subject.areHandleTimesEnabled());
+		assertEquals(17L, subject.handleTimesIntervalSecs());
+		Assertions.assertTrue(subject.shouldTrackHandleAllocations());
+		assertEquals(18, subject.precheckMaxPendingDeferrals());
+		assertEquals(19, subject.precheckMaxDeferralSignedStates());
+		assertEquals(20, subject.preConsensusDigestQueueCapacity());
+		assertEquals(21L, subject.precheckMaxDeferralWaitMs());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -100,6 +122,17 @@ class NodeLocalPropertiesTest {
 		given(properties.getLongProperty("hedera.recordStream.logPeriod")).willReturn(i + 9L);
 		given(properties.getBooleanProperty("hedera.recordStream.isEnabled")).willReturn(i % 2 == 1);
 		given(properties.getIntProperty("hedera.recordStream.queueCapacity")).willReturn(i + 11);
+		given(properties.getIntProperty("hedera.preConsensusDigests.threads")).willReturn(i + 12);
+		given(properties.getBooleanProperty("queries.useSignedState")).willReturn(i % 2 == 0);
+		given(properties.getIntProperty("contracts.localCall.threads")).willReturn(i + 13);
+		given(properties.getIntProperty("contracts.localCall.queueCapacity")).willReturn(i + 14);
+		given(properties.getBooleanProperty("stats.handleTimes.isEnabled")).willReturn(i % 2 == 1);
+		given(properties.getLongProperty("stats.handleTimes.intervalSecs")).willReturn(i + 15L);
+		given(properties.getBooleanProperty("stats.handleTimes.trackAllocations")).willReturn(i % 2 == 0);
+		given(properties.getIntProperty("precheck.deferrals.maxPending")).willReturn(i + 16);
+		given(properties.getIntProperty("precheck.deferrals.maxSignedStates")).willReturn(i + 17);
+		given(properties.getIntProperty("hedera.preConsensusDigests.queueCapacity")).willReturn(i + 18);
+		given(properties.getLongProperty("precheck.deferrals.maxWaitMs")).willReturn(i + 19L);
 	}
 
 	static String logDir(int num) {
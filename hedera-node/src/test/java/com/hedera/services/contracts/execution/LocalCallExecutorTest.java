@@ -0,0 +1,189 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.exceptions.ResourceBusyException;
+import com.hedera.services.queries.contract.ContractCallLocalAnswer.LegacyLocalCaller;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.ContractFunctionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.verifyNoInteractions;
+
+class LocalCallExecutorTest {
+	long now = 1_234_567L;
+	ContractCallLocalQuery query = ContractCallLocalQuery.newBuilder()
+			.setContractID(IdUtils.asContract("0.0.1234"))
+			.setGas(1_000L)
+			.build();
+	ContractCallLocalResponse response = ContractCallLocalResponse.newBuilder()
+			.setFunctionResult(ContractFunctionResult.newBuilder().setGasUsed(123L))
+			.build();
+
+	LegacyLocalCaller delegate;
+	MiscRunningAvgs runningAvgs;
+	MiscSpeedometers speedometers;
+
+	LocalCallExecutor subject;
+
+	@BeforeEach
+	private void setup() {
+		delegate = mock(LegacyLocalCaller.class);
+		runningAvgs = mock(MiscRunningAvgs.class);
+		speedometers = mock(MiscSpeedometers.class);
+
+		subject = new LocalCallExecutor(1, 1, delegate, runningAvgs, speedometers);
+	}
+
+	@AfterEach
+	private void cleanup() {
+		subject.shutdown();
+	}
+
+	@Test
+	public void performsCallOnWorker() throws Exception {
+		given(delegate.perform(query, now)).willAnswer(invocation -> {
+			assertTrue(Thread.currentThread().getName().startsWith("local-contract-calls-"));
+			return response;
+		});
+
+		// when:
+		var actual = subject.perform(query, now);
+
+		// then:
+		assertSame(response, actual);
+		verify(runningAvgs).recordLocalCallQueueSize(anyInt());
+	}
+
+	@Test
+	public void propagatesDelegateFailure() throws Exception {
+		given(delegate.perform(query, now)).willThrow(new IllegalStateException("Nope"));
+
+		// expect:
+		var e = assertThrows(IllegalStateException.class, () -> subject.perform(query, now));
+		assertEquals("Nope", e.getMessage());
+	}
+
+	@Test
+	public void rejectsAsBusyWhenSaturated() throws Exception {
+		// setup:
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		LegacyLocalCaller blocking = (q, t) -> {
+			started.countDown();
+			release.await(5, SECONDS);
+			return response;
+		};
+		subject.shutdown();
+		subject = new LocalCallExecutor(1, 1, blocking, runningAvgs, speedometers);
+
+		// given:
+		var first = new Thread(() -> performQuietly());
+		first.start();
+		started.await(5, SECONDS);
+		var second = new Thread(() -> performQuietly());
+		second.start();
+		for (int i = 0; i < 5_000 && !subject.isSaturated(); i++) {
+			Thread.sleep(1);
+		}
+
+		// expect:
+		assertThrows(ResourceBusyException.class, () -> subject.perform(query, now));
+		// and:
+		verify(speedometers).cycleLocalCallRejections();
+
+		// cleanup:
+		release.countDown();
+		first.join();
+		second.join();
+	}
+
+	@Test
+	public void throwsBusyIfPoolRejects() throws Exception {
+		// setup:
+		var workers = mock(ThreadPoolExecutor.class);
+		given(workers.submit(any(Callable.class))).willThrow(RejectedExecutionException.class);
+		// and:
+		subject.shutdown();
+		subject = new LocalCallExecutor(delegate, runningAvgs, speedometers, workers);
+
+		// expect:
+		assertThrows(ResourceBusyException.class, () -> subject.perform(query, now));
+		// and:
+		verify(speedometers).cycleLocalCallRejections();
+		verifyNoInteractions(delegate, runningAvgs);
+	}
+
+	@Test
+	public void saturatedOnlyIfAllWorkersBusyAndQueueFull() {
+		// setup:
+		var workers = mock(ThreadPoolExecutor.class);
+		BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(1);
+		given(workers.getMaximumPoolSize()).willReturn(2);
+		given(workers.getQueue()).willReturn(queue);
+		// and:
+		subject.shutdown();
+		subject = new LocalCallExecutor(delegate, runningAvgs, speedometers, workers);
+
+		given(workers.getActiveCount()).willReturn(1);
+		// expect:
+		assertFalse(subject.isSaturated());
+
+		given(workers.getActiveCount()).willReturn(2);
+		// expect:
+		assertFalse(subject.isSaturated());
+
+		// and when:
+		queue.add(() -> { });
+		// then:
+		assertTrue(subject.isSaturated());
+	}
+
+	private void performQuietly() {
+		try {
+			subject.perform(query, now);
+		} catch (Exception ignore) { }
+	}
+}
@@ -65,6 +65,98 @@ class BlobStoragePersistenceTest {
 		verify(storage).put(
 				argThat((byte[] bytes) -> Arrays.equals(address, bytes)),
 				argThat((byte[] bytes) -> Arrays.equals(addressStorage, bytes)));
+		verify(storage, never()).get(any());
+	}
+
+	@Test
+	public void skipsPersistingUnchangedStorage() {
+		givenSavedImage();
+
+		// when:
+		subject.get(address);
+		subject.persist(address, addressStorage, 0, 0);
+
+		// then:
+		verify(storage, never()).put(any(), any());
+		verify(storage, times(1)).get(any());
+	}
+
+	@Test
+	public void persistsChangedStorageWithoutReadingItBack() {
+		// setup:
+		byte[] changedStorage = "STUFFED".getBytes();
+
+		givenSavedImage();
+
+		// when:
+		subject.get(address);
+		subject.persist(address, changedStorage, 0, 0);
+
+		// then:
+		verify(storage).put(any(), argThat((byte[] bytes) -> Arrays.equals(changedStorage, bytes)));
+		verify(storage, times(1)).get(any());
+	}
+
+	@Test
+	public void persistsImageChangedInPlace() {
+		givenSavedImage();
+
+		// given:
+		var image = subject.get(address);
+
+		// when:
+		image[0] = (byte)'Z';
+		subject.persist(address, image, 0, 0);
+
+		// then:
+		verify(storage).put(any(), argThat((byte[] bytes) -> Arrays.equals(image, bytes)));
+	}
+
+	@Test
+	public void onlySkipsOncePerLoad() {
+		givenSavedImage();
+
+		// given:
+		subject.get(address);
+		subject.persist(address, addressStorage, 0, 0);
+
+		// when:
+		subject.persist(address, addressStorage, 0, 0);
+
+		// then:
+		verify(storage, times(1)).put(any(), any());
+	}
+
+	@Test
+	public void persistsAfterForgettingLoadedImages() {
+		givenSavedImage();
+
+		// given:
+		subject.get(address);
+
+		// when:
+		subject.forgetLoadedImages();
+		subject.persist(address, addressStorage, 0, 0);
+
+		// then:
+		verify(storage).put(any(), any());
+		assertEquals(0, subject.loadedImageHashes.size());
+	}
+
+	@Test
+	public void untrackedPersistenceNeverHashesLoads() {
+		// setup:
+		subject = new BlobStoragePersistence(storage, false);
+
+		givenSavedImage();
+
+		// when:
+		subject.get(address);
+		subject.persist(address, addressStorage, 0, 0);
+
+		// then:
+		assertEquals(0, subject.loadedImageHashes.size());
+		verify(storage).put(any(), any());
 	}
 
 	@Test
@@ -77,4 +169,9 @@ class BlobStoragePersistenceTest {
 		// then:
 		assertArrayEquals(addressStorage, actual);
 	}
+
+	private void givenSavedImage() {
+		given(storage.get(argThat((byte[] bytes) -> Arrays.equals(address, bytes))))
+				.willReturn(Arrays.copyOf(addressStorage, addressStorage.length));
+	}
 }
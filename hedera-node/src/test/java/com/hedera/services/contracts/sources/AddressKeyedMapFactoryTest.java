@@ -35,7 +35,7 @@ class AddressKeyedMapFactoryTest {
 	@Test
 	public void toAddressConversion() {
 		// given:
-		var mapper = toAddressMapping(LEGACY_BYTECODE_PATH_PATTERN);
+		var mapper = toAddressMapping(LEGACY_BYTECODE_PATH_TYPE);
 		var key = "/666/s888";
 		// and:
 		var expected = EntityIdUtils.asSolidityAddress(0, 666, 888);
@@ -50,7 +50,7 @@ class AddressKeyedMapFactoryTest {
 	@Test
 	public void toKeyConversionWorks() {
 		// given:
-		var mapper = toKeyMapping(LEGACY_BYTECODE_PATH_TEMPLATE);
+		var mapper = toKeyMapping(LEGACY_BYTECODE_PATH_TYPE);
 		var address = EntityIdUtils.asSolidityAddress(0, 666, 888);
 		// and:
 		var expected = "/666/s888";
@@ -67,11 +67,16 @@ class AddressKeyedMapFactoryTest {
 		// given:
 		var realKey = "/666/s888";
 		var fakeKey = "/a66/s888";
-		var pred = toRelevancyPredicate(LEGACY_BYTECODE_PATH_PATTERN);
+		var pred = toRelevancyPredicate(LEGACY_BYTECODE_PATH_TYPE);
 
 		// expect:
 		assertTrue(pred.test(realKey));
 		assertFalse(pred.test(fakeKey));
+		assertFalse(pred.test("/666/d888"));
+		assertFalse(pred.test("/666/s"));
+		assertFalse(pred.test("//s888"));
+		assertFalse(pred.test("/666/s88x"));
+		assertFalse(pred.test("/666"));
 	}
 
 	@Test
@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.exceptions.ResourceBusyException;
 import com.hedera.services.fees.calculation.UsageEstimatorUtils;
 import com.hedera.services.queries.contract.ContractCallLocalAnswer;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
@@ -159,6 +160,19 @@ class ContractCallLocalResourceUsageTest {
 		assertFalse(queryCtx.containsKey(ContractCallLocalAnswer.CONTRACT_CALL_LOCAL_CTX_KEY));
 	}
 
+	@Test
+	public void propagatesBusyWithoutCachingAResult() throws Exception {
+		// setup:
+		var queryCtx = new HashMap<String, Object>();
+
+		given(delegate.perform(any(), anyLong())).willThrow(new ResourceBusyException("workers"));
+
+		// expect:
+		assertThrows(ResourceBusyException.class, () -> subject.usageGiven(satisfiableAnswerOnly, view, queryCtx));
+		// and:
+		assertFalse(queryCtx.containsKey(ContractCallLocalAnswer.CONTRACT_CALL_LOCAL_CTX_KEY));
+	}
+
 	@Test
 	public void dummyResponseAsExpected() {
 		// given:
@@ -0,0 +1,223 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JFileInfo;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.test.factories.scenarios.TxnHandlingScenario;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class CachingMetadataMapTest {
+	long expiry = 1_234_567L;
+	FileID fid = IdUtils.asFile("0.2.3");
+	FileID missing = IdUtils.asFile("0.2.4");
+
+	JFileInfo attr;
+	Map<FileID, JFileInfo> delegate;
+	MiscRunningAvgs runningAvgs;
+
+	CachingMetadataMap subject;
+
+	@BeforeEach
+	private void setup() throws Exception {
+		attr = new JFileInfo(false, TxnHandlingScenario.MISC_FILE_WACL_KT.asJKey(), expiry);
+		delegate = spy(new HashMap<>());
+		delegate.put(fid, attr);
+		runningAvgs = mock(MiscRunningAvgs.class);
+
+		subject = new CachingMetadataMap(delegate, runningAvgs);
+	}
+
+	@Test
+	public void decodesOnlyOnFirstGet() {
+		// when:
+		var first = subject.get(fid);
+		var second = subject.get(fid);
+
+		// then:
+		verify(delegate, times(1)).get(fid);
+		verify(runningAvgs).recordFileAttrCacheLookup(false);
+		verify(runningAvgs).recordFileAttrCacheLookup(true);
+		// and:
+		assertEquals(expiry, second.getExpirationTimeSeconds());
+		assertSame(attr.getWacl(), second.getWacl());
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void mutatingReturnedAttrDoesNotTouchCache() {
+		// given:
+		subject.get(fid);
+
+		// when:
+		subject.get(fid).setDeleted(true);
+
+		// then:
+		assertFalse(subject.get(fid).isDeleted());
+	}
+
+	@Test
+	public void missesAreNotCached() {
+		// when:
+		assertNull(subject.get(missing));
+		assertNull(subject.get(missing));
+
+		// then:
+		verify(delegate, times(2)).get(missing);
+		verify(runningAvgs, times(2)).recordFileAttrCacheLookup(false);
+	}
+
+	@Test
+	public void putWritesThrough() {
+		// given:
+		var newAttr = new JFileInfo(true, attr.getWacl(), expiry + 1);
+		subject.get(fid);
+
+		// when:
+		var old = subject.put(fid, newAttr);
+
+		// then:
+		assertSame(attr, old);
+		assertSame(newAttr, delegate.get(fid));
+		// and:
+		var cached = subject.get(fid);
+		assertTrue(cached.isDeleted());
+		assertEquals(expiry + 1, cached.getExpirationTimeSeconds());
+	}
+
+	@Test
+	public void fillThatReadBeforeAPutCannotCacheStaleAttr() throws Exception {
+		// setup:
+		var fillRead = new CountDownLatch(1);
+		var fillMayFinish = new CountDownLatch(1);
+		var newAttr = new JFileInfo(true, attr.getWacl(), expiry + 1);
+		// and:
+		Map<FileID, JFileInfo> slowDelegate = new HashMap<>(Map.of(fid, attr)) {
+			@Override
+			public JFileInfo get(Object key) {
+				var readAttr = super.get(key);
+				if (Thread.currentThread().getName().equals("filler")) {
+					fillRead.countDown();
+					awaitQuietly(fillMayFinish);
+				}
+				return readAttr;
+			}
+		};
+		subject = new CachingMetadataMap(slowDelegate, runningAvgs);
+		// and:
+		var filler = new Thread(() -> subject.get(fid), "filler");
+		var writer = new Thread(() -> subject.put(fid, newAttr), "writer");
+
+		// given:
+		filler.start();
+		fillRead.await();
+		// and:
+		writer.start();
+		while (writer.getState() == Thread.State.NEW || writer.getState() == Thread.State.RUNNABLE) {
+			Thread.onSpinWait();
+		}
+
+		// when:
+		fillMayFinish.countDown();
+		filler.join();
+		writer.join();
+
+		// then:
+		var cached = subject.get(fid);
+		assertTrue(cached.isDeleted());
+		assertEquals(expiry + 1, cached.getExpirationTimeSeconds());
+	}
+
+	@Test
+	public void removeInvalidates() {
+		// given:
+		subject.get(fid);
+
+		// when:
+		var removed = subject.remove(fid);
+
+		// then:
+		assertSame(attr, removed);
+		assertFalse(subject.containsKey(fid));
+		assertNull(subject.get(fid));
+	}
+
+	@Test
+	public void invalidateAllForcesRedecode() {
+		// given:
+		subject.get(fid);
+
+		// when:
+		subject.invalidateAll();
+		subject.get(fid);
+
+		// then:
+		verify(delegate, times(2)).get(fid);
+	}
+
+	@Test
+	public void clearEmptiesBoth() {
+		// given:
+		subject.get(fid);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertEquals(0, subject.size());
+		assertEquals(0, subject.cache.size());
+	}
+
+	@Test
+	public void delegatesViews() {
+		// expect:
+		assertTrue(subject.containsKey(fid));
+		assertEquals(1, subject.size());
+		assertEquals(delegate.entrySet(), subject.entrySet());
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
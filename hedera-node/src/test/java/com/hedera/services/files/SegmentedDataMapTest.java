@@ -0,0 +1,157 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedDataMapTest {
+	FileID fid = IdUtils.asFile("0.2.3");
+	byte[] first = "Where, like a pillow on a bed /".getBytes();
+	byte[] second = "A pregnant bank swelled up to rest /".getBytes();
+	byte[] third = "The violet's reclining head".getBytes();
+
+	Map<String, byte[]> store;
+	SegmentedDataMap subject;
+
+	@BeforeEach
+	private void setup() {
+		store = new HashMap<>();
+
+		subject = DataMapFactory.dataMapFrom(store);
+	}
+
+	@Test
+	public void singleSegmentFilesUseLegacyPath() {
+		// when:
+		subject.put(fid, first);
+
+		// then:
+		assertEquals(1, store.size());
+		assertSame(first, store.get("/2/f3"));
+		assertSame(first, subject.get(fid));
+	}
+
+	@Test
+	public void appendsOnlyStoreNewBytes() {
+		// given:
+		subject.put(fid, first);
+
+		// when:
+		subject.append(fid, second);
+		subject.append(fid, third);
+
+		// then:
+		assertSame(first, store.get("/2/f3"));
+		assertSame(second, store.get("/2/f3.1"));
+		assertSame(third, store.get("/2/f3.2"));
+		// and:
+		assertArrayEquals(
+				(new String(first) + new String(second) + new String(third)).getBytes(),
+				subject.get(fid));
+		assertEquals(first.length + second.length + third.length, subject.lengthOf(fid));
+	}
+
+	@Test
+	public void computesLengthOfUnknownFileFromSegments() {
+		// given:
+		store.put("/2/f3", first);
+		store.put("/2/f3.1", second);
+
+		// expect:
+		assertEquals(first.length + second.length, subject.lengthOf(fid));
+
+		// and when:
+		subject.append(fid, third);
+
+		// then:
+		assertEquals(first.length + second.length + third.length, subject.lengthOf(fid));
+	}
+
+	@Test
+	public void forgetsKnownLengths() {
+		// given:
+		subject.put(fid, first);
+		// and:
+		store.put("/2/f3", second);
+
+		// when:
+		subject.forgetKnownLengths();
+
+		// then:
+		assertEquals(second.length, subject.lengthOf(fid));
+	}
+
+	@Test
+	public void putAndRemoveDropAppendedSegments() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+
+		// when:
+		subject.put(fid, third);
+
+		// then:
+		assertEquals(1, store.size());
+		assertSame(third, subject.get(fid));
+		assertEquals(third.length, subject.lengthOf(fid));
+
+		// and when:
+		subject.append(fid, second);
+		subject.remove(fid);
+
+		// then:
+		assertTrue(store.isEmpty());
+		assertFalse(subject.containsKey(fid));
+		assertNull(subject.get(fid));
+		assertTrue(subject.knownLengths.isEmpty());
+	}
+
+	@Test
+	public void delegatesMapBasics() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+
+		// expect:
+		assertTrue(subject.containsKey(fid));
+		assertFalse(subject.isEmpty());
+
+		// and when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertTrue(subject.knownLengths.isEmpty());
+	}
+}
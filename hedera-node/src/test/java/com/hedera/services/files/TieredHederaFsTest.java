@@ -39,6 +39,7 @@ import org.mockito.InOrder;
 
 import java.time.Instant;
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.function.Supplier;
@@ -80,7 +81,7 @@ class TieredHederaFsTest {
 	EntityIdSource ids;
 	GlobalDynamicProperties properties;
 	Supplier<Instant> clock;
-	Map<FileID, byte[]> data;
+	SegmentedDataMap data;
 	Map<FileID, JFileInfo> metadata;
 	MerkleDiskFs diskFs;
 	TieredHederaFs subject;
@@ -101,7 +102,7 @@ class TieredHederaFsTest {
 		given(highInterceptor.priorityForCandidate(any())).willReturn(OptionalInt.of(Integer.MIN_VALUE));
 
 		ids = mock(EntityIdSource.class);
-		data = mock(Map.class);
+		data = mock(SegmentedDataMap.class);
 		metadata = mock(Map.class);
 		diskFs = mock(MerkleDiskFs.class);
 
@@ -126,12 +127,37 @@ class TieredHederaFsTest {
 		assertEquals(highInterceptor, subject.updateInterceptors.get(1));
 	}
 
+	@Test
+	public void forgetsCachedViewsAsExpected() {
+		// setup:
+		var cachingMetadata = mock(CachingMetadataMap.class);
+
+		// given:
+		subject = new TieredHederaFs(ids, properties, clock, data, cachingMetadata, () -> diskFs);
+
+		// when:
+		subject.forgetCachedViews();
+
+		// then:
+		verify(data).forgetKnownLengths();
+		verify(cachingMetadata).invalidateAll();
+	}
+
+	@Test
+	public void forgetsKnownLengthsEvenWithoutCachingMetadata() {
+		// when:
+		subject.forgetCachedViews();
+
+		// then:
+		verify(data).forgetKnownLengths();
+	}
+
 	@Test
 	public void appendsWithExpectedResultSansInterception() {
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
 		// and:
-		given(data.get(fid)).willReturn(origContents);
+		given(data.lengthOf(fid)).willReturn(origContents.length);
 
 		// when:
 		var result = subject.append(fid, moreContents);
@@ -140,11 +166,33 @@ class TieredHederaFsTest {
 		assertEquals(SUCCESS, result.outcome());
 		assertTrue(result.fileReplaced());
 		// and:
-		verify(data).put(
-				argThat(fid::equals),
-				argThat(bytes -> new String(bytes).equals(
-						new String(origContents) + new String(moreContents)
-				)));
+		verify(data).append(fid, moreContents);
+		verify(data, never()).get(fid);
+		verify(data, never()).put(any(), any());
+	}
+
+	@Test
+	public void appendsFullContentsWhenIntercepted() {
+		// setup:
+		var fullContents = (new String(origContents) + new String(moreContents)).getBytes();
+
+		given(lowInterceptor.preUpdate(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes))))
+				.willReturn(new AbstractMap.SimpleEntry<>(ResponseCodeEnum.OK, true));
+		subject.register(lowInterceptor);
+		// and:
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		given(data.get(fid)).willReturn(origContents);
+
+		// when:
+		var result = subject.append(fid, moreContents);
+
+		// then:
+		assertEquals(ResponseCodeEnum.OK, result.outcome());
+		assertTrue(result.fileReplaced());
+		// and:
+		verify(data).put(argThat(fid::equals), argThat(bytes -> Arrays.equals(fullContents, bytes)));
+		verify(data, never()).append(any(), any());
 	}
 
 	@Test
@@ -248,7 +296,7 @@ class TieredHederaFsTest {
 
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
-		given(data.get(fid)).willReturn(stretchContents);
+		given(data.lengthOf(fid)).willReturn(stretchContents.length);
 		// and:
 		given(properties.maxFileSizeKb()).willReturn(1);
 
@@ -285,11 +333,9 @@ class TieredHederaFsTest {
 		assertEquals(SUCCESS, result.outcome());
 		assertTrue(result.fileReplaced());
 		// and:
-		verify(diskFs).put(
-				argThat(fid::equals),
-				argThat(bytes -> new String(bytes).equals(
-						new String(stretchContents) + new String(burstContents)
-				)));
+		verify(diskFs).append(fid, burstContents);
+		verify(diskFs, never()).contentsOf(fid);
+		verify(data, never()).lengthOf(fid);
 	}
 
 	@Test
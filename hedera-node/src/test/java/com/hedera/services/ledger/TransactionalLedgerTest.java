@@ -43,6 +43,7 @@ import static com.hedera.services.ledger.properties.TestAccountProperty.OBJ;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
@@ -135,6 +136,25 @@ public class TransactionalLedgerTest {
 		verify(backingAccounts).flushMutableRefs();
 	}
 
+	@Test
+	public void recyclesChangeSetsAcrossTransactions() {
+		// given:
+		subject.begin();
+		subject.set(1L, FLAG, !account1.flag);
+		var firstChangeSet = subject.changes.get(1L);
+		subject.commit();
+
+		// when:
+		subject.begin();
+		subject.set(1L, LONG, 123L);
+
+		// then:
+		var secondChangeSet = subject.changes.get(1L);
+		assertSame(firstChangeSet, secondChangeSet);
+		assertEquals(1, secondChangeSet.size());
+		assertEquals(123L, subject.get(1L, LONG));
+	}
+
 	@Test
 	public void usesGivenComparatorToOrderDestroys() {
 		// setup:
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.function.Consumer;
 
 import static com.hedera.services.ledger.accounts.BackingTokenRels.asTokenRel;
 import static com.hedera.services.ledger.accounts.BackingTokenRels.readableTokenRel;
@@ -109,6 +110,24 @@ class BackingTokenRelsTest {
 		assertThrows(IllegalArgumentException.class, () -> subject.put(asTokenRel(a, at), aValue));
 	}
 
+	@Test
+	public void notifiesListenerOfAccountsWithChangedRels() {
+		// setup:
+		Consumer<AccountID> listener = mock(Consumer.class);
+		subject = new BackingTokenRels(() -> rels, listener);
+
+		// when:
+		subject.getRef(asTokenRel(a, at));
+		subject.flushMutableRefs();
+		subject.put(asTokenRel(c, ct), cValue);
+		subject.remove(asTokenRel(b, bt));
+
+		// then:
+		verify(listener).accept(a);
+		verify(listener).accept(b);
+		verify(listener).accept(c);
+	}
+
 	@Test
 	public void removeUpdatesBothCacheAndDelegate() {
 		// when:
@@ -33,6 +33,7 @@ import org.mockito.InOrder;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.*;
@@ -124,6 +125,27 @@ class FCMapBackingAccountsTest {
 		verify(map, never()).containsKey(any());
 	}
 
+	@Test
+	public void notifiesListenerOfFlushedPutAndRemovedAccounts() {
+		// setup:
+		Consumer<AccountID> listener = mock(Consumer.class);
+		subject = new FCMapBackingAccounts(() -> map, listener);
+		subject.existingAccounts.add(c);
+
+		given(map.getForModify(aKey)).willReturn(aValue);
+
+		// when:
+		subject.getRef(a);
+		subject.flushMutableRefs();
+		subject.put(b, bValue);
+		subject.remove(c);
+
+		// then:
+		verify(listener).accept(a);
+		verify(listener).accept(b);
+		verify(listener).accept(c);
+	}
+
 	@Test
 	public void getRefIsReadThrough() {
 		given(map.getForModify(aKey)).willReturn(aValue);
@@ -0,0 +1,185 @@
+package com.hedera.services.legacy.core.jproto;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JKeySerializerTest {
+	byte[] ed25519 = "01234567890123456789012345678901".getBytes();
+	byte[] ecdsa384 = "012345678901234567890123456789012345678901234567".getBytes();
+	byte[] rsa3072 = "0123456789".getBytes();
+
+	JKey nested = new JThresholdKey(new JKeyList(List.of(
+			new JEd25519Key(ed25519),
+			new JKeyList(List.of(
+					new JECDSA_384Key(ecdsa384),
+					new JRSA_3072Key(rsa3072),
+					new JContractIDKey(0, 0, 1234))),
+			new JKeyList())), 2);
+
+	@Test
+	void singlePassMatchesNestedBufferEncoding() throws IOException {
+		// when:
+		byte[] repr = JKeySerializer.serialize(nested);
+
+		// then:
+		assertArrayEquals(nestedBufferEncoding(nested), repr);
+		// and:
+		assertEquals(repr.length, JKeySerializer.encodedLength(nested));
+	}
+
+	@Test
+	void streamingMatchesArrayForm() throws IOException {
+		// given:
+		var bos = new ByteArrayOutputStream();
+
+		// when:
+		try (var dos = new DataOutputStream(bos)) {
+			JKeySerializer.serialize(nested, dos);
+		}
+
+		// then:
+		assertArrayEquals(JKeySerializer.serialize(nested), bos.toByteArray());
+	}
+
+	@Test
+	void roundTrips() throws IOException {
+		// when:
+		JKey recovered = deserialize(JKeySerializer.serialize(nested));
+
+		// then:
+		assertEquals(JKey.mapJKey(nested), JKey.mapJKey(recovered));
+	}
+
+	@Test
+	void deserializedEd25519KeysAreInterned() throws IOException {
+		// given:
+		byte[] repr = JKeySerializer.serialize(nested);
+
+		// when:
+		JThresholdKey a = deserialize(repr);
+		JThresholdKey b = deserialize(repr);
+
+		// then:
+		assertNotSame(a, b);
+		assertSame(a.getKeys().getKeysList().get(0), b.getKeys().getKeysList().get(0));
+		// and:
+		assertSame(
+				JKeySerializer.canonicalEd25519(ed25519.clone()),
+				JKeySerializer.canonicalEd25519(ed25519.clone()));
+	}
+
+	@Test
+	void uninternedDeserializationSharesNoEd25519Keys() throws IOException {
+		// given:
+		byte[] repr = JKeySerializer.serialize(nested);
+		// and:
+		JThresholdKey interned = deserialize(repr);
+
+		// when:
+		JThresholdKey a = JKeySerializer.deserializeUninterned(new DataInputStream(new ByteArrayInputStream(repr)));
+		JThresholdKey b = JKeySerializer.deserializeUninterned(new DataInputStream(new ByteArrayInputStream(repr)));
+
+		// then:
+		assertEquals(JKey.mapJKey(nested), JKey.mapJKey(a));
+		assertNotSame(a.getKeys().getKeysList().get(0), b.getKeys().getKeysList().get(0));
+		assertNotSame(interned.getKeys().getKeysList().get(0), a.getKeys().getKeysList().get(0));
+	}
+
+	@Test
+	void rejectsUnknownKeyType() {
+		// given:
+		JKey unknown = new JKey() {
+			@Override
+			public boolean isEmpty() {
+				return false;
+			}
+
+			@Override
+			public boolean isValid() {
+				return true;
+			}
+		};
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> JKeySerializer.serialize(unknown));
+	}
+
+	private <T> T deserialize(byte[] repr) throws IOException {
+		return JKeySerializer.deserialize(new DataInputStream(new ByteArrayInputStream(repr)));
+	}
+
+	private byte[] nestedBufferEncoding(JKey key) throws IOException {
+		var content = new ByteArrayOutputStream();
+		var cos = new DataOutputStream(content);
+		long type;
+		if (key instanceof JThresholdKey) {
+			type = JObjectType.JThresholdKey.longValue();
+			cos.writeInt(((JThresholdKey) key).getThreshold());
+			cos.write(nestedBufferEncoding(((JThresholdKey) key).getKeys()));
+		} else if (key instanceof JKeyList) {
+			type = JObjectType.JKeyList.longValue();
+			var children = key.getKeyList().getKeysList();
+			cos.writeInt(children.size());
+			for (JKey child : children) {
+				cos.write(nestedBufferEncoding(child));
+			}
+		} else if (key instanceof JEd25519Key) {
+			type = JObjectType.JEd25519Key.longValue();
+			cos.write(key.getEd25519());
+		} else if (key instanceof JECDSA_384Key) {
+			type = JObjectType.JECDSA_384Key.longValue();
+			cos.write(key.getECDSA384());
+		} else if (key instanceof JRSA_3072Key) {
+			type = JObjectType.JRSA_3072Key.longValue();
+			cos.write(key.getRSA3072());
+		} else {
+			var contractKey = (JContractIDKey) key;
+			type = JObjectType.JContractIDKey.longValue();
+			cos.writeLong(contractKey.getShardNum());
+			cos.writeLong(contractKey.getRealmNum());
+			cos.writeLong(contractKey.getContractNum());
+		}
+		cos.flush();
+
+		var all = new ByteArrayOutputStream();
+		var aos = new DataOutputStream(all);
+		aos.writeLong(2);
+		aos.writeLong(type);
+		aos.writeLong(content.size());
+		aos.write(content.toByteArray());
+		aos.flush();
+		return all.toByteArray();
+	}
+}
@@ -31,6 +31,7 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.accounts.BackingStore;
 import com.hedera.services.legacy.handler.SmartContractRequestHandler;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.security.ops.SystemOpAuthorization;
 import com.hedera.services.security.ops.SystemOpPolicies;
@@ -38,13 +39,16 @@ import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.stats.HandleTimes;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.stream.RecordStreamManager;
+import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.stream.RecordStreamObject;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.PlatformTxnAccessorCache;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -102,13 +106,15 @@ class AwareProcessLogicTest {
 		final MiscSpeedometers speedometers = mock(MiscSpeedometers.class);
 		final FeeCalculator fees = mock(FeeCalculator.class);
 		final TxnIdRecentHistory recentHistory = mock(TxnIdRecentHistory.class);
-		final Map<TransactionID, TxnIdRecentHistory> histories = mock(Map.class);
+		final Map<TxnIdKey, TxnIdRecentHistory> histories = mock(Map.class);
 		final BackingStore<AccountID, MerkleAccount> backingAccounts = mock(BackingStore.class);
 		final AccountID accountID = mock(AccountID.class);
 		final OptionValidator validator = mock(OptionValidator.class);
 		final TxnFeeChargingPolicy policy = mock(TxnFeeChargingPolicy.class);
 		final SystemOpPolicies policies = mock(SystemOpPolicies.class);
 		final TransitionLogicLookup lookup = mock(TransitionLogicLookup.class);
+		final HandleTimes handleTimes = mock(HandleTimes.class);
+		final ScheduleStore scheduleStore = mock(ScheduleStore.class);
 		hfs = mock(HederaFs.class);
 
 		given(histories.get(any())).willReturn(recentHistory);
@@ -135,6 +141,7 @@ class AwareProcessLogicTest {
 		given(book.getAddress(1)).willReturn(stakedAddress);
 		given(book.getAddress(666L)).willReturn(zeroStakeAddress);
 		given(ctx.addressBook()).willReturn(book);
+		given(ctx.txnAccessorCache()).willReturn(new PlatformTxnAccessorCache());
 		given(ctx.ledger()).willReturn(ledger);
 		given(ctx.txnCtx()).willReturn(txnCtx);
 		given(ctx.recordsHistorian()).willReturn(historian);
@@ -150,11 +157,14 @@ class AwareProcessLogicTest {
 		given(ctx.transitionLogic()).willReturn(lookup);
 		given(ctx.hfs()).willReturn(hfs);
 		given(ctx.contracts()).willReturn(contracts);
+		given(ctx.handleTimes()).willReturn(handleTimes);
+		given(ctx.scheduleStore()).willReturn(scheduleStore);
 
 		given(txnCtx.accessor()).willReturn(txnAccessor);
 		given(txnCtx.submittingNodeAccount()).willReturn(accountID);
 		given(txnCtx.isPayerSigKnownActive()).willReturn(true);
 		given(txnAccessor.getPlatformTxn()).willReturn(txn);
+		given(txnAccessor.getTxnId()).willReturn(nonMockTxnBody.getTransactionID());
 
 		given(txn.getSignatures()).willReturn(Collections.emptyList());
 		given(keyOrder.keysForPayer(any(), any())).willReturn(orderResult);
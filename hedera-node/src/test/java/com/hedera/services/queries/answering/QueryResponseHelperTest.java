@@ -23,20 +23,26 @@ package com.hedera.services.queries.answering;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.txns.submission.PrecheckDeferrals;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_START;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class QueryResponseHelperTest {
 	Query query = Query.getDefaultInstance();
@@ -47,6 +53,7 @@ class QueryResponseHelperTest {
 	AnswerFlow answerFlow;
 	AnswerService answer;
 	HapiOpCounters opCounters;
+	PrecheckDeferrals deferrals;
 	StreamObserver<Response> observer;
 
 	QueryResponseHelper subject;
@@ -60,7 +67,9 @@ class QueryResponseHelperTest {
 		okResponse = mock(Response.class);
 		notOkResponse = mock(Response.class);
 
-		subject = new QueryResponseHelper(answerFlow, opCounters);
+		deferrals = mock(PrecheckDeferrals.class);
+
+		subject = new QueryResponseHelper(answerFlow, opCounters, deferrals);
 	}
 
 	@Test
@@ -100,4 +109,32 @@ class QueryResponseHelperTest {
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countAnswered(TokenGetInfo);
 	}
+
+	@Test
+	public void answersOnlyAfterDeferredRetry() {
+		// setup:
+		ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+		InOrder inOrder = inOrder(deferrals, observer, opCounters);
+
+		given(answerFlow.satisfyUsing(answer, query)).willReturn(notOkResponse).willReturn(okResponse);
+		given(answer.extractValidityFrom(notOkResponse)).willReturn(PAYER_ACCOUNT_NOT_FOUND);
+		given(answer.extractValidityFrom(okResponse)).willReturn(OK);
+		given(deferrals.tryDeferQuery(eq(PAYER_ACCOUNT_NOT_FOUND), eq(0), any())).willReturn(true);
+
+		// when:
+		subject.answer(query, observer, answer, TokenGetInfo);
+
+		// then:
+		verify(deferrals).tryDeferQuery(eq(PAYER_ACCOUNT_NOT_FOUND), eq(0), retry.capture());
+		verify(observer, never()).onNext(any());
+
+		// and when:
+		retry.getValue().run();
+
+		// then:
+		inOrder.verify(deferrals).tryDeferQuery(eq(OK), eq(1), any());
+		inOrder.verify(observer).onNext(okResponse);
+		inOrder.verify(observer).onCompleted();
+		inOrder.verify(opCounters).countAnswered(TokenGetInfo);
+	}
 }
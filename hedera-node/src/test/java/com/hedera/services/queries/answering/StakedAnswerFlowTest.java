@@ -23,6 +23,7 @@ package com.hedera.services.queries.answering;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetStakers;
 
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.exceptions.ResourceBusyException;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.queries.AnswerService;
@@ -50,6 +51,7 @@ import java.util.function.Supplier;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.*;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.*;
 import static com.hedera.test.utils.IdUtils.*;
 
@@ -155,6 +157,17 @@ class StakedAnswerFlowTest {
 		verify(throttles).shouldThrottle(function);
 	}
 
+	@Test
+	public void releasesViewEvenIfAnsweringFails() {
+		given(legacyHandler.validateQuery(query, false)).willReturn(OK);
+		given(service.checkValidity(query, view)).willThrow(IllegalStateException.class);
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.satisfyUsing(service, query));
+		// and:
+		verify(view).release();
+	}
+
 	@Test
 	public void validatesMetaAsExpected() {
 		given(legacyHandler.validateQuery(query, false)).willReturn(ACCOUNT_IS_NOT_GENESIS_ACCOUNT);
@@ -262,6 +275,30 @@ class StakedAnswerFlowTest {
 		verify(submissionManager, never()).trySubmission(any());
 	}
 
+	@Test
+	public void answersBusyWithoutSubmittingPaymentIfCostingIsBusy() {
+		given(legacyHandler.validateQuery(query, true)).willReturn(OK);
+		given(service.checkValidity(query, view)).willReturn(OK);
+		given(service.extractPaymentFrom(query)).willReturn(Optional.of(userAccessor));
+		given(service.canonicalFunction()).willReturn(CryptoGetStakers);
+		given(resourceCosts.pricesGiven(CryptoGetStakers, at)).willReturn(usagePrices);
+		given(service.requiresNodePayment(query)).willReturn(true);
+		given(fees.computePayment(
+				argThat(query::equals),
+				argThat(usagePrices::equals),
+				argThat(view::equals),
+				argThat(at::equals),
+				any())).willThrow(new ResourceBusyException("workers"));
+		given(service.responseGiven(query, view, BUSY)).willReturn(response);
+
+		// when:
+		Response actual = subject.satisfyUsing(service, query);
+
+		// then:
+		assertEquals(response, actual);
+		verify(submissionManager, never()).trySubmission(any());
+	}
+
 	@Test
 	public void figuresResponseWhenZeroNodePaymentButNoAnswerOnlyCostRequired() {
 		given(legacyHandler.validateQuery(query, true)).willReturn(OK);
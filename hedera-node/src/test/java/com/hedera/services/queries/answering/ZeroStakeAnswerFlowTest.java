@@ -93,6 +93,7 @@ class ZeroStakeAnswerFlowTest {
 
 		// then:
 		assertEquals(response, actual);
+		verify(view).release();
 	}
 
 	@Test
@@ -22,6 +22,7 @@ package com.hedera.services.queries.contract;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.exceptions.ResourceBusyException;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -47,6 +48,7 @@ import java.util.Map;
 
 import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
 import static com.hedera.test.utils.TxnUtils.payerSponsoredTransfer;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_DELETED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_EXECUTION_EXCEPTION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_NEGATIVE_GAS;
@@ -121,6 +123,19 @@ class ContractCallLocalAnswerTest {
 		assertEquals(CONTRACT_NEGATIVE_GAS, subject.checkValidity(query, view));
 	}
 
+	@Test
+	public void rejectsAsBusyIfDelegateSaturated() throws Throwable {
+		// given:
+		Query query = validQuery(COST_ANSWER, fee);
+		// and:
+		given(delegate.isSaturated()).willReturn(true);
+
+		// expect:
+		assertEquals(BUSY, subject.checkValidity(query, view));
+		// and:
+		verify(validator, never()).queryableContractStatus(any(), any());
+	}
+
 	@Test
 	public void noCopyPasteErrors() throws Throwable {
 		// given:
@@ -235,6 +250,21 @@ class ContractCallLocalAnswerTest {
 		assertEquals(FAIL_INVALID, opResponse.getHeader().getNodeTransactionPrecheckCode());
 	}
 
+	@Test
+	public void translatesBusyWhenNoCtx() throws Throwable {
+		// setup:
+		Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
+
+		given(delegate.perform(any(), anyLong())).willThrow(new ResourceBusyException("workers"));
+
+		// when:
+		Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
+
+		// then:
+		var opResponse = response.getContractCallLocal();
+		assertEquals(BUSY, opResponse.getHeader().getNodeTransactionPrecheckCode());
+	}
+
 	@Test
 	public void respectsMetaValidity() throws Throwable {
 		// given:
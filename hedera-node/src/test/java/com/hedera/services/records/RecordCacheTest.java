@@ -23,7 +23,8 @@ package com.hedera.services.records;
 import com.google.common.cache.Cache;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.state.expiry.ExpiringCreations;
-import com.hedera.services.state.expiry.MonotonicFullQueueExpiries;
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hedera.services.state.expiry.MonotonicBucketedExpiries;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.utils.IdUtils;
@@ -55,6 +56,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.UNKNOWN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyLong;
@@ -104,7 +106,7 @@ class RecordCacheTest {
 	private ExpiringCreations creator;
 	private ServicesContext ctx;
 	private Cache<TransactionID, Boolean> receiptCache;
-	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private Map<TxnIdKey, TxnIdRecentHistory> histories;
 
 	private RecordCache subject;
 
@@ -113,14 +115,14 @@ class RecordCacheTest {
 		creator = mock(ExpiringCreations.class);
 		ctx = mock(ServicesContext.class);
 		given(ctx.creator()).willReturn(creator);
-		histories = (Map<TransactionID, TxnIdRecentHistory>)mock(Map.class);
+		histories = (Map<TxnIdKey, TxnIdRecentHistory>)mock(Map.class);
 		receiptCache = (Cache<TransactionID, Boolean>)mock(Cache.class);
 		subject = new RecordCache(ctx, receiptCache, histories);
 	}
 
 	@Test
 	public void resetsHistoriesIfRequested() {
-		subject.recordExpiries = mock(MonotonicFullQueueExpiries.class);
+		subject.recordExpiries = mock(MonotonicBucketedExpiries.class);
 
 		// when:
 		subject.reset();
@@ -149,7 +151,7 @@ class RecordCacheTest {
 	@Test
 	public void tracksExpiringTxnIds() {
 		// setup:
-		subject.recordExpiries = mock(MonotonicFullQueueExpiries.class);
+		subject.recordExpiries = mock(MonotonicBucketedExpiries.class);
 		// and:
 		record.setExpiry(someExpiry);
 
@@ -157,7 +159,7 @@ class RecordCacheTest {
 		subject.trackForExpiry(record);
 
 		// then:
-		verify(subject.recordExpiries).track(txnIdA, someExpiry);
+		verify(subject.recordExpiries).track(TxnId.fromGrpc(txnIdA), someExpiry);
 	}
 
 	@Test
@@ -166,12 +168,29 @@ class RecordCacheTest {
 		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
 
 		given(history.priorityRecord()).willReturn(record);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
 
 		// expect:
 		assertEquals(knownReceipt, subject.getPriorityReceipt(txnIdA));
 	}
 
+	@Test
+	public void sharesConvertedPriorityRecordAcrossQueries() {
+		// setup:
+		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
+
+		given(history.priorityRecord()).willReturn(record);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
+
+		// when:
+		var firstRecord = subject.getPriorityRecord(txnIdA);
+		var receipt = subject.getPriorityReceipt(txnIdA);
+
+		// then:
+		assertSame(firstRecord, subject.getPriorityRecord(txnIdA));
+		assertSame(firstRecord.getReceipt(), receipt);
+	}
+
 	@Test
 	public void getsDuplicateRecordsAsExpected() {
 		// setup:
@@ -179,7 +198,7 @@ class RecordCacheTest {
 		var duplicateRecords = List.of(ExpirableTxnRecord.fromGprc(aRecord));
 
 		given(history.duplicateRecords()).willReturn(duplicateRecords);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
 
 		// when:
 		var actual = subject.getDuplicateRecords(txnIdA);
@@ -201,7 +220,7 @@ class RecordCacheTest {
 		var duplicateRecords = List.of(ExpirableTxnRecord.fromGprc(aRecord));
 
 		given(history.duplicateRecords()).willReturn(duplicateRecords);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
 
 		// when:
 		var duplicateReceipts = subject.getDuplicateReceipts(txnIdA);
@@ -218,7 +237,7 @@ class RecordCacheTest {
 
 	@Test
 	public void getsReceiptWithUnknownStatusPreconsensus() {
-		given(histories.get(txnIdA)).willReturn(null);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(null);
 		given(receiptCache.getIfPresent(txnIdA)).willReturn(Boolean.TRUE);
 
 		// expect:
@@ -231,7 +250,7 @@ class RecordCacheTest {
 		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
 
 		given(history.priorityRecord()).willReturn(null);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
 
 		// expect:
 		assertEquals(unknownReceipt, subject.getPriorityReceipt(txnIdA));
@@ -245,7 +264,7 @@ class RecordCacheTest {
 
 	@Test
 	public void getsNullRecordWhenPreconsensus() {
-		given(histories.get(txnIdA)).willReturn(null);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(null);
 
 		// expect:
 		assertNull(subject.getPriorityRecord(txnIdA));
@@ -257,7 +276,7 @@ class RecordCacheTest {
 		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
 
 		given(history.priorityRecord()).willReturn(null);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
 
 		// expect:
 		assertNull(subject.getPriorityRecord(txnIdA));
@@ -269,7 +288,7 @@ class RecordCacheTest {
 		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
 
 		given(history.priorityRecord()).willReturn(record);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(TxnIdKey.fromGrpc(txnIdA))).willReturn(history);
 
 		// expect:
 		assertEquals(aRecord, subject.getPriorityRecord(txnIdA));
@@ -289,7 +308,7 @@ class RecordCacheTest {
 		// setup:
 		TxnIdRecentHistory history = mock(TxnIdRecentHistory.class);
 
-		given(histories.computeIfAbsent(argThat(txnIdA::equals), any())).willReturn(history);
+		given(histories.computeIfAbsent(argThat(TxnIdKey.fromGrpc(txnIdA)::equals), any())).willReturn(history);
 
 		// when:
 		subject.setPostConsensus(
@@ -320,7 +339,7 @@ class RecordCacheTest {
 		// and:
 		AccountID effectivePayer = IdUtils.asAccount("0.0.3");
 
-		given(histories.computeIfAbsent(argThat(txnId::equals), any())).willReturn(history);
+		given(histories.computeIfAbsent(argThat(TxnIdKey.fromGrpc(txnId)::equals), any())).willReturn(history);
 
 		// given:
 		PlatformTxnAccessor accessor = uncheckedAccessorFor(platformTxn);
@@ -352,13 +371,13 @@ class RecordCacheTest {
 
 	@Test
 	public void usesHistoryThenCacheToTestReceiptPresence() {
-		given(histories.containsKey(txnIdA)).willReturn(true);
+		given(histories.containsKey(TxnIdKey.fromGrpc(txnIdA))).willReturn(true);
 		given(receiptCache.getIfPresent(txnIdA)).willReturn(null);
 		// and:
-		given(histories.containsKey(txnIdB)).willReturn(false);
+		given(histories.containsKey(TxnIdKey.fromGrpc(txnIdB))).willReturn(false);
 		given(receiptCache.getIfPresent(txnIdB)).willReturn(RecordCache.MARKER);
 		// and:
-		given(histories.containsKey(txnIdC)).willReturn(false);
+		given(histories.containsKey(TxnIdKey.fromGrpc(txnIdC))).willReturn(false);
 		given(receiptCache.getIfPresent(txnIdC)).willReturn(null);
 
 		// when:
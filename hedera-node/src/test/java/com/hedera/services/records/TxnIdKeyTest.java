@@ -0,0 +1,76 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TxnIdKeyTest {
+	TransactionID grpc = TransactionID.newBuilder()
+			.setAccountID(IdUtils.asAccount("1.2.3"))
+			.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_234_567L).setNanos(890))
+			.build();
+
+	TxnIdKey subject = TxnIdKey.fromGrpc(grpc);
+
+	@Test
+	public void agreesWithLegacyTxnId() {
+		// expect:
+		assertEquals(subject, TxnIdKey.from(TxnId.fromGrpc(grpc)));
+		assertEquals(subject.hashCode(), TxnIdKey.from(TxnId.fromGrpc(grpc)).hashCode());
+	}
+
+	@Test
+	public void objectContractMet() {
+		// expect:
+		assertEquals(subject, subject);
+		assertNotEquals(subject, null);
+		assertNotEquals(subject, new Object());
+		assertNotEquals(subject, new TxnIdKey(1, 2, 4, 1_234_567L, 890));
+		assertNotEquals(subject, new TxnIdKey(1, 3, 3, 1_234_567L, 890));
+		assertNotEquals(subject, new TxnIdKey(2, 2, 3, 1_234_567L, 890));
+		assertNotEquals(subject, new TxnIdKey(1, 2, 3, 1_234_568L, 890));
+		assertNotEquals(subject, new TxnIdKey(1, 2, 3, 1_234_567L, 891));
+		assertEquals(subject, new TxnIdKey(1, 2, 3, 1_234_567L, 890));
+	}
+
+	@Test
+	public void missingPartsMatchLegacyDefaults() {
+		// given:
+		var payerOnly = TransactionID.newBuilder().setAccountID(IdUtils.asAccount("0.0.2")).build();
+
+		// expect:
+		assertEquals(TxnIdKey.fromGrpc(payerOnly), TxnIdKey.from(TxnId.fromGrpc(payerOnly)));
+		assertEquals(TxnIdKey.fromGrpc(TransactionID.getDefaultInstance()), TxnIdKey.from(new TxnId()));
+	}
+
+	@Test
+	public void toStringWorks() {
+		// expect:
+		assertEquals("TxnIdKey{payer=1.2.3, validStart=1234567.000000890}", subject.toString());
+	}
+}
@@ -47,11 +47,14 @@ import org.junit.jupiter.api.Test;
 import static com.hedera.test.factories.keys.NodeFactory.ed25519;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 import static com.hedera.services.sigs.HederaToPlatformSigOps.*;
 import static com.hedera.test.factories.txns.SystemDeleteFactory.*;
 import static com.hedera.services.sigs.Rationalization.IN_HANDLE_SUMMARY_FACTORY;
+import static com.hedera.services.keys.HederaKeyActivation.otherPartySigsAreActive;
+import static com.hedera.services.keys.HederaKeyActivation.payerSigIsActive;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -189,6 +192,35 @@ public class HederaToPlatformSigOpsTest {
 		assertTrue(allVerificationStatusesAre(VerificationStatus.VALID::equals));
 	}
 
+	@Test
+	public void memoizesInHandleSigningOrdersForKeyActivation() throws Exception {
+		// given:
+		wellBehavedOrdersAndSigSourcesInHandle();
+
+		// when:
+		rationalizeIn(platformTxn, ALWAYS_VALID, keyOrdering, sigBytesProvider);
+		// and:
+		assertTrue(payerSigIsActive(platformTxn, keyOrdering, IN_HANDLE_SUMMARY_FACTORY));
+		assertTrue(otherPartySigsAreActive(platformTxn, keyOrdering, IN_HANDLE_SUMMARY_FACTORY));
+
+		// then:
+		verify(keyOrdering, times(1)).keysForPayer(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+		verify(keyOrdering, times(1)).keysForOtherParties(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY);
+	}
+
+	@Test
+	public void doesNotMemoizeFailedSigningOrders() {
+		given(keyOrdering.keysForPayer(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY))
+				.willReturn(new SigningOrderResult<>(rationalizingFailureStatus));
+
+		// when:
+		rationalizeIn(platformTxn, ALWAYS_VALID, keyOrdering, sigBytesProvider);
+
+		// then:
+		assertNull(platformTxn.getInHandlePayerKeys());
+		assertNull(platformTxn.getInHandleOtherPartyKeys());
+	}
+
 	@Test
 	public void stopImmediatelyOnPayerKeyOrderFailure() {
 		given(keyOrdering.keysForPayer(platformTxn.getTxn(), IN_HANDLE_SUMMARY_FACTORY))
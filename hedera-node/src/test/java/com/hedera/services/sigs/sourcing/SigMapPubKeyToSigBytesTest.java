@@ -49,6 +49,9 @@ public class SigMapPubKeyToSigBytesTest {
 			KeyTree.withRoot(list(ed25519(true), ed25519(true), ed25519(true), ecdsa384(true), rsa3072(true)));
 	private final KeyTree otherKt =
 			KeyTree.withRoot(list(ed25519(true), ed25519(true), ed25519(true)));
+	private final KeyTree largeKt = KeyTree.withRoot(list(
+			ed25519(true), ed25519(false), ed25519(true), ed25519(true), ed25519(true),
+			ed25519(true), ed25519(true), ecdsa384(true), ed25519(true), rsa3072(true)));
 	private final KeyFactory defaultFactory = KeyFactory.getDefaultInstance();
 	private final KeyFactory overlapFactory = new KeyFactory(OverlappingKeyGenerator.withDefaultOverlaps());
 	private final SigMapGenerator ambigSigMapGen = SigMapGenerator.withAmbiguousPrefixes();
@@ -106,6 +109,33 @@ public class SigMapPubKeyToSigBytesTest {
 		});
 	}
 
+	@Test
+	public void getsExpectedSigBytesFromIndexedSigMap() throws Throwable {
+		// given:
+		Transaction signedTxn = newSignedSystemDelete()
+				.payerKt(largeKt)
+				.nonPayerKts(otherKt)
+				.get();
+		PubKeyToSigBytes subject = PubKeyToSigBytes.forAllParties(signedTxn);
+
+		// expect:
+		lookupsMatch(largeKt, defaultFactory, CommonUtils.extractTransactionBodyBytes(signedTxn), subject);
+		lookupsMatch(otherKt, defaultFactory, CommonUtils.extractTransactionBodyBytes(signedTxn), subject);
+	}
+
+	@Test
+	public void rejectsNonUniqueSigBytesFromIndexedSigMap() throws Throwable {
+		// given:
+		Transaction signedTxn =
+				newSignedSystemDelete().sigMapGen(ambigSigMapGen).keyFactory(overlapFactory).payerKt(largeKt).get();
+		PubKeyToSigBytes subject = PubKeyToSigBytes.from(signedTxn.getSigMap());
+
+		// expect:
+		assertThrows(KeyPrefixMismatchException.class, () -> {
+			lookupsMatch(largeKt, overlapFactory, CommonUtils.extractTransactionBodyBytes(signedTxn), subject);
+		});
+	}
+
 	private void lookupsMatch(KeyTree kt, KeyFactory factory, byte[] data, PubKeyToSigBytes subject) throws Exception {
 		AtomicReference<Exception> thrown = new AtomicReference<>();
 		kt.traverseLeaves(leaf -> {
@@ -24,6 +24,7 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.legacy.core.jproto.TxnId;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -69,7 +70,7 @@ class ExpiryManagerTest {
 	RecordCache recordCache;
 	HederaLedger ledger;
 	FCMap<MerkleEntityId, MerkleAccount> accounts;
-	Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 
 	ExpiryManager subject;
 
@@ -132,11 +133,10 @@ class ExpiryManagerTest {
 		// then:
 		verify(recordCache).reset();
 		verify(txnHistories).clear();
-		assertEquals(expiry, subject.payerExpiries.now);
-		assertEquals(1, subject.payerExpiries.allExpiries.size());
-		var expiryEvent = subject.payerExpiries.allExpiries.getFirst();
-		assertEquals(2, expiryEvent.getId());
-		assertEquals(expiry, expiryEvent.getExpiry());
+		assertEquals(expiry, subject.payerExpiries.now());
+		assertEquals(1, subject.payerExpiries.size());
+		assertFalse(subject.payerExpiries.hasExpiringAt(expiry - 1));
+		assertEquals(2, subject.payerExpiries.expireNextAt(expiry));
 	}
 
 	@Test
@@ -148,20 +148,18 @@ class ExpiryManagerTest {
 		subject.restartTrackingFrom(accounts);
 
 		// then:
-		var e1 = subject.payerExpiries.allExpiries.poll();
-		assertEquals(b, e1.getId());
-		assertEquals(33, e1.getExpiry());
-		var e2 = subject.payerExpiries.allExpiries.poll();
-		assertEquals(a, e2.getId());
-		assertEquals(55, e2.getExpiry());
+		assertFalse(subject.payerExpiries.hasExpiringAt(32));
+		assertEquals(b, subject.payerExpiries.expireNextAt(33));
+		assertFalse(subject.payerExpiries.hasExpiringAt(54));
+		assertEquals(a, subject.payerExpiries.expireNextAt(55));
 		// and:
-		assertTrue(subject.payerExpiries.allExpiries.isEmpty());
+		assertEquals(0, subject.payerExpiries.size());
 		// and:
 		long[] allPayerTs = Stream.of(aPayer, bPayer)
 				.flatMap(a -> Arrays.stream(a).boxed())
 				.mapToLong(Long::valueOf)
 				.toArray();
-		assertTrue(Arrays.stream(allPayerTs).mapToObj(t -> txnIdOf(t).toGrpc()).allMatch(txnHistories::containsKey));
+		assertTrue(Arrays.stream(allPayerTs).mapToObj(t -> TxnIdKey.from(txnIdOf(t))).allMatch(txnHistories::containsKey));
 		// and:
 		assertTrue(txnHistories.values().stream().noneMatch(TxnIdRecentHistory::isStagePending));
 	}
@@ -180,7 +178,7 @@ class ExpiryManagerTest {
 		// given:
 		var c = 13258L;
 		var rec = withExpiry(c);
-		var txnId = txnIdOf(c).toGrpc();
+		var txnId = TxnIdKey.from(txnIdOf(c));
 		// and:
 		subject.sharedNow = c;
 		// and:
@@ -202,7 +200,7 @@ class ExpiryManagerTest {
 		// given:
 		var c = 13258L;
 		var rec = withExpiry(c);
-		var txnId = txnIdOf(c).toGrpc();
+		var txnId = TxnIdKey.from(txnIdOf(c));
 		// and:
 		subject.sharedNow = c;
 		// and:
@@ -222,7 +220,7 @@ class ExpiryManagerTest {
 		// given:
 		var c = 13258L;
 		var rec = withExpiry(c);
-		var txnId = txnIdOf(c).toGrpc();
+		var txnId = TxnIdKey.from(txnIdOf(c));
 		// and:
 		subject.sharedNow = c;
 		txnHistories.remove(txnId);
@@ -239,7 +237,7 @@ class ExpiryManagerTest {
 		// and:
 		var history = mock(TxnIdRecentHistory.class);
 
-		txnHistories.put(txnIdOf(givenPayerNum).toGrpc(), history);
+		txnHistories.put(TxnIdKey.from(txnIdOf(givenPayerNum)), history);
 
 		// when:
 		subject.stage(rec);
@@ -267,8 +265,8 @@ class ExpiryManagerTest {
 	}
 
 	private ExpirableTxnRecord withExpiry(long t) {
-		var grpcTxn = txnIdOf(t).toGrpc();
-		txnHistories.put(grpcTxn, mock(TxnIdRecentHistory.class));
+		var txnId = TxnIdKey.from(txnIdOf(t));
+		txnHistories.put(txnId, mock(TxnIdRecentHistory.class));
 		var r = new ExpirableTxnRecord(
 				TxnReceipt.fromGrpc(TransactionReceipt.newBuilder().setStatus(SUCCESS).build()),
 				"NOPE".getBytes(),
@@ -292,12 +290,63 @@ class ExpiryManagerTest {
 	@Test
 	public void addsExpectedExpiryForPayer() {
 		// setup:
-		subject.payerExpiries = (MonotonicFullQueueExpiries<Long>) mock(MonotonicFullQueueExpiries.class);
+		subject.payerExpiries = mock(MonotonicLongBucketedExpiries.class);
 
 		// when:
 		subject.trackRecord(payer, expiry);
 
 		// then:
-		verify(subject.payerExpiries).track(Long.valueOf(13257), expiry);
+		verify(subject.payerExpiries).track(13257L, expiry);
+	}
+
+	@Test
+	public void restartsTrackingInExpiryThenPayerOrderEvenIfUnpackable() {
+		// setup:
+		var staged = new ExpiryManager.StagedPayerExpiries(0);
+		var tracked = new MonotonicLongBucketedExpiries();
+		long hugeNum = 1L << 40;
+
+		// given:
+		staged.add(hugeNum, 10);
+		staged.add(7, 20);
+		staged.add(3, 10);
+		staged.add(5, 20);
+
+		// when:
+		staged.trackInOrderWith(tracked);
+
+		// then:
+		assertEquals(3, tracked.expireNextAt(10));
+		assertEquals(hugeNum, tracked.expireNextAt(10));
+		assertEquals(5, tracked.expireNextAt(20));
+		assertEquals(7, tracked.expireNextAt(20));
+	}
+
+	@Test
+	public void restartsTrackingInExpiryThenPayerOrderWhenPackable() {
+		// setup:
+		var staged = new ExpiryManager.StagedPayerExpiries(2);
+		var tracked = new MonotonicLongBucketedExpiries();
+
+		// given:
+		for (long num = 100; num > 0; num--) {
+			staged.add(num, expiry + (num % 3));
+		}
+
+		// when:
+		staged.trackInOrderWith(tracked);
+
+		// then:
+		long lastExpiry = expiry;
+		long lastNum = 0;
+		for (int i = 0; i < 100; i++) {
+			assertTrue(tracked.hasExpiringAt(expiry + 2));
+			long num = tracked.expireNextAt(expiry + 2);
+			long numExpiry = expiry + (num % 3);
+			assertTrue(numExpiry > lastExpiry || (numExpiry == lastExpiry && num > lastNum));
+			lastExpiry = numExpiry;
+			lastNum = num;
+		}
+		assertEquals(0, tracked.size());
 	}
 }
\ No newline at end of file
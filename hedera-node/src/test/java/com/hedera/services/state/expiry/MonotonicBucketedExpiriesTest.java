@@ -20,6 +20,7 @@ package com.hedera.services.state.expiry;
  * ‍
  */
 
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -28,15 +29,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-class MonotonicFullQueueExpiriesTest {
+class MonotonicBucketedExpiriesTest {
 	String k1 = "first", k2 = "second", k3 = "third";
 	long expiry1 = 50, expiry2 = 100, expiry3 = 1000;
 
-	MonotonicFullQueueExpiries<String> subject;
+	MonotonicBucketedExpiries<String> subject;
 
 	@BeforeEach
 	public void setup() {
-		subject = new MonotonicFullQueueExpiries<>();
+		subject = new MonotonicBucketedExpiries<>();
 	}
 
 	@Test
@@ -59,7 +60,7 @@ class MonotonicFullQueueExpiriesTest {
 		assertTrue(subject.hasExpiringAt(expiry1 + 1));
 		assertFalse(subject.hasExpiringAt(expiry1 - 1));
 		// and:
-		assertEquals(expiry3, subject.now);
+		assertEquals(expiry3, subject.now());
 
 		// when:
 		var firstExpired = subject.expireNextAt(expiry1);
@@ -69,11 +70,38 @@ class MonotonicFullQueueExpiriesTest {
 		assertEquals(k1, firstExpired);
 		assertEquals(k2, secondExpired);
 		// and:
-		assertEquals(1, subject.allExpiries.size());
+		assertEquals(1, subject.size());
 		assertFalse(subject.hasExpiringAt(expiry2));
 		assertTrue(subject.hasExpiringAt(expiry3));
 	}
 
+	@Test
+	public void sharesBucketsForSameSecondAndGrowsAcrossWrap() {
+		// setup:
+		int n = 5 * ExpiryBuckets.INITIAL_CAPACITY;
+
+		// given:
+		for (int i = 0; i < ExpiryBuckets.INITIAL_CAPACITY / 2; i++) {
+			subject.track("early" + i, i);
+		}
+		for (int i = 0; i < ExpiryBuckets.INITIAL_CAPACITY / 2; i++) {
+			subject.expireNextAt(i);
+		}
+		// and:
+		for (int i = 0; i < n; i++) {
+			subject.track("k" + i, expiry1 + i / 2);
+		}
+
+		// expect:
+		assertEquals(n, subject.size());
+		assertEquals(n / 2, subject.buckets.numBuckets());
+		// and:
+		for (int i = 0; i < n; i++) {
+			assertEquals("k" + i, subject.expireNextAt(expiry1 + i / 2));
+		}
+		assertEquals(0, subject.buckets.numBuckets());
+	}
+
 	@Test
 	public void resetWorks() {
 		// given:
@@ -83,8 +111,9 @@ class MonotonicFullQueueExpiriesTest {
 		subject.reset();
 
 		// then:
-		assertTrue(subject.allExpiries.isEmpty());
-		assertEquals(0L, subject.now);
+		assertEquals(0, subject.size());
+		assertEquals(0L, subject.now());
+		assertFalse(subject.hasExpiringAt(expiry1));
 	}
 
 	@Test
@@ -101,10 +130,4 @@ class MonotonicFullQueueExpiriesTest {
 		// expect:
 		assertThrows(IllegalStateException.class, () -> subject.expireNextAt(expiry1));
 	}
-
-	@Test
-	public void noExpiringIfEmpty() {
-		// expect:
-		assertFalse(subject.hasExpiringAt(expiry1));
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonotonicLongBucketedExpiriesTest {
+	long k1 = 1001, k2 = 1002, k3 = 1003;
+	long expiry1 = 50, expiry2 = 100, expiry3 = 1000;
+
+	MonotonicLongBucketedExpiries subject;
+
+	@BeforeEach
+	public void setup() {
+		subject = new MonotonicLongBucketedExpiries();
+	}
+
+	@Test
+	public void throwsOnNonMonotonicClock() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.track(k2, expiry1 - 1));
+	}
+
+	@Test
+	public void behavesWithValidOps() {
+		// given:
+		subject.track(k1, expiry1);
+		subject.track(k2, expiry2);
+		subject.track(k3, expiry3);
+
+		// expect:
+		assertTrue(subject.hasExpiringAt(expiry1 + 1));
+		assertFalse(subject.hasExpiringAt(expiry1 - 1));
+		// and:
+		assertEquals(expiry3, subject.now());
+
+		// when:
+		var firstExpired = subject.expireNextAt(expiry1);
+		var secondExpired = subject.expireNextAt(expiry2);
+
+		// then:
+		assertEquals(k1, firstExpired);
+		assertEquals(k2, secondExpired);
+		// and:
+		assertEquals(1, subject.size());
+		assertFalse(subject.hasExpiringAt(expiry2));
+		assertTrue(subject.hasExpiringAt(expiry3));
+	}
+
+	@Test
+	public void ignoresRepeatedIdInSameSecond() {
+		// given:
+		subject.track(k1, expiry1);
+		subject.track(k1, expiry1);
+		subject.track(k2, expiry1);
+		subject.track(k1, expiry1);
+
+		// expect:
+		assertEquals(3, subject.size());
+		assertEquals(1, subject.buckets.numBuckets());
+		// and:
+		assertEquals(k1, subject.expireNextAt(expiry1));
+		assertEquals(k2, subject.expireNextAt(expiry1));
+		assertEquals(k1, subject.expireNextAt(expiry1));
+		assertFalse(subject.hasExpiringAt(expiry1));
+	}
+
+	@Test
+	public void growsAcrossWrap() {
+		// setup:
+		int n = 5 * ExpiryBuckets.INITIAL_CAPACITY;
+
+		// given:
+		for (int i = 0; i < ExpiryBuckets.INITIAL_CAPACITY / 2; i++) {
+			subject.track(i, i);
+		}
+		for (int i = 0; i < ExpiryBuckets.INITIAL_CAPACITY / 2; i++) {
+			subject.expireNextAt(i);
+		}
+		// and:
+		for (int i = 0; i < n; i++) {
+			subject.track(k1 + i, expiry1 + i);
+		}
+
+		// expect:
+		assertEquals(n, subject.size());
+		for (int i = 0; i < n; i++) {
+			assertEquals(k1 + i, subject.expireNextAt(expiry1 + i));
+		}
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void resetWorks() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// when:
+		subject.reset();
+
+		// then:
+		assertEquals(0, subject.size());
+		assertEquals(0L, subject.now());
+		assertFalse(subject.hasExpiringAt(expiry1));
+	}
+
+	@Test
+	public void throwsIfNextExpiryIsFuture() {
+		// given:
+		subject.track(k1, expiry1);
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.expireNextAt(expiry1 - 1));
+	}
+
+	@Test
+	public void throwsIfNoPossibleExpiries() {
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.expireNextAt(expiry1));
+	}
+}
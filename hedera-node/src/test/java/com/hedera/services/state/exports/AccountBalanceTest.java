@@ -20,9 +20,15 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
+import com.hederahashgraph.api.proto.java.TokenBalance;
+import com.hederahashgraph.api.proto.java.TokenBalances;
 import org.junit.jupiter.api.Test;
 
+import java.util.Base64;
+
+import static com.hedera.test.utils.IdUtils.asToken;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AccountBalanceTest {
@@ -51,4 +57,29 @@ class AccountBalanceTest {
 		assertEquals(3, a.getNum());
 		assertEquals(6, a.getBalance());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void encodesTokenBalancesOnlyWhenPresent() {
+		// setup:
+		var tokenBalances = TokenBalances.newBuilder()
+				.addTokenBalances(TokenBalance.newBuilder()
+						.setTokenId(asToken("0.0.1004"))
+						.setBalance(100))
+				.build();
+		// and:
+		var a = new AccountBalance(0, 0, 1001, 6);
+		var b = new AccountBalance(0, 0, 1001, 6);
+
+		// expect:
+		assertEquals("", a.getB64TokenBalances());
+		assertEquals(a, b);
+
+		// when:
+		b.setTokenBalances(tokenBalances);
+
+		// then:
+		assertEquals(tokenBalances, b.getTokenBalances());
+		assertEquals(Base64.getEncoder().encodeToString(tokenBalances.toByteArray()), b.getB64TokenBalances());
+		assertNotEquals(a, b);
+	}
+}
@@ -0,0 +1,122 @@
+package com.hedera.services.state.exports;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BalanceChangesTrackerTest {
+	AccountID a = asAccount("0.0.1001");
+	AccountID b = asAccount("0.0.2");
+	AccountID c = asAccount("0.0.3");
+	Instant then = Instant.ofEpochSecond(1_234_567L);
+	Instant now = then.plusSeconds(600);
+	AtomicReference<Instant> consensusNow = new AtomicReference<>();
+
+	GlobalDynamicProperties dynamicProperties = new MockGlobalDynamicProps() {
+		@Override
+		public boolean shouldExportBalanceDeltas() {
+			return true;
+		}
+	};
+
+	BalanceChangesTracker subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new BalanceChangesTracker(consensusNow::get, dynamicProperties);
+	}
+
+	@Test
+	public void ignoresChangesIfNotExportingDeltas() {
+		// setup:
+		subject = new BalanceChangesTracker(consensusNow::get, new MockGlobalDynamicProps());
+
+		// when:
+		subject.markChanged(a);
+
+		// then:
+		assertTrue(subject.lastChanges.isEmpty());
+	}
+
+	@Test
+	public void drainsChangesInIdOrder() {
+		// given:
+		consensusNow.set(then);
+
+		// when:
+		subject.markChanged(a);
+		subject.markChanged(c);
+		subject.markChanged(b);
+
+		// then:
+		assertEquals(List.of(b, c, a), subject.drainChangesAsOf(now));
+		assertTrue(subject.drainChangesAsOf(now).isEmpty());
+	}
+
+	@Test
+	public void clearForgetsAllChanges() {
+		// given:
+		consensusNow.set(now.plusNanos(1));
+		subject.markChanged(a);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.drainChangesAsOf(now).isEmpty());
+	}
+
+	@Test
+	public void keepsChangesAfterExportTime() {
+		// given:
+		consensusNow.set(then);
+		subject.markChanged(a);
+		// and:
+		consensusNow.set(now.plusNanos(1));
+		subject.markChanged(b);
+
+		// expect:
+		assertEquals(List.of(b, a), subject.drainChangesAsOf(now));
+		assertEquals(List.of(b), subject.drainChangesAsOf(now));
+	}
+
+	@Test
+	public void treatsChangesBeforeFirstTxnAsAncient() {
+		// when:
+		subject.markChanged(a);
+
+		// then:
+		assertEquals(Instant.EPOCH, subject.lastChanges.get(a));
+	}
+}
@@ -33,6 +33,8 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.utils.HederaDateTimeFormatter;
 import com.hedera.test.factories.accounts.MerkleAccountFactory;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoGetAccountBalanceResponse;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenBalance;
 import com.hederahashgraph.api.proto.java.TokenBalances;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -47,27 +49,34 @@ import org.mockito.ArgumentCaptor;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 import static com.hedera.services.state.exports.SignedStateBalancesExporter.GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL;
-import static com.hedera.services.state.exports.SignedStateBalancesExporter.b64Encode;
+import static com.hedera.services.state.exports.SignedStateBalancesExporter.sha384Digest;
 import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static com.hedera.services.state.merkle.MerkleEntityId.fromTokenId;
+import static com.hedera.services.utils.MiscUtils.asTimestamp;
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asToken;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
@@ -101,7 +110,6 @@ class SignedStateBalancesExporterTest {
 	long secondNonNodeDeletedTokenBalance = 100;
 
 	byte[] sig = "not-really-a-sig".getBytes();
-	byte[] fileHash = "not-really-a-hash".getBytes();
 
 	MerkleAccount thisNodeAccount, anotherNodeAccount, firstNonNodeAccount, secondNonNodeAccount, deletedAccount;
 
@@ -115,8 +123,8 @@ class SignedStateBalancesExporterTest {
 	PropertySource properties;
 	UnaryOperator<byte[]> signer;
 	SigFileWriter sigFileWriter;
-	FileHashReader hashReader;
 	DirectoryAssurance assurance;
+	BalanceChangesTracker balanceChanges;
 
 	SignedStateBalancesExporter subject;
 
@@ -177,14 +185,14 @@ class SignedStateBalancesExporterTest {
 		given(state.tokenAssociations()).willReturn(tokenRels);
 		given(state.addressBook()).willReturn(book);
 
+		balanceChanges = mock(BalanceChangesTracker.class);
+
 		signer = mock(UnaryOperator.class);
-		given(signer.apply(fileHash)).willReturn(sig);
-		subject = new SignedStateBalancesExporter(properties, signer, dynamicProperties);
+		given(signer.apply(any())).willReturn(sig);
+		subject = new SignedStateBalancesExporter(properties, signer, dynamicProperties, balanceChanges);
 
 		sigFileWriter = mock(SigFileWriter.class);
-		hashReader = mock(FileHashReader.class);
 		subject.sigFileWriter = sigFileWriter;
-		subject.hashReader = hashReader;
 	}
 
 	@Test
@@ -196,7 +204,7 @@ class SignedStateBalancesExporterTest {
 				return "not/a/real/location";
 			}
 		};
-		subject = new SignedStateBalancesExporter(properties, signer, otherDynamicProperties);
+		subject = new SignedStateBalancesExporter(properties, signer, otherDynamicProperties, balanceChanges);
 
 		// given:
 		subject.directories = assurance;
@@ -213,7 +221,7 @@ class SignedStateBalancesExporterTest {
 		// setup:
 		var loc = expectedExportLoc();
 
-		given(hashReader.readHash(loc)).willThrow(IllegalStateException.class);
+		given(signer.apply(any())).willThrow(IllegalStateException.class);
 
 		// when:
 		subject.toCsvFile(state, now);
@@ -234,7 +242,6 @@ class SignedStateBalancesExporterTest {
 		// and:
 		var loc = expectedExportLoc();
 
-		given(hashReader.readHash(loc)).willReturn(fileHash);
 		given(sigFileWriter.writeSigFile(captor.capture(), any(), any())).willReturn(loc + "_sig");
 
 		// when:
@@ -258,7 +265,12 @@ class SignedStateBalancesExporterTest {
 					entry.getB64TokenBalances()), lines.get(i + 3));
 		}
 		// and:
-		verify(sigFileWriter).writeSigFile(loc, sig, fileHash);
+		var fileHash = sha384Digest().digest(Files.readAllBytes(Paths.get(loc)));
+		verify(signer).apply(argThat(hash -> Arrays.equals(fileHash, hash)));
+		verify(sigFileWriter).writeSigFile(
+				argThat(loc::equals),
+				argThat(sig::equals),
+				argThat(hash -> Arrays.equals(fileHash, hash)));
 		// and:
 		verify(mockLog).debug(String.format(GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL, loc + "_sig"));
 		// and:
@@ -277,9 +289,8 @@ class SignedStateBalancesExporterTest {
 				return false;
 			}
 		};
-		subject = new SignedStateBalancesExporter(properties, signer, otherDynamicProperties);
+		subject = new SignedStateBalancesExporter(properties, signer, otherDynamicProperties, balanceChanges);
 		subject.sigFileWriter = sigFileWriter;
-		subject.hashReader = hashReader;
 
 		// when:
 		subject.toCsvFile(state, now);
@@ -304,16 +315,278 @@ class SignedStateBalancesExporterTest {
 		new File(expectedExportLoc()).delete();
 	}
 
+	@Test
+	public void exportsGzippedProtoBalancesWhenEnabled() throws IOException {
+		// setup:
+		var protoLoc = expectedExportLoc().replace(".csv", ".pb.gz");
+		subject = new SignedStateBalancesExporter(properties, signer, protoDynamicProps(true), balanceChanges);
+		subject.sigFileWriter = sigFileWriter;
+
+		// when:
+		subject.toCsvFile(state, now);
+
+		// then:
+		try (var in = new GZIPInputStream(Files.newInputStream(Paths.get(protoLoc)))) {
+			assertExpectedProtoBalances(in);
+		}
+		// and:
+		var fileHash = sha384Digest().digest(Files.readAllBytes(Paths.get(protoLoc)));
+		verify(sigFileWriter).writeSigFile(
+				argThat(protoLoc::equals),
+				argThat(sig::equals),
+				argThat(hash -> Arrays.equals(fileHash, hash)));
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(protoLoc).delete();
+	}
+
+	@Test
+	public void exportsUncompressedProtoBalancesWhenRequested() throws IOException {
+		// setup:
+		var protoLoc = expectedExportLoc().replace(".csv", ".pb");
+		subject = new SignedStateBalancesExporter(properties, signer, protoDynamicProps(false), balanceChanges);
+		subject.sigFileWriter = sigFileWriter;
+
+		// when:
+		subject.toCsvFile(state, now);
+
+		// then:
+		try (var in = Files.newInputStream(Paths.get(protoLoc))) {
+			assertExpectedProtoBalances(in);
+		}
+		// and:
+		verify(sigFileWriter).writeSigFile(argThat(protoLoc::equals), any(), any());
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(protoLoc).delete();
+	}
+
+	@Test
+	public void doesntExportProtoBalancesByDefault() {
+		// when:
+		subject.toCsvFile(state, now);
+
+		// then:
+		assertFalse(new File(expectedExportLoc().replace(".csv", ".pb.gz")).exists());
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+	}
+
+	@Test
+	public void exportsDeltasBetweenCheckpointsWhenEnabled() throws IOException {
+		// setup:
+		var deltaDynamicProps = new MockGlobalDynamicProps() {
+			@Override
+			public boolean shouldExportBalanceDeltas() {
+				return true;
+			}
+
+			@Override
+			public int balanceDeltasPerCheckpoint() {
+				return 1;
+			}
+		};
+		var later = now.plusSeconds(600);
+		var deltaLoc = expectedExportLoc(later).replace(".csv", "Delta.csv");
+		subject = new SignedStateBalancesExporter(properties, signer, deltaDynamicProps, balanceChanges);
+		subject.sigFileWriter = sigFileWriter;
+		// and:
+		given(balanceChanges.drainChangesAsOf(later)).willReturn(List.of(thisNode, secondNonNode, deleted));
+
+		// when:
+		subject.toCsvFile(state, now);
+
+		// then:
+		verify(balanceChanges).drainChangesAsOf(now);
+		assertEquals(now, subject.deltaBase);
+		assertEquals(0, subject.deltasSinceCheckpoint);
+
+		// and when:
+		subject.toCsvFile(state, later);
+
+		// then:
+		var lines = Files.readAllLines(Paths.get(deltaLoc));
+		assertEquals(List.of(
+				"# " + SignedStateBalancesExporter.DELTA_VERSION,
+				String.format("# TimeStamp:%s", later),
+				String.format("# Since:%s", now),
+				"shardNum,realmNum,accountNum,balance,tokenBalances,deleted",
+				String.format("0,0,3,%d,,false", thisNodeBalance),
+				String.format("0,0,1002,%d,%s,false",
+						secondNonNodeAccountBalance,
+						theExpectedBalances().get(3).getB64TokenBalances()),
+				"0,0,1003,0,,true"), lines);
+		// and:
+		verify(sigFileWriter).writeSigFile(argThat(deltaLoc::equals), any(), any());
+		assertEquals(later, subject.deltaBase);
+		assertEquals(1, subject.deltasSinceCheckpoint);
+		assertFalse(new File(expectedExportLoc(later)).exists());
+
+		// and when:
+		var muchLater = later.plusSeconds(600);
+		subject.toCsvFile(state, muchLater);
+
+		// then:
+		assertTrue(new File(expectedExportLoc(muchLater)).exists());
+		assertEquals(0, subject.deltasSinceCheckpoint);
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(deltaLoc).delete();
+		new File(expectedExportLoc(muchLater)).delete();
+	}
+
+	@Test
+	public void checkpointsAfterDeltasAreReEnabled() {
+		// setup:
+		var deltasOn = new AtomicBoolean(true);
+		var deltaDynamicProps = new MockGlobalDynamicProps() {
+			@Override
+			public boolean shouldExportBalanceDeltas() {
+				return deltasOn.get();
+			}
+		};
+		var later = now.plusSeconds(600);
+		var muchLater = later.plusSeconds(600);
+		subject = new SignedStateBalancesExporter(properties, signer, deltaDynamicProps, balanceChanges);
+		subject.sigFileWriter = sigFileWriter;
+
+		// given:
+		subject.toCsvFile(state, now);
+		// and:
+		deltasOn.set(false);
+
+		// when:
+		subject.toCsvFile(state, later);
+
+		// then:
+		assertTrue(new File(expectedExportLoc(later)).exists());
+		assertNull(subject.deltaBase);
+		assertEquals(0, subject.deltasSinceCheckpoint);
+		verify(balanceChanges).drainChangesAsOf(later);
+
+		// and when:
+		deltasOn.set(true);
+		subject.toCsvFile(state, muchLater);
+
+		// then:
+		assertTrue(new File(expectedExportLoc(muchLater)).exists());
+		assertFalse(new File(expectedExportLoc(muchLater).replace(".csv", "Delta.csv")).exists());
+		assertEquals(muchLater, subject.deltaBase);
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(expectedExportLoc(later)).delete();
+		new File(expectedExportLoc(muchLater)).delete();
+	}
+
+	@Test
+	public void checkpointsAfterDeltaBaseIsForgotten() {
+		// setup:
+		var deltaDynamicProps = new MockGlobalDynamicProps() {
+			@Override
+			public boolean shouldExportBalanceDeltas() {
+				return true;
+			}
+		};
+		var later = now.plusSeconds(600);
+		subject = new SignedStateBalancesExporter(properties, signer, deltaDynamicProps, balanceChanges);
+		subject.sigFileWriter = sigFileWriter;
+
+		// given:
+		subject.toCsvFile(state, now);
+
+		// when:
+		subject.forgetDeltaBase();
+
+		// then:
+		verify(balanceChanges).clear();
+		assertEquals(now, subject.deltaBase);
+
+		// and when:
+		subject.toCsvFile(state, later);
+
+		// then:
+		assertTrue(new File(expectedExportLoc(later)).exists());
+		assertFalse(new File(expectedExportLoc(later).replace(".csv", "Delta.csv")).exists());
+		assertEquals(later, subject.deltaBase);
+		assertEquals(0, subject.deltasSinceCheckpoint);
+		assertFalse(subject.deltaBaseIsStale);
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(expectedExportLoc(later)).delete();
+	}
+
+	@Test
+	public void checkpointsWhenTokenIsDeleted() {
+		// setup:
+		var deltaDynamicProps = new MockGlobalDynamicProps() {
+			@Override
+			public boolean shouldExportBalanceDeltas() {
+				return true;
+			}
+		};
+		var later = now.plusSeconds(600);
+		subject = new SignedStateBalancesExporter(properties, signer, deltaDynamicProps, balanceChanges);
+		subject.sigFileWriter = sigFileWriter;
+
+		// given:
+		subject.toCsvFile(state, now);
+		// and:
+		given(token.isDeleted()).willReturn(true);
+
+		// when:
+		subject.toCsvFile(state, later);
+
+		// then:
+		assertTrue(new File(expectedExportLoc(later)).exists());
+		assertEquals(later, subject.deltaBase);
+
+		// cleanup:
+		new File(expectedExportLoc()).delete();
+		new File(expectedExportLoc(later)).delete();
+	}
+
+	private void assertExpectedProtoBalances(InputStream in) throws IOException {
+		assertEquals(asTimestamp(now), Timestamp.parseDelimitedFrom(in));
+		for (var entry : theExpectedBalances()) {
+			var balance = CryptoGetAccountBalanceResponse.parseDelimitedFrom(in);
+			assertEquals(asAccount(String.format("%d.%d.%d", entry.getShard(), entry.getRealm(), entry.getNum())),
+					balance.getAccountID());
+			assertEquals(entry.getBalance(), balance.getBalance());
+			assertEquals(entry.getTokenBalances().getTokenBalancesList(), balance.getTokenBalancesList());
+		}
+		assertNull(CryptoGetAccountBalanceResponse.parseDelimitedFrom(in));
+	}
+
+	private GlobalDynamicProperties protoDynamicProps(boolean gzip) {
+		return new MockGlobalDynamicProps() {
+			@Override
+			public boolean shouldExportProtoBalances() {
+				return true;
+			}
+
+			@Override
+			public boolean shouldGzipProtoBalances() {
+				return gzip;
+			}
+		};
+	}
+
 	private String expectedExportLoc() {
+		return expectedExportLoc(now);
+	}
+
+	private String expectedExportLoc(Instant when) {
 		return dynamicProperties.pathToBalancesExportDir()
 				+ File.separator
 				+ "balance0.0.3"
 				+ File.separator
-				+ expectedBalancesName();
-	}
-
-	private String expectedBalancesName() {
-		return now.toString().replace(":", "_") + "_Balances.csv";
+				+ when.toString().replace(":", "_") + "_Balances.csv";
 	}
 
 	@Test
@@ -325,7 +598,7 @@ class SignedStateBalancesExporterTest {
 		var summary = subject.summarized(state);
 
 		// then:
-		assertEquals(ledgerFloat, summary.getTotalFloat().longValue());
+		assertEquals(ledgerFloat, summary.getTotalFloat());
 		assertEquals(expectedBalances, summary.getOrderedBalances());
 		// and:
 		verify(mockLog).warn(String.format(
@@ -343,7 +616,7 @@ class SignedStateBalancesExporterTest {
 						.setTokenId(theToken)
 						.setBalance(secondNonNodeTokenBalance))
 				.build();
-		expSecondNon.setB64TokenBalances(b64Encode(expB64Balances));
+		expSecondNon.setTokenBalances(expB64Balances);
 		return List.of(
 				expThisNode,
 				expAnotherNode,
@@ -373,6 +646,15 @@ class SignedStateBalancesExporterTest {
 		assertThrows(IllegalStateException.class, () -> subject.toCsvFile(state, now));
 	}
 
+	@Test
+	public void throwsOnOverflowingTotalFloat() throws NegativeAccountBalanceException {
+		// given:
+		anotherNodeAccount.setBalance(Long.MAX_VALUE);
+
+		// then:
+		assertThrows(IllegalStateException.class, () -> subject.summarized(state));
+	}
+
 	@Test
 	public void errorLogsOnIoException() throws IOException {
 		// given:
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 
 import static com.hedera.services.legacy.stream.RecordStream.TYPE_FILE_HASH;
 import static com.hedera.services.legacy.stream.RecordStream.TYPE_SIGNATURE;
@@ -40,7 +41,6 @@ class StandardSigFileWriterTest {
 	String toSign = "src/test/resources/bootstrap/standard.properties";
 	String cannotSign = "src/test/resources/oops/bootstrap/not-so-standard.properties";
 	byte[] pretendSig = "not-really-a-sig-at-all".getBytes();
-	FileHashReader hashReader = new Sha384HashReader();
 
 	SigFileWriter subject = new StandardSigFileWriter();
 
@@ -54,7 +54,7 @@ class StandardSigFileWriterTest {
 	@Test
 	public void writesExpectedFile() throws Exception {
 		// setup:
-		var hash = hashReader.readHash(toSign);
+		var hash = MessageDigest.getInstance("SHA-384").digest(Files.readAllBytes(Paths.get(toSign)));
 
 		// given:
 		var expectedWritten = legacy(toSign, pretendSig, hash);
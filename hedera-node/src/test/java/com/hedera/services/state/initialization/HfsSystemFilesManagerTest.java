@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.state.merkle.MerkleDiskFs;
+import com.hedera.services.files.SegmentedDataMap;
 import com.hedera.services.files.TieredHederaFs;
 import com.hedera.services.files.interceptors.MockFileNumbers;
 import com.hedera.services.utils.EntityIdUtils;
@@ -92,7 +93,7 @@ class HfsSystemFilesManagerTest {
 	int curHbarEquiv = 12;
 	int nxtCentEquiv = 2;
 	int nxtHbarEquiv = 31;
-	Map<FileID, byte[]> data;
+	SegmentedDataMap data;
 	Map<FileID, JFileInfo> metadata;
 	JKey masterKey;
 	byte[] aIpv4, bIpv4;
@@ -149,7 +150,7 @@ class HfsSystemFilesManagerTest {
 		given(currentBook.getAddress(1L)).willReturn(addressB);
 		given(currentBook.getSize()).willReturn(2);
 
-		data = mock(Map.class);
+		data = mock(SegmentedDataMap.class);
 		metadata = mock(Map.class);
 		hfs = mock(TieredHederaFs.class);
 		diskFs = mock(MerkleDiskFs.class);
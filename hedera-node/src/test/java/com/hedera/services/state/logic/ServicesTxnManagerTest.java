@@ -24,6 +24,7 @@ import com.hedera.services.context.ServicesContext;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.stats.HandleTimes;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -57,6 +58,7 @@ class ServicesTxnManagerTest {
 
 	HederaLedger ledger;
 	RecordCache recordCache;
+	HandleTimes handleTimes;
 	TransactionContext txnCtx;
 	ServicesContext ctx;
 
@@ -80,6 +82,8 @@ class ServicesTxnManagerTest {
 		given(ctx.txnCtx()).willReturn(txnCtx);
 		given(txnCtx.effectivePayer()).willReturn(effectivePayer);
 		given(ctx.recordCache()).willReturn(recordCache);
+		handleTimes = mock(HandleTimes.class);
+		given(ctx.handleTimes()).willReturn(handleTimes);
 	}
 
 	@Test
@@ -98,6 +102,23 @@ class ServicesTxnManagerTest {
 		inOrder.verify(recordStreaming).run();
 	}
 
+	@Test
+	public void timesCommitAndRecordStreaming() {
+		// setup:
+		InOrder inOrder = inOrder(ledger, recordStreaming, handleTimes);
+
+		// when:
+		subject.process(accessor, consensusTime, submittingMember, ctx);
+
+		// then:
+		inOrder.verify(handleTimes).beginPhase();
+		inOrder.verify(ledger).commit();
+		inOrder.verify(handleTimes).endPhase(HandleTimes.Phase.COMMIT);
+		inOrder.verify(handleTimes).beginPhase();
+		inOrder.verify(recordStreaming).run();
+		inOrder.verify(handleTimes).endPhase(HandleTimes.Phase.RECORD_STREAMING);
+	}
+
 	@Test
 	public void warnsOnFailedRecordStreaming() {
 		willThrow(IllegalStateException.class).given(recordStreaming).run();
@@ -124,6 +124,61 @@ class MerkleAccountTokensTest {
 		assertArrayEquals(new long[] {3, 0, 0}, Arrays.copyOfRange(subject.getTokenIds(), 12, 15));
 	}
 
+	@Test
+	public void associateAllMergesOnlyNewIds() {
+		// when:
+		subject.associateAll(Set.of(a, d, c));
+
+		// then:
+		assertEquals("[0.0.2, 0.1.2, 1.1.2, 0.0.3]", subject.readableTokenIds());
+	}
+
+	@Test
+	public void dissociateAllIsNoopWithoutMatches() {
+		// setup:
+		var prevTokenIds = subject.getTokenIds();
+
+		// when:
+		subject.dissociateAll(Set.of(d, e));
+
+		// then:
+		assertSame(prevTokenIds, subject.getTokenIds());
+	}
+
+	@Test
+	public void dissociateAllCompactsSurvivors() {
+		// given:
+		subject.associateAll(Set.of(d, e));
+
+		// when:
+		subject.dissociateAll(Set.of(e, b, d));
+
+		// then:
+		assertEquals("[0.0.2, 1.1.2]", subject.readableTokenIds());
+	}
+
+	@Test
+	public void purgeIsNoopWithNothingGone() {
+		// setup:
+		var prevTokenIds = subject.getTokenIds();
+
+		// when:
+		int effectiveAssociations = subject.purge(id -> false, id -> false);
+
+		// then:
+		assertSame(prevTokenIds, subject.getTokenIds());
+		assertEquals(3, effectiveAssociations);
+	}
+
+	@Test
+	public void indexedAccessorsWork() {
+		// expect:
+		assertEquals(1, subject.shardAt(2));
+		assertEquals(1, subject.realmAt(2));
+		assertEquals(2, subject.numAt(2));
+		assertEquals(b, subject.idAt(1));
+	}
+
 	@Test
 	public void objectContractMet() {
 		// given:
@@ -55,7 +55,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -74,6 +76,7 @@ public class MerkleDiskFsTest {
 
 	MerkleDiskFs.ThrowingBytesGetter getter;
 	MerkleDiskFs.ThrowingBytesWriter writer;
+	MerkleDiskFs.ThrowingBytesWriter appender;
 
 	@BeforeEach
 	private void setup() throws Exception {
@@ -91,6 +94,8 @@ public class MerkleDiskFsTest {
 		MerkleDiskFs.bytesHelper = getter;
 		writer = mock(MerkleDiskFs.ThrowingBytesWriter.class);
 		MerkleDiskFs.writeHelper = writer;
+		appender = mock(MerkleDiskFs.ThrowingBytesWriter.class);
+		MerkleDiskFs.appendHelper = appender;
 
 		given(getter.allBytesFrom(subject.pathToContentsOf(file150))).willReturn(origContents);
 	}
@@ -98,6 +103,7 @@ public class MerkleDiskFsTest {
 	@AfterEach
 	private void cleanup() {
 		MerkleDiskFs.writeHelper = (p, c) -> FileUtils.writeByteArrayToFile(p.toFile(), c);
+		MerkleDiskFs.appendHelper = (p, c) -> FileUtils.writeByteArrayToFile(p.toFile(), c, true);
 		MerkleDiskFs.bytesHelper = p -> FileUtils.readFileToByteArray(p.toFile());
 	}
 
@@ -163,6 +169,68 @@ public class MerkleDiskFsTest {
 		verify(writer).allBytesTo(subject.pathToContentsOf(file150), newContents);
 	}
 
+	@Test
+	public void appendsHashOnlyNewBytesAfterFirstRead() throws Exception {
+		// setup:
+		var once = (new String(origContents) + new String(newContents)).getBytes();
+		var twice = (new String(once) + new String(newContents)).getBytes();
+
+		// when:
+		subject.append(file150, newContents);
+
+		// then:
+		assertArrayEquals(
+				hashWithFileHash(MessageDigest.getInstance("SHA-384").digest(once)),
+				subject.getHash().getValue());
+
+		// and when:
+		var copySubject = subject.copy();
+		copySubject.append(file150, newContents);
+
+		// then:
+		assertArrayEquals(
+				hashWithFileHash(MessageDigest.getInstance("SHA-384").digest(twice)),
+				copySubject.getHash().getValue());
+		// and:
+		verify(getter, times(1)).allBytesFrom(subject.pathToContentsOf(file150));
+		verify(appender, times(2)).allBytesTo(subject.pathToContentsOf(file150), newContents);
+		verify(writer, never()).allBytesTo(any(), any());
+	}
+
+	@Test
+	public void putForgetsRunningDigest() throws Exception {
+		// given:
+		subject.append(file150, newContents);
+
+		// when:
+		subject.put(file150, newContents);
+		// and:
+		given(getter.allBytesFrom(subject.pathToContentsOf(file150))).willReturn(newContents);
+		subject.append(file150, origContents);
+
+		// then:
+		assertArrayEquals(
+				hashWithFileHash(MessageDigest.getInstance("SHA-384").digest(
+						(new String(newContents) + new String(origContents)).getBytes())),
+				subject.getHash().getValue());
+	}
+
+	@Test
+	public void logsErrorOnFailedAppend() throws IOException {
+		// setup:
+		MerkleDiskFs.log = mock(Logger.class);
+
+		willThrow(IOException.class).given(appender).allBytesTo(any(), any());
+
+		// when:
+		subject.append(file150, newContents);
+
+		// then:
+		verify(MerkleDiskFs.log).error(
+				argThat((String s) -> s.startsWith("Error appending")),
+				any(), any(), any(IOException.class));
+	}
+
 	@Test
 	public void fileNotExistNoDebug() throws IOException {
 		// setup:
@@ -29,6 +29,8 @@ import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.utils.MiscUtils;
 import com.hedera.test.utils.TxnUtils;
+import com.swirlds.common.constructable.ClassConstructorPair;
+import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.io.SerializableDataInputStream;
 import com.swirlds.common.io.SerializableDataOutputStream;
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +38,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -195,7 +199,7 @@ public class MerkleScheduleTest {
                 .willReturn(signers.size());
         given(fin.readByteArray(transactionBody.length))
                 .willReturn(transactionBody);
-        given(serdes.deserializeKey(fin))
+        given(serdes.deserializeUninternedKey(fin))
                 .willReturn(signer1)
                 .willReturn(signer2);
         given(serdes.readNullableSerializable(any()))
@@ -213,6 +217,34 @@ public class MerkleScheduleTest {
         assertEquals(subject, read);
     }
 
+    @Test
+    public void distinctSignersWithEqualBytesSurviveRoundTrip() throws Exception {
+        // setup:
+        ConstructableRegistry.registerConstructable(new ClassConstructorPair(EntityId.class, EntityId::new));
+        MerkleSchedule.serdes = new DomainSerdes();
+        var bytes = new ByteArrayOutputStream();
+        var out = new SerializableDataOutputStream(bytes);
+        // and:
+        var twinSigners = new LinkedHashSet<JKey>();
+        twinSigners.add(new JEd25519Key("not-a-real-signer-key-1".getBytes()));
+        twinSigners.add(new JEd25519Key("not-a-real-signer-key-1".getBytes()));
+        subject.setSigners(twinSigners);
+
+        // given:
+        subject.serialize(out);
+        out.flush();
+        // and:
+        var in = new SerializableDataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        var read = new MerkleSchedule();
+
+        // when:
+        read.deserialize(in, MerkleSchedule.MERKLE_VERSION);
+
+        // then:
+        assertEquals(2, read.signers().size());
+        assertEquals(subject, read);
+    }
+
     @Test
     public void failDifferentTransactionBody() {
         // given:
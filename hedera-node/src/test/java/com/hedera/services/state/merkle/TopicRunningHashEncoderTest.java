@@ -0,0 +1,111 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class TopicRunningHashEncoderTest {
+	AccountID payer = AccountID.newBuilder().setShardNum(1).setRealmNum(2).setAccountNum(Long.MAX_VALUE).build();
+	TopicID topicId = TopicID.newBuilder().setShardNum(3).setRealmNum(4).setTopicNum(1_234_567L).build();
+	Instant consensusTime = Instant.ofEpochSecond(1_600_000_000L, 999_999_999);
+
+	TopicRunningHashEncoder subject = TopicRunningHashEncoder.current();
+
+	@Test
+	public void matchesObjectStreamEncodingForVariousInputs() throws IOException {
+		// setup:
+		byte[][] runningHashes = { new byte[0], new byte[48], "0123456789".repeat(30).getBytes() };
+		byte[] messageDigest = CommonUtils.noThrowSha384HashOf("A message".getBytes());
+
+		for (byte[] runningHash : runningHashes) {
+			for (long seqNo : new long[] { 0L, 1L, 255L, Long.MAX_VALUE }) {
+				// given:
+				var expected = legacyRunningHash(
+						runningHash, 3L, payer, topicId, consensusTime, seqNo, messageDigest);
+
+				// when:
+				var actual = subject.nextRunningHash(
+						runningHash, 3L, payer, topicId, consensusTime, seqNo, messageDigest);
+
+				// then:
+				assertArrayEquals(expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void matchesObjectStreamEncodingForDefaultIds() throws IOException {
+		// setup:
+		var defaultPayer = AccountID.getDefaultInstance();
+		var defaultTopic = TopicID.getDefaultInstance();
+		var epoch = Instant.ofEpochSecond(0);
+		byte[] messageDigest = CommonUtils.noThrowSha384HashOf(new byte[0]);
+
+		// given:
+		var expected = legacyRunningHash(
+				new byte[48], 2L, defaultPayer, defaultTopic, epoch, 1L, messageDigest);
+
+		// when:
+		var actual = subject.nextRunningHash(
+				new byte[48], 2L, defaultPayer, defaultTopic, epoch, 1L, messageDigest);
+
+		// then:
+		assertArrayEquals(expected, actual);
+	}
+
+	private byte[] legacyRunningHash(
+			byte[] runningHash,
+			long version,
+			AccountID payer,
+			TopicID topicId,
+			Instant consensusTimestamp,
+			long sequenceNumber,
+			byte[] messageDigest
+	) throws IOException {
+		var boas = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(boas)) {
+			out.writeObject(runningHash);
+			out.writeLong(version);
+			out.writeLong(payer.getShardNum());
+			out.writeLong(payer.getRealmNum());
+			out.writeLong(payer.getAccountNum());
+			out.writeLong(topicId.getShardNum());
+			out.writeLong(topicId.getRealmNum());
+			out.writeLong(topicId.getTopicNum());
+			out.writeLong(consensusTimestamp.getEpochSecond());
+			out.writeInt(consensusTimestamp.getNano());
+			out.writeLong(sequenceNumber);
+			out.writeObject(messageDigest);
+			out.flush();
+			return CommonUtils.noThrowSha384HashOf(boas.toByteArray());
+		}
+	}
+}
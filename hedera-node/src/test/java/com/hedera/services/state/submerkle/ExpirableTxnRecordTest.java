@@ -268,6 +268,16 @@ class ExpirableTxnRecordTest {
 		assertEquals(subject, ExpirableTxnRecord.fromGprc(subject.asGrpc()));
 	}
 
+	@Test
+	public void grpcConversionIsMemoized() {
+		// when:
+		var grpc = subject.asGrpc();
+
+		// then:
+		assertSame(grpc, subject.asGrpc());
+		assertEquals(subjectRecordWithTokenTransfers().asGrpc(), grpc);
+	}
+
 	@Test
 	public void objectContractWorks() {
 		// given:
@@ -0,0 +1,213 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.Platform;
+import com.swirlds.common.StatEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetInfo;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class HandleTimesTest {
+	AtomicLong now = new AtomicLong();
+	AtomicLong allocated = new AtomicLong();
+
+	Platform platform;
+	NodeLocalProperties properties;
+
+	HandleTimes subject;
+
+	@BeforeEach
+	public void setup() {
+		HandleTimes.allFunctions = () -> new HederaFunctionality[] {
+				CryptoTransfer,
+				ConsensusSubmitMessage,
+				CryptoGetInfo,
+				NONE
+		};
+		HandleTimes.nanoClock = now::get;
+		HandleTimes.allocatedBytes = allocated::get;
+
+		platform = mock(Platform.class);
+		properties = mock(NodeLocalProperties.class);
+		given(properties.areHandleTimesEnabled()).willReturn(true);
+		given(properties.shouldTrackHandleAllocations()).willReturn(true);
+
+		subject = new HandleTimes(new CounterFactory() { }, properties, HederaFunctionality::toString);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		HandleTimes.allFunctions = HederaFunctionality.class::getEnumConstants;
+		HandleTimes.nanoClock = System::nanoTime;
+		HandleTimes.allocatedBytes = HandleTimes::currentThreadAllocatedBytes;
+	}
+
+	@Test
+	public void tracksOnlyHandledFunctions() {
+		// expect:
+		assertTrue(subject.isEnabled());
+		assertEquals(2, subject.times.size());
+		assertTrue(subject.times.containsKey(CryptoTransfer));
+		assertTrue(subject.times.containsKey(ConsensusSubmitMessage));
+	}
+
+	@Test
+	public void recordsTotalAndPhases() {
+		// when:
+		handleTransfer(100_000L, 20_000L, 30_000L);
+		// and:
+		subject.rollInterval();
+
+		// then:
+		var interval = subject.times.get(CryptoTransfer).lastInterval;
+		assertEquals(1, interval.total.totalCount());
+		assertEquals(equivalentOf(100_000L), interval.total.max());
+		assertEquals(equivalentOf(20_000L), interval.phases[HandleTimes.Phase.FEE_COMPUTATION.ordinal()].max());
+		assertEquals(1, interval.phases[HandleTimes.Phase.STATE_TRANSITION.ordinal()].totalCount());
+		assertEquals(0, interval.phases[HandleTimes.Phase.COMMIT.ordinal()].totalCount());
+		assertEquals(4_096L, interval.meanAllocatedBytes());
+	}
+
+	@Test
+	public void intervalsOnlyCoverNewTxns() {
+		// given:
+		handleTransfer(100_000L, 20_000L, 30_000L);
+		subject.rollInterval();
+
+		// when:
+		subject.rollInterval();
+
+		// then:
+		var interval = subject.times.get(CryptoTransfer).lastInterval;
+		assertEquals(0, interval.total.totalCount());
+		assertEquals(0L, interval.meanAllocatedBytes());
+	}
+
+	@Test
+	public void ignoresUntrackedFunctions() {
+		// when:
+		subject.beginTxn();
+		subject.endTxn(CryptoGetInfo);
+		subject.rollInterval();
+
+		// then:
+		subject.times.values().forEach(times -> assertEquals(0, times.lastInterval.total.totalCount()));
+	}
+
+	@Test
+	public void registersPercentileAndAllocationStats() {
+		// setup:
+		ArgumentCaptor<StatEntry> captor = ArgumentCaptor.forClass(StatEntry.class);
+
+		// given:
+		handleTransfer(100_000L, 20_000L, 30_000L);
+		subject.rollInterval();
+
+		// when:
+		subject.registerWith(platform);
+
+		// then:
+		verify(platform, times(6)).addAppStatEntry(captor.capture());
+		var entries = captor.getAllValues();
+		// and:
+		assertEquals("CryptoTransferHdlP50us", entries.get(0).name);
+		assertEquals("median microseconds (to within ~6%) to handle a CryptoTransfer over the last interval", entries.get(0).desc);
+		assertEquals(equivalentOf(100_000L) / 1_000L, entries.get(0).supplier.get());
+		assertEquals("CryptoTransferHdlP99us", entries.get(1).name);
+		assertEquals("CryptoTransferHdlAllocB", entries.get(2).name);
+		assertEquals(4_096L, entries.get(2).supplier.get());
+		assertEquals("ConsensusSubmitMessageHdlP50us", entries.get(3).name);
+		assertEquals(0L, entries.get(3).supplier.get());
+	}
+
+	@Test
+	public void doesNothingIfDisabled() {
+		given(properties.areHandleTimesEnabled()).willReturn(false);
+
+		// when:
+		subject = new HandleTimes(new CounterFactory() { }, properties, HederaFunctionality::toString);
+		handleTransfer(100_000L, 20_000L, 30_000L);
+		subject.rollInterval();
+		subject.registerWith(platform);
+
+		// then:
+		assertFalse(subject.isEnabled());
+		assertTrue(subject.times.isEmpty());
+		verify(platform, never()).addAppStatEntry(any());
+	}
+
+	@Test
+	public void skipsAllocationsUnlessTracking() {
+		given(properties.shouldTrackHandleAllocations()).willReturn(false);
+		// and:
+		subject = new HandleTimes(new CounterFactory() { }, properties, HederaFunctionality::toString);
+
+		// when:
+		subject.registerWith(platform);
+
+		// then:
+		verify(platform, times(4)).addAppStatEntry(any());
+	}
+
+	@Test
+	public void readsCurrentThreadAllocations() {
+		// expect:
+		assertTrue(HandleTimes.currentThreadAllocatedBytes() >= 0L);
+	}
+
+	private long equivalentOf(long nanos) {
+		return LatencyHistogram.highestEquivalentValueAt(LatencyHistogram.indexOf(nanos));
+	}
+
+	private void handleTransfer(long total, long fees, long transition) {
+		allocated.set(1_000L);
+		subject.beginTxn();
+		subject.beginPhase();
+		now.addAndGet(fees);
+		subject.endPhase(HandleTimes.Phase.FEE_COMPUTATION);
+		subject.beginPhase();
+		now.addAndGet(transition);
+		subject.endPhase(HandleTimes.Phase.STATE_TRANSITION);
+		now.addAndGet(total - fees - transition);
+		allocated.set(5_096L);
+		subject.endTxn(CryptoTransfer);
+	}
+}
@@ -0,0 +1,105 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+	LatencyHistogram subject = new LatencyHistogram();
+
+	@Test
+	public void indexesAreContiguousAndMonotonic() {
+		// expect:
+		for (long v = 0; v < 100_000; v++) {
+			var index = LatencyHistogram.indexOf(v);
+			assertTrue(v <= LatencyHistogram.highestEquivalentValueAt(index));
+			if (index > 0) {
+				assertTrue(v > LatencyHistogram.highestEquivalentValueAt(index - 1));
+			}
+		}
+		// and:
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValueAt(LatencyHistogram.NUM_BUCKETS - 1));
+	}
+
+	@Test
+	public void smallValuesAreExact() {
+		// given:
+		for (long v = 1; v <= 10; v++) {
+			subject.record(v);
+		}
+
+		// when:
+		var snapshot = subject.snapshot();
+
+		// then:
+		assertEquals(10, snapshot.totalCount());
+		assertEquals(5L, snapshot.valueAtPercentile(50.0));
+		assertEquals(10L, snapshot.max());
+	}
+
+	@Test
+	public void largeValuesAreWithinRelativeError() {
+		// given:
+		subject.record(1_000_000L);
+
+		// when:
+		var p50 = subject.snapshot().valueAtPercentile(50.0);
+
+		// then:
+		assertTrue(p50 >= 1_000_000L);
+		assertTrue(p50 < 1_000_000L * 17 / 16);
+	}
+
+	@Test
+	public void negativeValuesAreRecordedAsZero() {
+		// when:
+		subject.record(-5L);
+
+		// then:
+		assertEquals(0L, subject.snapshot().max());
+	}
+
+	@Test
+	public void snapshotDifferenceCoversOnlyLaterValues() {
+		// given:
+		subject.record(1_000L);
+		var earlier = subject.snapshot();
+		subject.record(3L);
+		subject.record(5L);
+
+		// when:
+		var interval = subject.snapshot().since(earlier);
+
+		// then:
+		assertEquals(2, interval.totalCount());
+		assertEquals(5L, interval.max());
+	}
+
+	@Test
+	public void emptySnapshotReportsZero() {
+		// expect:
+		assertEquals(0L, LatencyHistogram.Snapshot.EMPTY.valueAtPercentile(99.0));
+		assertEquals(0L, LatencyHistogram.Snapshot.EMPTY.totalCount());
+	}
+}
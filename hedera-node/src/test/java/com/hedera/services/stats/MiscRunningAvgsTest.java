@@ -59,6 +59,8 @@ class MiscRunningAvgsTest {
 		StatEntry waitMs = mock(StatEntry.class);
 		StatEntry queueSizes = mock(StatEntry.class);
 		StatEntry submitSizes = mock(StatEntry.class);
+		StatEntry localCallQueueSizes = mock(StatEntry.class);
+		StatEntry fileAttrCacheHitRates = mock(StatEntry.class);
 
 		given(factory.from(
 				argThat(MiscRunningAvgs.Names.ACCOUNT_LOOKUP_RETRIES::equals),
@@ -76,6 +78,14 @@ class MiscRunningAvgsTest {
 				argThat(MiscRunningAvgs.Names.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(MiscRunningAvgs.Descriptions.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(subject.handledSubmitMessageSize::equals))).willReturn(submitSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.LOCAL_CALL_QUEUE_SIZE::equals),
+				argThat(MiscRunningAvgs.Descriptions.LOCAL_CALL_QUEUE_SIZE::equals),
+				argThat(subject.localCallQueueSize::equals))).willReturn(localCallQueueSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.FILE_ATTR_CACHE_HIT_RATE::equals),
+				argThat(MiscRunningAvgs.Descriptions.FILE_ATTR_CACHE_HIT_RATE::equals),
+				argThat(subject.fileAttrCacheHitRate::equals))).willReturn(fileAttrCacheHitRates);
 
 		// when:
 		subject.registerWith(platform);
@@ -85,6 +95,8 @@ class MiscRunningAvgsTest {
 		verify(platform).addAppStatEntry(waitMs);
 		verify(platform).addAppStatEntry(queueSizes);
 		verify(platform).addAppStatEntry(submitSizes);
+		verify(platform).addAppStatEntry(localCallQueueSizes);
+		verify(platform).addAppStatEntry(fileAttrCacheHitRates);
 	}
 
 	@Test
@@ -94,22 +106,32 @@ class MiscRunningAvgsTest {
 		StatsRunningAverage waitMs = mock(StatsRunningAverage.class);
 		StatsRunningAverage queueSize = mock(StatsRunningAverage.class);
 		StatsRunningAverage submitSizes = mock(StatsRunningAverage.class);
+		StatsRunningAverage localCallQueueSize = mock(StatsRunningAverage.class);
+		StatsRunningAverage fileAttrCacheHitRate = mock(StatsRunningAverage.class);
 		// and:
 		subject.accountLookupRetries = retries;
 		subject.accountRetryWaitMs = waitMs;
 		subject.handledSubmitMessageSize = submitSizes;
 		subject.writeQueueSizeRecordStream = queueSize;
+		subject.localCallQueueSize = localCallQueueSize;
+		subject.fileAttrCacheHitRate = fileAttrCacheHitRate;
 
 		// when:
 		subject.recordAccountLookupRetries(1);
 		subject.recordAccountRetryWaitMs(2.0);
 		subject.recordHandledSubmitMessageSize(3);
 		subject.writeQueueSizeRecordStream(4);
+		subject.recordLocalCallQueueSize(5);
+		subject.recordFileAttrCacheLookup(true);
+		subject.recordFileAttrCacheLookup(false);
 
 		// then:
 		verify(retries).recordValue(1.0);
 		verify(waitMs).recordValue(2.0);
 		verify(submitSizes).recordValue(3.0);
 		verify(queueSize).recordValue(4.0);
+		verify(localCallQueueSize).recordValue(5.0);
+		verify(fileAttrCacheHitRate).recordValue(1.0);
+		verify(fileAttrCacheHitRate).recordValue(0.0);
 	}
 }
\ No newline at end of file
@@ -60,6 +60,7 @@ class MiscSpeedometersTest {
 		StatEntry async = mock(StatEntry.class);
 		StatEntry retries = mock(StatEntry.class);
 		StatEntry rejections = mock(StatEntry.class);
+		StatEntry localCallRejections = mock(StatEntry.class);
 
 		given(factory.from(
 				argThat(MiscSpeedometers.Names.SYNC_VERIFICATIONS::equals),
@@ -77,6 +78,10 @@ class MiscSpeedometersTest {
 				argThat(MiscSpeedometers.Names.PLATFORM_TXN_REJECTIONS::equals),
 				argThat(MiscSpeedometers.Descriptions.PLATFORM_TXN_REJECTIONS::equals),
 				any())).willReturn(rejections);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.LOCAL_CALL_REJECTIONS::equals),
+				argThat(MiscSpeedometers.Descriptions.LOCAL_CALL_REJECTIONS::equals),
+				any())).willReturn(localCallRejections);
 
 		// when:
 		subject.registerWith(platform);
@@ -86,6 +91,7 @@ class MiscSpeedometersTest {
 		verify(platform).addAppStatEntry(sync);
 		verify(platform).addAppStatEntry(async);
 		verify(platform).addAppStatEntry(rejections);
+		verify(platform).addAppStatEntry(localCallRejections);
 	}
 
 	@Test
@@ -95,22 +101,26 @@ class MiscSpeedometersTest {
 		StatsSpeedometer sync = mock(StatsSpeedometer.class);
 		StatsSpeedometer async = mock(StatsSpeedometer.class);
 		StatsSpeedometer rejections = mock(StatsSpeedometer.class);
+		StatsSpeedometer localCallRejections = mock(StatsSpeedometer.class);
 		// and:
 		subject.accountLookupRetries = retries;
 		subject.syncVerifications = sync;
 		subject.platformTxnRejections = rejections;
 		subject.asyncVerifications = async;
+		subject.localCallRejections = localCallRejections;
 
 		// when:
 		subject.cycleAccountLookupRetries();
 		subject.cycleAsyncVerifications();
 		subject.cycleSyncVerifications();
 		subject.cyclePlatformTxnRejections();
+		subject.cycleLocalCallRejections();
 
 		// then:
 		verify(retries).update(1.0);
 		verify(rejections).update(1.0);
 		verify(sync).update(1.0);
 		verify(async).update(1.0);
+		verify(localCallRejections).update(1.0);
 	}
 }
\ No newline at end of file
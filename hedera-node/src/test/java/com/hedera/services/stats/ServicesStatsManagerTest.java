@@ -36,9 +36,12 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class ServicesStatsManagerTest {
 	long updateIntervalMs = 1_234;
+	long handleTimesIntervalSecs = 60;
 
 	Pause pause;
 	Function<Runnable, Thread> threads;
@@ -48,6 +51,8 @@ class ServicesStatsManagerTest {
 	MiscRunningAvgs runningAvgs;
 	MiscSpeedometers miscSpeedometers;
 	HapiOpSpeedometers speedometers;
+	ThrottleCounters throttleCounters;
+	HandleTimes handleTimes;
 	NodeLocalProperties properties;
 
 	ServicesStatsManager subject;
@@ -66,10 +71,20 @@ class ServicesStatsManagerTest {
 		runningAvgs = mock(MiscRunningAvgs.class);
 		speedometers = mock(HapiOpSpeedometers.class);
 		miscSpeedometers = mock(MiscSpeedometers.class);
+		throttleCounters = mock(ThrottleCounters.class);
+		handleTimes = mock(HandleTimes.class);
 		properties = mock(NodeLocalProperties.class);
 		given(properties.statsHapiOpsSpeedometerUpdateIntervalMs()).willReturn(updateIntervalMs);
-
-		subject = new ServicesStatsManager(counters, runningAvgs, miscSpeedometers, speedometers, properties);
+		given(properties.handleTimesIntervalSecs()).willReturn(handleTimesIntervalSecs);
+
+		subject = new ServicesStatsManager(
+				counters,
+				runningAvgs,
+				miscSpeedometers,
+				speedometers,
+				throttleCounters,
+				handleTimes,
+				properties);
 	}
 
 
@@ -100,6 +115,8 @@ class ServicesStatsManagerTest {
 		verify(speedometers).registerWith(platform);
 		verify(miscSpeedometers).registerWith(platform);
 		verify(runningAvgs).registerWith(platform);
+		verify(throttleCounters).registerWith(platform);
+		verify(handleTimes).registerWith(platform);
 		verify(platform).appStatInit();
 		// and:
 		verify(thread).start();
@@ -109,5 +126,30 @@ class ServicesStatsManagerTest {
 		// then:
 		verify(pause).forMs(updateIntervalMs);
 		verify(speedometers).updateAll();
+		// and:
+		verify(handleTimes, never()).rollInterval();
+	}
+
+	@Test
+	public void startsIntervalThreadIfHandleTimesEnabled() {
+		// setup:
+		Thread thread = mock(Thread.class);
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+		given(handleTimes.isEnabled()).willReturn(true);
+		given(pause.forMs(anyLong())).willReturn(true);
+		given(threads.apply(captor.capture())).willReturn(thread);
+
+		// when:
+		subject.initializeFor(platform);
+
+		// then:
+		verify(thread, times(2)).start();
+		verify(thread).setName(String.format(ServicesStatsManager.HANDLE_TIMES_INTERVAL_THREAD_NAME_TPL, 123L));
+		// and when:
+		captor.getAllValues().get(1).run();
+		// then:
+		verify(pause).forMs(handleTimesIntervalSecs * 1_000L);
+		verify(handleTimes).rollInterval();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.throttling.BucketThrottling;
+import com.swirlds.common.Platform;
+import com.swirlds.common.StatEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.times;
+
+class ThrottleCountersTest {
+	Platform platform;
+	BucketThrottling throttling;
+
+	ThrottleCounters subject;
+
+	@BeforeEach
+	public void setup() {
+		platform = mock(Platform.class);
+		throttling = mock(BucketThrottling.class);
+		given(throttling.bucketNames()).willReturn(List.of("A", "B"));
+
+		subject = new ThrottleCounters(new CounterFactory() { }, throttling);
+	}
+
+	@Test
+	public void registersAdmittedAndRejectedPerBucket() {
+		// setup:
+		ArgumentCaptor<StatEntry> captor = ArgumentCaptor.forClass(StatEntry.class);
+
+		given(throttling.admittedBy("A")).willReturn(1L);
+		given(throttling.rejectedBy("A")).willReturn(2L);
+		given(throttling.admittedBy("B")).willReturn(3L);
+		given(throttling.rejectedBy("B")).willReturn(4L);
+
+		// when:
+		subject.registerWith(platform);
+
+		// then:
+		verify(platform, times(4)).addAppStatEntry(captor.capture());
+		var entries = captor.getAllValues();
+		// and:
+		assertEquals("AAdmitted", entries.get(0).name);
+		assertEquals("number of requests admitted by the A throttle bucket", entries.get(0).desc);
+		assertEquals(1L, entries.get(0).supplier.get());
+		assertEquals("ARejected", entries.get(1).name);
+		assertEquals("number of requests rejected by the A throttle bucket", entries.get(1).desc);
+		assertEquals(2L, entries.get(1).supplier.get());
+		assertEquals("BAdmitted", entries.get(2).name);
+		assertEquals(3L, entries.get(2).supplier.get());
+		assertEquals("BRejected", entries.get(3).name);
+		assertEquals(4L, entries.get(3).supplier.get());
+	}
+}
@@ -20,6 +20,7 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.ids.EntityIdSource;
@@ -46,6 +47,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import static com.hedera.services.ledger.properties.AccountProperty.IS_DELETED;
@@ -68,14 +70,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class HederaScheduleStoreTest {
     static final int SIGNATURE_BYTES = 64;
+    static final int LIFETIME = 1800;
     EntityIdSource ids;
+    GlobalDynamicProperties properties;
     FCMap<MerkleEntityId, MerkleSchedule> schedules;
     TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
     HederaLedger hederaLedger;
@@ -85,7 +91,7 @@ public class HederaScheduleStoreTest {
     MerkleAccount account;
 
     byte[] transactionBody;
-    int transactionBodyHashCode;
+    CompositeKey transactionBodyKey;
     RichInstant schedulingTXValidStart;
     Key adminKey;
     JKey adminJKey;
@@ -105,7 +111,7 @@ public class HederaScheduleStoreTest {
     @BeforeEach
     public void setup() {
         transactionBody = TxnUtils.randomUtf8Bytes(SIGNATURE_BYTES);
-        transactionBodyHashCode = Arrays.hashCode(transactionBody);
+        transactionBodyKey = CompositeKey.forScheduled(transactionBody, payerId);
         schedulingTXValidStart = new RichInstant(123, 456);
         adminKey = SCHEDULE_ADMIN_KT.asKey();
         adminJKey = SCHEDULE_ADMIN_KT.asJKeyUnchecked();
@@ -123,10 +129,14 @@ public class HederaScheduleStoreTest {
         given(schedule.adminKey()).willReturn(Optional.of(SCHEDULE_ADMIN_KT.asJKeyUnchecked()));
         given(schedule.signers()).willReturn(signers);
         given(schedule.payer()).willReturn(EntityId.ofNullableAccountId(payerId));
+        given(schedule.transactionBody()).willReturn(transactionBody);
+        given(schedule.schedulingTXValidStart()).willReturn(schedulingTXValidStart);
 
         given(anotherSchedule.payer()).willReturn(EntityId.ofNullableAccountId(anotherPayerId));
 
         ids = mock(EntityIdSource.class);
+        properties = mock(GlobalDynamicProperties.class);
+        given(properties.scheduledTxExpiryTimeSecs()).willReturn(LIFETIME);
         given(ids.newScheduleId(schedulingAccount)).willReturn(created);
 
         account = mock(MerkleAccount.class);
@@ -143,7 +153,7 @@ public class HederaScheduleStoreTest {
         given(schedules.get(fromScheduleId(created))).willReturn(schedule);
         given(schedules.containsKey(fromScheduleId(created))).willReturn(true);
 
-        subject = new HederaScheduleStore(ids, () -> schedules);
+        subject = new HederaScheduleStore(ids, properties, () -> schedules);
         subject.setAccountsLedger(accountsLedger);
         subject.setHederaLedger(hederaLedger);
     }
@@ -208,13 +218,15 @@ public class HederaScheduleStoreTest {
         // setup:
         subject.pendingId = created;
         subject.pendingCreation = schedule;
-        subject.pendingTxHashCode = 123;
+        subject.pendingTxKey = transactionBodyKey;
 
         // when:
         subject.commitCreation();
 
         // then:
         verify(schedules).put(fromScheduleId(created), schedule);
+        assertEquals(fromScheduleId(created), subject.txToEntityId.get(transactionBodyKey));
+        assertEquals(1, subject.expiries.size());
         // and:
         assertSame(subject.pendingId, HederaScheduleStore.NO_PENDING_ID);
         assertNull(subject.pendingCreation);
@@ -345,11 +357,11 @@ public class HederaScheduleStoreTest {
         // setup:
         subject.pendingId = created;
         subject.pendingCreation = schedule;
-        subject.pendingTxHashCode = transactionBodyHashCode;
+        subject.pendingTxKey = transactionBodyKey;
 
         // expect:
         assertSame(schedule, subject.get(created));
-        assertEquals(transactionBodyHashCode, subject.pendingTxHashCode);
+        assertEquals(transactionBodyKey, subject.pendingTxKey);
     }
 
     @Test
@@ -372,7 +384,7 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
@@ -395,7 +407,7 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
@@ -418,7 +430,7 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
@@ -441,13 +453,13 @@ public class HederaScheduleStoreTest {
         // and:
         assertNull(subject.pendingCreation);
         assertEquals(ScheduleID.getDefaultInstance(), subject.pendingId);
-        assertNull(subject.pendingTxHashCode);
+        assertNull(subject.pendingTxKey);
     }
 
     @Test
     public void getsScheduleID() {
         // given:
-        subject.txToEntityId.put(new CompositeKey(transactionBodyHashCode, payerId), fromScheduleId(created));
+        subject.txToEntityId.put(transactionBodyKey, fromScheduleId(created));
         given(subject.get(created)).willReturn(schedule);
 
         // when:
@@ -461,7 +473,7 @@ public class HederaScheduleStoreTest {
         // given:
         subject.pendingCreation = schedule;
         subject.pendingId = created;
-        subject.pendingTxHashCode = transactionBodyHashCode;
+        subject.pendingTxKey = transactionBodyKey;
 
         // when:
         var scheduleId = subject.getScheduleID(transactionBody, payerId);
@@ -481,12 +493,86 @@ public class HederaScheduleStoreTest {
     public void deletesAsExpected() {
         // given:
         given(schedules.getForModify(fromScheduleId(created))).willReturn(schedule);
+        subject.txToEntityId.put(transactionBodyKey, fromScheduleId(created));
 
         // when:
         var outcome = subject.delete(created);
 
         // then:
         assertEquals(OK, outcome);
+        assertTrue(subject.txToEntityId.isEmpty());
+    }
+
+    @Test
+    public void rebuildsViewsFromState() {
+        // setup:
+        var deletedId = new MerkleEntityId(1, 2, 333334);
+
+        given(anotherSchedule.isDeleted()).willReturn(true);
+        given(anotherSchedule.transactionBody()).willReturn(transactionBody);
+        given(anotherSchedule.schedulingTXValidStart()).willReturn(schedulingTXValidStart);
+        willAnswer(invocation -> {
+            BiConsumer<MerkleEntityId, MerkleSchedule> visitor = invocation.getArgument(0);
+            visitor.accept(fromScheduleId(created), schedule);
+            visitor.accept(deletedId, anotherSchedule);
+            return null;
+        }).given(schedules).forEach(any());
+
+        // when:
+        subject.rebuildViews();
+
+        // then:
+        assertEquals(1, subject.txToEntityId.size());
+        assertEquals(fromScheduleId(created), subject.txToEntityId.get(transactionBodyKey));
+        assertEquals(2, subject.expiries.size());
+    }
+
+    @Test
+    public void purgesOnlyExpiredSchedules() {
+        // setup:
+        var laterId = new MerkleEntityId(1, 2, 333334);
+        var laterKey = CompositeKey.forScheduled(transactionBody, anotherPayerId);
+        long expiry = schedulingTXValidStart.getSeconds() + LIFETIME;
+
+        given(schedules.get(laterId)).willReturn(anotherSchedule);
+        given(anotherSchedule.transactionBody()).willReturn(transactionBody);
+        // and:
+        subject.txToEntityId.put(transactionBodyKey, fromScheduleId(created));
+        subject.txToEntityId.put(laterKey, laterId);
+        subject.expiries.add(new HederaScheduleStore.ScheduleExpiry(
+                schedulingTXValidStart.getSeconds() + 1, laterId));
+        subject.expiries.add(new HederaScheduleStore.ScheduleExpiry(
+                schedulingTXValidStart.getSeconds(), fromScheduleId(created)));
+
+        // when:
+        subject.purgeExpiredAt(expiry - 1);
+        // then:
+        verify(schedules, never()).remove(any());
+
+        // and when:
+        subject.purgeExpiredAt(expiry);
+
+        // then:
+        verify(schedules).remove(fromScheduleId(created));
+        verify(schedules, never()).remove(laterId);
+        assertEquals(1, subject.expiries.size());
+        assertEquals(laterId, subject.txToEntityId.get(laterKey));
+        assertNull(subject.txToEntityId.get(transactionBodyKey));
+    }
+
+    @Test
+    public void purgeSkipsAlreadyRemovedSchedules() {
+        // setup:
+        var goneId = new MerkleEntityId(1, 2, 333334);
+        subject.expiries.add(new HederaScheduleStore.ScheduleExpiry(0, goneId));
+
+        // when:
+        subject.purgeExpiredAt(LIFETIME);
+
+        // then:
+        verify(schedules, times(1)).get(goneId);
+        verify(schedules, never()).remove(any());
+        assertTrue(subject.expiries.isEmpty());
     }
 
     @Test
@@ -516,15 +602,29 @@ public class HederaScheduleStoreTest {
     @Test
     public void validCompositeKey() {
         // given:
-        var key = new CompositeKey(transactionBodyHashCode, payerId);
+        var key = CompositeKey.forScheduled(transactionBody, payerId);
 
         assertEquals(key, key);
+        assertEquals(transactionBodyKey, key);
+        assertEquals(transactionBodyKey.hashCode(), key.hashCode());
+    }
+
+    @Test
+    public void compositeKeyDistinguishesBodiesWithSameArrayHash() {
+        // given:
+        byte[] a = { 0, 31 };
+        byte[] b = { 1, 0 };
+
+        // expect:
+        assertEquals(Arrays.hashCode(a), Arrays.hashCode(b));
+        assertNotEquals(CompositeKey.forScheduled(a, payerId), CompositeKey.forScheduled(b, payerId));
+        assertNotEquals(CompositeKey.forScheduled(a, payerId), CompositeKey.forScheduled(a, anotherPayerId));
     }
 
     @Test
     public void validDifferentInstanceKey() {
         // given:
-        var key = new CompositeKey(transactionBodyHashCode, payerId);
+        var key = CompositeKey.forScheduled(transactionBody, payerId);
 
         assertNotEquals(key, new Object());
     }
@@ -24,14 +24,15 @@ import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.throttling.bucket.BucketConfig;
 import com.hedera.services.throttling.bucket.BucketThrottle;
 import com.hedera.services.throttling.bucket.CapacityTest;
+import com.hedera.services.throttling.bucket.TokenBucket;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.swirlds.common.AddressBook;
-import com.swirlds.common.throttle.Throttle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -55,8 +56,8 @@ class BucketThrottlingTest {
 	double queryRequired = 1.0;
 	double txnRequired = 10.0;
 
-	Throttle unitThrottle;
-	Throttle deciThrottle;
+	TokenBucket unitThrottle;
+	TokenBucket deciThrottle;
 	BucketConfig txnBucketConfig;
 	BucketConfig queryBucketConfig;
 	BucketConfig bucketConfig;
@@ -82,8 +83,8 @@ class BucketThrottlingTest {
 	@BeforeEach
 	@SuppressWarnings("unchecked")
 	private void setup() {
-		unitThrottle = new Throttle(1.0, 1.0);
-		deciThrottle = new Throttle(10.0, 1.0);
+		unitThrottle = new TokenBucket(1.0, 1.0);
+		deciThrottle = new TokenBucket(10.0, 1.0);
 		bucket = new BucketThrottle(unitThrottle);
 		overflow = new BucketThrottle(deciThrottle);
 		queryBucket = new BucketThrottle(deciThrottle);
@@ -153,6 +154,63 @@ class BucketThrottlingTest {
 		BucketThrottling.displayFn = oldDisplay;
 	}
 
+	@Test
+	void countsAdmissionsAndRejectionsPerBucket() {
+		// setup:
+		var oldDisplay = BucketThrottling.displayFn;
+		BucketThrottling.displayFn = ignore -> {};
+		subject.functions = new HederaFunctionality[] { FileAppend };
+
+		// given:
+		subject.rebuild();
+
+		// when:
+		for (int i = 0; i < 8; i++) {
+			subject.shouldThrottle(txn);
+		}
+
+		// then:
+		assertEquals(List.of(b, queries, txns, o), subject.bucketNames());
+		assertEquals(1L, subject.admittedBy(b));
+		assertEquals(5L, subject.admittedBy(o));
+		assertEquals(2L, subject.rejectedBy(b));
+		assertEquals(0L, subject.rejectedBy(o));
+		assertEquals(0L, subject.admittedBy("MISSING"));
+		assertEquals(0L, subject.rejectedBy("MISSING"));
+
+		// cleanup:
+		BucketThrottling.displayFn = oldDisplay;
+	}
+
+	@Test
+	void countsCarryAcrossRebuilds() {
+		// setup:
+		var oldDisplay = BucketThrottling.displayFn;
+		BucketThrottling.displayFn = ignore -> {};
+		subject.functions = new HederaFunctionality[] { FileAppend };
+
+		// given:
+		subject.rebuild();
+		for (int i = 0; i < 8; i++) {
+			subject.shouldThrottle(txn);
+		}
+		// and:
+		given(bucketConfig.asNodeThrottle(networkSize)).willReturn(new BucketThrottle(new TokenBucket(1.0, 1.0)));
+		given(overflowConfig.asNodeThrottle(networkSize)).willReturn(new BucketThrottle(new TokenBucket(10.0, 1.0)));
+
+		// when:
+		subject.rebuild();
+		subject.shouldThrottle(txn);
+
+		// then:
+		assertEquals(2L, subject.admittedBy(b));
+		assertEquals(5L, subject.admittedBy(o));
+		assertEquals(2L, subject.rejectedBy(b));
+
+		// cleanup:
+		BucketThrottling.displayFn = oldDisplay;
+	}
+
 	@Test
 	void buildsExpectedThrottles() {
 		// when:
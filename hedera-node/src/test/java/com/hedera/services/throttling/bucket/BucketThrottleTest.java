@@ -20,22 +20,22 @@ package com.hedera.services.throttling.bucket;
  * ‍
  */
 
-import com.swirlds.common.throttle.Throttle;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.hedera.services.throttling.bucket.BucketThrottle.EFFECTIVELY_UNLIMITED_CAPACITY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 
 class BucketThrottleTest {
 	double amount = 123.0;
 
-	Throttle p;
-	Throttle o;
-	Throttle s;
+	TokenBucket p;
+	TokenBucket o;
+	TokenBucket s;
 
 	BucketThrottle subject;
 	BucketThrottle overflow;
@@ -43,9 +43,9 @@ class BucketThrottleTest {
 
 	@BeforeEach
 	private void setup() {
-		p = mock(Throttle.class);
-		o = mock(Throttle.class);
-		s = mock(Throttle.class);
+		p = mock(TokenBucket.class);
+		o = mock(TokenBucket.class);
+		s = mock(TokenBucket.class);
 
 		subject = new BucketThrottle("P", p);
 		overflow = new BucketThrottle("O", o);
@@ -55,23 +55,82 @@ class BucketThrottleTest {
 	@Test
 	public void autoReconfiguresWhenInsufficientCapacity() {
 		// given:
-		subject = new BucketThrottle("T", new Throttle(0.358, 2.6));
+		subject = new BucketThrottle("T", new TokenBucket(0.358, 2.6));
 
 		// when:
-		var avail = subject.hasAvailableCapacity(1.0);
+		subject.ensureCapacityFor(1.0);
 
 		// then:
-		assertTrue(avail);
+		assertTrue(subject.hasAvailableCapacity(1.0));
 		Assertions.assertEquals(2.8, subject.primary.getBurstPeriod(), 0.01);
 		Assertions.assertEquals(.358, subject.primary.getTps(), 0.01);
 	}
 
+	@Test
+	public void reconfiguresOverflowChainToo() {
+		// given:
+		subject = new BucketThrottle("T", new TokenBucket(1.0, 1.0));
+		overflow = new BucketThrottle("O", new TokenBucket(2.0, 1.0));
+		spillover = new BucketThrottle("S", new TokenBucket(4.0, 1.0));
+		// and:
+		overflow.setOverflow(spillover);
+		subject.setOverflow(overflow);
+
+		// when:
+		subject.ensureCapacityFor(3.0);
+
+		// then:
+		assertEquals(3.01, subject.primary().getBurstPeriod(), 0.001);
+		assertEquals(1.51, overflow.primary().getBurstPeriod(), 0.001);
+		assertEquals(1.0, spillover.primary().getBurstPeriod(), 0.001);
+	}
+
 	@Test
 	void usesPrimary() {
 		given(p.allow(amount)).willReturn(true);
 
 		// expect:
 		assertTrue(subject.hasAvailableCapacity(amount));
+		// and:
+		assertEquals(1L, subject.admitted());
+		assertEquals(0L, subject.rejected());
+	}
+
+	@Test
+	void inheritsPriorCounts() {
+		given(p.allow(amount)).willReturn(true);
+		// and:
+		subject.hasAvailableCapacity(amount);
+
+		// given:
+		var successor = new BucketThrottle(o);
+		given(o.allow(amount)).willReturn(false);
+
+		// when:
+		successor.inheritCountsFrom(subject);
+		successor.hasAvailableCapacity(amount);
+
+		// then:
+		assertEquals(1L, successor.admitted());
+		assertEquals(1L, successor.rejected());
+		assertEquals(1L, subject.rejected());
+	}
+
+	@Test
+	void countsRejectionsAtHeadOfChain() {
+		// setup:
+		subject.setOverflow(overflow);
+
+		given(p.allow(amount)).willReturn(false);
+		given(o.allow(amount)).willReturn(false);
+
+		// expect:
+		assertFalse(subject.hasAvailableCapacity(amount));
+		// and:
+		assertEquals(0L, subject.admitted());
+		assertEquals(1L, subject.rejected());
+		assertEquals(0L, overflow.admitted());
+		assertEquals(0L, overflow.rejected());
 	}
 
 	@Test
@@ -84,6 +143,9 @@ class BucketThrottleTest {
 
 		// expect:
 		assertTrue(subject.hasAvailableCapacity(amount));
+		// and:
+		assertEquals(0L, subject.admitted());
+		assertEquals(1L, overflow.admitted());
 	}
 
 	@Test
@@ -119,9 +181,9 @@ class BucketThrottleTest {
 	}
 
 	private void givenRealThrottles() {
-		p = new Throttle(50.0, 2.0);
-		o = new Throttle(EFFECTIVELY_UNLIMITED_CAPACITY, 1.0);
-		s = new Throttle(200.0, 0.5);
+		p = new TokenBucket(50.0, 2.0);
+		o = new TokenBucket(EFFECTIVELY_UNLIMITED_CAPACITY, 1.0);
+		s = new TokenBucket(200.0, 0.5);
 
 		subject = new BucketThrottle("P", p);
 		overflow = new BucketThrottle("O", o);
@@ -20,7 +20,6 @@ package com.hedera.services.throttling.bucket;
  * ‍
  */
 
-import com.swirlds.common.throttle.Throttle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -54,13 +53,14 @@ class CapacityTestTest {
 		// then:
 		assertTrue(flag);
 		// and:
-		verify(bucket, times(2)).hasAvailableCapacity(req);
+		verify(bucket).ensureCapacityFor(req);
+		verify(bucket, times(1)).hasAvailableCapacity(req);
 	}
 
 	@Test
 	void toStringWorks() {
 		// setup:
-		var t = new Throttle(5.0, 1.0);
+		var t = new TokenBucket(5.0, 1.0);
 
 		// given:
 		subject = new CapacityTest(1.011, new BucketThrottle("B", t));
@@ -0,0 +1,145 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+	AtomicLong now = new AtomicLong(1_234_567L);
+
+	TokenBucket subject;
+
+	@BeforeEach
+	private void setup() {
+		TokenBucket.clock = now::get;
+
+		subject = new TokenBucket(10.0, 2.0);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		TokenBucket.clock = System::nanoTime;
+	}
+
+	@Test
+	public void gettersWork() {
+		// expect:
+		assertEquals(10.0, subject.getTps());
+		assertEquals(2.0, subject.getBurstPeriod());
+		assertEquals(20.0, subject.getCapacity());
+	}
+
+	@Test
+	public void admitsUpToCapacityThenRejects() {
+		// expect:
+		for (int i = 0; i < 20; i++) {
+			assertTrue(subject.allow(1.0));
+		}
+		assertFalse(subject.allow(1.0));
+	}
+
+	@Test
+	public void rejectsAmountLargerThanCapacity() {
+		// expect:
+		assertFalse(subject.allow(20.5));
+		assertTrue(subject.allow(20.0));
+	}
+
+	@Test
+	public void drainsAtTps() {
+		// given:
+		assertTrue(subject.allow(20.0));
+		assertFalse(subject.allow(1.0));
+
+		// when:
+		now.addAndGet(100_000_000L);
+
+		// then:
+		assertTrue(subject.allow(1.0));
+		assertFalse(subject.allow(1.0));
+	}
+
+	@Test
+	public void idleTimeDoesNotAccumulateExtraCapacity() {
+		// given:
+		now.addAndGet(60_000_000_000L);
+
+		// expect:
+		assertTrue(subject.allow(20.0));
+		assertFalse(subject.allow(0.1));
+	}
+
+	@Test
+	public void zeroTpsAdmitsNothing() {
+		// given:
+		subject = new TokenBucket(0.0, 1.0);
+
+		// expect:
+		assertFalse(subject.allow(1.0));
+	}
+
+	@Test
+	public void concurrentCallersNeverOverAdmit() throws InterruptedException {
+		// setup:
+		int numThreads = 8;
+		ExecutorService threads = Executors.newFixedThreadPool(numThreads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger admitted = new AtomicInteger();
+
+		// given:
+		subject = new TokenBucket(1_000.0, 1.0);
+
+		// when:
+		for (int i = 0; i < numThreads; i++) {
+			threads.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException ignore) {
+					return;
+				}
+				for (int j = 0; j < 500; j++) {
+					if (subject.allow(1.0)) {
+						admitted.incrementAndGet();
+					}
+				}
+			});
+		}
+		start.countDown();
+		threads.shutdown();
+		threads.awaitTermination(10, TimeUnit.SECONDS);
+
+		// then:
+		assertEquals(1_000, admitted.get());
+	}
+}
@@ -23,6 +23,7 @@ package com.hedera.services.txns.consensus;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.legacy.proto.utils.CommonUtils;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.MiscUtils;
@@ -226,6 +227,8 @@ class SubmitMessageTransitionLogicTest {
 				.setConsensusSubmitMessage(body.build())
 				.build();
 		given(accessor.getTxn()).willReturn(transactionBody);
+		given(accessor.getSubmitMessageDigest())
+				.willReturn(CommonUtils.noThrowSha384HashOf(body.getMessage().toByteArray()));
 		given(transactionContext.accessor()).willReturn(accessor);
 	}
 
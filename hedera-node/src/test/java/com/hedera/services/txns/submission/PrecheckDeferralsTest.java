@@ -0,0 +1,211 @@
+package com.hedera.services.txns.submission;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SIGNATURE;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+
+class PrecheckDeferralsTest {
+	int maxPending = 2;
+	int maxSignedStates = 3;
+	long maxWaitMs = 1_000L;
+	List<Runnable> scheduled;
+	AtomicInteger retries;
+	AtomicLong now;
+	ScheduledExecutorService executor;
+
+	PrecheckDeferrals subject;
+
+	@BeforeEach
+	private void setup() {
+		retries = new AtomicInteger();
+		scheduled = new ArrayList<>();
+		now = new AtomicLong();
+		executor = mock(ScheduledExecutorService.class);
+		willAnswer(invocation -> scheduled.add(invocation.getArgument(0))).given(executor).execute(any());
+
+		subject = new PrecheckDeferrals(maxPending, maxSignedStates, maxWaitMs, now::get, executor);
+	}
+
+	@Test
+	public void defersQueriesOnlyForMissingPayers() {
+		// expect:
+		assertFalse(subject.tryDeferQuery(OK, 0, retries::incrementAndGet));
+		assertFalse(subject.tryDeferQuery(INVALID_ACCOUNT_ID, 0, retries::incrementAndGet));
+		assertTrue(subject.tryDeferQuery(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet));
+		// and:
+		assertFalse(subject.tryDeferQuery(PAYER_ACCOUNT_NOT_FOUND, maxSignedStates, retries::incrementAndGet));
+	}
+
+	@Test
+	public void defersOnlyMissingAccountFailures() {
+		// expect:
+		assertFalse(subject.tryDefer(OK, 0, retries::incrementAndGet));
+		assertFalse(subject.tryDefer(INVALID_SIGNATURE, 0, retries::incrementAndGet));
+		assertTrue(subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet));
+		assertTrue(subject.tryDefer(INVALID_ACCOUNT_ID, 0, retries::incrementAndGet));
+	}
+
+	@Test
+	public void stopsDeferringAfterMaxSignedStates() {
+		// expect:
+		assertTrue(subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, maxSignedStates - 1, retries::incrementAndGet));
+		assertFalse(subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, maxSignedStates, retries::incrementAndGet));
+	}
+
+	@Test
+	public void refusesBeyondMaxPending() {
+		// given:
+		subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet);
+		subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet);
+
+		// expect:
+		assertFalse(subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet));
+		assertEquals(maxPending, subject.numPending());
+	}
+
+	@Test
+	public void neverDefersWhenDisabled() {
+		// given:
+		executor = mock(ScheduledExecutorService.class);
+		subject = new PrecheckDeferrals(0, maxSignedStates, maxWaitMs, now::get, executor);
+
+		// expect:
+		assertFalse(subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet));
+		assertEquals(0, subject.numPending());
+		// and:
+		verify(executor, never()).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+	}
+
+	@Test
+	public void schedulesSweepForExpiredDeferrals() {
+		// setup:
+		var sweepPeriodMs = maxWaitMs / PrecheckDeferrals.SWEEPS_PER_MAX_WAIT;
+
+		// expect:
+		verify(executor).scheduleWithFixedDelay(any(), eq(sweepPeriodMs), eq(sweepPeriodMs), eq(MILLISECONDS));
+	}
+
+	@Test
+	public void retriesOnceMaxWaitElapsesEvenWithoutNewSignedState() {
+		// given:
+		subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet);
+		now.set(MILLISECONDS.toNanos(maxWaitMs / 2));
+		subject.tryDefer(INVALID_ACCOUNT_ID, 0, retries::incrementAndGet);
+
+		// when:
+		now.set(MILLISECONDS.toNanos(maxWaitMs) - 1);
+		subject.retryExpired();
+
+		// then:
+		assertEquals(0, retries.get());
+
+		// and when:
+		now.set(MILLISECONDS.toNanos(maxWaitMs));
+		subject.retryExpired();
+
+		// then:
+		assertEquals(1, retries.get());
+		assertEquals(1, subject.numPending());
+
+		// and when:
+		now.set(MILLISECONDS.toNanos(maxWaitMs * 3 / 2));
+		subject.retryExpired();
+
+		// then:
+		assertEquals(2, retries.get());
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void schedulesNothingWithoutPending() {
+		// when:
+		subject.onNewSignedState();
+
+		// then:
+		assertTrue(scheduled.isEmpty());
+	}
+
+	@Test
+	public void retriesOnlyWhatWasDeferredBeforeTheNewState() {
+		// given:
+		subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, () -> {
+			retries.incrementAndGet();
+			subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 1, retries::incrementAndGet);
+		});
+
+		// when:
+		subject.onNewSignedState();
+		scheduled.get(0).run();
+
+		// then:
+		assertEquals(1, retries.get());
+		assertEquals(1, subject.numPending());
+
+		// and when:
+		subject.onNewSignedState();
+		scheduled.get(1).run();
+
+		// then:
+		assertEquals(2, retries.get());
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void survivesFailedRetry() {
+		// given:
+		subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, () -> {
+			throw new IllegalStateException();
+		});
+		subject.tryDefer(PAYER_ACCOUNT_NOT_FOUND, 0, retries::incrementAndGet);
+
+		// when:
+		subject.onNewSignedState();
+
+		// then:
+		assertDoesNotThrow(() -> scheduled.get(0).run());
+		assertEquals(1, retries.get());
+		assertEquals(0, subject.numPending());
+	}
+}
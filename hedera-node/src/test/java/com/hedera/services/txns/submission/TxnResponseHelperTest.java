@@ -27,14 +27,19 @@ import com.hederahashgraph.api.proto.java.TransactionResponse;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class TxnResponseHelperTest {
 	Transaction txn = Transaction.getDefaultInstance();
@@ -43,6 +48,7 @@ class TxnResponseHelperTest {
 
 	SubmissionFlow submissionFlow;
 	HapiOpCounters opCounters;
+	PrecheckDeferrals deferrals;
 	StreamObserver<TransactionResponse> observer;
 	TxnResponseHelper subject;
 
@@ -55,7 +61,9 @@ class TxnResponseHelperTest {
 		given(okResponse.getNodeTransactionPrecheckCode()).willReturn(OK);
 		notOkResponse = mock(TransactionResponse.class);
 
-		subject = new TxnResponseHelper(submissionFlow, opCounters);
+		deferrals = mock(PrecheckDeferrals.class);
+
+		subject = new TxnResponseHelper(submissionFlow, opCounters, deferrals);
 	}
 
 	@Test
@@ -93,4 +101,31 @@ class TxnResponseHelperTest {
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countSubmitted(CryptoTransfer);
 	}
+
+	@Test
+	public void respondsOnlyAfterDeferredRetry() {
+		// setup:
+		ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+		InOrder inOrder = inOrder(deferrals, observer, opCounters);
+
+		given(notOkResponse.getNodeTransactionPrecheckCode()).willReturn(PAYER_ACCOUNT_NOT_FOUND);
+		given(submissionFlow.submit(txn)).willReturn(notOkResponse).willReturn(okResponse);
+		given(deferrals.tryDefer(eq(PAYER_ACCOUNT_NOT_FOUND), eq(0), any())).willReturn(true);
+
+		// when:
+		subject.submit(txn, observer, CryptoTransfer);
+
+		// then:
+		verify(deferrals).tryDefer(eq(PAYER_ACCOUNT_NOT_FOUND), eq(0), retry.capture());
+		verify(observer, never()).onNext(any());
+
+		// and when:
+		retry.getValue().run();
+
+		// then:
+		inOrder.verify(deferrals).tryDefer(eq(OK), eq(1), any());
+		inOrder.verify(observer).onNext(okResponse);
+		inOrder.verify(observer).onCompleted();
+		inOrder.verify(opCounters).countSubmitted(CryptoTransfer);
+	}
 }
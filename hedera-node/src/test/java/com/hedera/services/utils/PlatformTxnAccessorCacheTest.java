@@ -0,0 +1,156 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.Ticker;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hedera.services.utils.PlatformTxnAccessorCache.MAX_ACCESSOR_LIFETIME_SECS;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlatformTxnAccessorCacheTest {
+	TransactionBody someTxn = TransactionBody.newBuilder()
+			.setTransactionID(TransactionID.newBuilder().setAccountID(asAccount("0.0.2")))
+			.setMemo("Hi!")
+			.build();
+	com.swirlds.common.Transaction platformTxn;
+
+	PlatformTxnAccessorCache subject;
+
+	@BeforeEach
+	private void setup() {
+		platformTxn = new com.swirlds.common.Transaction(Transaction.newBuilder()
+				.setBodyBytes(someTxn.toByteString())
+				.build()
+				.toByteArray());
+
+		subject = new PlatformTxnAccessorCache();
+	}
+
+	@Test
+	public void consumesCreatedAccessorExactlyOnce() throws InvalidProtocolBufferException {
+		// given:
+		var created = subject.create(platformTxn);
+
+		// when:
+		var consumed = subject.consumeOrCreate(platformTxn);
+
+		// then:
+		assertSame(created, consumed);
+		assertEquals(0, subject.size());
+		// and:
+		assertNotSame(created, subject.consumeOrCreate(platformTxn));
+	}
+
+	@Test
+	public void createsAccessorIfNoneCached() throws InvalidProtocolBufferException {
+		// when:
+		var accessor = subject.consumeOrCreate(platformTxn);
+
+		// then:
+		assertSame(platformTxn, accessor.getPlatformTxn());
+		assertEquals(someTxn, accessor.getTxn());
+	}
+
+	@Test
+	public void keysByTxnIdentity() throws InvalidProtocolBufferException {
+		// given:
+		var twin = new com.swirlds.common.Transaction(platformTxn.getContents());
+		var created = subject.create(platformTxn);
+
+		// expect:
+		assertNotSame(created, subject.consumeOrCreate(twin));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void unconsumedEntryExpiresAndReleasesItsTxn() throws InvalidProtocolBufferException {
+		// setup:
+		var now = new AtomicLong();
+		subject = new PlatformTxnAccessorCache(new Ticker() {
+			@Override
+			public long read() {
+				return now.get();
+			}
+		});
+		// and:
+		var unconsumedTxn = new WeakReference<>(platformTxn);
+
+		// given:
+		subject.create(platformTxn);
+		platformTxn = null;
+
+		// when:
+		now.set(TimeUnit.SECONDS.toNanos(MAX_ACCESSOR_LIFETIME_SECS) + 1);
+
+		// then:
+		assertEquals(0, subject.size());
+		for (int i = 0; i < 100 && unconsumedTxn.get() != null; i++) {
+			System.gc();
+		}
+		assertNull(unconsumedTxn.get());
+	}
+
+	@Test
+	public void entryIsKeptWithinLifetime() throws InvalidProtocolBufferException {
+		// setup:
+		var now = new AtomicLong();
+		subject = new PlatformTxnAccessorCache(new Ticker() {
+			@Override
+			public long read() {
+				return now.get();
+			}
+		});
+
+		// given:
+		var created = subject.create(platformTxn);
+
+		// when:
+		now.set(TimeUnit.SECONDS.toNanos(MAX_ACCESSOR_LIFETIME_SECS) - 1);
+
+		// then:
+		assertSame(created, subject.consumeOrCreate(platformTxn));
+	}
+
+	@Test
+	public void propagatesParseFailures() {
+		// given:
+		var nonsenseTxn = new com.swirlds.common.Transaction("NONSENSE".getBytes());
+
+		// expect:
+		assertThrows(InvalidProtocolBufferException.class, () -> subject.create(nonsenseTxn));
+		assertThrows(InvalidProtocolBufferException.class, () -> subject.consumeOrCreate(nonsenseTxn));
+	}
+}
@@ -20,7 +20,9 @@ package com.hedera.services.utils;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
 import com.hederahashgraph.api.proto.java.Duration;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SignatureMap;
@@ -31,8 +33,12 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.builder.RequestBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class SignedTxnAccessorTest {
 	@Test
@@ -91,4 +97,45 @@ public class SignedTxnAccessorTest {
 		assertEquals(HederaFunctionality.CryptoTransfer, accessor.getFunction());
 		assertArrayEquals(CommonUtils.noThrowSha384HashOf(signedTransaction.toByteArray()), accessor.getHash().toByteArray());
 	}
+
+	@Test
+	public void computesDigestsWithExecutor() throws Exception {
+		// setup:
+		var message = ByteString.copyFromUtf8("A message to hash");
+		var body = TransactionBody.newBuilder()
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setMessage(message))
+				.build();
+		var transaction = Transaction.newBuilder()
+				.setBodyBytes(body.toByteString())
+				.build();
+		List<Runnable> tasks = new ArrayList<>();
+		// and:
+		var accessor = new SignedTxnAccessor(transaction);
+
+		// given:
+		accessor.computeDigestsWith(tasks::add);
+		// and:
+		tasks.forEach(Runnable::run);
+
+		// expect:
+		assertArrayEquals(CommonUtils.noThrowSha384HashOf(message.toByteArray()), accessor.getSubmitMessageDigest());
+		assertArrayEquals(CommonUtils.noThrowSha384HashOf(transaction.toByteArray()), accessor.getHash().toByteArray());
+	}
+
+	@Test
+	public void computesDigestsInlineIfExecutorHasNotStarted() throws Exception {
+		// setup:
+		var transaction = Transaction.newBuilder()
+				.setBodyBytes(TransactionBody.getDefaultInstance().toByteString())
+				.build();
+		var accessor = new SignedTxnAccessor(transaction);
+
+		// given:
+		accessor.computeDigestsWith(ignore -> { });
+
+		// expect:
+		assertArrayEquals(CommonUtils.noThrowSha384HashOf(transaction.toByteArray()), accessor.getHash().toByteArray());
+		assertNull(accessor.getSubmitMessageDigest());
+	}
 }